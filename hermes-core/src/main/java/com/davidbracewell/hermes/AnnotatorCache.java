@@ -26,14 +26,30 @@ import com.davidbracewell.cache.Cache;
 import com.davidbracewell.cache.CacheManager;
 import com.davidbracewell.config.Config;
 import com.davidbracewell.guava.common.base.Preconditions;
+import com.davidbracewell.guava.common.base.Throwables;
 import com.davidbracewell.hermes.annotator.Annotator;
+import com.davidbracewell.hermes.annotator.AnnotatorLifecycle;
 import lombok.NonNull;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * <p>
  * Factory with cache for constructing/retrieving annotators for a given annotation class. The cache is managed
  * using {@link CacheManager} and is named <code>hermes.AnnotatorCache</code>.
  * </p>
+ * <p>
+ * Annotators whose {@link AnnotatorLifecycle} is not shareable (i.e. {@link AnnotatorLifecycle#PER_THREAD}) are pooled
+ * per thread, so that each worker thread constructs its own instance once and reuses it for every document it
+ * processes. The lifecycle is taken from the first annotator constructed for an annotation type and language, which is
+ * then either shared or used as the constructing thread's instance. Removing or clearing annotators invalidates the
+ * per thread instances of every thread.
+ * </p>
  *
  * @author David B. Bracewell
  */
@@ -41,6 +57,9 @@ public class AnnotatorCache {
 
    private static volatile AnnotatorCache INSTANCE;
    private final Cache<String, Annotator> cache;
+   private final ConcurrentMap<String, AnnotatorLifecycle> lifecycles = new ConcurrentHashMap<>();
+   private final ThreadLocal<Map<String, PerThreadAnnotator>> perThreadInstances = ThreadLocal.withInitial(HashMap::new);
+   private final AtomicLong generation = new AtomicLong();
 
    private AnnotatorCache() {
       cache = CacheManager.get("hermes.AnnotatorCache");
@@ -74,10 +93,44 @@ public class AnnotatorCache {
     */
    public Annotator get(@NonNull AnnotatableType annotationType, @NonNull Language language) {
       String key = createKey(annotationType, language);
-      if (!cache.containsKey(key)) {
-         cache.put(key, annotationType.getAnnotator(language));
+      AnnotatorLifecycle lifecycle = lifecycles.get(key);
+      if (lifecycle == null) {
+         return create(key, annotationType, language);
+      }
+      if (lifecycle.isShareable()) {
+         try {
+            return cache.get(key, () -> annotationType.getAnnotator(language));
+         } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+         }
+      }
+      long current = generation.get();
+      PerThreadAnnotator instance = perThreadInstances.get().get(key);
+      if (instance == null || instance.generation != current) {
+         instance = new PerThreadAnnotator(annotationType.getAnnotator(language), current);
+         perThreadInstances.get().put(key, instance);
+      }
+      return instance.annotator;
+   }
+
+   /**
+    * Constructs the first annotator for the given key, whose lifecycle determines how the key is cached from then on.
+    * The constructed annotator is either stored in the shared cache or becomes the calling thread's instance.
+    */
+   private synchronized Annotator create(String key, AnnotatableType annotationType, Language language) {
+      if (lifecycles.containsKey(key)) {
+         //Another thread constructed the annotator while we were waiting
+         return get(annotationType, language);
       }
-      return cache.get(key);
+      Annotator annotator = annotationType.getAnnotator(language);
+      AnnotatorLifecycle lifecycle = annotator.getLifecycle();
+      if (lifecycle.isShareable()) {
+         cache.put(key, annotator);
+      } else {
+         perThreadInstances.get().put(key, new PerThreadAnnotator(annotator, generation.get()));
+      }
+      lifecycles.put(key, lifecycle);
+      return annotator;
    }
 
    private String createKey(AnnotatableType type, Language language) {
@@ -93,31 +146,40 @@ public class AnnotatorCache {
     * @param annotationType the annotation type
     * @param language       The language
     */
-   public void remove(@NonNull AnnotationType annotationType, @NonNull Language language) {
-      cache.invalidate(createKey(annotationType, language));
+   public synchronized void remove(@NonNull AnnotationType annotationType, @NonNull Language language) {
+      String key = createKey(annotationType, language);
+      cache.invalidate(key);
+      lifecycles.remove(key);
+      generation.incrementAndGet();
    }
 
    /**
     * Invalidates the cache
     */
-   public void clear() {
+   public synchronized void clear() {
       cache.invalidateAll();
+      lifecycles.clear();
+      generation.incrementAndGet();
    }
 
 
    /**
     * Manually caches an annotator for an annotation type / language pair. Note that this will not be safe in a
-    * distributed environment like Spark or Map Reduce, but is useful for testing annotators.
+    * distributed environment like Spark or Map Reduce, but is useful for testing annotators. Manually cached annotators
+    * are shared across all threads regardless of their lifecycle.
     *
     * @param annotationType the annotation type
     * @param language       the language
     * @param annotator      the annotator
     */
-   public void setAnnotator(@NonNull AnnotationType annotationType, @NonNull Language language, @NonNull Annotator annotator) {
+   public synchronized void setAnnotator(@NonNull AnnotationType annotationType, @NonNull Language language, @NonNull Annotator annotator) {
       Preconditions.checkArgument(annotator.satisfies().contains(annotationType),
                                   "Attempting to register " + annotator.getClass()
                                                                        .getName() + " for " + annotationType.name() + " which it does not provide");
-      cache.put(createKey(annotationType, language), annotator);
+      String key = createKey(annotationType, language);
+      cache.put(key, annotator);
+      lifecycles.put(key, AnnotatorLifecycle.THREAD_SAFE);
+      generation.incrementAndGet();
 
       if (language == Language.UNKNOWN) {
          Config.setProperty("Annotator" + annotationType.name() + ".annotator", "CACHED");
@@ -128,5 +190,14 @@ public class AnnotatorCache {
       assert cache.containsKey(createKey(annotationType, language));
    }
 
+   private static class PerThreadAnnotator {
+      final Annotator annotator;
+      final long generation;
+
+      PerThreadAnnotator(Annotator annotator, long generation) {
+         this.annotator = annotator;
+         this.generation = generation;
+      }
+   }
 
 }//END OF AnnotatorFactory
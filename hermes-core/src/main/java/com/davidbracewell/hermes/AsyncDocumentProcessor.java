@@ -0,0 +1,252 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes;
+
+import com.davidbracewell.logging.Logger;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * <p>Processes documents submitted asynchronously using a fixed number of worker threads reading from a bounded
+ * queue. Submissions are rejected when the queue is full, so that callers can shed load instead of tying up a thread
+ * per request. Workers opportunistically batch together requests that are waiting in the queue. When a batch fails,
+ * the documents the batch processor did not report as completed are retried individually.</p>
+ *
+ * @author David B. Bracewell
+ */
+final class AsyncDocumentProcessor {
+   private static final Logger log = Logger.getLogger(AsyncDocumentProcessor.class);
+   private final BlockingQueue<Request> queue;
+   private final BiConsumer<List<Document>, Consumer<Document>> batchProcessor;
+   private final int maxBatchSize;
+   private final List<Thread> workers = new ArrayList<>();
+   private final AtomicLong queueTime = new AtomicLong();
+   private final AtomicLong serviceTime = new AtomicLong();
+   private final AtomicLong started = new AtomicLong();
+   private final AtomicLong completed = new AtomicLong();
+   private final AtomicLong rejected = new AtomicLong();
+   private final ReadWriteLock lock = new ReentrantReadWriteLock();
+   private volatile boolean running = true;
+
+   /**
+    * Instantiates a new Async document processor.
+    *
+    * @param numberOfThreads the number of worker threads
+    * @param queueSize       the maximum number of requests that can be waiting for processing
+    * @param maxBatchSize    the maximum number of queued requests to process together
+    * @param batchProcessor  processes a batch of documents, passing each document to the given consumer once it is
+    *                        completed
+    */
+   AsyncDocumentProcessor(int numberOfThreads, int queueSize, int maxBatchSize, @NonNull BiConsumer<List<Document>, Consumer<Document>> batchProcessor) {
+      this.queue = new ArrayBlockingQueue<>(queueSize);
+      this.maxBatchSize = maxBatchSize;
+      this.batchProcessor = batchProcessor;
+      for (int i = 0; i < numberOfThreads; i++) {
+         Thread worker = new Thread(this::work, "hermes-pipeline-" + i);
+         worker.setDaemon(true);
+         worker.start();
+         workers.add(worker);
+      }
+   }
+
+   /**
+    * Submits a document for processing.
+    *
+    * @param document the document
+    * @return future holding the processed document, completed exceptionally with a
+    * <code>RejectedExecutionException</code> if the queue is full or the processor has been shut down
+    */
+   CompletableFuture<Document> submit(@NonNull Document document) {
+      Request request = new Request(document);
+      boolean accepted;
+      //Offers are made under the read lock so that none can slip in after shutdown has stopped the workers
+      lock.readLock().lock();
+      try {
+         accepted = running && queue.offer(request);
+      } finally {
+         lock.readLock().unlock();
+      }
+      if (!accepted) {
+         reject(request);
+      }
+      return request.future;
+   }
+
+   private void work() {
+      List<Request> batch = new ArrayList<>(maxBatchSize);
+      while (running || !queue.isEmpty()) {
+         try {
+            Request first = queue.poll(100, TimeUnit.MILLISECONDS);
+            if (first == null) {
+               continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            process(batch);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            break;
+         } finally {
+            batch.clear();
+         }
+      }
+   }
+
+   private void process(List<Request> batch) {
+      long start = System.nanoTime();
+      List<Document> documents = new ArrayList<>(batch.size());
+      for (Request request : batch) {
+         queueTime.addAndGet(start - request.submitted);
+         started.incrementAndGet();
+         documents.add(request.document);
+      }
+      Set<Document> done = Collections.newSetFromMap(new IdentityHashMap<>());
+      try {
+         batchProcessor.accept(documents, done::add);
+         for (Request request : batch) {
+            complete(request, start);
+         }
+      } catch (Throwable t) {
+         if (batch.size() == 1) {
+            batch.get(0).future.completeExceptionally(t);
+            return;
+         }
+         //Retry the documents that did not complete individually so that only the offending document fails
+         log.fine("Batch failed ({0}), retrying incomplete documents individually", t);
+         for (Request request : batch) {
+            if (done.contains(request.document)) {
+               complete(request, start);
+               continue;
+            }
+            try {
+               batchProcessor.accept(Collections.singletonList(request.document), d -> {
+               });
+               complete(request, start);
+            } catch (Throwable t2) {
+               request.future.completeExceptionally(t2);
+            }
+         }
+      }
+   }
+
+   private void reject(Request request) {
+      rejected.incrementAndGet();
+      request.future.completeExceptionally(new RejectedExecutionException("Pipeline queue is full or closed"));
+   }
+
+   private void complete(Request request, long start) {
+      serviceTime.addAndGet(System.nanoTime() - start);
+      completed.incrementAndGet();
+      request.future.complete(request.document);
+   }
+
+   /**
+    * Stops accepting new requests and waits for the queued requests to finish processing.
+    */
+   void shutdown() {
+      lock.writeLock().lock();
+      try {
+         running = false;
+      } finally {
+         lock.writeLock().unlock();
+      }
+      for (Thread worker : workers) {
+         try {
+            worker.join();
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            break;
+         }
+      }
+      //Fail anything the workers did not get to, e.g. when interrupted
+      List<Request> leftover = new ArrayList<>();
+      queue.drainTo(leftover);
+      leftover.forEach(this::reject);
+   }
+
+   /**
+    * Average time requests spent waiting in the queue.
+    *
+    * @param timeUnit the time unit
+    * @return the average queue time
+    */
+   double averageQueueTime(@NonNull TimeUnit timeUnit) {
+      return average(queueTime.get(), started.get(), timeUnit);
+   }
+
+   /**
+    * Average time from when a request left the queue until it was completed.
+    *
+    * @param timeUnit the time unit
+    * @return the average service time
+    */
+   double averageServiceTime(@NonNull TimeUnit timeUnit) {
+      return average(serviceTime.get(), completed.get(), timeUnit);
+   }
+
+   private double average(long totalNanoSeconds, long count, TimeUnit timeUnit) {
+      if (count == 0) {
+         return 0d;
+      }
+      return (double) totalNanoSeconds / count / TimeUnit.NANOSECONDS.convert(1, timeUnit);
+   }
+
+   /**
+    * The number of requests waiting to be processed.
+    *
+    * @return the number of pending requests
+    */
+   int pending() {
+      return queue.size();
+   }
+
+   /**
+    * The number of requests that have been rejected.
+    *
+    * @return the number of rejected requests
+    */
+   long rejected() {
+      return rejected.get();
+   }
+
+   private static class Request {
+      final Document document;
+      final long submitted = System.nanoTime();
+      final CompletableFuture<Document> future = new CompletableFuture<>();
+
+      Request(Document document) {
+         this.document = document;
+      }
+   }
+
+}//END OF AsyncDocumentProcessor
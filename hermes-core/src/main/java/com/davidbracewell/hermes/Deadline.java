@@ -0,0 +1,155 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A time budget for annotating a single document. The {@link Pipeline} starts a deadline for the current thread before
+ * annotating a document and restarts the per-annotator budget each time an annotator is run. The pipeline checks the
+ * deadline between annotators, while long running annotators (e.g. ones looping over sentences or backtracking over
+ * tokens) should cooperatively call {@link #check()}. When the deadline has passed a {@link DeadlineExceededException}
+ * is thrown and the document is handed to the pipeline's timeout consumer with whatever annotations were completed.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public final class Deadline {
+   private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+   private final long documentDeadline;
+   private final long annotatorBudget;
+   private long annotatorDeadline = Long.MAX_VALUE;
+   private String stage = "document";
+
+   private Deadline(long documentBudget, long annotatorBudget) {
+      this.documentDeadline = documentBudget > 0 ? System.nanoTime() + documentBudget : Long.MAX_VALUE;
+      this.annotatorBudget = annotatorBudget;
+   }
+
+   /**
+    * Starts a deadline for the current thread.
+    *
+    * @param documentBudget  the time in nanoseconds allowed for the entire document (values &lt;= 0 are unbounded)
+    * @param annotatorBudget the time in nanoseconds allowed for each annotator (values &lt;= 0 are unbounded)
+    * @return the deadline
+    */
+   static Deadline start(long documentBudget, long annotatorBudget) {
+      Deadline deadline = new Deadline(documentBudget, annotatorBudget);
+      CURRENT.set(deadline);
+      return deadline;
+   }
+
+   /**
+    * Removes the deadline from the current thread.
+    */
+   static void clear() {
+      CURRENT.remove();
+   }
+
+   /**
+    * Restarts the per-annotator budget of the current thread's deadline (if there is one).
+    *
+    * @param annotator the name of the annotator being run
+    * @return the previous annotator deadline, which should be passed to {@link #exitAnnotator(long)}
+    */
+   static long enterAnnotator(String annotator) {
+      Deadline deadline = CURRENT.get();
+      if (deadline == null) {
+         return Long.MAX_VALUE;
+      }
+      long previous = deadline.annotatorDeadline;
+      deadline.stage = annotator;
+      if (deadline.annotatorBudget > 0) {
+         deadline.annotatorDeadline = Math.min(previous, System.nanoTime() + deadline.annotatorBudget);
+      }
+      deadline.checkExpired();
+      return previous;
+   }
+
+   /**
+    * Checks the current thread's deadline after an annotator has finished and restores the enclosing annotator's
+    * deadline.
+    *
+    * @param previous the value returned by {@link #enterAnnotator(String)}
+    */
+   static void exitAnnotator(long previous) {
+      Deadline deadline = CURRENT.get();
+      if (deadline != null) {
+         deadline.checkExpired();
+         deadline.annotatorDeadline = previous;
+      }
+   }
+
+   /**
+    * Checks if the deadline of the current thread has passed. Annotators performing long running work should call this
+    * method periodically so that the work can be abandoned. Does nothing when no deadline is set.
+    *
+    * @throws DeadlineExceededException if the deadline has passed
+    */
+   public static void check() {
+      Deadline deadline = CURRENT.get();
+      if (deadline != null) {
+         deadline.checkExpired();
+      }
+   }
+
+   /**
+    * Determines if the current thread has a deadline that has passed.
+    *
+    * @return True if the deadline has passed, False if it has not or there is no deadline
+    */
+   public static boolean isExpired() {
+      Deadline deadline = CURRENT.get();
+      return deadline != null && deadline.expired(System.nanoTime());
+   }
+
+   /**
+    * The time remaining before the current thread's deadline passes.
+    *
+    * @param timeUnit the time unit
+    * @return the time remaining or <code>Long.MAX_VALUE</code> when there is no deadline
+    */
+   public static long remaining(TimeUnit timeUnit) {
+      Deadline deadline = CURRENT.get();
+      if (deadline == null) {
+         return Long.MAX_VALUE;
+      }
+      long end = Math.min(deadline.documentDeadline, deadline.annotatorDeadline);
+      if (end == Long.MAX_VALUE) {
+         return Long.MAX_VALUE;
+      }
+      return timeUnit.convert(Math.max(0, end - System.nanoTime()), TimeUnit.NANOSECONDS);
+   }
+
+   private boolean expired(long now) {
+      return (documentDeadline != Long.MAX_VALUE && now - documentDeadline > 0)
+                || (annotatorDeadline != Long.MAX_VALUE && now - annotatorDeadline > 0);
+   }
+
+   private void checkExpired() {
+      if (expired(System.nanoTime())) {
+         throw new DeadlineExceededException("Deadline exceeded while running " + stage);
+      }
+   }
+
+}//END OF Deadline
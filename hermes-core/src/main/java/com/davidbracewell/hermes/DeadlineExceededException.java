@@ -0,0 +1,41 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes;
+
+/**
+ * Thrown when the time budget (see {@link Deadline}) for annotating a document has been exceeded.
+ *
+ * @author David B. Bracewell
+ */
+public class DeadlineExceededException extends RuntimeException {
+   private static final long serialVersionUID = 1L;
+
+   /**
+    * Instantiates a new Deadline exceeded exception.
+    *
+    * @param message the message
+    */
+   public DeadlineExceededException(String message) {
+      super(message);
+   }
+
+}//END OF DeadlineExceededException
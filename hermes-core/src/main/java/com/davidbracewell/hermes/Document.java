@@ -35,7 +35,8 @@ import com.davidbracewell.io.structured.StructuredWriter;
 import com.davidbracewell.string.StringUtils;
 import lombok.NonNull;
 
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
@@ -628,4 +629,203 @@ public class Document extends HString {
       }
    }
 
+   /**
+    * Converts the document into a compact binary representation, which is considerably faster to write and read than
+    * JSON. The representation is meant for transporting documents between processes of the same version (e.g. Spark
+    * executors) and not for long term storage.
+    *
+    * @return the binary representation of the document
+    */
+   public byte[] toBytes() {
+      try {
+         ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length() * 2 + 64);
+         DataOutputStream out = new DataOutputStream(bytes);
+         writeString(out, getId());
+         writeString(out, content);
+
+         out.writeInt(attributes.size());
+         for (Map.Entry<AttributeType, Val> entry : attributeEntrySet()) {
+            writeString(out, entry.getKey().name());
+            writeValue(out, entry.getKey().getValueType().encode(entry.getValue()));
+         }
+
+         Set<AnnotatableType> completed = getAnnotationSet().getCompleted();
+         out.writeInt(completed.size());
+         for (AnnotatableType type : completed) {
+            writeString(out, type.canonicalName());
+            writeValue(out, getAnnotationSet().getAnnotationProvider(type));
+         }
+
+         out.writeInt(annotationSet.size());
+         for (Annotation annotation : annotationSet) {
+            writeString(out, annotation.getType().name());
+            out.writeInt(annotation.start());
+            out.writeInt(annotation.end());
+            out.writeLong(annotation.getId());
+            out.writeInt(annotation.getAttributeMap().size());
+            for (Map.Entry<AttributeType, Val> entry : annotation.attributeEntrySet()) {
+               writeString(out, entry.getKey().name());
+               writeValue(out, entry.getKey().getValueType().encode(entry.getValue()));
+            }
+            Collection<Relation> relations = annotation.allRelations();
+            out.writeInt(relations.size());
+            for (Relation relation : relations) {
+               writeString(out, relation.getType().name());
+               writeValue(out, relation.getValue());
+               out.writeLong(relation.getTarget());
+            }
+         }
+         out.flush();
+         return bytes.toByteArray();
+      } catch (IOException e) {
+         throw Throwables.propagate(e);
+      }
+   }
+
+   /**
+    * Creates a document from its binary representation (created by {@link #toBytes()}).
+    *
+    * @param bytes the binary representation
+    * @return the document
+    */
+   public static Document fromBytes(@NonNull byte[] bytes) {
+      try {
+         DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+         Document doc = DocumentFactory.getInstance().createRaw(readString(in), readString(in));
+
+         for (int i = in.readInt(); i > 0; i--) {
+            AttributeType attrType = Types.attribute(readString(in));
+            Object val = attrType.getValueType().decode(readValue(in));
+            if (val != null) {
+               doc.put(attrType, val);
+            }
+         }
+
+         for (int i = in.readInt(); i > 0; i--) {
+            AnnotatableType type = Types.from(readString(in));
+            Object provider = readValue(in);
+            doc.getAnnotationSet().setIsCompleted(type, true, provider == null ? null : provider.toString());
+         }
+
+         long maxAnnotationId = -1;
+         for (int i = in.readInt(); i > 0; i--) {
+            AnnotationType type = AnnotationType.create(readString(in));
+            int start = in.readInt();
+            int end = in.readInt();
+            Annotation annotation = doc.createAnnotation(type, start, end);
+            annotation.setId(in.readLong());
+            maxAnnotationId = Math.max(maxAnnotationId, annotation.getId());
+            for (int j = in.readInt(); j > 0; j--) {
+               AttributeType attrType = Types.attribute(readString(in));
+               Object val = attrType.getValueType().decode(readValue(in));
+               if (val != null) {
+                  annotation.put(attrType, val);
+               }
+            }
+            for (int j = in.readInt(); j > 0; j--) {
+               RelationType relationType = RelationType.create(readString(in));
+               Object value = readValue(in);
+               annotation.add(new Relation(relationType, value == null ? null : value.toString(), in.readLong()));
+            }
+         }
+         doc.idGenerator.set(maxAnnotationId + 1);
+         return doc;
+      } catch (IOException e) {
+         throw Throwables.propagate(e);
+      }
+   }
+
+   private static final byte NULL_VALUE = 0;
+   private static final byte STRING_VALUE = 1;
+   private static final byte INT_VALUE = 2;
+   private static final byte LONG_VALUE = 3;
+   private static final byte DOUBLE_VALUE = 4;
+   private static final byte BOOLEAN_VALUE = 5;
+   private static final byte LIST_VALUE = 6;
+   private static final byte MAP_VALUE = 7;
+
+   private static void writeString(DataOutputStream out, String string) throws IOException {
+      byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(utf8.length);
+      out.write(utf8);
+   }
+
+   private static String readString(DataInputStream in) throws IOException {
+      byte[] utf8 = new byte[in.readInt()];
+      in.readFully(utf8);
+      return new String(utf8, StandardCharsets.UTF_8);
+   }
+
+   private static void writeValue(DataOutputStream out, Object value) throws IOException {
+      if (value == null) {
+         out.writeByte(NULL_VALUE);
+      } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+         out.writeByte(INT_VALUE);
+         out.writeInt(((Number) value).intValue());
+      } else if (value instanceof Long) {
+         out.writeByte(LONG_VALUE);
+         out.writeLong((Long) value);
+      } else if (value instanceof Number) {
+         out.writeByte(DOUBLE_VALUE);
+         out.writeDouble(((Number) value).doubleValue());
+      } else if (value instanceof Boolean) {
+         out.writeByte(BOOLEAN_VALUE);
+         out.writeBoolean((Boolean) value);
+      } else if (value instanceof Collection) {
+         Collection<?> collection = (Collection<?>) value;
+         out.writeByte(LIST_VALUE);
+         out.writeInt(collection.size());
+         for (Object item : collection) {
+            writeValue(out, item);
+         }
+      } else if (value instanceof Map) {
+         Map<?, ?> map = (Map<?, ?>) value;
+         out.writeByte(MAP_VALUE);
+         out.writeInt(map.size());
+         for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeString(out, entry.getKey().toString());
+            writeValue(out, entry.getValue());
+         }
+      } else {
+         out.writeByte(STRING_VALUE);
+         writeString(out, value.toString());
+      }
+   }
+
+   private static Object readValue(DataInputStream in) throws IOException {
+      byte tag = in.readByte();
+      switch (tag) {
+         case NULL_VALUE:
+            return null;
+         case STRING_VALUE:
+            return readString(in);
+         case INT_VALUE:
+            return in.readInt();
+         case LONG_VALUE:
+            return in.readLong();
+         case DOUBLE_VALUE:
+            return in.readDouble();
+         case BOOLEAN_VALUE:
+            return in.readBoolean();
+         case LIST_VALUE: {
+            int size = in.readInt();
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+               list.add(readValue(in));
+            }
+            return list;
+         }
+         case MAP_VALUE: {
+            int size = in.readInt();
+            Map<String, Object> map = new HashMap<>(size);
+            for (int i = 0; i < size; i++) {
+               map.put(readString(in), readValue(in));
+            }
+            return map;
+         }
+         default:
+            throw new IOException("Unknown value tag " + tag);
+      }
+   }
+
 }//END OF Document
@@ -0,0 +1,197 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes;
+
+import com.davidbracewell.concurrent.Broker;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Schedules the documents of a corpus for annotation by the {@link Pipeline}. The scheduler looks ahead over a window
+ * of documents and dispatches them longest first using the content length as an estimate of their annotation cost, so
+ * that large documents are started early and small documents fill in the remaining threads. When the original order
+ * is requested, annotated documents are held in a reorder buffer and released to the sink in corpus order. The
+ * producer blocks while more than <code>maxPending</code> documents are dispatched but not yet released, which bounds
+ * the size of the reorder buffer when an early document is slow to annotate.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+final class DocumentScheduler {
+   private final int windowSize;
+   private final boolean preserveOrder;
+   private final long maxPending;
+   private final Map<Long, Document> completed = new HashMap<>();
+   private long nextIndex = 0;
+
+   /**
+    * Instantiates a new Document scheduler.
+    *
+    * @param windowSize    the number of documents to look ahead over (values less than 2 keep corpus order)
+    * @param preserveOrder True if completed documents should be released in corpus order
+    * @param maxPending    the maximum number of documents dispatched but not yet released when preserving order
+    */
+   DocumentScheduler(int windowSize, boolean preserveOrder, int maxPending) {
+      this.windowSize = Math.max(1, windowSize);
+      this.preserveOrder = preserveOrder;
+      this.maxPending = Math.max(this.windowSize, maxPending);
+   }
+
+   /**
+    * Estimates the cost of annotating a document.
+    *
+    * @param document the document
+    * @return the estimated cost
+    */
+   static long estimateCost(@NonNull Document document) {
+      return document.length();
+   }
+
+   /**
+    * Creates a producer that feeds the given documents to the broker in scheduled order
+    *
+    * @param documents the documents to schedule
+    * @return the producer
+    */
+   Broker.Producer<Task> producer(@NonNull Iterable<Document> documents) {
+      return new WindowProducer(documents);
+   }
+
+   /**
+    * Creates a consumer that annotates the scheduled documents and passes those successfully annotated to the sink.
+    * When preserving order, a document whose annotation fails is still released (without being passed to the sink) so
+    * that the documents following it are not held back.
+    *
+    * @param annotator annotates a document returning true if the document should be passed to the sink
+    * @param sink      the consumer receiving the annotated documents
+    * @return the consumer
+    */
+   Consumer<Task> consumer(@NonNull Predicate<Document> annotator, @NonNull Consumer<Document> sink) {
+      return task -> {
+         if (task == null) {
+            return;
+         }
+         if (!preserveOrder) {
+            if (annotator.test(task.document)) {
+               sink.accept(task.document);
+            }
+            return;
+         }
+         boolean emit = false;
+         try {
+            emit = annotator.test(task.document);
+         } finally {
+            release(task.index, emit ? task.document : null, sink);
+         }
+      };
+   }
+
+   private synchronized void release(long index, Document document, Consumer<Document> sink) {
+      completed.put(index, document);
+      try {
+         while (completed.containsKey(nextIndex)) {
+            Document next = completed.remove(nextIndex);
+            nextIndex++;
+            if (next != null) {
+               sink.accept(next);
+            }
+         }
+      } finally {
+         notifyAll();
+      }
+   }
+
+   /**
+    * Blocks until dispatching documents up to (but not including) the given index keeps the number of pending
+    * documents within <code>maxPending</code>.
+    */
+   private synchronized boolean awaitCapacity(long end) {
+      while (preserveOrder && end - nextIndex > maxPending) {
+         try {
+            wait();
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * A document and its position in the corpus
+    */
+   static final class Task {
+      final long index;
+      final Document document;
+
+      private Task(long index, Document document) {
+         this.index = index;
+         this.document = document;
+      }
+   }
+
+   private class WindowProducer extends Broker.Producer<Task> {
+      private final Iterable<Document> documents;
+
+      private WindowProducer(Iterable<Document> documents) {
+         this.documents = documents;
+      }
+
+      @Override
+      public void produce() {
+         start();
+         List<Task> window = new ArrayList<>(windowSize);
+         long index = 0;
+         for (Document document : documents) {
+            window.add(new Task(index, document));
+            index++;
+            if (window.size() >= windowSize && !dispatch(window, index)) {
+               stop();
+               return;
+            }
+         }
+         dispatch(window, index);
+         stop();
+      }
+
+      private boolean dispatch(List<Task> window, long end) {
+         if (!awaitCapacity(end)) {
+            return false;
+         }
+         if (window.size() > 1) {
+            window.sort(Comparator.comparingLong((Task t) -> estimateCost(t.document)).reversed());
+         }
+         window.forEach(this::yield);
+         window.clear();
+         return true;
+      }
+   }
+
+}//END OF DocumentScheduler
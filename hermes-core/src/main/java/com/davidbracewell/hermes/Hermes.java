@@ -42,6 +42,7 @@ import java.util.function.Supplier;
  */
 public final class Hermes {
 
+   private static volatile Config workerConfig;
 
    private Hermes() {
       throw new IllegalAccessError();
@@ -92,12 +93,20 @@ public final class Hermes {
    }
 
    /**
-    * Initialize worker.
+    * Initialize worker. Configuring a worker is only done once per distinct configuration, so that the method can be
+    * called cheaply at the start of every partition (or record) of a distributed operation.
     *
     * @param config the config
     */
    public static void initializeWorker(Config config) {
-      Configurator.INSTANCE.configure(config);
+      if (workerConfig != config) {
+         synchronized (Hermes.class) {
+            if (workerConfig != config) {
+               Configurator.INSTANCE.configure(config);
+               workerConfig = config;
+            }
+         }
+      }
    }
 
 
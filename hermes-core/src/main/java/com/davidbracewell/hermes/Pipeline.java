@@ -32,6 +32,7 @@ import com.davidbracewell.guava.common.base.Throwables;
 import com.davidbracewell.hermes.annotator.Annotator;
 import com.davidbracewell.hermes.corpus.Corpus;
 import com.davidbracewell.hermes.corpus.CorpusFormats;
+import com.davidbracewell.hermes.corpus.CorpusIndex;
 import com.davidbracewell.io.MultiFileWriter;
 import com.davidbracewell.io.Resources;
 import com.davidbracewell.io.resource.Resource;
@@ -39,13 +40,15 @@ import com.davidbracewell.logging.Logger;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
+import java.io.BufferedWriter;
+import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -57,7 +60,7 @@ import java.util.logging.Level;
  *
  * @author David B. Bracewell
  */
-public final class Pipeline implements Serializable {
+public final class Pipeline implements Serializable, AutoCloseable {
 
    private static final Logger log = Logger.getLogger(Pipeline.class);
    private static final long serialVersionUID = 1L;
@@ -66,16 +69,37 @@ public final class Pipeline implements Serializable {
    private final Stopwatch timer = Stopwatch.createUnstarted();
    private final java.util.function.Consumer<Document> onComplete;
    private final int queueSize;
+   private final int batchSize;
    private final boolean returnCorpus;
+   private final int schedulingWindow;
+   private final boolean preserveOrder;
+   private final long documentTimeout;
+   private final long annotatorTimeout;
+   private final java.util.function.Consumer<Document> onTimeout;
+   private final AtomicLong documentsTimedOut = new AtomicLong();
+   private final Resource checkpointDirectory;
+   private final int checkpointSize;
    private long totalTime;
    private AtomicLong documentsProcessed = new AtomicLong();
+   private final Map<String, Long> warmUpTimes = new ConcurrentHashMap<>();
+   private transient volatile AsyncDocumentProcessor asyncProcessor;
 
 
-   private Pipeline(int numberOfThreads, int queueSize, Consumer<Document> onComplete, Collection<AnnotatableType> annotationTypes, boolean returnCorpus) {
+   private Pipeline(int numberOfThreads, int queueSize, int batchSize, Consumer<Document> onComplete, Collection<AnnotatableType> annotationTypes, boolean returnCorpus, int schedulingWindow, boolean preserveOrder, long documentTimeout, long annotatorTimeout, Consumer<Document> onTimeout, Resource checkpointDirectory, int checkpointSize) {
       this.returnCorpus = returnCorpus;
+      this.checkpointDirectory = checkpointDirectory;
+      this.checkpointSize = checkpointSize;
+      this.schedulingWindow = schedulingWindow;
+      this.preserveOrder = preserveOrder;
+      this.documentTimeout = documentTimeout;
+      this.annotatorTimeout = annotatorTimeout;
+      this.onTimeout = Preconditions.checkNotNull(onTimeout);
+      Preconditions.checkArgument(checkpointSize > 0, "Checkpoint size must be > 0");
       Preconditions.checkArgument(numberOfThreads > 0, "Number of threads must be > 0");
       Preconditions.checkArgument(queueSize > 0, "Queue size must be > 0");
+      Preconditions.checkArgument(batchSize > 0, "Batch size must be > 0");
       this.queueSize = queueSize;
+      this.batchSize = batchSize;
       this.annotationTypes = Preconditions
                                 .checkNotNull(annotationTypes)
                                 .toArray(new AnnotatableType[annotationTypes.size()]);
@@ -104,7 +128,9 @@ public final class Pipeline implements Serializable {
          for (AnnotatableType type : annotator.requires()) {
             process(document, type);
          }
+         long previous = Deadline.enterAnnotator(annotator.getClass().getName());
          annotator.annotate(document);
+         Deadline.exitAnnotator(previous);
          for (AnnotatableType type : annotator.satisfies()) {
             document
                .getAnnotationSet()
@@ -152,7 +178,9 @@ public final class Pipeline implements Serializable {
             process(textDocument, prereq);
          }
 
+         long previous = Deadline.enterAnnotator(annotator.getClass().getName());
          annotator.annotate(textDocument);
+         Deadline.exitAnnotator(previous);
          for (AnnotatableType type : annotator.satisfies()) {
             textDocument
                .getAnnotationSet()
@@ -162,6 +190,66 @@ public final class Pipeline implements Serializable {
       }
    }
 
+   /**
+    * Annotates a batch of documents with the given annotation types. Documents are grouped by language and each
+    * annotator is given all documents in a group at once via {@link Annotator#annotateBatch(List)}. This is the path
+    * used for documents submitted via {@link #submit(Document)}; corpus processing annotates documents individually.
+    *
+    * @param documents       the documents to be annotated
+    * @param annotationTypes the annotation types to be annotated
+    */
+   public static void process(@NonNull List<Document> documents, AnnotatableType... annotationTypes) {
+      if (annotationTypes == null || annotationTypes.length == 0 || documents.isEmpty()) {
+         return;
+      }
+
+      for (AnnotatableType annotationType : annotationTypes) {
+         if (annotationType == null) {
+            continue;
+         }
+
+         Map<Language, List<Document>> byLanguage = new LinkedHashMap<>();
+         for (Document document : documents) {
+            if (!document.getAnnotationSet().isCompleted(annotationType)) {
+               byLanguage.computeIfAbsent(document.getLanguage(), l -> new ArrayList<>()).add(document);
+            }
+         }
+
+         for (Map.Entry<Language, List<Document>> entry : byLanguage.entrySet()) {
+            Annotator annotator = AnnotatorCache.getInstance().get(annotationType, entry.getKey());
+
+            if (annotator == null) {
+               throw new IllegalStateException("Could not get annotator for " + annotationType);
+            }
+
+            if (!annotator.satisfies().contains(annotationType)) {
+               throw new IllegalStateException(annotator.getClass().getName() + " does not satisfy " + annotationType);
+            }
+
+            //Get the requirements out of the way
+            for (AnnotatableType prereq : annotator.requires()) {
+               process(entry.getValue(), prereq);
+            }
+
+            List<Document> remaining = new ArrayList<>();
+            for (Document document : entry.getValue()) {
+               if (!document.getAnnotationSet().isCompleted(annotationType)) {
+                  remaining.add(document);
+               }
+            }
+
+            annotator.annotateBatch(remaining);
+            for (Document document : remaining) {
+               for (AnnotatableType type : annotator.satisfies()) {
+                  document
+                     .getAnnotationSet()
+                     .setIsCompleted(type, true, annotator.getClass().getName() + "::" + annotator.getVersion());
+               }
+            }
+         }
+      }
+   }
+
    public static void setAnnotator(@NonNull AnnotationType annotationType, @NonNull Language language, @NonNull Annotator annotator) {
       AnnotatorCache.getInstance().setAnnotator(annotationType, language, annotator);
    }
@@ -184,7 +272,12 @@ public final class Pipeline implements Serializable {
    }
 
    /**
-    * Annotates documents with the annotation types defined in the pipeline.
+    * Annotates documents with the annotation types defined in the pipeline. When a scheduling window is set (see
+    * {@link Builder#schedulingWindow(int)}), documents are dispatched longest first within the window. When the
+    * original order is preserved (see {@link Builder#preserveOrder(boolean)}), annotated documents are passed to the
+    * <code>onComplete</code> consumer and written to the returned off heap corpus in corpus order. When a checkpoint
+    * directory is set (see {@link Builder#checkpoint(Resource, int)}), the annotated corpus is written to the checkpoint
+    * directory and processing resumes from the last completed checkpoint.
     *
     * @param documents the source of documents to be annotated
     */
@@ -192,27 +285,19 @@ public final class Pipeline implements Serializable {
    public Corpus process(@NonNull Corpus documents) {
       timer.start();
 
-      Broker.Builder<Document> builder = Broker.<Document>builder()
-                                            .addProducer(new IterableProducer<>(documents))
-                                            .bufferSize(queueSize);
-
       Corpus corpus = documents;
-      if (returnCorpus && corpus.getDataSetType() == DatasetType.OffHeap) {
+      if (checkpointDirectory != null) {
+         corpus = processWithCheckpoints(documents);
+      } else if (returnCorpus && corpus.getDataSetType() == DatasetType.OffHeap) {
          Resource tempFile = Resources.temporaryDirectory();
          tempFile.deleteOnExit();
-         try (MultiFileWriter writer = new MultiFileWriter(tempFile, "part-", Config.get("files.partition")
-                                                                                    .asIntegerValue(numberOfThreads))) {
-            builder.addConsumer(new AnnotateConsumer(annotationTypes, onComplete, documentsProcessed, writer),
-                                numberOfThreads)
-                   .build()
-                   .run();
+         int partitions = preserveOrder ? 1 : Config.get("files.partition").asIntegerValue(numberOfThreads);
+         try (MultiFileWriter writer = new MultiFileWriter(tempFile, "part-", partitions)) {
+            annotate(documents, new AnnotateConsumer(annotationTypes, onComplete, documentsProcessed, writer, null));
          }
          corpus = Corpus.builder().offHeap().source(CorpusFormats.JSON_OPL, tempFile).build();
       } else {
-         builder.addConsumer(new AnnotateConsumer(annotationTypes, onComplete, documentsProcessed, null),
-                             numberOfThreads)
-                .build()
-                .run();
+         annotate(documents, new AnnotateConsumer(annotationTypes, onComplete, documentsProcessed, null, null));
       }
 
       timer.stop();
@@ -222,9 +307,179 @@ public final class Pipeline implements Serializable {
       return corpus;
    }
 
+   /**
+    * Processes the corpus in checkpoints of <code>checkpointSize</code> documents (in corpus order). Each checkpoint is
+    * written to a temporary file and moved into the output directory once all of its documents are annotated, so that
+    * the presence of an output part marks the checkpoint as complete. On restart, the documents of completed
+    * checkpoints are skipped without being annotated. The ids of documents whose annotation failed or timed out are
+    * recorded in <code>failed/part-NNNNNN.txt</code> before their checkpoint is committed. The checkpoint size and a
+    * fingerprint of the input corpus (see {@link CorpusIndex#fingerprint(Corpus)}) are stored in
+    * <code>checkpoint.info</code> and resuming with a different size or input is refused.
+    */
+   private Corpus processWithCheckpoints(Corpus documents) throws IOException {
+      Resource output = checkpointDirectory.getChild("output");
+      Resource temp = checkpointDirectory.getChild("tmp");
+      output.mkdirs();
+      temp.mkdirs();
+
+      Resource info = checkpointDirectory.getChild("checkpoint.info");
+      String fingerprint = CorpusIndex.fingerprint(documents);
+      if (info.exists()) {
+         String[] recorded = info.readToString().trim().split("\\s+");
+         int recordedSize = Integer.parseInt(recorded[0]);
+         if (recordedSize != checkpointSize) {
+            throw new IllegalStateException("Checkpoint directory " + checkpointDirectory.descriptor()
+                                               + " was created with a checkpoint size of " + recordedSize
+                                               + " but the pipeline uses " + checkpointSize);
+         }
+         if (recorded.length < 2 || !recorded[1].equals(fingerprint)) {
+            throw new IllegalStateException("Checkpoint directory " + checkpointDirectory.descriptor()
+                                               + " was created from a different input corpus");
+         }
+      } else {
+         Resource tempInfo = temp.getChild("checkpoint.info");
+         tempInfo.write(checkpointSize + "\n" + fingerprint + "\n");
+         moveAtomically(tempInfo, info);
+      }
+
+      List<Document> chunk = new ArrayList<>(checkpointSize);
+      long position = 0;
+      int part = -1;
+      boolean completed = false;
+      int skipped = 0;
+      for (Document document : documents) {
+         if (position % checkpointSize == 0) {
+            part++;
+            completed = checkpointPart(output, part).exists();
+            if (completed) {
+               skipped++;
+            }
+         }
+         position++;
+         if (completed) {
+            continue;
+         }
+         chunk.add(document);
+         if (chunk.size() >= checkpointSize) {
+            writeCheckpoint(chunk, temp, output, part);
+            chunk.clear();
+         }
+      }
+      if (!chunk.isEmpty()) {
+         writeCheckpoint(chunk, temp, output, part);
+      }
+      if (skipped > 0) {
+         log.info("Resumed from checkpoint {0} skipping {1} completed parts", checkpointDirectory.descriptor(), skipped);
+      }
+      temp.delete(true);
+      return Corpus.builder().offHeap().source(CorpusFormats.JSON_OPL, output).build();
+   }
+
+   private static Resource checkpointPart(Resource directory, int part) {
+      return directory.getChild(String.format("part-%06d.json", part));
+   }
+
+   private void writeCheckpoint(List<Document> chunk, Resource temp, Resource output, int part) throws IOException {
+      Resource tempPart = checkpointPart(temp, part);
+      Queue<String> failures = new ConcurrentLinkedQueue<>();
+      try (Writer writer = new BufferedWriter(tempPart.writer())) {
+         annotate(Corpus.builder().inMemory().addAll(chunk).build(),
+                  new AnnotateConsumer(annotationTypes, onComplete, documentsProcessed, writer, failures));
+      }
+      if (!failures.isEmpty()) {
+         //Record the documents that failed or timed out before the part is committed, so that they are not silently lost
+         Resource failed = checkpointDirectory.getChild("failed");
+         failed.mkdirs();
+         Resource tempFailed = temp.getChild(String.format("failed-%06d.txt", part));
+         tempFailed.write(String.join("\n", failures) + "\n");
+         Resource failedPart = failed.getChild(String.format("part-%06d.txt", part));
+         moveAtomically(tempFailed, failedPart);
+         log.warn("{0} documents failed or timed out in checkpoint {1}, their ids are recorded in {2}",
+                  failures.size(), part, failedPart.descriptor());
+      }
+      moveAtomically(tempPart, checkpointPart(output, part));
+      if (log.isLoggable(Level.FINE)) {
+         log.fine("Completed checkpoint {0} ({1} documents)", part, chunk.size());
+      }
+   }
+
+   private static void moveAtomically(Resource from, Resource to) throws IOException {
+      File source = from.asFile().orElseThrow(() -> new IOException(from.descriptor() + " is not a file"));
+      File target = to.asFile().orElseThrow(() -> new IOException(to.descriptor() + " is not a file"));
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+   }
+
+   private void annotate(Corpus documents, AnnotateConsumer consumer) {
+      if (schedulingWindow <= 1 && !preserveOrder) {
+         Broker.<Document>builder()
+            .addProducers(producers(documents))
+            .bufferSize(queueSize)
+            .addConsumer(consumer, numberOfThreads)
+            .build()
+            .run();
+      } else {
+         DocumentScheduler scheduler = new DocumentScheduler(schedulingWindow, preserveOrder,
+                                                                 schedulingWindow + queueSize);
+         Broker.<DocumentScheduler.Task>builder()
+            .addProducer(scheduler.producer(documents))
+            .bufferSize(queueSize)
+            .addConsumer(scheduler.consumer(consumer::annotate, consumer::complete), numberOfThreads)
+            .build()
+            .run();
+      }
+   }
+
+   /**
+    * Creates the producers reading the documents of the corpus. When the corpus can be split (e.g. file based corpora
+    * and unions) up to <code>numberOfThreads</code> producers read disjoint splits in parallel, so that reading and
+    * parsing documents does not bottleneck the annotating consumers.
+    */
+   private List<IterableProducer<Document>> producers(Corpus documents) {
+      List<IterableProducer<Document>> producers = new ArrayList<>();
+      if (documents.isDistributed() || numberOfThreads <= 1) {
+         producers.add(new IterableProducer<>(documents));
+         return producers;
+      }
+
+      Spliterator<Document> root = documents.spliterator();
+      if (root.estimateSize() == Long.MAX_VALUE) {
+         //Unknown size spliterators split by buffering documents, so read them from a single producer
+         producers.add(new IterableProducer<>(() -> Spliterators.iterator(root)));
+         return producers;
+      }
+
+      PriorityQueue<Spliterator<Document>> splittable = new PriorityQueue<>(
+         Comparator.comparingLong(Spliterator<Document>::estimateSize).reversed());
+      List<Spliterator<Document>> splits = new ArrayList<>();
+      splittable.add(root);
+      while (!splittable.isEmpty() && splittable.size() + splits.size() < numberOfThreads) {
+         Spliterator<Document> largest = splittable.remove();
+         Spliterator<Document> prefix = largest.trySplit();
+         if (prefix == null) {
+            splits.add(largest);
+         } else {
+            splittable.add(largest);
+            splittable.add(prefix);
+         }
+      }
+      splits.addAll(splittable);
+      for (Spliterator<Document> split : splits) {
+         producers.add(new IterableProducer<>(() -> Spliterators.iterator(split)));
+      }
+      return producers;
+   }
+
+   /**
+    * Annotates a document with the annotation types defined in the pipeline. If the document exceeds the pipeline's
+    * time budget it is passed to the <code>onTimeout</code> consumer and returned with the annotations that were
+    * completed before the deadline.
+    *
+    * @param document the document to annotate
+    * @return the annotated document
+    */
    public Document process(@NonNull Document document) {
       timer.start();
-      process(document, annotationTypes);
+      processWithinDeadline(document);
       timer.stop();
       documentsProcessed.incrementAndGet();
       totalTime += timer.elapsed(TimeUnit.NANOSECONDS);
@@ -232,6 +487,198 @@ public final class Pipeline implements Serializable {
       return document;
    }
 
+   /**
+    * <p>Submits a document to be annotated asynchronously with the annotation types defined in the pipeline. Documents
+    * are processed by the pipeline's number of threads with at most <code>queueSize</code> documents waiting to be
+    * processed, when the queue is full the returned future is completed exceptionally with a
+    * <code>RejectedExecutionException</code>. Documents waiting in the queue are processed in batches of up to
+    * <code>batchSize</code>. The worker threads are started on the first call and stopped by {@link #close()}.</p>
+    *
+    * @param document the document to annotate
+    * @return future holding the annotated document
+    */
+   public CompletableFuture<Document> submit(@NonNull Document document) {
+      if (asyncProcessor == null) {
+         synchronized (this) {
+            if (asyncProcessor == null) {
+               asyncProcessor = new AsyncDocumentProcessor(numberOfThreads, queueSize, batchSize, this::processBatch);
+            }
+         }
+      }
+      return asyncProcessor.submit(document);
+   }
+
+   private void processBatch(List<Document> documents, Consumer<Document> done) {
+      if (hasDeadline()) {
+         //Deadlines are per document, so the documents are processed one at a time
+         for (Document document : documents) {
+            if (processWithinDeadline(document)) {
+               onComplete.accept(document);
+            }
+            documentsProcessed.incrementAndGet();
+            done.accept(document);
+         }
+         return;
+      }
+      process(documents, annotationTypes);
+      for (Document document : documents) {
+         onComplete.accept(document);
+         documentsProcessed.incrementAndGet();
+         done.accept(document);
+      }
+   }
+
+   private boolean hasDeadline() {
+      return documentTimeout > 0 || annotatorTimeout > 0;
+   }
+
+   private boolean processWithinDeadline(Document document) {
+      if (!hasDeadline()) {
+         process(document, annotationTypes);
+         return true;
+      }
+      Deadline.start(documentTimeout, annotatorTimeout);
+      try {
+         process(document, annotationTypes);
+         return true;
+      } catch (DeadlineExceededException e) {
+         documentsTimedOut.incrementAndGet();
+         log.warn("Document {0} timed out: {1}", document.getId(), e.getMessage());
+         onTimeout.accept(document);
+         return false;
+      } finally {
+         Deadline.clear();
+      }
+   }
+
+   /**
+    * The number of documents that exceeded the pipeline's time budget and were passed to the <code>onTimeout</code>
+    * consumer.
+    *
+    * @return the number of timed out documents
+    */
+   public long getTimedOutCount() {
+      return documentsTimedOut.get();
+   }
+
+   /**
+    * The average time documents submitted via {@link #submit(Document)} waited in the queue before being processed.
+    *
+    * @param timeUnit the time unit
+    * @return the average queue time
+    */
+   public double getAverageQueueTime(@NonNull TimeUnit timeUnit) {
+      return asyncProcessor == null ? 0d : asyncProcessor.averageQueueTime(timeUnit);
+   }
+
+   /**
+    * The average time needed to process documents submitted via {@link #submit(Document)} once they leave the queue.
+    *
+    * @param timeUnit the time unit
+    * @return the average service time
+    */
+   public double getAverageServiceTime(@NonNull TimeUnit timeUnit) {
+      return asyncProcessor == null ? 0d : asyncProcessor.averageServiceTime(timeUnit);
+   }
+
+   /**
+    * The number of submitted documents waiting to be processed.
+    *
+    * @return the number of pending documents
+    */
+   public int getPendingCount() {
+      return asyncProcessor == null ? 0 : asyncProcessor.pending();
+   }
+
+   /**
+    * The number of submitted documents that were rejected because the queue was full.
+    *
+    * @return the number of rejected documents
+    */
+   public long getRejectedCount() {
+      return asyncProcessor == null ? 0 : asyncProcessor.rejected();
+   }
+
+   /**
+    * Stops accepting documents via {@link #submit(Document)} and waits for those already submitted to finish.
+    */
+   @Override
+   public void close() {
+      AsyncDocumentProcessor processor = asyncProcessor;
+      if (processor != null) {
+         processor.shutdown();
+      }
+   }
+
+   /**
+    * Resolves the annotators (including prerequisites) needed to provide the pipeline's annotation types for the given
+    * languages and concurrently loads their models, lexicons, etc. using the pipeline's number of threads. Load times
+    * are logged and can be retrieved using {@link #getWarmUpTimes()}.
+    *
+    * @param languages the languages to load models for (the default language is used when none are given)
+    * @return map of <code>annotator::language</code> to load time in milliseconds
+    */
+   @SneakyThrows
+   public Map<String, Long> warmUp(Language... languages) {
+      if (languages == null || languages.length == 0) {
+         languages = new Language[]{Hermes.defaultLanguage()};
+      }
+
+      List<Callable<Long>> tasks = new ArrayList<>();
+      for (Language language : languages) {
+         Set<Annotator> plan = new LinkedHashSet<>();
+         for (AnnotatableType type : annotationTypes) {
+            resolveAnnotators(type, language, plan);
+         }
+         for (Annotator annotator : plan) {
+            tasks.add(() -> {
+               Stopwatch sw = Stopwatch.createStarted();
+               annotator.preload(language);
+               sw.stop();
+               String name = annotator.getClass().getName() + "::" + language;
+               warmUpTimes.put(name, sw.elapsed(TimeUnit.MILLISECONDS));
+               log.info("Loaded {0} in {1}", name, sw);
+               return sw.elapsed(TimeUnit.MILLISECONDS);
+            });
+         }
+      }
+
+      ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(numberOfThreads, tasks.size())));
+      try {
+         for (Future<Long> future : executor.invokeAll(tasks)) {
+            try {
+               future.get();
+            } catch (ExecutionException e) {
+               throw Throwables.propagate(e.getCause());
+            }
+         }
+      } finally {
+         executor.shutdown();
+      }
+      return getWarmUpTimes();
+   }
+
+   /**
+    * Gets the time in milliseconds needed to load each annotator's models during warm up.
+    *
+    * @return map of <code>annotator::language</code> to load time in milliseconds
+    */
+   public Map<String, Long> getWarmUpTimes() {
+      return Collections.unmodifiableMap(warmUpTimes);
+   }
+
+   private static void resolveAnnotators(AnnotatableType type, Language language, Set<Annotator> plan) {
+      Annotator annotator = AnnotatorCache.getInstance().get(type, language);
+      if (annotator == null) {
+         throw new IllegalStateException("Could not get annotator for " + type);
+      }
+      if (plan.add(annotator)) {
+         for (AnnotatableType prereq : annotator.requires()) {
+            resolveAnnotators(prereq, language, plan);
+         }
+      }
+   }
+
    /**
     * Total time processing.
     *
@@ -255,10 +702,20 @@ public final class Pipeline implements Serializable {
    public static class Builder {
 
       int queueSize = 10000;
+      int batchSize = 32;
       Set<AnnotatableType> annotationTypes = new HashSet<>();
       int numberOfThreads = Runtime.getRuntime().availableProcessors();
       java.util.function.Consumer<Document> onComplete = NoOpt.INSTANCE;
       boolean returnCorpus = true;
+      int schedulingWindow = 0;
+      boolean preserveOrder = false;
+      long documentTimeout = 0;
+      long annotatorTimeout = 0;
+      java.util.function.Consumer<Document> onTimeout = NoOpt.INSTANCE;
+      Resource checkpointDirectory = null;
+      int checkpointSize = 1000;
+      boolean warmUp = false;
+      Set<Language> warmUpLanguages = new LinkedHashSet<>();
 
       /**
        * Add annotation.
@@ -288,13 +745,30 @@ public final class Pipeline implements Serializable {
          return this;
       }
 
+      /**
+       * The maximum number of queued documents that are processed together when using {@link Pipeline#submit(Document)}.
+       *
+       * @param batchSize the batch size
+       * @return the builder
+       */
+      public Builder batchSize(int batchSize) {
+         this.batchSize = batchSize;
+         return this;
+      }
+
       /**
        * Build pipeline.
        *
        * @return the pipeline
        */
       public Pipeline build() {
-         return new Pipeline(numberOfThreads, queueSize, onComplete, annotationTypes, returnCorpus);
+         Pipeline pipeline = new Pipeline(numberOfThreads, queueSize, batchSize, onComplete, annotationTypes,
+                                          returnCorpus, schedulingWindow, preserveOrder, documentTimeout,
+                                          annotatorTimeout, onTimeout, checkpointDirectory, checkpointSize);
+         if (warmUp) {
+            pipeline.warmUp(warmUpLanguages.toArray(new Language[warmUpLanguages.size()]));
+         }
+         return pipeline;
       }
 
       /**
@@ -319,6 +793,112 @@ public final class Pipeline implements Serializable {
          return this;
       }
 
+      /**
+       * Loads the models of all annotators needed by the pipeline concurrently when it is built instead of lazily on
+       * the first document (see {@link Pipeline#warmUp(Language...)}).
+       *
+       * @param languages the languages to load models for (the default language is used when none are given)
+       * @return the builder
+       */
+      public Builder warmUp(Language... languages) {
+         this.warmUp = true;
+         if (languages != null) {
+            this.warmUpLanguages.addAll(Arrays.asList(languages));
+         }
+         return this;
+      }
+
+      /**
+       * The number of documents to look ahead over when processing a corpus. Documents within the window are dispatched
+       * to the worker threads longest first, so that large documents do not end up being processed by a single thread
+       * after the rest of the corpus has finished. A window of 0 or 1 (the default) processes documents in corpus order.
+       *
+       * @param schedulingWindow the number of documents to look ahead over
+       * @return the builder
+       */
+      public Builder schedulingWindow(int schedulingWindow) {
+         this.schedulingWindow = schedulingWindow;
+         return this;
+      }
+
+      /**
+       * Whether annotated documents should be passed to the <code>onComplete</code> consumer and written to the
+       * returned corpus in their original corpus order, regardless of scheduling or thread completion order.
+       *
+       * @param preserveOrder True to keep the original order
+       * @return the builder
+       */
+      public Builder preserveOrder(boolean preserveOrder) {
+         this.preserveOrder = preserveOrder;
+         return this;
+      }
+
+      /**
+       * The maximum time allowed for annotating a single document. Documents exceeding the time are passed to the
+       * <code>onTimeout</code> consumer (with the annotations completed before the deadline) instead of the
+       * <code>onComplete</code> consumer. A time of 0 (the default) allows unlimited time.
+       *
+       * @param time     the time
+       * @param timeUnit the time unit
+       * @return the builder
+       */
+      public Builder documentTimeout(long time, @NonNull TimeUnit timeUnit) {
+         this.documentTimeout = timeUnit.toNanos(time);
+         return this;
+      }
+
+      /**
+       * The maximum time allowed for a single annotator to annotate a document. Documents exceeding the time are
+       * treated the same as those exceeding the document timeout. A time of 0 (the default) allows unlimited time.
+       *
+       * @param time     the time
+       * @param timeUnit the time unit
+       * @return the builder
+       */
+      public Builder annotatorTimeout(long time, @NonNull TimeUnit timeUnit) {
+         this.annotatorTimeout = timeUnit.toNanos(time);
+         return this;
+      }
+
+      /**
+       * The consumer (dead letter sink) receiving documents that exceeded the pipeline's time budget.
+       *
+       * @param onTimeout the consumer of timed out documents
+       * @return the builder
+       */
+      public Builder onTimeout(java.util.function.Consumer<Document> onTimeout) {
+         this.onTimeout = onTimeout;
+         return this;
+      }
+
+      /**
+       * Makes corpus processing restartable by writing the annotated corpus to the given directory in checkpoints of
+       * 1,000 documents (see {@link #checkpoint(Resource, int)}).
+       *
+       * @param directory the checkpoint directory
+       * @return the builder
+       */
+      public Builder checkpoint(Resource directory) {
+         return checkpoint(directory, 1000);
+      }
+
+      /**
+       * Makes corpus processing restartable by writing the annotated corpus to the given (local) directory in
+       * checkpoints of <code>documentsPerCheckpoint</code> documents. Each checkpoint is written atomically once all of
+       * its documents are annotated. Processing the same corpus again with the same directory skips the documents of
+       * completed checkpoints. The annotated corpus is read from the <code>output</code> sub directory of the
+       * checkpoint directory and is returned regardless of the <code>returnCorpus</code> setting.
+       *
+       * @param directory              the checkpoint directory
+       * @param documentsPerCheckpoint the number of documents in each checkpoint
+       * @return the builder
+       */
+      public Builder checkpoint(Resource directory, int documentsPerCheckpoint) {
+         this.checkpointDirectory = directory;
+         this.checkpointSize = documentsPerCheckpoint;
+         return this;
+      }
+
       /**
        * Queue size.
        *
@@ -337,32 +917,53 @@ public final class Pipeline implements Serializable {
       private final AnnotatableType[] annotationTypes;
       private final java.util.function.Consumer<Document> onComplete;
       private final AtomicLong counter;
-      private final MultiFileWriter writer;
+      private final Writer writer;
+      private final Queue<String> failures;
 
-      private AnnotateConsumer(AnnotatableType[] annotationTypes, Consumer<Document> onComplete, AtomicLong counter, MultiFileWriter writer) {
+      private AnnotateConsumer(AnnotatableType[] annotationTypes, Consumer<Document> onComplete, AtomicLong counter, Writer writer, Queue<String> failures) {
          this.annotationTypes = annotationTypes;
          this.onComplete = onComplete;
          this.counter = counter;
          this.writer = writer;
+         this.failures = failures;
       }
 
       @Override
       public void accept(Document document) {
-         if (document != null) {
-            process(document, annotationTypes);
-            long count = counter.incrementAndGet();
-            if (count % 5_000 == 0) {
-               System.err.println(count + " (" + documentsPerSecond() + ")");
+         if (document != null && annotate(document)) {
+            complete(document);
+         }
+      }
+
+      private boolean annotate(Document document) {
+         boolean completed;
+         try {
+            completed = processWithinDeadline(document);
+         } catch (RuntimeException e) {
+            if (failures != null) {
+               failures.add(document.getId());
             }
-            if (writer != null) {
-               try {
-                  writer.write(document.toJson() + "\n");
-               } catch (IOException e) {
-                  throw Throwables.propagate(e);
-               }
+            throw e;
+         }
+         if (!completed && failures != null) {
+            failures.add(document.getId());
+         }
+         long count = counter.incrementAndGet();
+         if (count % 5_000 == 0) {
+            System.err.println(count + " (" + documentsPerSecond() + ")");
+         }
+         return completed;
+      }
+
+      private void complete(Document document) {
+         if (writer != null) {
+            try {
+               writer.write(document.toJson() + "\n");
+            } catch (IOException e) {
+               throw Throwables.propagate(e);
             }
-            onComplete.accept(document);
          }
+         onComplete.accept(document);
       }
 
    }
@@ -21,11 +21,13 @@
 
 package com.davidbracewell.hermes.annotator;
 
+import com.davidbracewell.Language;
 import com.davidbracewell.config.Config;
 import com.davidbracewell.hermes.AnnotatableType;
 import com.davidbracewell.hermes.Document;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -35,7 +37,8 @@ import java.util.Set;
  * Annotators define a version ({@link #getVersion()}) that identifies the model, version, lexicon, etc. used by the
  * annotator to produce its annotations.
  * </p>
- * <p><b>Note</b>: Annotator implementations should be implemented in a thread safe manner.</p>
+ * <p><b>Note</b>: Annotator implementations should be implemented in a thread safe manner or declare a different
+ * {@link AnnotatorLifecycle} via {@link #getLifecycle()}.</p>
  *
  * @author David B. Bracewell
  */
@@ -49,6 +52,18 @@ public interface Annotator {
    */
   void annotate(Document document);
 
+  /**
+   * Annotates a batch of documents with one or more annotations of the types defined in <code>provided()</code>.
+   * The {@link com.davidbracewell.hermes.Pipeline} calls this method for batches of documents submitted via
+   * <code>submit</code>, while corpus processing annotates documents one at a time. Implementations whose models can
+   * label several inputs at once may override this method. By default, each document is annotated individually.
+   *
+   * @param documents The documents to annotate
+   */
+  default void annotateBatch(List<Document> documents) {
+    documents.forEach(this::annotate);
+  }
+
 
   /**
    * The set of annotation types that this annotator satisfies by this annotator
@@ -77,5 +92,26 @@ public interface Annotator {
     return Config.get(this.getClass(), "version").asString("1.0");
   }
 
+  /**
+   * Loads the models, lexicons, etc. needed to annotate documents of the given language. Annotators normally load
+   * these lazily when the first document is processed, calling this method allows them to be loaded ahead of time
+   * (see {@link com.davidbracewell.hermes.Pipeline.Builder#warmUp(Language...)}). By default, does nothing.
+   *
+   * @param language the language whose resources should be loaded
+   */
+  default void preload(Language language) {
+
+  }
+
+  /**
+   * Gets the lifecycle of this annotator, which determines if a single instance can be shared across threads. By
+   * default, annotators are assumed to be thread safe.
+   *
+   * @return the lifecycle of the annotator
+   */
+  default AnnotatorLifecycle getLifecycle() {
+    return AnnotatorLifecycle.THREAD_SAFE;
+  }
+
 
 }//END OF Annotator
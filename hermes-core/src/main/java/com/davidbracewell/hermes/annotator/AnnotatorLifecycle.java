@@ -0,0 +1,54 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.annotator;
+
+/**
+ * <p>
+ * Defines how an {@link Annotator} may be shared between threads. The {@link com.davidbracewell.hermes.AnnotatorCache}
+ * uses the lifecycle of an annotator to determine whether a single instance is handed out to every thread or whether
+ * each worker thread is given its own instance.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public enum AnnotatorLifecycle {
+   /**
+    * The annotator is fully thread safe and a single instance is shared by all threads.
+    */
+   THREAD_SAFE,
+   /**
+    * The annotator wraps a non-thread-safe engine. Each thread is given its own instance, which is constructed the first
+    * time the thread requests the annotator and reused for the life of the thread. Models should be stored statically
+    * so that they are loaded only once.
+    */
+   PER_THREAD;
+
+   /**
+    * Determines if a single instance of an annotator with this lifecycle can be shared across threads.
+    *
+    * @return True if a single instance can be shared, False if each thread needs its own instance
+    */
+   public boolean isShareable() {
+      return this != PER_THREAD;
+   }
+
+}//END OF AnnotatorLifecycle
@@ -83,6 +83,11 @@ public class DefaultDependencyAnnotator extends SentenceLevelAnnotator implement
       }
    }
 
+   @Override
+   public void preload(Language language) {
+      getModel(language);
+   }
+
    @Override
    protected Set<AnnotatableType> furtherRequires() {
       return ImmutableSet.of(Types.PART_OF_SPEECH, Types.LEMMA);
@@ -21,6 +21,7 @@
 
 package com.davidbracewell.hermes.annotator;
 
+import com.davidbracewell.Language;
 import com.davidbracewell.guava.common.collect.Sets;
 import com.davidbracewell.hermes.AnnotatableType;
 import com.davidbracewell.hermes.Document;
@@ -47,6 +48,11 @@ public class DefaultLemmaAnnotator implements Annotator, Serializable {
     });
   }
 
+  @Override
+  public void preload(Language language) {
+    Lemmatizers.getLemmatizer(language);
+  }
+
   @Override
   public Set<AnnotatableType> satisfies() {
     return Collections.singleton(Types.LEMMA);
@@ -44,18 +44,27 @@ public class DefaultMlEntityAnnotator extends SentenceLevelAnnotator implements
 
    @Override
    public void annotate(Annotation sentence) {
-      BIOTagger tagger = Hermes.loadModel(this,
-                                          sentence.getLanguage(),
-                                          "Annotation.ML_ENTITY",
-                                          "ner.model.gz",
-                                          () -> taggers.get(sentence.getLanguage()),
-                                          newTagger -> taggers.put(sentence.getLanguage(), newTagger)
-                                         );
+      BIOTagger tagger = loadTagger(sentence.getLanguage());
       if (tagger != null) {
          tagger.tag(sentence);
       }
    }
 
+   @Override
+   public void preload(Language language) {
+      loadTagger(language);
+   }
+
+   private BIOTagger loadTagger(Language language) {
+      return Hermes.loadModel(this,
+                              language,
+                              "Annotation.ML_ENTITY",
+                              "ner.model.gz",
+                              () -> taggers.get(language),
+                              newTagger -> taggers.put(language, newTagger)
+                             );
+   }
+
 
    @Override
    public Set<AnnotatableType> satisfies() {
@@ -44,13 +44,22 @@ public class DefaultPartOfSpeechAnnotator extends SentenceLevelAnnotator impleme
 
    @Override
    public void annotate(Annotation sentence) {
-      Hermes.loadModel(this,
-                       sentence.getLanguage(),
-                       "Attribute.PART_OF_SPEECH",
-                       "pos.model.gz",
-                       () -> taggers.get(sentence.getLanguage()),
-                       tagger -> taggers.put(sentence.getLanguage(), tagger)
-                      ).tag(sentence);
+      loadTagger(sentence.getLanguage()).tag(sentence);
+   }
+
+   @Override
+   public void preload(Language language) {
+      loadTagger(language);
+   }
+
+   private POSTagger loadTagger(Language language) {
+      return Hermes.loadModel(this,
+                              language,
+                              "Attribute.PART_OF_SPEECH",
+                              "pos.model.gz",
+                              () -> taggers.get(language),
+                              tagger -> taggers.put(language, tagger)
+                             );
    }
 
    @Override
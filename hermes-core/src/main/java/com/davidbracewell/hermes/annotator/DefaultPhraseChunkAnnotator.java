@@ -43,13 +43,22 @@ public class DefaultPhraseChunkAnnotator extends SentenceLevelAnnotator implemen
 
    @Override
    public void annotate(Annotation sentence) {
-      Hermes.loadModel(this,
-                       sentence.getLanguage(),
-                       "Annotation.PHRASE_CHUNK",
-                       "phrase_chunk.model.gz",
-                       () -> taggers.get(sentence.getLanguage()),
-                       tagger -> taggers.put(sentence.getLanguage(), tagger)
-                      ).tag(sentence);
+      loadTagger(sentence.getLanguage()).tag(sentence);
+   }
+
+   @Override
+   public void preload(Language language) {
+      loadTagger(language);
+   }
+
+   private BIOTagger loadTagger(Language language) {
+      return Hermes.loadModel(this,
+                              language,
+                              "Annotation.PHRASE_CHUNK",
+                              "phrase_chunk.model.gz",
+                              () -> taggers.get(language),
+                              tagger -> taggers.put(language, tagger)
+                             );
    }
 
    @Override
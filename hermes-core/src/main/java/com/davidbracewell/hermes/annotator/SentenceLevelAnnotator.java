@@ -24,12 +24,15 @@ package com.davidbracewell.hermes.annotator;
 import com.davidbracewell.guava.common.collect.Sets;
 import com.davidbracewell.hermes.AnnotatableType;
 import com.davidbracewell.hermes.Annotation;
+import com.davidbracewell.hermes.Deadline;
 import com.davidbracewell.hermes.Document;
 import com.davidbracewell.hermes.Types;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -43,7 +46,17 @@ public abstract class SentenceLevelAnnotator implements Annotator, Serializable
 
   @Override
   public final void annotate(Document document) {
-    document.sentences().forEach(this::annotate);
+    for (Annotation sentence : document.sentences()) {
+      Deadline.check();
+      annotate(sentence);
+    }
+  }
+
+  @Override
+  public final void annotateBatch(List<Document> documents) {
+    annotateSentences(documents.stream()
+                               .flatMap(document -> document.sentences().stream())
+                               .collect(Collectors.toList()));
   }
 
   /**
@@ -53,6 +66,19 @@ public abstract class SentenceLevelAnnotator implements Annotator, Serializable
    */
   public abstract void annotate(Annotation sentence);
 
+  /**
+   * Annotates a batch of sentences, which may come from multiple documents. By default, each sentence is annotated
+   * individually.
+   *
+   * @param sentences The sentences to annotate
+   */
+  protected void annotateSentences(List<Annotation> sentences) {
+    for (Annotation sentence : sentences) {
+      Deadline.check();
+      annotate(sentence);
+    }
+  }
+
 
   @Override
   public final Set<AnnotatableType> requires() {
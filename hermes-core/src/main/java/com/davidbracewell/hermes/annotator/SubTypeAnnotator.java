@@ -21,6 +21,7 @@
 
 package com.davidbracewell.hermes.annotator;
 
+import com.davidbracewell.Language;
 import com.davidbracewell.hermes.*;
 import com.davidbracewell.logging.Logger;
 import lombok.NonNull;
@@ -132,6 +133,11 @@ public class SubTypeAnnotator implements Annotator, Serializable {
       }
    }
 
+   @Override
+   public void preload(Language language) {
+      subTypes.forEach(subType -> AnnotatorCache.getInstance().get(subType, language).preload(language));
+   }
+
    @Override
    public Set<AnnotatableType> satisfies() {
       return Collections.singleton(annotationType);
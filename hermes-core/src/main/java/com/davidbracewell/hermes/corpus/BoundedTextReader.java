@@ -0,0 +1,185 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.logging.Logger;
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * <p>
+ * Reads text from a <code>Reader</code> in pieces of bounded size so that arbitrarily large inputs can be turned into
+ * documents incrementally with flat memory usage. Text can be read as lines (lines longer than the maximum size are
+ * skipped), as chunks (the text is broken at paragraph or line boundaries into pieces no longer than the maximum
+ * size), or fully (failing if the text is longer than the maximum size).
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public final class BoundedTextReader implements Closeable {
+   private static final Logger log = Logger.getLogger(BoundedTextReader.class);
+   private static final int BUFFER_SIZE = 8192;
+
+   private final Reader reader;
+   private final int maxSize;
+   private final char[] buffer = new char[BUFFER_SIZE];
+   private final StringBuilder pending = new StringBuilder();
+   private int position = 0;
+   private int limit = 0;
+   private boolean eof = false;
+   private long skipped = 0;
+
+   /**
+    * Instantiates a new bounded text reader.
+    *
+    * @param reader  the reader to read from
+    * @param maxSize the maximum number of characters in a line, chunk, or fully read text
+    */
+   public BoundedTextReader(@NonNull Reader reader, int maxSize) {
+      if (maxSize <= 0) {
+         throw new IllegalArgumentException("Max size must be > 0");
+      }
+      this.reader = reader;
+      this.maxSize = maxSize;
+   }
+
+   private int read() throws IOException {
+      if (position >= limit) {
+         if (eof) {
+            return -1;
+         }
+         limit = reader.read(buffer, 0, BUFFER_SIZE);
+         position = 0;
+         if (limit <= 0) {
+            limit = 0;
+            eof = true;
+            return -1;
+         }
+      }
+      return buffer[position++];
+   }
+
+   /**
+    * Reads the next line (without its line terminator), skipping lines longer than the maximum size.
+    *
+    * @return the next line or null if the end of the input has been reached
+    * @throws IOException something went wrong reading
+    */
+   public String readLine() throws IOException {
+      StringBuilder line = new StringBuilder();
+      while (true) {
+         line.setLength(0);
+         boolean tooLong = false;
+         boolean readAny = false;
+         int c;
+         while ((c = read()) != -1 && c != '\n') {
+            readAny = true;
+            if (tooLong) {
+               continue;
+            }
+            if (line.length() >= maxSize) {
+               tooLong = true;
+               line.setLength(0);
+            } else {
+               line.append((char) c);
+            }
+         }
+         if (!readAny && c == -1) {
+            return null;
+         }
+         if (tooLong) {
+            skipped++;
+            log.warn("Skipping line longer than {0} characters", maxSize);
+            continue;
+         }
+         if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+         }
+         return line.toString();
+      }
+   }
+
+   /**
+    * Reads the next chunk of at most the maximum size characters. Chunks are broken at the last paragraph break (or
+    * line break when there is no paragraph break) in the second half of the chunk and otherwise at the maximum size.
+    *
+    * @return the next chunk or null if the end of the input has been reached
+    * @throws IOException something went wrong reading
+    */
+   public String readChunk() throws IOException {
+      int c;
+      while (pending.length() < maxSize && (c = read()) != -1) {
+         pending.append((char) c);
+      }
+      if (pending.length() == 0) {
+         return null;
+      }
+      int end = pending.length();
+      if (end >= maxSize && !eof) {
+         int split = pending.lastIndexOf("\n\n");
+         if (split < maxSize / 2) {
+            split = pending.lastIndexOf("\n");
+         }
+         end = split < maxSize / 2 ? maxSize : split + 1;
+      }
+      String chunk = pending.substring(0, end);
+      pending.delete(0, end);
+      return chunk;
+   }
+
+   /**
+    * Reads the remaining text.
+    *
+    * @return the remaining text
+    * @throws IOException something went wrong reading or the text is longer than the maximum size
+    */
+   public String readFully() throws IOException {
+      StringBuilder text = new StringBuilder(pending);
+      pending.setLength(0);
+      int c;
+      while ((c = read()) != -1) {
+         if (text.length() >= maxSize) {
+            throw new IOException("Document is longer than the maximum size of " + maxSize + " characters");
+         }
+         text.append((char) c);
+      }
+      return text.toString();
+   }
+
+   /**
+    * Gets the number of lines skipped for being longer than the maximum size.
+    *
+    * @return the number of skipped lines
+    */
+   public long getSkipped() {
+      return skipped;
+   }
+
+   @Override
+   public void close() throws IOException {
+      reader.close();
+   }
+
+}//END OF BoundedTextReader
@@ -0,0 +1,300 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.guava.common.base.Throwables;
+import com.davidbracewell.hermes.AnnotatableType;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.hermes.Pipeline;
+import com.davidbracewell.stream.MStream;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * <p>
+ * An in-memory corpus that stores each document as its JSON serialization compressed with deflate rather than as a
+ * materialized <code>Document</code>. Compressed documents are appended to large slabs, either on the heap or in
+ * direct (off-heap) buffers, and are inflated when iterated. An optional LRU cache keeps a small number of recently
+ * decoded documents.
+ * </p>
+ * <p>
+ * Documents returned by the corpus are decoded copies, so modifications to them are not stored back into the corpus
+ * (a document held in the LRU cache may reflect changes until it is evicted). Use {@link #annotate(AnnotatableType...)}
+ * or {@link #map(SerializableFunction)} to produce modified corpora.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public class CompressedCorpus implements Corpus, Serializable {
+   private static final long serialVersionUID = 1L;
+   private static final int SLAB_SIZE = 8 * 1024 * 1024;
+   private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+   private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+   private final boolean offHeap;
+   private final int hotCacheSize;
+   private transient List<ByteBuffer> slabs;
+   private transient Map<Integer, Document> hot;
+   private long[] offsets;
+   private int[] compressedLengths;
+   private int[] lengths;
+   private int size;
+
+   /**
+    * Instantiates a new compressed corpus.
+    *
+    * @param documents    the documents to store
+    * @param offHeap      True if compressed documents should be stored in direct buffers outside the heap
+    * @param hotCacheSize the number of decoded documents to keep in an LRU cache (0 for no cache)
+    */
+   public CompressedCorpus(@NonNull Iterable<Document> documents, boolean offHeap, int hotCacheSize) {
+      Preconditions.checkArgument(hotCacheSize >= 0, "Cache size must be non-negative");
+      this.offHeap = offHeap;
+      this.hotCacheSize = hotCacheSize;
+      this.offsets = new long[1024];
+      this.compressedLengths = new int[1024];
+      this.lengths = new int[1024];
+      this.slabs = new ArrayList<>();
+      initializeCache();
+      documents.forEach(this::add);
+   }
+
+   private void initializeCache() {
+      if (hotCacheSize > 0) {
+         this.hot = Collections.synchronizedMap(new LinkedHashMap<Integer, Document>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Document> eldest) {
+               return size() > hotCacheSize;
+            }
+         });
+      }
+   }
+
+   private ByteBuffer allocate(int capacity) {
+      return offHeap ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+   }
+
+   private void add(Document document) {
+      byte[] json = document.toJson().getBytes(StandardCharsets.UTF_8);
+      Deflater deflater = DEFLATER.get();
+      deflater.reset();
+      deflater.setInput(json);
+      deflater.finish();
+      byte[] buffer = new byte[Math.max(64, json.length / 2)];
+      int length = 0;
+      while (!deflater.finished()) {
+         if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+         }
+         length += deflater.deflate(buffer, length, buffer.length - length);
+      }
+      append(buffer, length, json.length);
+   }
+
+   private void append(byte[] compressed, int length, int uncompressedLength) {
+      ByteBuffer slab = slabs.isEmpty() ? null : slabs.get(slabs.size() - 1);
+      if (slab == null || slab.remaining() < length) {
+         slab = allocate(Math.max(SLAB_SIZE, length));
+         slabs.add(slab);
+      }
+      if (size == offsets.length) {
+         offsets = Arrays.copyOf(offsets, size * 2);
+         compressedLengths = Arrays.copyOf(compressedLengths, size * 2);
+         lengths = Arrays.copyOf(lengths, size * 2);
+      }
+      offsets[size] = ((long) (slabs.size() - 1) << 32) | slab.position();
+      compressedLengths[size] = length;
+      lengths[size] = uncompressedLength;
+      slab.put(compressed, 0, length);
+      size++;
+   }
+
+   /**
+    * Gets the document at the given index, decoding it if it is not in the cache.
+    *
+    * @param index the index
+    * @return the document
+    */
+   Document get(int index) {
+      if (hot != null) {
+         Document document = hot.get(index);
+         if (document == null) {
+            document = decode(index);
+            hot.put(index, document);
+         }
+         return document;
+      }
+      return decode(index);
+   }
+
+   private Document decode(int index) {
+      ByteBuffer slab = slabs.get((int) (offsets[index] >>> 32)).duplicate();
+      slab.position((int) offsets[index]);
+      byte[] compressed = new byte[compressedLengths[index]];
+      slab.get(compressed);
+      byte[] json = new byte[lengths[index]];
+      Inflater inflater = INFLATER.get();
+      inflater.reset();
+      inflater.setInput(compressed);
+      try {
+         int read = 0;
+         while (read < json.length) {
+            read += inflater.inflate(json, read, json.length - read);
+         }
+      } catch (DataFormatException e) {
+         throw Throwables.propagate(e);
+      }
+      return Document.fromJson(new String(json, StandardCharsets.UTF_8));
+   }
+
+   /**
+    * Gets the number of bytes used to store the compressed documents.
+    *
+    * @return the compressed size in bytes
+    */
+   public long compressedSize() {
+      long total = 0;
+      for (int i = 0; i < size; i++) {
+         total += compressedLengths[i];
+      }
+      return total;
+   }
+
+   @Override
+   public Corpus annotate(@NonNull AnnotatableType... types) {
+      //The pipeline annotates on multiple threads and hands back documents one at a time in corpus order
+      CompressedCorpus annotated = new CompressedCorpus(Collections.emptyList(), offHeap, hotCacheSize);
+      Pipeline.builder()
+              .addAnnotations(types)
+              .returnCorpus(false)
+              .preserveOrder(true)
+              .onComplete(annotated::add)
+              .build()
+              .process(this);
+      return annotated;
+   }
+
+   @Override
+   public Corpus map(@NonNull SerializableFunction<Document, Document> function) {
+      return new LazyCorpus(this, function);
+   }
+
+   @Override
+   public void close() throws Exception {
+      if (hot != null) {
+         hot.clear();
+      }
+   }
+
+   @Override
+   public CorpusType getCorpusType() {
+      return offHeap ? CorpusType.OFF_HEAP : CorpusType.IN_MEMORY;
+   }
+
+   @Override
+   public DocumentFactory getDocumentFactory() {
+      return DocumentFactory.getInstance();
+   }
+
+   @Override
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   @Override
+   public boolean isInMemory() {
+      return true;
+   }
+
+   @Override
+   public Iterator<Document> iterator() {
+      return new Iterator<Document>() {
+         private int index = 0;
+
+         @Override
+         public boolean hasNext() {
+            return index < size;
+         }
+
+         @Override
+         public Document next() {
+            if (!hasNext()) {
+               throw new NoSuchElementException();
+            }
+            return get(index++);
+         }
+      };
+   }
+
+   @Override
+   public long size() {
+      return size;
+   }
+
+   @Override
+   public MStream<Document> stream() {
+      return getStreamingContext().stream(IntStream.range(0, size).mapToObj(this::get));
+   }
+
+   private void writeObject(ObjectOutputStream out) throws IOException {
+      out.defaultWriteObject();
+      out.writeInt(slabs.size());
+      for (ByteBuffer slab : slabs) {
+         ByteBuffer copy = slab.duplicate();
+         copy.flip();
+         byte[] bytes = new byte[copy.remaining()];
+         copy.get(bytes);
+         out.writeInt(bytes.length);
+         out.write(bytes);
+      }
+   }
+
+   private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      in.defaultReadObject();
+      int numberOfSlabs = in.readInt();
+      slabs = new ArrayList<>(numberOfSlabs);
+      for (int i = 0; i < numberOfSlabs; i++) {
+         byte[] bytes = new byte[in.readInt()];
+         in.readFully(bytes);
+         ByteBuffer slab = allocate(Math.max(SLAB_SIZE, bytes.length));
+         slab.put(bytes);
+         slabs.add(slab);
+      }
+      initializeCache();
+   }
+
+}//END OF CompressedCorpus
@@ -0,0 +1,138 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.apollo.affinity.ContingencyTable;
+import com.davidbracewell.apollo.affinity.ContingencyTableCalculator;
+import com.davidbracewell.collection.counter.Counter;
+import com.davidbracewell.collection.counter.Counters;
+import com.davidbracewell.hermes.extraction.NGramExtractor;
+import com.davidbracewell.stream.accumulator.MLongAccumulator;
+import com.davidbracewell.tuple.Tuple;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.davidbracewell.tuple.Tuples.$;
+
+/**
+ * <p>
+ * Finds significant bigrams in a single parallel pass over a corpus. Unigrams are interned to int ids using a {@link
+ * ConcurrentTermCounter} and bigrams are counted as packed pairs of ids in per-thread {@link LongLongOpenHashMap}s, so
+ * no tuples are kept while counting. Pruning happens at two levels: bigrams containing a unigram whose count is below
+ * the minimum are dropped while the per-thread bigram counts are merged (a bigram can occur no more often than its
+ * rarest unigram), and the remaining bigrams below the minimum are skipped when scoring. Tuples are only created for
+ * the bigrams whose score passes the threshold. Counts are raw frequencies, so the extractor's value calculator is
+ * ignored and {@link Corpus} only uses this counter for extractors with a frequency value calculator.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+final class ConcurrentBigramCounter {
+   private final ConcurrentTermCounter<Object> unigrams = new ConcurrentTermCounter<>();
+   private final List<LongLongOpenHashMap> shards = Collections.synchronizedList(new ArrayList<>());
+   private final ThreadLocal<LongLongOpenHashMap> local = ThreadLocal.withInitial(() -> {
+      LongLongOpenHashMap shard = new LongLongOpenHashMap();
+      shards.add(shard);
+      return shard;
+   });
+
+   /**
+    * Calculates the significant bigrams in the given corpus.
+    *
+    * @param corpus         the corpus
+    * @param nGramExtractor the extractor defining the unigrams and bigrams (its order is set to 1 to 2)
+    * @param minCount       the minimum count of a unigram or bigram
+    * @param calculator     the association measure
+    * @param minScore       the minimum score of a bigram
+    * @return counter of significant bigrams and their scores
+    */
+   static Counter<Tuple> significantBigrams(@NonNull Corpus corpus,
+                                            @NonNull NGramExtractor nGramExtractor,
+                                            int minCount,
+                                            @NonNull ContingencyTableCalculator calculator,
+                                            double minScore
+                                           ) {
+      ConcurrentBigramCounter bigramCounter = new ConcurrentBigramCounter();
+      NGramExtractor extractor = nGramExtractor.min(1).max(2);
+      MLongAccumulator counter = corpus.getStreamingContext().longAccumulator();
+      corpus.forEachParallel(doc -> {
+         counter.add(1);
+         counter.report(count -> count % 5_000 == 0,
+                        count -> corpus.logFine("significantBigrams: Processed {0} documents", count));
+         extractor.streamTuples(doc).forEach(bigramCounter::add);
+      });
+      return bigramCounter.score(minCount, calculator, minScore);
+   }
+
+   private void add(Tuple ngram) {
+      if (ngram.degree() == 1) {
+         unigrams.increment(ngram.get(0));
+      } else if (ngram.degree() == 2) {
+         local.get().adjust(LongLongOpenHashMap.pack(unigrams.intern(ngram.get(0)), unigrams.intern(ngram.get(1))), 1);
+      }
+   }
+
+   private Counter<Tuple> score(int minCount, ContingencyTableCalculator calculator, double minScore) {
+      IntLongOpenHashMap unigramCounts = unigrams.mergeShards();
+      double[] total = {0};
+      unigramCounts.forEach((id, count) -> {
+         if (count >= minCount) {
+            total[0] += count;
+         }
+      });
+
+      LongLongOpenHashMap bigramCounts = new LongLongOpenHashMap();
+      synchronized (shards) {
+         for (LongLongOpenHashMap shard : shards) {
+            shard.forEach((key, count) -> {
+               if (unigramCounts.get(LongLongOpenHashMap.first(key)) >= minCount
+                      && unigramCounts.get(LongLongOpenHashMap.second(key)) >= minCount) {
+                  bigramCounts.adjust(key, count);
+               }
+            });
+         }
+         shards.clear();
+      }
+
+      Object[] vocabulary = unigrams.vocabulary();
+      Counter<Tuple> significant = Counters.newCounter();
+      bigramCounts.forEach((key, count) -> {
+         if (count < minCount) {
+            return;
+         }
+         int first = LongLongOpenHashMap.first(key);
+         int second = LongLongOpenHashMap.second(key);
+         double score = calculator.calculate(ContingencyTable.create2X2(count,
+                                                                        unigramCounts.get(first),
+                                                                        unigramCounts.get(second),
+                                                                        total[0]));
+         if (score >= minScore) {
+            significant.set($(vocabulary[first], vocabulary[second]), score);
+         }
+      });
+      return significant;
+   }
+
+}//END OF ConcurrentBigramCounter
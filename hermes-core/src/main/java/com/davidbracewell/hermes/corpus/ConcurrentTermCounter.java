@@ -0,0 +1,149 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.collection.counter.Counter;
+import com.davidbracewell.collection.counter.Counters;
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.stream.accumulator.MLongAccumulator;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Counts items in parallel without boxing counts or contending on a shared map. Items are interned to int ids in a
+ * concurrent dictionary and each thread counts into its own {@link IntLongOpenHashMap}. The per-thread counts are
+ * merged once when {@link #toCounter()} is called, which is also the only place the ids are converted back to items.
+ * </p>
+ *
+ * @param <K> the type of item being counted
+ * @author David B. Bracewell
+ */
+final class ConcurrentTermCounter<K> {
+   private final ConcurrentHashMap<K, Integer> dictionary = new ConcurrentHashMap<>();
+   private final AtomicInteger nextId = new AtomicInteger();
+   private final List<IntLongOpenHashMap> shards = Collections.synchronizedList(new ArrayList<>());
+   private final ThreadLocal<IntLongOpenHashMap> local = ThreadLocal.withInitial(() -> {
+      IntLongOpenHashMap shard = new IntLongOpenHashMap();
+      shards.add(shard);
+      return shard;
+   });
+
+   /**
+    * Counts the items extracted from each document of the corpus in parallel.
+    *
+    * @param <K>       the type of item being counted
+    * @param corpus    the corpus
+    * @param extractor function extracting the items to count from a document
+    * @param name      name used when logging progress
+    * @return the counts
+    */
+   static <K> Counter<K> count(@NonNull Corpus corpus,
+                               @NonNull SerializableFunction<Document, Stream<K>> extractor,
+                               @NonNull String name
+                              ) {
+      ConcurrentTermCounter<K> termCounter = new ConcurrentTermCounter<>();
+      MLongAccumulator counter = corpus.getStreamingContext().longAccumulator();
+      corpus.forEachParallel(doc -> {
+         counter.add(1);
+         counter.report(count -> count % 5_000 == 0,
+                        count -> corpus.logFine("{0}: Processed {1} documents", name, count));
+         IntLongOpenHashMap shard = termCounter.local.get();
+         extractor.apply(doc).forEach(item -> shard.adjust(termCounter.intern(item), 1));
+      });
+      return termCounter.toCounter();
+   }
+
+   /**
+    * Gets the id of the given item, assigning a new id if the item has not been seen.
+    *
+    * @param item the item
+    * @return the id
+    */
+   int intern(@NonNull K item) {
+      Integer id = dictionary.get(item);
+      if (id == null) {
+         id = dictionary.computeIfAbsent(item, k -> nextId.getAndIncrement());
+      }
+      return id;
+   }
+
+   /**
+    * Increments the count of the given item by one for the current thread.
+    *
+    * @param item the item
+    */
+   void increment(@NonNull K item) {
+      local.get().adjust(intern(item), 1);
+   }
+
+   /**
+    * Merges the per-thread counts and converts them into a counter. Should be called after all threads have finished
+    * counting.
+    *
+    * @return the counter
+    */
+   @SuppressWarnings("unchecked")
+   Counter<K> toCounter() {
+      IntLongOpenHashMap merged = mergeShards();
+      Object[] items = vocabulary();
+      Counter<K> counter = Counters.newCounter();
+      merged.forEach((id, count) -> counter.increment((K) items[id], count));
+      return counter;
+   }
+
+   /**
+    * Merges the per-thread counts into a single map of id to count. Should be called after all threads have finished
+    * counting.
+    *
+    * @return the merged counts
+    */
+   IntLongOpenHashMap mergeShards() {
+      IntLongOpenHashMap merged = new IntLongOpenHashMap(dictionary.size());
+      synchronized (shards) {
+         shards.forEach(merged::merge);
+      }
+      return merged;
+   }
+
+   /**
+    * Gets the interned items indexed by their id.
+    *
+    * @return array where the item with id <code>i</code> is at index <code>i</code>
+    */
+   Object[] vocabulary() {
+      Object[] items = new Object[nextId.get()];
+      for (Map.Entry<K, Integer> entry : dictionary.entrySet()) {
+         items[entry.getValue()] = entry.getKey();
+      }
+      return items;
+   }
+
+}//END OF ConcurrentTermCounter
@@ -36,8 +36,6 @@ import com.davidbracewell.apollo.ml.sequence.SequenceInput;
 import com.davidbracewell.collection.Streams;
 import com.davidbracewell.collection.counter.Counter;
 import com.davidbracewell.collection.counter.Counters;
-import com.davidbracewell.concurrent.Broker;
-import com.davidbracewell.concurrent.IterableProducer;
 import com.davidbracewell.config.Config;
 import com.davidbracewell.conversion.Cast;
 import com.davidbracewell.function.SerializableConsumer;
@@ -47,10 +45,13 @@ import com.davidbracewell.function.Unchecked;
 import com.davidbracewell.guava.common.collect.ArrayListMultimap;
 import com.davidbracewell.guava.common.collect.Multimap;
 import com.davidbracewell.hermes.*;
+import com.davidbracewell.hermes.corpus.sketch.FrequencySketch;
+import com.davidbracewell.hermes.corpus.sketch.MinHash;
 import com.davidbracewell.hermes.extraction.NGramExtractor;
 import com.davidbracewell.hermes.extraction.TermExtractor;
 import com.davidbracewell.hermes.filter.StopWords;
 import com.davidbracewell.hermes.lexicon.Lexicon;
+import com.davidbracewell.hermes.ml.feature.ValueCalculator;
 import com.davidbracewell.io.AsyncWriter;
 import com.davidbracewell.io.MultiFileWriter;
 import com.davidbracewell.io.Resources;
@@ -66,7 +67,6 @@ import lombok.NonNull;
 
 import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -422,6 +422,62 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
       return new InMemoryCorpus(Streams.asStream(this).collect(Collectors.toList()));
    }
 
+   /**
+    * Caches the corpus in memory as compressed serialized documents (see {@link CompressedCorpus}), which takes far
+    * less memory than {@link #cache()} at the cost of decoding documents when they are read.
+    *
+    * @return the cached corpus
+    */
+   default Corpus cacheCompressed() {
+      return cacheCompressed(false, 0);
+   }
+
+   /**
+    * Caches the corpus in memory as compressed serialized documents (see {@link CompressedCorpus}).
+    *
+    * @param offHeap      True if the compressed documents should be stored in direct buffers outside the heap
+    * @param hotCacheSize the number of recently decoded documents to keep in an LRU cache (0 for no cache)
+    * @return the cached corpus
+    */
+   default Corpus cacheCompressed(boolean offHeap, int hotCacheSize) {
+      if (this instanceof CompressedCorpus) {
+         return this;
+      }
+      return new CompressedCorpus(this, offHeap, hotCacheSize);
+   }
+
+   /**
+    * Removes near-duplicate documents keeping the first document of each cluster of near duplicates. Documents are
+    * compared using MinHash signatures of their 5-character shingles (see {@link #deduplicate(double,
+    * SerializableFunction)}).
+    *
+    * @param threshold the minimum estimated Jaccard similarity for two documents to be near duplicates
+    * @return the deduplicated corpus
+    */
+   default Corpus deduplicate(double threshold) {
+      return deduplicate(threshold, document -> MinHash.characterShingles(document.toString(), 5));
+   }
+
+   /**
+    * Removes near-duplicate documents keeping the first document of each cluster of near duplicates. MinHash
+    * signatures of the shingles generated for each document are computed in parallel and candidate pairs are found by
+    * LSH banding tuned to the threshold, so the cost is linear in the size of the corpus. Token shingles can be used
+    * with, e.g., <code>d -&gt; MinHash.wordShingles(d.tokens().stream().map(HString::toString).collect(toList()),
+    * 3)</code> on a tokenized corpus. Documents are identified by their id, which should be unique.
+    *
+    * @param threshold the minimum estimated Jaccard similarity for two documents to be near duplicates
+    * @param shingler  the function generating the shingles of a document
+    * @return the deduplicated corpus
+    */
+   default Corpus deduplicate(double threshold, @NonNull SerializableFunction<Document, Stream<String>> shingler) {
+      Set<String> duplicates = new NearDuplicateDetector(threshold, NearDuplicateDetector.DEFAULT_HASHES, 0x5eed)
+                                  .duplicates(this, shingler);
+      if (duplicates.isEmpty()) {
+         return this;
+      }
+      return filter(document -> !duplicates.contains(document.getId()));
+   }
+
    /**
     * Calculates the document frequency of tokens in the corpus.
     *
@@ -439,6 +495,12 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
     * @return A counter containing document frequencies of the given annotation type
     */
    default Counter<String> documentFrequencies(@NonNull TermExtractor termExtractor) {
+      if (!isDistributed()) {
+         return termExtractor.getValueCalculator()
+                             .adjust(ConcurrentTermCounter.count(this,
+                                                                 doc -> termExtractor.stream(doc).distinct(),
+                                                                 "documentFrequencies"));
+      }
       MLongAccumulator counter = getStreamingContext().longAccumulator();
       return termExtractor.getValueCalculator()
                           .adjust(Counters.newCounter(stream().parallel()
@@ -455,13 +517,17 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
    }
 
    /**
-    * Filter corpus.
+    * Filter corpus. For non-distributed corpora the filter is lazily applied each time the corpus is read and can be
+    * fused with subsequent filter, map, and annotate calls (use {@link #cache()} to materialize the result).
     *
     * @param filter the filter
     * @return the corpus
     */
    default Corpus filter(@NonNull SerializablePredicate<? super Document> filter) {
-      return new MStreamCorpus(stream().filter(filter), getDocumentFactory());
+      if (isDistributed()) {
+         return new MStreamCorpus(stream().filter(filter), getDocumentFactory());
+      }
+      return LazyCorpus.filter(this, filter);
    }
 
    /**
@@ -523,6 +589,21 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
       return grouping;
    }
 
+   /**
+    * Groups documents using the given function without holding the documents in memory. Documents are spilled in
+    * parallel to hash partitioned files under the given location and then split into one file per key. The result is
+    * a read-only map of key to a file-backed corpus that is only read when used.
+    *
+    * @param <K>         The key type
+    * @param keyFunction Converts the document into a (non-null) key to group the documents by
+    * @param location    The directory to store the grouped documents in
+    * @return A map of key to the corpus of documents with that key
+    * @throws IOException Something went wrong writing the grouped documents
+    */
+   default <K> PartitionedGrouping<K> groupBy(@NonNull SerializableFunction<? super Document, K> keyFunction, @NonNull Resource location) throws IOException {
+      return PartitionedGrouping.create(this, keyFunction, location, PartitionedGrouping.DEFAULT_PARTITIONS);
+   }
+
    /**
     * Is distributed boolean.
     *
@@ -579,6 +660,10 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
     * @return the counter
     */
    default Counter<Tuple> nGramFrequencies(@NonNull NGramExtractor nGramExtractor) {
+      if (!isDistributed()) {
+         return nGramExtractor.getValueCalculator()
+                              .adjust(ConcurrentTermCounter.count(this, nGramExtractor::streamTuples, "nGramCounts"));
+      }
       MLongAccumulator counter = getStreamingContext().longAccumulator();
       return nGramExtractor.getValueCalculator().adjust(Counters.newCounter(
          stream().parallel().flatMap(doc -> {
@@ -590,6 +675,38 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
                                     ).countByValue()));
    }
 
+   /**
+    * Counts n-grams exactly in bounded memory. N-grams are hash partitioned and spilled to sorted runs under the given
+    * location whenever more than <code>maxInMemory</code> distinct n-grams are held in memory, after which the runs
+    * are merged in a streaming fashion keeping only n-grams occurring at least <code>minCount</code> times. The
+    * result is stored on disk and can be streamed or loaded with {@link NGramCounts}. Counts are raw frequencies, i.e.
+    * the extractor's value calculator is not applied.
+    *
+    * @param nGramExtractor the n-gram extractor
+    * @param location       the directory to store runs and the final counts in
+    * @param maxInMemory    the maximum number of distinct n-grams to hold in memory
+    * @param minCount       the minimum count of an n-gram to be kept
+    * @return the disk-backed n-gram counts
+    * @throws IOException Something went wrong reading or writing the counts
+    */
+   default NGramCounts nGramFrequencies(@NonNull NGramExtractor nGramExtractor, @NonNull Resource location, int maxInMemory, long minCount) throws IOException {
+      ExternalNGramCounter counter = new ExternalNGramCounter(location,
+                                                              ExternalNGramCounter.DEFAULT_PARTITIONS,
+                                                              maxInMemory);
+      try {
+         LazyCorpus.forEachConcurrent(this,
+                                      Unchecked.consumer(document -> counter.addAll(nGramExtractor.streamTuples(document)
+                                                                                                  .iterator())),
+                                      SystemInfo.NUMBER_OF_PROCESSORS - 1);
+      } catch (RuntimeException re) {
+         if (re.getCause() instanceof IOException) {
+            throw Cast.<IOException>as(re.getCause());
+         }
+         throw re;
+      }
+      return counter.finish(minCount);
+   }
+
    /**
     * Query collection.
     *
@@ -601,6 +718,19 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
       return filter(new QueryParser(QueryParser.Operator.AND).parse(query));
    }
 
+   /**
+    * Creates (or loads if it already exists) a persistent inverted index (see {@link CorpusIndex}) for the corpus in the
+    * given directory. The returned corpus answers {@link #query(String)} using the index and only loads the documents
+    * matching the query. Note that indexed queries match whole tokens.
+    *
+    * @param directory the directory where the index is stored
+    * @return the indexed corpus
+    * @throws IOException Something went wrong reading or writing the index
+    */
+   default Corpus index(@NonNull Resource directory) throws IOException {
+      return new IndexedCorpus(this, CorpusIndex.loadOrBuild(this, directory));
+   }
+
    /**
     * Repartition corpus.
     *
@@ -624,7 +754,7 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
 
    /**
     * Create a sample of this corpus using <a href="https://en.wikipedia.org/wiki/Reservoir_sampling">Reservoir
-    * sampling</a>.
+    * sampling</a>. Splits of the corpus are sampled in parallel and merged, so the corpus is only read once.
     *
     * @param count  the number of documents to include in the sample
     * @param random Random number generator to use for selection
@@ -634,15 +764,24 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
       if (count <= 0) {
          return builder().inMemory().build();
       }
-      List<Document> sample = stream().limit(count).collect();
-      AtomicInteger k = new AtomicInteger(count + 1);
-      stream().skip(count).forEach(document -> {
-         int rndIndex = random.nextInt(k.getAndIncrement());
-         if (rndIndex < count) {
-            sample.set(rndIndex, document);
-         }
-      });
-      return builder().inMemory().addAll(sample).build();
+      return builder().inMemory().addAll(Reservoir.sample(this, count, random.nextLong())).build();
+   }
+
+   /**
+    * Create a stratified sample of this corpus containing up to the given number of documents for each key produced
+    * by the given key function. Each stratum is sampled uniformly in a single parallel pass over the corpus.
+    *
+    * @param <K>         the key type
+    * @param keyFunction the function assigning documents to strata
+    * @param countPerKey the number of documents to include for each stratum
+    * @param random      Random number generator to use for selection
+    * @return the sampled corpus
+    */
+   default <K> Corpus sample(@NonNull SerializableFunction<? super Document, K> keyFunction, int countPerKey, @NonNull Random random) {
+      if (countPerKey <= 0) {
+         return builder().inMemory().build();
+      }
+      return builder().inMemory().addAll(Reservoir.sample(this, keyFunction, countPerKey, random.nextLong())).build();
    }
 
    /**
@@ -658,7 +797,9 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
    }
 
    /**
-    * Significant bigrams counter.
+    * Significant bigrams counter. The contingency tables are built from the n-gram values produced by the extractor's
+    * value calculator (see {@link #nGramFrequencies(NGramExtractor)}). Non-distributed corpora using raw frequencies
+    * are counted in a single pass without creating tuples for every n-gram (see {@link ConcurrentBigramCounter}).
     *
     * @param nGramExtractor the n gram spec
     * @param minCount       the min count
@@ -667,6 +808,9 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
     * @return the counter
     */
    default Counter<Tuple> significantBigrams(@NonNull NGramExtractor nGramExtractor, int minCount, @NonNull ContingencyTableCalculator calculator, double minScore) {
+      if (!isDistributed() && nGramExtractor.getValueCalculator() == ValueCalculator.Frequency) {
+         return ConcurrentBigramCounter.significantBigrams(this, nGramExtractor, minCount, calculator, minScore);
+      }
       Counter<Tuple> ngrams = nGramFrequencies(nGramExtractor.min(1).max(2))
                                  .filterByValue(v -> v >= minCount);
       Counter<Tuple> unigrams = ngrams.filterByKey(t -> t.degree() == 1);
@@ -685,6 +829,133 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
       return filtered;
    }
 
+   /**
+    * Significant bigrams counter calculated from exact counts held on disk (see {@link #nGramFrequencies(NGramExtractor,
+    * Resource, int, long)}), so that only the unigram counts and the significant bigrams are kept in memory.
+    *
+    * @param nGramExtractor the n gram spec
+    * @param minCount       the min count
+    * @param calculator     the calculator
+    * @param minScore       the min score
+    * @param location       the directory to store the n-gram counts in
+    * @param maxInMemory    the maximum number of distinct n-grams to hold in memory while counting
+    * @return the counter
+    * @throws IOException Something went wrong reading or writing the counts
+    */
+   default Counter<Tuple> significantBigrams(@NonNull NGramExtractor nGramExtractor, int minCount, @NonNull ContingencyTableCalculator calculator, double minScore, @NonNull Resource location, int maxInMemory) throws IOException {
+      NGramCounts ngrams = nGramFrequencies(nGramExtractor.min(1).max(2), location, maxInMemory, minCount);
+      Counter<Tuple> unigrams = ngrams.toCounter(t -> t.degree() == 1);
+      final double total = unigrams.sum();
+      Counter<Tuple> filtered = Counters.newCounter();
+      try (Stream<Map.Entry<Tuple, Long>> stream = ngrams.stream()) {
+         stream.filter(e -> e.getKey().degree() == 2)
+               .forEach(e -> {
+                  Tuple bigram = e.getKey();
+                  double score = calculator.calculate(ContingencyTable.create2X2(e.getValue(),
+                                                                                 unigrams.get(bigram.slice(0, 1)),
+                                                                                 unigrams.get(bigram.slice(1, 2)),
+                                                                                 total));
+                  if (score >= minScore) {
+                     filtered.set(bigram, score);
+                  }
+               });
+      }
+      return filtered;
+   }
+
+   /**
+    * Scores bigrams using approximate frequencies from sketches, keeping bigrams whose association score is at least
+    * the given minimum. Candidate bigrams are the heavy hitters tracked by the bigram sketch and unigram counts are
+    * estimated from the unigram sketch, so memory is bounded by the sketch sizes rather than the vocabulary.
+    *
+    * @param unigrams   the unigram sketch (see {@link #nGramSketch(NGramExtractor, double, double, int)})
+    * @param bigrams    the bigram sketch
+    * @param minCount   the min count
+    * @param calculator the calculator
+    * @param minScore   the min score
+    * @return the counter
+    */
+   default Counter<Tuple> significantBigrams(@NonNull FrequencySketch<Tuple> unigrams, @NonNull FrequencySketch<Tuple> bigrams, int minCount, @NonNull ContingencyTableCalculator calculator, double minScore) {
+      Counter<Tuple> filtered = Counters.newCounter();
+      final double total = unigrams.totalCount();
+      bigrams.topK().forEach((bigram, count) -> {
+         if (bigram.degree() != 2 || count < minCount) {
+            return;
+         }
+         double score = calculator.calculate(ContingencyTable.create2X2(count,
+                                                                        unigrams.estimate(bigram.slice(0, 1)),
+                                                                        unigrams.estimate(bigram.slice(1, 2)),
+                                                                        total));
+         if (score >= minScore) {
+            filtered.set(bigram, score);
+         }
+      });
+      return filtered;
+   }
+
+   /**
+    * Builds an approximate, bounded memory summary of the n-gram frequencies in the corpus. The sketch is built
+    * independently over partitions of the corpus and merged, so it works for both local and distributed corpora.
+    *
+    * @param nGramExtractor the n-gram extractor
+    * @param epsilon        the relative error of frequency estimates as a fraction of the total count
+    * @param delta          the probability of a frequency estimate exceeding its error bound
+    * @param topK           the number of most frequent n-grams to track
+    * @return the n-gram frequency sketch
+    */
+   default FrequencySketch<Tuple> nGramSketch(@NonNull NGramExtractor nGramExtractor, double epsilon, double delta, int topK) {
+      return sketch(doc -> nGramExtractor.streamTuples(doc), epsilon, delta, topK);
+   }
+
+   /**
+    * Builds an approximate, bounded memory summary of the document frequencies of terms in the corpus, which can be
+    * used for inverse document frequencies (e.g. in a {@link com.davidbracewell.hermes.extraction.keyword.TFIDFKeywordExtractor}).
+    *
+    * @param termExtractor the term extractor
+    * @param epsilon       the relative error of frequency estimates as a fraction of the number of documents
+    * @param delta         the probability of a frequency estimate exceeding its error bound
+    * @param topK          the number of most frequent terms to track
+    * @return the document frequency sketch
+    */
+   default FrequencySketch<String> documentFrequencySketch(@NonNull TermExtractor termExtractor, double epsilon, double delta, int topK) {
+      return sketch(doc -> termExtractor.stream(doc).distinct(), epsilon, delta, topK);
+   }
+
+   /**
+    * Builds a frequency sketch over the items extracted from each document.
+    *
+    * @param <K>       the item type
+    * @param extractor the function extracting items from a document
+    * @param epsilon   the relative error of frequency estimates
+    * @param delta     the probability of a frequency estimate exceeding its error bound
+    * @param topK      the number of most frequent items to track
+    * @return the frequency sketch
+    */
+   default <K> FrequencySketch<K> sketch(@NonNull SerializableFunction<Document, Stream<K>> extractor, double epsilon, double delta, int topK) {
+      if (isDistributed()) {
+         return stream().partition(1_000)
+                        .parallel()
+                        .map(documents -> {
+                           FrequencySketch<K> sketch = new FrequencySketch<>(epsilon, delta, topK);
+                           documents.forEach(doc -> sketch.addDocument(extractor.apply(doc).iterator()));
+                           return sketch;
+                        })
+                        .reduce(FrequencySketch::merge)
+                        .orElse(new FrequencySketch<>(epsilon, delta, topK));
+      }
+      //Each thread fills its own sketch, which are merged at the end
+      List<FrequencySketch<K>> sketches = Collections.synchronizedList(new ArrayList<>());
+      ThreadLocal<FrequencySketch<K>> local = ThreadLocal.withInitial(() -> {
+         FrequencySketch<K> sketch = new FrequencySketch<>(epsilon, delta, topK);
+         sketches.add(sketch);
+         return sketch;
+      });
+      forEachParallel(doc -> local.get().addDocument(extractor.apply(doc).iterator()));
+      return sketches.stream()
+                     .reduce(FrequencySketch::merge)
+                     .orElse(new FrequencySketch<>(epsilon, delta, topK));
+   }
+
    /**
     * Size long.
     *
@@ -717,6 +988,10 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
     * @return the counter
     */
    default Counter<String> termFrequencies(@NonNull TermExtractor termExtractor) {
+      if (!isDistributed()) {
+         return termExtractor.getValueCalculator()
+                             .adjust(ConcurrentTermCounter.count(this, termExtractor::stream, "termCounts"));
+      }
       MLongAccumulator counter = getStreamingContext().longAccumulator();
       return termExtractor.getValueCalculator().adjust(Counters.newCounter(
          stream().parallel().flatMap(doc -> {
@@ -738,6 +1013,35 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
       return new UnionCorpus(this, other);
    }
 
+   /**
+    * Writes the corpus as <code>JSON_OPL</code> hash partitioned by document id into a fixed number of shards (see
+    * {@link ShardedCorpus}).
+    *
+    * @param numberOfShards the number of shards
+    * @param location       the directory to write the shards to
+    * @return the sharded corpus
+    * @throws IOException Something went wrong writing the shards
+    */
+   default ShardedCorpus writeSharded(int numberOfShards, @NonNull Resource location) throws IOException {
+      return ShardedCorpus.write(this, ShardedCorpus.ID_KEY, Document::getId, numberOfShards, location);
+   }
+
+   /**
+    * Writes the corpus as <code>JSON_OPL</code> hash partitioned by the given key function into a fixed number of
+    * shards (see {@link ShardedCorpus}). The key name is recorded in the corpus metadata and is used to determine if
+    * two sharded corpora are partitioned alike.
+    *
+    * @param keyName        the name of the key
+    * @param keyFunction    the function producing the (non-null) key of a document
+    * @param numberOfShards the number of shards
+    * @param location       the directory to write the shards to
+    * @return the sharded corpus
+    * @throws IOException Something went wrong writing the shards
+    */
+   default ShardedCorpus writeSharded(@NonNull String keyName, @NonNull SerializableFunction<? super Document, ?> keyFunction, int numberOfShards, @NonNull Resource location) throws IOException {
+      return ShardedCorpus.write(this, keyName, keyFunction, numberOfShards, location);
+   }
+
    /**
     * Write corpus.
     *
@@ -763,11 +1067,9 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
          if ((resource.exists() && resource.isDirectory()) || (!resource.exists() && !resource.path().contains("."))) {
             try (MultiFileWriter writer = new MultiFileWriter(resource, "part-",
                                                               Config.get("files.partition").asIntegerValue(10))) {
-               Broker.<Document>builder()
-                  .addProducer(new IterableProducer<>(this))
-                  .addConsumer(Unchecked.consumer(document -> writer.write(format.toString(document))),
-                               SystemInfo.NUMBER_OF_PROCESSORS - 1)
-                  .build().run();
+               LazyCorpus.forEachConcurrent(this,
+                                            Unchecked.consumer(document -> writer.write(format.toString(document))),
+                                            SystemInfo.NUMBER_OF_PROCESSORS - 1);
             } catch (RuntimeException re) {
                if (re.getCause() instanceof IOException) {
                   throw Cast.<IOException>as(re.getCause());
@@ -776,11 +1078,9 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
             }
          } else {
             try (AsyncWriter writer = new AsyncWriter(resource.writer())) {
-               Broker.<Document>builder()
-                  .addProducer(new IterableProducer<>(this))
-                  .addConsumer(Unchecked.consumer(document -> writer.write(format.toString(document))),
-                               SystemInfo.NUMBER_OF_PROCESSORS - 1)
-                  .build().run();
+               LazyCorpus.forEachConcurrent(this,
+                                            Unchecked.consumer(document -> writer.write(format.toString(document))),
+                                            SystemInfo.NUMBER_OF_PROCESSORS - 1);
             } catch (RuntimeException re) {
                if (re.getCause() instanceof IOException) {
                   throw Cast.<IOException>as(re.getCause());
@@ -792,14 +1092,12 @@ public interface Corpus extends Iterable<Document>, AutoCloseable, Loggable {
          //None one-per-line formats require multiple files
          Preconditions.checkArgument(!resource.exists() || resource.isDirectory(), "Must specify a directory");
          try {
-            Broker.<Document>builder()
-               .addProducer(new IterableProducer<>(this))
-               .addConsumer(Unchecked.consumer(document ->
-                                                  resource.getChild(document.getId() + "." + format.extension())
-                                                          .write(format.toString(document))
-
-                                              ), SystemInfo.NUMBER_OF_PROCESSORS - 1)
-               .build().run();
+            LazyCorpus.forEachConcurrent(this,
+                                         Unchecked.consumer(document ->
+                                                               resource.getChild(document.getId() + "." + format.extension())
+                                                                       .write(format.toString(document))
+                                                           ),
+                                         SystemInfo.NUMBER_OF_PROCESSORS - 1);
          } catch (RuntimeException re) {
             if (re.getCause() instanceof IOException) {
                throw Cast.<IOException>as(re.getCause());
@@ -21,7 +21,9 @@
 
 package com.davidbracewell.hermes.corpus;
 
+import com.davidbracewell.SystemInfo;
 import com.davidbracewell.conversion.Cast;
+import com.davidbracewell.guava.common.base.Preconditions;
 import com.davidbracewell.hermes.Document;
 import com.davidbracewell.hermes.DocumentFactory;
 import com.davidbracewell.io.resource.Resource;
@@ -39,6 +41,7 @@ public class CorpusBuilder {
 
    private boolean isDistributed = false;
    private int partitions = -1;
+   private int numberOfWorkers = -1;
    private boolean isInMemory = false;
    private Resource resource = null;
    private List<Document> documents = new LinkedList<>();
@@ -63,6 +66,9 @@ public class CorpusBuilder {
          case DISTRIBUTED:
             distributed();
             break;
+         case MULTI_PROCESS:
+            multiProcess(SystemInfo.NUMBER_OF_PROCESSORS);
+            break;
          default:
             throw new IllegalArgumentException("Cannot create corpus of type " + type);
       }
@@ -84,6 +90,7 @@ public class CorpusBuilder {
    public CorpusBuilder distributed() {
       this.isDistributed = true;
       this.isInMemory = false;
+      this.numberOfWorkers = -1;
       return this;
    }
 
@@ -91,6 +98,14 @@ public class CorpusBuilder {
       this.partitions = numPartitions;
       this.isDistributed = true;
       this.isInMemory = false;
+      this.numberOfWorkers = -1;
+      return this;
+   }
+
+   public CorpusBuilder multiProcess(int numberOfWorkers) {
+      Preconditions.checkArgument(numberOfWorkers > 0, "Number of workers must be > 0");
+      this.isDistributed = false;
+      this.numberOfWorkers = numberOfWorkers;
       return this;
    }
 
@@ -137,7 +152,14 @@ public class CorpusBuilder {
    }
 
    public Corpus build() {
+      Corpus corpus = createCorpus();
+      if (numberOfWorkers > 0) {
+         return new MultiProcessCorpus(corpus, numberOfWorkers);
+      }
+      return corpus;
+   }
 
+   private Corpus createCorpus() {
       if (resource != null && (resource instanceof StringResource)) {
          isInMemory = true;
       }
@@ -21,11 +21,16 @@
 
 package com.davidbracewell.hermes.corpus;
 
+import com.davidbracewell.config.Config;
 import com.davidbracewell.hermes.Document;
 import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.io.Resources;
 import com.davidbracewell.io.resource.Resource;
+import lombok.NonNull;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
 
 /**
  * <p>
@@ -38,6 +43,21 @@ import java.io.IOException;
  */
 public interface CorpusFormat {
 
+   /**
+    * The default maximum size, in characters, of the text making up a single document when reading incrementally.
+    */
+   int DEFAULT_MAX_DOCUMENT_SIZE = 64 * 1024 * 1024;
+
+   /**
+    * Gets the maximum document size to use when reading incrementally, which is set using
+    * <code>CorpusFormat.maxDocumentSize</code>.
+    *
+    * @return the maximum document size in characters
+    */
+   static int maxDocumentSize() {
+      return Config.get("CorpusFormat.maxDocumentSize").asIntegerValue(DEFAULT_MAX_DOCUMENT_SIZE);
+   }
+
    /**
     * Create corpus.
     *
@@ -58,6 +78,26 @@ public interface CorpusFormat {
     */
    Iterable<Document> read(Resource resource, DocumentFactory documentFactory) throws IOException;
 
+   /**
+    * Incrementally reads documents from the given reader, never holding more than <code>maxDocumentSize</code>
+    * characters of text for a single document. The reader is closed when the returned iterator is exhausted. The
+    * default implementation reads the full text (failing if it is longer than the maximum size) and parses it using
+    * {@link #read(Resource, DocumentFactory)}. Formats that can produce documents as they go override this method.
+    *
+    * @param reader          the reader to read from
+    * @param documentFactory the document factory
+    * @param maxDocumentSize the maximum number of characters of text making up a single document
+    * @return iterator over the documents
+    * @throws IOException something went wrong reading or a document exceeded the maximum size
+    */
+   default Iterator<Document> read(@NonNull Reader reader, @NonNull DocumentFactory documentFactory, int maxDocumentSize) throws IOException {
+      String text;
+      try (BoundedTextReader boundedReader = new BoundedTextReader(reader, maxDocumentSize)) {
+         text = boundedReader.readFully();
+      }
+      return read(Resources.fromString(text), documentFactory).iterator();
+   }
+
    default String toString(Document document) {
       throw new UnsupportedOperationException();
    }
@@ -0,0 +1,563 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.conversion.Cast;
+import com.davidbracewell.guava.common.collect.Maps;
+import com.davidbracewell.guava.common.hash.Hasher;
+import com.davidbracewell.guava.common.hash.Hashing;
+import com.davidbracewell.hermes.Annotation;
+import com.davidbracewell.hermes.AttributeType;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.Pipeline;
+import com.davidbracewell.hermes.Types;
+import com.davidbracewell.io.resource.Resource;
+import com.davidbracewell.logging.Logger;
+import com.davidbracewell.parsing.ParseException;
+import lombok.NonNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A persistent inverted index over the tokens (with positions) and document level attributes of a corpus, which allows
+ * queries (see {@link QueryParser}) to be answered from posting lists and only the matching documents to be loaded.
+ * The index is stored in a directory containing the serialized posting lists (<code>index.bin</code>) and a copy of
+ * the documents in json format (<code>documents.json</code>) that is read by offset when loading matching documents.
+ * </p>
+ * <p>
+ * Tokens and attribute values are indexed in lower case. Attribute values are indexed both as a whole and split on
+ * white space. Token positions allow phrase and proximity (<code>NEAR/k</code>) queries to be answered from the posting
+ * lists. Note that indexed queries match whole tokens rather than substrings.
+ * </p>
+ * <p>
+ * The index records a fingerprint of the corpus it was built from (see {@link #fingerprint(Corpus)}) and
+ * {@link #loadOrBuild(Corpus, Resource)} rebuilds the index when the corpus no longer matches it. Note that the posting
+ * lists are a single serialized object which is loaded into memory as a whole, so the size of the indexable corpus is
+ * bounded by the heap (the documents themselves stay on disk).
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public class CorpusIndex implements Serializable {
+   private static final long serialVersionUID = 2L;
+   private static final Logger log = Logger.getLogger(CorpusIndex.class);
+   private static final String INDEX_FILE = "index.bin";
+   private static final String DOCUMENT_FILE = "documents.json";
+
+   private final Map<String, PostingList> terms;
+   private final Map<String, Map<String, int[]>> fields;
+   private final long[] offsets;
+   private final String fingerprint;
+   private transient Resource directory;
+
+   private CorpusIndex(Map<String, PostingList> terms, Map<String, Map<String, int[]>> fields, long[] offsets, String fingerprint) {
+      this.terms = terms;
+      this.fields = fields;
+      this.offsets = offsets;
+      this.fingerprint = fingerprint;
+   }
+
+   /**
+    * Loads the index stored in the given directory if it exists and was built from the given corpus or builds it from
+    * the given corpus otherwise.
+    *
+    * @param corpus    the corpus to index
+    * @param directory the directory where the index is stored
+    * @return the corpus index
+    * @throws IOException Something went wrong reading or writing the index
+    */
+   public static CorpusIndex loadOrBuild(@NonNull Corpus corpus, @NonNull Resource directory) throws IOException {
+      String fingerprint = fingerprint(corpus);
+      if (directory.getChild(INDEX_FILE).exists()) {
+         try {
+            CorpusIndex index = load(directory);
+            if (fingerprint.equals(index.fingerprint)) {
+               return index;
+            }
+            log.info("The index in {0} was built from a different corpus, rebuilding", directory.descriptor());
+         } catch (IOException e) {
+            log.warn("Unable to load the index in {0}, rebuilding: {1}", directory.descriptor(), e);
+         }
+      }
+      return build(corpus, directory, fingerprint);
+   }
+
+   /**
+    * Calculates a fingerprint identifying the content of the given corpus. File based corpora stored on local disk are
+    * fingerprinted by the length and modification time of their files, all other corpora by hashing the id, content,
+    * and attributes of their documents (i.e. the indexed information, ignoring annotations). Note that the latter
+    * requires reading the entire corpus.
+    *
+    * @param corpus the corpus
+    * @return the fingerprint
+    */
+   public static String fingerprint(@NonNull Corpus corpus) {
+      if (corpus instanceof FileCorpus) {
+         String fingerprint = Cast.<FileCorpus>as(corpus).fingerprint();
+         if (fingerprint != null) {
+            return "files:" + fingerprint;
+         }
+      }
+      Hasher hasher = Hashing.murmur3_128().newHasher();
+      long size = 0;
+      for (Document document : corpus) {
+         hasher.putString(Objects.toString(document.getId()), StandardCharsets.UTF_8)
+               .putString(document.toString(), StandardCharsets.UTF_8);
+         new TreeMap<>(Maps.asMap(document.attributeTypeSet(), a -> document.get(a).asString()))
+            .forEach((attribute, value) -> hasher.putString(attribute.name(), StandardCharsets.UTF_8)
+                                                 .putString(Objects.toString(value), StandardCharsets.UTF_8));
+         size++;
+      }
+      return "documents:" + hasher.putLong(size).hash().toString();
+   }
+
+   /**
+    * Loads the index stored in the given directory.
+    *
+    * @param directory the directory where the index is stored
+    * @return the corpus index
+    * @throws IOException Something went wrong reading the index
+    */
+   public static CorpusIndex load(@NonNull Resource directory) throws IOException {
+      try {
+         CorpusIndex index = directory.getChild(INDEX_FILE).setIsCompressed(true).readObject();
+         index.directory = directory;
+         return index;
+      } catch (IOException e) {
+         throw e;
+      } catch (Exception e) {
+         throw new IOException(e);
+      }
+   }
+
+   /**
+    * Builds an index for the given corpus storing it in the given directory. Documents that have not been tokenized are
+    * tokenized before being indexed.
+    *
+    * @param corpus    the corpus to index
+    * @param directory the directory where the index is stored
+    * @return the corpus index
+    * @throws IOException Something went wrong writing the index
+    */
+   public static CorpusIndex build(@NonNull Corpus corpus, @NonNull Resource directory) throws IOException {
+      return build(corpus, directory, fingerprint(corpus));
+   }
+
+   private static CorpusIndex build(Corpus corpus, Resource directory, String fingerprint) throws IOException {
+      directory.mkdirs();
+      Map<String, PostingBuilder> terms = new HashMap<>();
+      Map<String, Map<String, PostingBuilder>> fields = new HashMap<>();
+      long[] offsets = new long[1024];
+      int id = 0;
+
+      try (OutputStream out = new BufferedOutputStream(directory.getChild(DOCUMENT_FILE).outputStream())) {
+         long offset = 0;
+         for (Document document : corpus) {
+            Pipeline.process(document, Types.TOKEN);
+
+            if (id + 1 >= offsets.length) {
+               offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            byte[] json = (document.toJson() + "\n").getBytes(StandardCharsets.UTF_8);
+            out.write(json);
+            offsets[id] = offset;
+            offset += json.length;
+            offsets[id + 1] = offset;
+
+            int position = 0;
+            for (Annotation token : document.tokens()) {
+               terms.computeIfAbsent(normalize(token.toString()), t -> new PostingBuilder()).add(id, position);
+               position++;
+            }
+
+            for (AttributeType attributeType : document.attributeTypeSet()) {
+               String value = document.get(attributeType).asString();
+               if (value == null) {
+                  continue;
+               }
+               Map<String, PostingBuilder> field = fields.computeIfAbsent(attributeType.name(), f -> new HashMap<>());
+               Set<String> values = new HashSet<>();
+               values.add(normalize(value));
+               values.addAll(Arrays.asList(normalize(value).split("\\s+")));
+               for (String v : values) {
+                  field.computeIfAbsent(v, t -> new PostingBuilder()).add(id, 0);
+               }
+            }
+            id++;
+         }
+      }
+
+      Map<String, PostingList> termPostings = new HashMap<>();
+      terms.forEach((term, builder) -> termPostings.put(term, builder.build()));
+      Map<String, Map<String, int[]>> fieldPostings = new HashMap<>();
+      fields.forEach((field, values) -> {
+         Map<String, int[]> postings = new HashMap<>();
+         values.forEach((value, builder) -> postings.put(value, builder.documents()));
+         fieldPostings.put(field, postings);
+      });
+
+      CorpusIndex index = new CorpusIndex(termPostings, fieldPostings, Arrays.copyOf(offsets, id + 1),
+                                          fingerprint);
+      try {
+         directory.getChild(INDEX_FILE).setIsCompressed(true).writeObject(index);
+      } catch (IOException e) {
+         throw e;
+      } catch (Exception e) {
+         throw new IOException(e);
+      }
+      index.directory = directory;
+      log.info("Indexed {0} documents with {1} terms in {2}", id, termPostings.size(), directory.descriptor());
+      return index;
+   }
+
+   static String normalize(String term) {
+      return term.toLowerCase().trim();
+   }
+
+   /**
+    * The number of documents in the index.
+    *
+    * @return the number of documents
+    */
+   public int numberOfDocuments() {
+      return offsets.length - 1;
+   }
+
+   /**
+    * Gets the posting list for the given term.
+    *
+    * @param term the term
+    * @return the posting list (empty if the term is not in the index)
+    */
+   public PostingList postings(@NonNull String term) {
+      return terms.getOrDefault(normalize(term), PostingList.EMPTY);
+   }
+
+   /**
+    * Gets the ids of the documents containing the given term.
+    *
+    * @param term the term
+    * @return the set of document ids
+    */
+   public BitSet documentsWithTerm(@NonNull String term) {
+      return postings(term).toBitSet();
+   }
+
+   /**
+    * Gets the ids of the documents containing the given sequence of tokens. Candidate documents are found by
+    * intersecting the posting lists of the tokens and are then verified using the token positions.
+    *
+    * @param phrase the tokens making up the phrase
+    * @return the set of document ids
+    */
+   public BitSet documentsWithPhrase(@NonNull List<String> phrase) {
+      PostingList[] postings = postings(phrase);
+      BitSet candidates = candidates(postings);
+      if (phrase.size() <= 1) {
+         return candidates;
+      }
+      BitSet result = new BitSet();
+      for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+         if (phraseStarts(doc, postings).length > 0) {
+            result.set(doc);
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Gets the ids of the documents in which the left and right phrases occur (in either order) separated by at most
+    * <code>distance</code> tokens.
+    *
+    * @param left     the tokens making up the left phrase
+    * @param right    the tokens making up the right phrase
+    * @param distance the maximum number of tokens between the phrases
+    * @return the set of document ids
+    */
+   public BitSet documentsNear(@NonNull List<String> left, @NonNull List<String> right, int distance) {
+      PostingList[] leftPostings = postings(left);
+      PostingList[] rightPostings = postings(right);
+      BitSet candidates = candidates(leftPostings);
+      candidates.and(candidates(rightPostings));
+      BitSet result = new BitSet();
+      for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+         if (QueryParser.near(phraseStarts(doc, leftPostings), left.size(),
+                              phraseStarts(doc, rightPostings), right.size(),
+                              distance)) {
+            result.set(doc);
+         }
+      }
+      return result;
+   }
+
+   private PostingList[] postings(List<String> phrase) {
+      PostingList[] postings = new PostingList[phrase.size()];
+      for (int i = 0; i < phrase.size(); i++) {
+         postings[i] = postings(phrase.get(i));
+      }
+      return postings;
+   }
+
+   private BitSet candidates(PostingList[] postings) {
+      if (postings.length == 0) {
+         return new BitSet();
+      }
+      //Start from the rarest term to keep the intersection small
+      PostingList[] sorted = postings.clone();
+      Arrays.sort(sorted, Comparator.comparingInt(PostingList::documentFrequency));
+      BitSet result = sorted[0].toBitSet();
+      for (int i = 1; i < sorted.length && !result.isEmpty(); i++) {
+         result.and(sorted[i].toBitSet());
+      }
+      return result;
+   }
+
+   private int[] phraseStarts(int doc, PostingList[] postings) {
+      if (postings.length == 0) {
+         return new int[0];
+      }
+      int[] first = postings[0].positionsIn(doc);
+      int[] starts = new int[first.length];
+      int n = 0;
+      for (int start : first) {
+         boolean matches = true;
+         for (int i = 1; i < postings.length && matches; i++) {
+            matches = Arrays.binarySearch(postings[i].positionsIn(doc), start + i) >= 0;
+         }
+         if (matches) {
+            starts[n++] = start;
+         }
+      }
+      return Arrays.copyOf(starts, n);
+   }
+
+   /**
+    * Gets the ids of the documents whose value for the given attribute equals or contains (as a white space separated
+    * token) the given value.
+    *
+    * @param attributeType the attribute type
+    * @param value         the value
+    * @return the set of document ids
+    */
+   public BitSet documentsWithAttribute(@NonNull AttributeType attributeType, @NonNull String value) {
+      BitSet bitSet = new BitSet();
+      Map<String, int[]> field = fields.get(attributeType.name());
+      if (field != null) {
+         for (int doc : field.getOrDefault(normalize(value), new int[0])) {
+            bitSet.set(doc);
+         }
+      }
+      return bitSet;
+   }
+
+   /**
+    * Determines the ids of the documents matching the given query.
+    *
+    * @param query the query
+    * @return the set of matching document ids
+    * @throws ParseException the query could not be parsed
+    */
+   public BitSet search(@NonNull String query) throws ParseException {
+      return new QueryParser(QueryParser.Operator.AND).evaluate(query, this);
+   }
+
+   /**
+    * Loads the documents with the given ids (in id order) from the index's document store.
+    *
+    * @param ids the document ids
+    * @return the stream of documents
+    */
+   public Stream<Document> documents(@NonNull BitSet ids) {
+      File file = directory.getChild(DOCUMENT_FILE)
+                           .asFile()
+                           .orElseThrow(() -> new IllegalStateException("Document store must be a local file"));
+      DocumentIterator iterator = new DocumentIterator(file, ids);
+      return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                          .onClose(iterator::close);
+   }
+
+   private class DocumentIterator implements Iterator<Document> {
+      private final File file;
+      private final BitSet ids;
+      private RandomAccessFile raf;
+      private int next;
+
+      private DocumentIterator(File file, BitSet ids) {
+         this.file = file;
+         this.ids = ids;
+         this.next = ids.nextSetBit(0);
+      }
+
+      @Override
+      public boolean hasNext() {
+         boolean hasNext = next >= 0 && next < numberOfDocuments();
+         if (!hasNext) {
+            close();
+         }
+         return hasNext;
+      }
+
+      @Override
+      public Document next() {
+         if (!hasNext()) {
+            throw new NoSuchElementException();
+         }
+         try {
+            if (raf == null) {
+               raf = new RandomAccessFile(file, "r");
+            }
+            byte[] bytes = new byte[(int) (offsets[next + 1] - offsets[next])];
+            raf.seek(offsets[next]);
+            raf.readFully(bytes);
+            next = ids.nextSetBit(next + 1);
+            return Document.fromJson(new String(bytes, StandardCharsets.UTF_8).trim());
+         } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+         }
+      }
+
+      private void close() {
+         if (raf != null) {
+            try {
+               raf.close();
+            } catch (IOException e) {
+               log.warn("Error closing {0}: {1}", file, e);
+            }
+            raf = null;
+         }
+      }
+   }
+
+   /**
+    * The documents and positions at which a term occurs.
+    */
+   public static class PostingList implements Serializable {
+      private static final long serialVersionUID = 1L;
+      static final PostingList EMPTY = new PostingList(new int[0], new int[0][]);
+      private final int[] documents;
+      private final int[][] positions;
+
+      PostingList(int[] documents, int[][] positions) {
+         this.documents = documents;
+         this.positions = positions;
+      }
+
+      /**
+       * The number of documents containing the term.
+       *
+       * @return the document frequency
+       */
+      public int documentFrequency() {
+         return documents.length;
+      }
+
+      /**
+       * The id of the i-th document (ids are in ascending order).
+       *
+       * @param i the index into the posting list
+       * @return the document id
+       */
+      public int document(int i) {
+         return documents[i];
+      }
+
+      /**
+       * The token positions of the term in the i-th document.
+       *
+       * @param i the index into the posting list
+       * @return the positions (in ascending order)
+       */
+      public int[] positions(int i) {
+         return positions[i];
+      }
+
+      /**
+       * The positions of the term in the given document
+       *
+       * @param document the document id
+       * @return the positions (empty if the term does not occur in the document)
+       */
+      public int[] positionsIn(int document) {
+         int i = Arrays.binarySearch(documents, document);
+         return i < 0 ? new int[0] : positions[i];
+      }
+
+      /**
+       * The ids of the documents containing the term as a bit set
+       *
+       * @return the bit set
+       */
+      public BitSet toBitSet() {
+         BitSet bitSet = new BitSet();
+         for (int document : documents) {
+            bitSet.set(document);
+         }
+         return bitSet;
+      }
+   }
+
+   private static class PostingBuilder {
+      int[] documents = new int[4];
+      int[][] positions = new int[4][];
+      int[] current = new int[4];
+      int size = 0;
+      int currentSize = 0;
+
+      void add(int document, int position) {
+         if (size == 0 || documents[size - 1] != document) {
+            finishDocument();
+            if (size == documents.length) {
+               documents = Arrays.copyOf(documents, size * 2);
+               positions = Arrays.copyOf(positions, size * 2);
+            }
+            documents[size++] = document;
+            currentSize = 0;
+         }
+         if (currentSize == current.length) {
+            current = Arrays.copyOf(current, currentSize * 2);
+         }
+         current[currentSize++] = position;
+      }
+
+      private void finishDocument() {
+         if (size > 0 && positions[size - 1] == null) {
+            positions[size - 1] = Arrays.copyOf(current, currentSize);
+         }
+      }
+
+      int[] documents() {
+         return Arrays.copyOf(documents, size);
+      }
+
+      PostingList build() {
+         finishDocument();
+         return new PostingList(documents(), Arrays.copyOf(positions, size));
+      }
+   }
+
+}//END OF CorpusIndex
@@ -0,0 +1,306 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.Copyable;
+import com.davidbracewell.SystemInfo;
+import com.davidbracewell.config.Config;
+import com.davidbracewell.conversion.Cast;
+import com.davidbracewell.guava.common.hash.Hasher;
+import com.davidbracewell.guava.common.hash.Hashing;
+import com.davidbracewell.guava.common.io.ByteStreams;
+import com.davidbracewell.io.Resources;
+import com.davidbracewell.io.resource.Resource;
+import com.davidbracewell.logging.Logger;
+import lombok.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.invoke.SerializedLambda;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Persistent cache of corpus level statistics, e.g. term frequencies and sizes, for file based corpora. Entries are
+ * keyed by a fingerprint of the corpus (format, location, and the absolute path, length, and last modified time of
+ * every file) combined with the name of the statistic and the serialized form of its configuration (e.g. the term
+ * extractor). Changing a file or the extractor therefore results in a new key and the statistic is recomputed. A
+ * serialized lambda only records the name of its synthetic method, so for each lambda in the configuration the class
+ * file declaring its body is hashed into the key as well, i.e. editing that class invalidates its entries.
+ * </p>
+ * <p>
+ * Caching is disabled by default and enabled by setting <code>CorpusStatisticsCache.enabled</code> to true. Entries
+ * are stored as serialized objects under the directory given by the <code>CorpusStatisticsCache.dir</code> config
+ * setting (defaulting to <code>~/.hermes/statistics</code>), keeping the <code>CorpusStatisticsCache.maxEntries</code>
+ * (default 256) most recently used, which are also kept in memory. Caching is skipped for corpora that are not backed
+ * by local files and for configurations that cannot be serialized. Note that edits which keep both a file's length
+ * and modified time unchanged are not detected, nor are changes to the annotators producing the extracted
+ * annotations; use {@link #clear()} in such cases.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public final class CorpusStatisticsCache {
+   /**
+    * Config setting for the directory to store statistics in
+    */
+   public static final String CACHE_DIR = "CorpusStatisticsCache.dir";
+   /**
+    * Config setting to enable or disable caching
+    */
+   public static final String ENABLED = "CorpusStatisticsCache.enabled";
+   /**
+    * Config setting for the maximum number of statistics stored on disk
+    */
+   public static final String MAX_ENTRIES = "CorpusStatisticsCache.maxEntries";
+   private static final String EXTENSION = ".stats";
+   private static final Logger log = Logger.getLogger(CorpusStatisticsCache.class);
+   private static final int MAX_IN_MEMORY = 32;
+   private static final Map<String, Object> memory = Collections.synchronizedMap(
+      new LinkedHashMap<String, Object>(16, 0.75f, true) {
+         private static final long serialVersionUID = 1L;
+
+         @Override
+         protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+            return size() > MAX_IN_MEMORY;
+         }
+      });
+
+   private CorpusStatisticsCache() {
+      throw new IllegalAccessError();
+   }
+
+   /**
+    * Removes all cached statistics from memory and disk.
+    */
+   public static void clear() {
+      memory.clear();
+      File dir = cacheDirectory();
+      File[] files = dir.listFiles();
+      if (files != null) {
+         for (File file : files) {
+            if (!file.delete()) {
+               log.warn("Unable to delete cached statistics {0}", file);
+            }
+         }
+      }
+   }
+
+   /**
+    * Determines if caching is enabled via the <code>CorpusStatisticsCache.enabled</code> config setting.
+    *
+    * @return True if statistics are cached
+    */
+   public static boolean isEnabled() {
+      return Config.get(ENABLED).asBooleanValue(false);
+   }
+
+   private static File cacheDirectory() {
+      Resource dir = Config.get(CACHE_DIR).asResource(Resources.from(SystemInfo.USER_HOME)
+                                                               .getChild(".hermes")
+                                                               .getChild("statistics"));
+      return dir.asFile().orElseGet(() -> new File(dir.path()));
+   }
+
+   /**
+    * Calculates a fingerprint for the corpus stored in the given resource.
+    *
+    * @param format   the format the corpus is stored in
+    * @param resource the resource containing the corpus
+    * @return the fingerprint or null if the corpus is not stored in local files
+    */
+   static String fingerprint(@NonNull CorpusFormat format, @NonNull Resource resource) {
+      if (!resource.asFile().isPresent()) {
+         return null;
+      }
+      List<File> files = new ArrayList<>();
+      if (resource.isDirectory()) {
+         for (Resource child : resource.getChildren(true)) {
+            File file = child.asFile().orElse(null);
+            if (file == null) {
+               return null;
+            }
+            if (file.isFile() && !file.isHidden()) {
+               files.add(file);
+            }
+         }
+      } else {
+         files.add(resource.asFile().get());
+      }
+      files.sort(Comparator.comparing(File::getAbsolutePath));
+      Hasher hasher = Hashing.murmur3_128().newHasher()
+                             .putString(format.name(), StandardCharsets.UTF_8)
+                             .putString(resource.asFile().get().getAbsolutePath(), StandardCharsets.UTF_8);
+      for (File file : files) {
+         hasher.putString(file.getAbsolutePath(), StandardCharsets.UTF_8)
+               .putLong(file.length())
+               .putLong(file.lastModified());
+      }
+      return hasher.hash().toString();
+   }
+
+   /**
+    * Gets the cached value of a statistic, computing and storing it when it is not cached.
+    *
+    * @param <T>           the type of the statistic
+    * @param fingerprint   the fingerprint of the corpus (caching is skipped when null)
+    * @param statistic     the name of the statistic
+    * @param configuration the objects configuring how the statistic is calculated
+    * @param calculator    calculates the statistic on a cache miss (its result should be serializable)
+    * @return the statistic
+    */
+   static <T> T get(String fingerprint,
+                                         @NonNull String statistic,
+                                         @NonNull List<?> configuration,
+                                         @NonNull Supplier<T> calculator
+                                        ) {
+      String key = key(fingerprint, statistic, configuration);
+      if (key == null) {
+         return calculator.get();
+      }
+
+      Object cached = memory.get(key);
+      if (cached != null) {
+         return copy(cached);
+      }
+
+      File file = new File(cacheDirectory(), key + EXTENSION);
+      if (file.isFile()) {
+         try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(file.toPath()))) {
+            T value = Cast.as(in.readObject());
+            memory.put(key, value);
+            if (!file.setLastModified(System.currentTimeMillis())) {
+               log.fine("Unable to update the access time of {0}", file);
+            }
+            return copy(value);
+         } catch (Exception e) {
+            log.warn("Unable to read cached {0} from {1}: {2}", statistic, file, e);
+         }
+      }
+
+      T value = calculator.get();
+      memory.put(key, value);
+      try {
+         Files.createDirectories(file.getParentFile().toPath());
+         File tmp = File.createTempFile(key, ".tmp", file.getParentFile());
+         try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(tmp.toPath()))) {
+            out.writeObject(value);
+         }
+         Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+         evict(file.getParentFile());
+      } catch (IOException e) {
+         log.warn("Unable to cache {0} to {1}: {2}", statistic, file, e);
+      }
+      return copy(value);
+   }
+
+   /**
+    * Removes the least recently used statistics when more than the maximum number of entries are stored.
+    */
+   private static void evict(File directory) {
+      File[] files = directory.listFiles((dir, name) -> name.endsWith(EXTENSION));
+      int maxEntries = Config.get(MAX_ENTRIES).asIntegerValue(256);
+      if (files == null || files.length <= maxEntries) {
+         return;
+      }
+      Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+      for (int i = 0; i < files.length - maxEntries; i++) {
+         if (!files[i].delete()) {
+            log.warn("Unable to delete cached statistics {0}", files[i]);
+         }
+      }
+   }
+
+   private static String key(String fingerprint, String statistic, List<?> configuration) {
+      if (fingerprint == null || !isEnabled()) {
+         return null;
+      }
+      Hasher hasher = Hashing.murmur3_128().newHasher()
+                             .putString(fingerprint, StandardCharsets.UTF_8)
+                             .putString(statistic, StandardCharsets.UTF_8);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream out = new KeyOutputStream(bytes, hasher)) {
+         for (Object o : configuration) {
+            out.writeObject(o);
+         }
+      } catch (IOException e) {
+         log.fine("Not caching {0}, configuration is not serializable: {1}", statistic, e);
+         return null;
+      }
+      return hasher.putBytes(bytes.toByteArray()).hash().toString();
+   }
+
+   private static <T> T copy(Object value) {
+      if (value instanceof Copyable) {
+         return Cast.as(Cast.<Copyable<?>>as(value).copy());
+      }
+      return Cast.as(value);
+   }
+
+   /**
+    * Serializes the configuration, hashing the class file declaring the body of every lambda encountered.
+    */
+   private static final class KeyOutputStream extends ObjectOutputStream {
+      private final Hasher hasher;
+
+      private KeyOutputStream(OutputStream out, Hasher hasher) throws IOException {
+         super(out);
+         this.hasher = hasher;
+         enableReplaceObject(true);
+      }
+
+      @Override
+      protected Object replaceObject(Object obj) throws IOException {
+         if (obj instanceof SerializedLambda) {
+            String implClass = Cast.<SerializedLambda>as(obj).getImplClass();
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            if (loader == null) {
+               loader = CorpusStatisticsCache.class.getClassLoader();
+            }
+            try (InputStream in = loader.getResourceAsStream(implClass + ".class")) {
+               if (in == null) {
+                  throw new NotSerializableException("Unable to locate the class file of " + implClass);
+               }
+               hasher.putBytes(ByteStreams.toByteArray(in));
+            }
+         }
+         return obj;
+      }
+   }
+
+}//END OF CorpusStatisticsCache
@@ -50,6 +50,12 @@ public enum CorpusType {
       protected StreamingContext getStreamingContext() {
          return StreamingContext.local();
       }
+   },
+   MULTI_PROCESS {
+      @Override
+      protected StreamingContext getStreamingContext() {
+         return StreamingContext.local();
+      }
    };
 
    protected abstract StreamingContext getStreamingContext();
@@ -0,0 +1,100 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.config.Config;
+import com.davidbracewell.hermes.AnnotatableType;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.Hermes;
+import com.davidbracewell.hermes.Pipeline;
+import com.davidbracewell.hermes.Types;
+import com.davidbracewell.io.Resources;
+import com.davidbracewell.io.resource.Resource;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Entry point of a worker process started by {@link MultiProcessCorpus}. The worker reads documents in their binary
+ * form (see {@link Document#toBytes()}) from standard in, where each document is prefixed with its length in bytes and
+ * a negative length marks the end of the input. Documents are annotated in batches and written as one json document
+ * per line to the output file.</p>
+ *
+ * <p>Usage: <code>CorpusWorker configFile outputFile batchSize type1 type2 ...</code></p>
+ *
+ * @author David B. Bracewell
+ */
+public final class CorpusWorker {
+
+   private CorpusWorker() {
+      throw new IllegalAccessError();
+   }
+
+   /**
+    * Runs the worker.
+    *
+    * @param args the configuration file, output file, batch size, and annotation types
+    * @throws Exception something went wrong reading, annotating, or writing documents
+    */
+   public static void main(String[] args) throws Exception {
+      if (args.length < 3) {
+         System.err.println("Usage: CorpusWorker configFile outputFile batchSize [types...]");
+         System.exit(1);
+      }
+      DataInputStream input = new DataInputStream(new BufferedInputStream(System.in));
+      //Standard out is not used for data, but guard against annotators writing to it
+      System.setOut(System.err);
+
+      Config config = Resources.from(args[0]).readObject();
+      Hermes.initializeWorker(config);
+      Resource output = Resources.from(args[1]);
+      int batchSize = Integer.parseInt(args[2]);
+      AnnotatableType[] types = new AnnotatableType[args.length - 3];
+      for (int i = 3; i < args.length; i++) {
+         types[i - 3] = Types.from(args[i]);
+      }
+
+      try (BufferedWriter writer = new BufferedWriter(output.writer())) {
+         List<Document> batch = new ArrayList<>(batchSize);
+         for (int length = input.readInt(); length >= 0; length = input.readInt()) {
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            batch.add(Document.fromBytes(bytes));
+            if (batch.size() >= batchSize) {
+               process(batch, types, writer);
+            }
+         }
+         process(batch, types, writer);
+      }
+   }
+
+   private static void process(List<Document> batch, AnnotatableType[] types, BufferedWriter writer) throws IOException {
+      Pipeline.process(batch, types);
+      for (Document document : batch) {
+         writer.write(document.toJson());
+         writer.newLine();
+      }
+      batch.clear();
+   }
+
+}//END OF CorpusWorker
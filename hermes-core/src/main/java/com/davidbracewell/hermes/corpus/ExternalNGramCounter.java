@@ -0,0 +1,258 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.io.resource.Resource;
+import com.davidbracewell.tuple.Tuple;
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * <p>
+ * Exact n-gram counting in bounded memory. N-grams are hash partitioned into in-memory maps and, once the number of
+ * distinct n-grams held in memory reaches the budget, every partition is written to disk as a sorted run. The n-grams
+ * of each call to {@link #addAll(Iterator)} are counted locally by the calling thread and only merged into the shared
+ * partitions under the lock. When counting is finished the runs of each partition are merged in a streaming fashion,
+ * summing the counts of equal n-grams and dropping those below the minimum count, producing {@link NGramCounts}. At
+ * most <code>maxFanIn</code> runs are opened at once; partitions with more runs are first merged in intermediate
+ * passes.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+final class ExternalNGramCounter {
+   /**
+    * The default number of hash partitions.
+    */
+   static final int DEFAULT_PARTITIONS = 16;
+   /**
+    * The default maximum number of runs merged at once.
+    */
+   static final int MAX_FAN_IN = 64;
+   /**
+    * Orders n-grams by the string values of their items and then by degree, which is stable across reading and
+    * writing.
+    */
+   static final Comparator<Tuple> ORDER = (t1, t2) -> {
+      int length = Math.min(t1.degree(), t2.degree());
+      for (int i = 0; i < length; i++) {
+         int cmp = t1.get(i).toString().compareTo(t2.get(i).toString());
+         if (cmp != 0) {
+            return cmp;
+         }
+      }
+      return Integer.compare(t1.degree(), t2.degree());
+   };
+   private static final String RUN_DIRECTORY = "runs";
+   private final Resource location;
+   private final int maxInMemory;
+   private final int maxFanIn;
+   private final List<Map<Tuple, long[]>> partitions;
+   private final List<List<Resource>> runs;
+   private int inMemory = 0;
+   private int runCount = 0;
+
+   /**
+    * Instantiates a new external n-gram counter.
+    *
+    * @param location           the directory to write runs and the final counts to
+    * @param numberOfPartitions the number of hash partitions
+    * @param maxInMemory        the maximum number of distinct n-grams to hold in memory before spilling to disk
+    */
+   ExternalNGramCounter(Resource location, int numberOfPartitions, int maxInMemory) {
+      this(location, numberOfPartitions, maxInMemory, MAX_FAN_IN);
+   }
+
+   /**
+    * Instantiates a new external n-gram counter.
+    *
+    * @param location           the directory to write runs and the final counts to
+    * @param numberOfPartitions the number of hash partitions
+    * @param maxInMemory        the maximum number of distinct n-grams to hold in memory before spilling to disk
+    * @param maxFanIn           the maximum number of runs merged at once
+    */
+   ExternalNGramCounter(Resource location, int numberOfPartitions, int maxInMemory, int maxFanIn) {
+      Preconditions.checkArgument(numberOfPartitions > 0, "Number of partitions must be positive");
+      Preconditions.checkArgument(maxInMemory > 0, "In-memory budget must be positive");
+      Preconditions.checkArgument(maxFanIn > 1, "Fan in must be greater than one");
+      this.location = location;
+      this.maxInMemory = maxInMemory;
+      this.maxFanIn = maxFanIn;
+      this.partitions = new ArrayList<>(numberOfPartitions);
+      this.runs = new ArrayList<>(numberOfPartitions);
+      for (int i = 0; i < numberOfPartitions; i++) {
+         this.partitions.add(new HashMap<>());
+         this.runs.add(new ArrayList<>());
+      }
+      location.mkdirs();
+   }
+
+   private int partitionOf(Tuple ngram) {
+      return (ngram.hashCode() & Integer.MAX_VALUE) % partitions.size();
+   }
+
+   /**
+    * Counts the given n-grams, spilling to disk if the in-memory budget is reached. The n-grams are consumed and
+    * counted without holding the lock, so that concurrent callers only contend when merging their counts.
+    *
+    * @param ngrams the n-grams to count
+    * @throws IOException Something went wrong spilling to disk
+    */
+   void addAll(Iterator<Tuple> ngrams) throws IOException {
+      Map<Tuple, long[]> local = new HashMap<>();
+      while (ngrams.hasNext()) {
+         long[] count = local.computeIfAbsent(ngrams.next(), t -> new long[1]);
+         count[0]++;
+      }
+      if (!local.isEmpty()) {
+         merge(local);
+      }
+   }
+
+   private synchronized void merge(Map<Tuple, long[]> local) throws IOException {
+      for (Map.Entry<Tuple, long[]> entry : local.entrySet()) {
+         Map<Tuple, long[]> partition = partitions.get(partitionOf(entry.getKey()));
+         long[] count = partition.get(entry.getKey());
+         if (count == null) {
+            partition.put(entry.getKey(), entry.getValue());
+            inMemory++;
+         } else {
+            count[0] += entry.getValue()[0];
+         }
+      }
+      if (inMemory >= maxInMemory) {
+         spill();
+      }
+   }
+
+   private Resource runFile(int partition, int run) {
+      return location.getChild(RUN_DIRECTORY)
+                     .getChild(String.format("%05d", partition))
+                     .getChild(String.format("run-%06d.bin", run));
+   }
+
+   private void spill() throws IOException {
+      for (int p = 0; p < partitions.size(); p++) {
+         Map<Tuple, long[]> partition = partitions.get(p);
+         if (partition.isEmpty()) {
+            continue;
+         }
+         List<Tuple> ngrams = new ArrayList<>(partition.keySet());
+         ngrams.sort(ORDER);
+         Resource run = runFile(p, runCount);
+         run.getParent().mkdirs();
+         try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(run.outputStream()))) {
+            for (Tuple ngram : ngrams) {
+               NGramCounts.write(out, ngram, partition.get(ngram)[0]);
+            }
+         }
+         runs.get(p).add(run);
+         partition.clear();
+      }
+      inMemory = 0;
+      runCount++;
+   }
+
+   /**
+    * Spills any remaining in-memory counts and merges the runs of each partition, keeping n-grams whose count is at
+    * least the given minimum.
+    *
+    * @param minCount the minimum count
+    * @return the n-gram counts
+    * @throws IOException Something went wrong reading or writing runs
+    */
+   synchronized NGramCounts finish(long minCount) throws IOException {
+      spill();
+      long size = 0;
+      for (int p = 0; p < partitions.size(); p++) {
+         size += merge(p, minCount);
+      }
+      location.getChild(RUN_DIRECTORY).delete(true);
+      return NGramCounts.create(location, partitions.size(), size);
+   }
+
+   private long merge(int partition, long minCount) throws IOException {
+      List<Resource> inputs = runs.get(partition);
+      while (inputs.size() > maxFanIn) {
+         List<Resource> merged = new ArrayList<>();
+         for (int start = 0; start < inputs.size(); start += maxFanIn) {
+            List<Resource> group = inputs.subList(start, Math.min(inputs.size(), start + maxFanIn));
+            if (group.size() == 1) {
+               merged.add(group.get(0));
+               continue;
+            }
+            Resource output = runFile(partition, runCount++);
+            merge(group, output, 1);
+            for (Resource run : group) {
+               run.delete();
+            }
+            merged.add(output);
+         }
+         inputs = merged;
+      }
+      return merge(inputs, NGramCounts.partition(location, partition), minCount);
+   }
+
+   private long merge(List<Resource> inputs, Resource output, long minCount) throws IOException {
+      PriorityQueue<NGramCounts.Reader> queue = new PriorityQueue<>((r1, r2) -> ORDER.compare(r1.ngram(), r2.ngram()));
+      long written = 0;
+      try {
+         for (Resource file : inputs) {
+            NGramCounts.Reader reader = new NGramCounts.Reader(file);
+            if (reader.advance()) {
+               queue.add(reader);
+            } else {
+               reader.close();
+            }
+         }
+         try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output.outputStream()))) {
+            while (!queue.isEmpty()) {
+               Tuple ngram = queue.peek().ngram();
+               long count = 0;
+               while (!queue.isEmpty() && ORDER.compare(queue.peek().ngram(), ngram) == 0) {
+                  NGramCounts.Reader reader = queue.poll();
+                  count += reader.count();
+                  if (reader.advance()) {
+                     queue.add(reader);
+                  } else {
+                     reader.close();
+                  }
+               }
+               if (count >= minCount) {
+                  NGramCounts.write(out, ngram, count);
+                  written++;
+               }
+            }
+         }
+      } finally {
+         for (NGramCounts.Reader reader : queue) {
+            reader.close();
+         }
+      }
+      return written;
+   }
+
+}//END OF ExternalNGramCounter
@@ -21,26 +21,28 @@
 
 package com.davidbracewell.hermes.corpus;
 
-import com.davidbracewell.SystemInfo;
 import com.davidbracewell.collection.Streams;
-import com.davidbracewell.config.Config;
+import com.davidbracewell.collection.counter.Counter;
 import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.function.SerializablePredicate;
 import com.davidbracewell.function.Unchecked;
 import com.davidbracewell.guava.common.base.Throwables;
 import com.davidbracewell.hermes.AnnotatableType;
 import com.davidbracewell.hermes.Document;
 import com.davidbracewell.hermes.DocumentFactory;
 import com.davidbracewell.hermes.Pipeline;
+import com.davidbracewell.hermes.extraction.NGramExtractor;
+import com.davidbracewell.hermes.extraction.TermExtractor;
 import com.davidbracewell.io.AsyncWriter;
-import com.davidbracewell.io.MultiFileWriter;
-import com.davidbracewell.io.Resources;
 import com.davidbracewell.io.resource.Resource;
 import com.davidbracewell.logging.Logger;
 import com.davidbracewell.stream.MStream;
+import com.davidbracewell.tuple.Tuple;
 import lombok.NonNull;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -147,7 +149,7 @@ public class FileCorpus implements Corpus, Serializable {
       @Override
       public Spliterator<Document> trySplit() {
          int low = start;
-         int high = ((low + end) >>> 1) & ~1;
+         int high = (low + end) >>> 1;
          if (low < high) {
             this.start = high;
             return new RSI(resources, low, high);
@@ -225,29 +227,77 @@ public class FileCorpus implements Corpus, Serializable {
       return documentFactory;
    }
 
+   /**
+    * Calculates a fingerprint of the files making up the corpus.
+    *
+    * @return the fingerprint or null if the corpus is not stored in local files
+    */
+   String fingerprint() {
+      return CorpusStatisticsCache.fingerprint(corpusFormat, resource);
+   }
+
+   /**
+    * Gets the fingerprint to cache statistics under, which is null (i.e. no caching) when the statistics cache is
+    * disabled so that the files are not listed needlessly.
+    */
+   private String statisticsFingerprint() {
+      return CorpusStatisticsCache.isEnabled() ? fingerprint() : null;
+   }
+
    @Override
    public long size() {
+      String fingerprint = statisticsFingerprint();
+      if (fingerprint != null) {
+         return CorpusStatisticsCache.get(fingerprint, "size", Arrays.asList(documentFactory), this::countDocuments);
+      }
       if (size == -1) {
-         if (corpusFormat.isOnePerLine()) {
-            Iterator<Resource> itr = resource.isDirectory() ?
-                                     resource.childIterator(true) :
-                                     Collections.singleton(resource).iterator();
-            AtomicInteger sz = new AtomicInteger(0);
-            Streams.asParallelStream(itr).forEach(r -> {
-               try (MStream<String> lineStream = r.lines()) {
-                  lineStream.forEach(l -> sz.addAndGet(1));
-               } catch (Exception e) {
-                  throw Throwables.propagate(e);
-               }
-            });
-            size = sz.get();
-         } else {
-            size = stream().count();
-         }
+         size = countDocuments();
       }
       return size;
    }
 
+   private long countDocuments() {
+      if (corpusFormat.isOnePerLine()) {
+         Iterator<Resource> itr = resource.isDirectory() ?
+                                  resource.childIterator(true) :
+                                  Collections.singleton(resource).iterator();
+         AtomicInteger sz = new AtomicInteger(0);
+         Streams.asParallelStream(itr).filter(r -> r.asFile().map(f -> !f.isHidden()).orElse(true)).forEach(r -> {
+            try (MStream<String> lineStream = r.lines()) {
+               lineStream.forEach(l -> sz.addAndGet(1));
+            } catch (Exception e) {
+               throw Throwables.propagate(e);
+            }
+         });
+         return sz.get();
+      }
+      return stream().count();
+   }
+
+   @Override
+   public Counter<String> termFrequencies(@NonNull TermExtractor termExtractor) {
+      return CorpusStatisticsCache.get(statisticsFingerprint(),
+                                       "termFrequencies",
+                                       Arrays.asList(documentFactory, termExtractor),
+                                       () -> Corpus.super.termFrequencies(termExtractor));
+   }
+
+   @Override
+   public Counter<String> documentFrequencies(@NonNull TermExtractor termExtractor) {
+      return CorpusStatisticsCache.get(statisticsFingerprint(),
+                                       "documentFrequencies",
+                                       Arrays.asList(documentFactory, termExtractor),
+                                       () -> Corpus.super.documentFrequencies(termExtractor));
+   }
+
+   @Override
+   public Counter<Tuple> nGramFrequencies(@NonNull NGramExtractor nGramExtractor) {
+      return CorpusStatisticsCache.get(statisticsFingerprint(),
+                                       "nGramFrequencies",
+                                       Arrays.asList(documentFactory, nGramExtractor),
+                                       () -> Corpus.super.nGramFrequencies(nGramExtractor));
+   }
+
    @Override
    public boolean isOffHeap() {
       return true;
@@ -255,20 +305,11 @@ public class FileCorpus implements Corpus, Serializable {
 
    @Override
    public Corpus map(@NonNull SerializableFunction<Document, Document> function) {
-      Resource tmpDirectory = Resources.temporaryDirectory();
-      tmpDirectory.deleteOnExit();
-      FileCorpus newCorpus = new FileCorpus(CorpusFormats.forName(CorpusFormats.JSON_OPL), tmpDirectory,
-                                            documentFactory);
-      try (MultiFileWriter writer = new MultiFileWriter(tmpDirectory, "part-", Config.get("files.partition")
-                                                                                     .asIntegerValue(
-                                                                                        SystemInfo.NUMBER_OF_PROCESSORS * 2))) {
-         forEachParallel(Unchecked.consumer(document -> writer.write(function.apply(document).toJson() + "\n")));
-      } catch (RuntimeException e) {
-         e.printStackTrace();
-         throw e;
-      } catch (Exception e) {
-         throw Throwables.propagate(e);
-      }
-      return newCorpus;
+      return new LazyCorpus(this, function);
+   }
+
+   @Override
+   public Corpus filter(@NonNull SerializablePredicate<? super Document> filter) {
+      return LazyCorpus.filter(this, filter);
    }
 }//END OF FileCorpus
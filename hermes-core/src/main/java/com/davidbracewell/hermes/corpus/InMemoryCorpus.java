@@ -35,6 +35,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 
 /**
@@ -98,6 +99,11 @@ public class InMemoryCorpus implements Corpus, Serializable {
       return documents.iterator();
    }
 
+   @Override
+   public Spliterator<Document> spliterator() {
+      return documents.spliterator();
+   }
+
    @Override
    public long size() {
       return documents.size();
@@ -0,0 +1,112 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.function.SerializablePredicate;
+import com.davidbracewell.hermes.AnnotatableType;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.parsing.ParseException;
+import com.davidbracewell.stream.MStream;
+import com.davidbracewell.stream.StreamingContext;
+import lombok.NonNull;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Iterator;
+
+/**
+ * <p>
+ * A corpus backed by a {@link CorpusIndex} that answers queries from the index's posting lists, loading only the
+ * matching documents. All other operations are delegated to the underlying corpus.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+class IndexedCorpus implements Corpus, Serializable {
+   private static final long serialVersionUID = 1L;
+   private final Corpus corpus;
+   private final CorpusIndex index;
+
+   IndexedCorpus(Corpus corpus, CorpusIndex index) {
+      this.corpus = corpus;
+      this.index = index;
+   }
+
+   @Override
+   public Corpus annotate(AnnotatableType... types) {
+      return corpus.annotate(types);
+   }
+
+   @Override
+   public void close() throws Exception {
+      corpus.close();
+   }
+
+   @Override
+   public CorpusType getCorpusType() {
+      return corpus.getCorpusType();
+   }
+
+   @Override
+   public DocumentFactory getDocumentFactory() {
+      return corpus.getDocumentFactory();
+   }
+
+   @Override
+   public StreamingContext getStreamingContext() {
+      return corpus.getStreamingContext();
+   }
+
+   @Override
+   public Corpus map(@NonNull SerializableFunction<Document, Document> function) {
+      return corpus.map(function);
+   }
+
+   @Override
+   public Corpus filter(@NonNull SerializablePredicate<? super Document> filter) {
+      return corpus.filter(filter);
+   }
+
+   @Override
+   public Iterator<Document> iterator() {
+      return corpus.iterator();
+   }
+
+   @Override
+   public MStream<Document> stream() {
+      return corpus.stream();
+   }
+
+   @Override
+   public long size() {
+      return index.numberOfDocuments();
+   }
+
+   @Override
+   public Corpus query(String query) throws ParseException {
+      BitSet matches = index.search(query);
+      return new MStreamCorpus(StreamingContext.local().stream(index.documents(matches)), getDocumentFactory());
+   }
+
+}//END OF IndexedCorpus
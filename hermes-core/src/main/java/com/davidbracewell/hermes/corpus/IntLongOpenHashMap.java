@@ -0,0 +1,170 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A map from non-negative int keys to long values using open addressing with linear probing, which avoids boxing and
+ * per-entry allocation when counting. The map is not thread safe.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+final class IntLongOpenHashMap {
+   private static final int EMPTY = -1;
+   private static final double LOAD_FACTOR = 0.6;
+   private int[] keys;
+   private long[] values;
+   private int size;
+   private int threshold;
+
+   /**
+    * Instantiates a new map.
+    */
+   IntLongOpenHashMap() {
+      this(64);
+   }
+
+   /**
+    * Instantiates a new map.
+    *
+    * @param expectedSize the expected number of keys
+    */
+   IntLongOpenHashMap(int expectedSize) {
+      int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+      allocate(capacity);
+   }
+
+   private void allocate(int capacity) {
+      keys = new int[capacity];
+      Arrays.fill(keys, EMPTY);
+      values = new long[capacity];
+      threshold = (int) (capacity * LOAD_FACTOR);
+   }
+
+   private static int mix(int key) {
+      int h = key * 0x9E3779B9;
+      return h ^ (h >>> 16);
+   }
+
+   private int slot(int key) {
+      int mask = keys.length - 1;
+      int slot = mix(key) & mask;
+      while (keys[slot] != EMPTY && keys[slot] != key) {
+         slot = (slot + 1) & mask;
+      }
+      return slot;
+   }
+
+   /**
+    * Adds the given amount to the value of the given key (missing keys have a value of 0).
+    *
+    * @param key   the key (must be non-negative)
+    * @param delta the amount to add
+    */
+   void adjust(int key, long delta) {
+      int slot = slot(key);
+      if (keys[slot] == EMPTY) {
+         keys[slot] = key;
+         size++;
+         values[slot] = delta;
+         if (size > threshold) {
+            rehash();
+         }
+      } else {
+         values[slot] += delta;
+      }
+   }
+
+   /**
+    * Gets the value of the given key.
+    *
+    * @param key the key
+    * @return the value or 0 if the key is not in the map
+    */
+   long get(int key) {
+      int slot = slot(key);
+      return keys[slot] == EMPTY ? 0 : values[slot];
+   }
+
+   /**
+    * Adds all values in the given map to this one.
+    *
+    * @param other the map to merge into this one
+    */
+   void merge(IntLongOpenHashMap other) {
+      other.forEach(this::adjust);
+   }
+
+   /**
+    * The number of keys in the map
+    *
+    * @return the number of keys
+    */
+   int size() {
+      return size;
+   }
+
+   /**
+    * Performs the given action for each key and value in the map.
+    *
+    * @param consumer the action
+    */
+   void forEach(IntLongConsumer consumer) {
+      for (int i = 0; i < keys.length; i++) {
+         if (keys[i] != EMPTY) {
+            consumer.accept(keys[i], values[i]);
+         }
+      }
+   }
+
+   private void rehash() {
+      int[] oldKeys = keys;
+      long[] oldValues = values;
+      allocate(keys.length * 2);
+      for (int i = 0; i < oldKeys.length; i++) {
+         if (oldKeys[i] != EMPTY) {
+            int slot = slot(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+         }
+      }
+   }
+
+   /**
+    * Consumer of primitive int keys and long values
+    */
+   @FunctionalInterface
+   interface IntLongConsumer {
+
+      /**
+       * Performs the action on the given key and value
+       *
+       * @param key   the key
+       * @param value the value
+       */
+      void accept(int key, long value);
+   }
+
+}//END OF IntLongOpenHashMap
@@ -0,0 +1,178 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.concurrent.Broker;
+import com.davidbracewell.concurrent.IterableProducer;
+import com.davidbracewell.conversion.Cast;
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.function.SerializablePredicate;
+import com.davidbracewell.guava.common.collect.Iterators;
+import com.davidbracewell.hermes.AnnotatableType;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.hermes.Pipeline;
+import com.davidbracewell.stream.MStream;
+import com.davidbracewell.stream.StreamingContext;
+import lombok.NonNull;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * <p>A corpus defined as a plan of document level operations (filter, map, and annotate) over a source corpus. The
+ * operations are fused into a single function that is applied while reading the source, so no intermediate corpora
+ * are created and the plan is executed each time the corpus is read, e.g. by <code>write</code>, <code>size</code>,
+ * or iterating. Use {@link #cache()} (or one of its variants) to materialize the result when it will be read more
+ * than once.</p>
+ *
+ * <p>Terminal operations that consume the corpus with a {@link Broker} (see {@link #forEachConcurrent(Corpus,
+ * Consumer, int)}) execute the plan in the consumer threads, so that annotate steps run concurrently. Iterating the
+ * corpus directly executes the plan on the iterating thread.</p>
+ *
+ * @author David B. Bracewell
+ */
+class LazyCorpus implements Corpus, Serializable {
+   private static final long serialVersionUID = 1L;
+   private final Corpus source;
+   private final SerializableFunction<Document, Document> plan;
+
+   /**
+    * Instantiates a new lazy corpus.
+    *
+    * @param source the source corpus
+    * @param plan   the fused operations, which return null for documents that are filtered out
+    */
+   LazyCorpus(@NonNull Corpus source, @NonNull SerializableFunction<Document, Document> plan) {
+      this.source = source;
+      this.plan = plan;
+   }
+
+   /**
+    * Creates a lazy corpus filtering the given source.
+    *
+    * @param source the source corpus
+    * @param filter the filter
+    * @return the lazy corpus
+    */
+   static LazyCorpus filter(@NonNull Corpus source, @NonNull SerializablePredicate<? super Document> filter) {
+      return new LazyCorpus(source, document -> filter.test(document) ? document : null);
+   }
+
+   /**
+    * Passes every document of the given corpus to the consumer using a {@link Broker} with the given number of
+    * consumer threads. When the corpus is lazy, the producer only reads the source corpus and the plan is executed by
+    * the consumer threads.
+    *
+    * @param corpus            the corpus to consume
+    * @param consumer          the consumer
+    * @param numberOfConsumers the number of consumer threads
+    */
+   static void forEachConcurrent(@NonNull Corpus corpus, @NonNull Consumer<Document> consumer, int numberOfConsumers) {
+      Corpus source = corpus;
+      Consumer<Document> sink = consumer;
+      if (corpus instanceof LazyCorpus) {
+         LazyCorpus lazy = Cast.as(corpus);
+         source = lazy.source;
+         sink = document -> {
+            Document result = lazy.plan.apply(document);
+            if (result != null) {
+               consumer.accept(result);
+            }
+         };
+      }
+      Broker.<Document>builder()
+         .addProducer(new IterableProducer<>(source))
+         .addConsumer(sink, Math.max(1, numberOfConsumers))
+         .build().run();
+   }
+
+   private LazyCorpus then(SerializableFunction<Document, Document> step) {
+      final SerializableFunction<Document, Document> current = plan;
+      return new LazyCorpus(source, document -> {
+         Document result = current.apply(document);
+         return result == null ? null : step.apply(result);
+      });
+   }
+
+   @Override
+   public Corpus annotate(@NonNull AnnotatableType... types) {
+      return then(document -> {
+         Pipeline.process(document, types);
+         return document;
+      });
+   }
+
+   @Override
+   public Corpus filter(@NonNull SerializablePredicate<? super Document> filter) {
+      return then(document -> filter.test(document) ? document : null);
+   }
+
+   @Override
+   public Corpus map(@NonNull SerializableFunction<Document, Document> function) {
+      return then(function);
+   }
+
+   @Override
+   public MStream<Document> stream() {
+      return source.stream().map(plan).filter(Objects::nonNull);
+   }
+
+   @Override
+   public Iterator<Document> iterator() {
+      return Iterators.filter(Iterators.transform(source.iterator(), plan::apply), Objects::nonNull);
+   }
+
+   @Override
+   public Spliterator<Document> spliterator() {
+      return stream().javaStream().spliterator();
+   }
+
+   @Override
+   public CorpusType getCorpusType() {
+      return source.getCorpusType();
+   }
+
+   @Override
+   public StreamingContext getStreamingContext() {
+      return source.getStreamingContext();
+   }
+
+   @Override
+   public DocumentFactory getDocumentFactory() {
+      return source.getDocumentFactory();
+   }
+
+   @Override
+   public boolean isOffHeap() {
+      return source.isOffHeap();
+   }
+
+   @Override
+   public void close() throws Exception {
+      source.close();
+   }
+
+}//END OF LazyCorpus
@@ -0,0 +1,192 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A map from non-negative long keys to long values using open addressing with linear probing. Used to count pairs of
+ * int ids packed into a single long without boxing. The map is not thread safe.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+final class LongLongOpenHashMap {
+   private static final long EMPTY = -1L;
+   private static final double LOAD_FACTOR = 0.6;
+   private long[] keys;
+   private long[] values;
+   private int size;
+   private int threshold;
+
+   /**
+    * Instantiates a new map.
+    */
+   LongLongOpenHashMap() {
+      this(64);
+   }
+
+   /**
+    * Instantiates a new map.
+    *
+    * @param expectedSize the expected number of keys
+    */
+   LongLongOpenHashMap(int expectedSize) {
+      int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+      allocate(capacity);
+   }
+
+   /**
+    * Packs two non-negative ints into a single key.
+    *
+    * @param first  the first int
+    * @param second the second int
+    * @return the packed key
+    */
+   static long pack(int first, int second) {
+      return ((long) first << 32) | second;
+   }
+
+   /**
+    * Gets the first int of a packed key.
+    *
+    * @param key the packed key
+    * @return the first int
+    */
+   static int first(long key) {
+      return (int) (key >>> 32);
+   }
+
+   /**
+    * Gets the second int of a packed key.
+    *
+    * @param key the packed key
+    * @return the second int
+    */
+   static int second(long key) {
+      return (int) key;
+   }
+
+   private void allocate(int capacity) {
+      keys = new long[capacity];
+      Arrays.fill(keys, EMPTY);
+      values = new long[capacity];
+      threshold = (int) (capacity * LOAD_FACTOR);
+   }
+
+   private static int mix(long key) {
+      long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32));
+   }
+
+   private int slot(long key) {
+      int mask = keys.length - 1;
+      int slot = mix(key) & mask;
+      while (keys[slot] != EMPTY && keys[slot] != key) {
+         slot = (slot + 1) & mask;
+      }
+      return slot;
+   }
+
+   /**
+    * Adds the given amount to the value of the given key (missing keys have a value of 0).
+    *
+    * @param key   the key (must be non-negative)
+    * @param delta the amount to add
+    */
+   void adjust(long key, long delta) {
+      int slot = slot(key);
+      if (keys[slot] == EMPTY) {
+         keys[slot] = key;
+         size++;
+         values[slot] = delta;
+         if (size > threshold) {
+            rehash();
+         }
+      } else {
+         values[slot] += delta;
+      }
+   }
+
+   /**
+    * Gets the value of the given key.
+    *
+    * @param key the key
+    * @return the value or 0 if the key is not in the map
+    */
+   long get(long key) {
+      int slot = slot(key);
+      return keys[slot] == EMPTY ? 0 : values[slot];
+   }
+
+   /**
+    * The number of keys in the map
+    *
+    * @return the number of keys
+    */
+   int size() {
+      return size;
+   }
+
+   /**
+    * Performs the given action for each key and value in the map.
+    *
+    * @param consumer the action
+    */
+   void forEach(LongLongConsumer consumer) {
+      for (int i = 0; i < keys.length; i++) {
+         if (keys[i] != EMPTY) {
+            consumer.accept(keys[i], values[i]);
+         }
+      }
+   }
+
+   private void rehash() {
+      long[] oldKeys = keys;
+      long[] oldValues = values;
+      allocate(keys.length * 2);
+      for (int i = 0; i < oldKeys.length; i++) {
+         if (oldKeys[i] != EMPTY) {
+            int slot = slot(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+         }
+      }
+   }
+
+   /**
+    * Consumer of primitive long keys and long values
+    */
+   @FunctionalInterface
+   interface LongLongConsumer {
+
+      /**
+       * Performs the action on the given key and value
+       *
+       * @param key   the key
+       * @param value the value
+       */
+      void accept(long key, long value);
+   }
+
+}//END OF LongLongOpenHashMap
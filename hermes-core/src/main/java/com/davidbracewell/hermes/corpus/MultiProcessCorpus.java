@@ -0,0 +1,239 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.config.Config;
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.guava.common.base.Throwables;
+import com.davidbracewell.hermes.AnnotatableType;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.io.Resources;
+import com.davidbracewell.io.resource.Resource;
+import com.davidbracewell.logging.Logger;
+import com.davidbracewell.stream.MStream;
+import com.davidbracewell.string.StringUtils;
+import lombok.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * <p>A corpus whose annotation is performed by a number of worker JVMs running on the local machine. Each worker is a
+ * separate process running {@link CorpusWorker}, which means annotation is isolated from the calling JVM and each
+ * worker can run with a smaller heap (set via <code>MultiProcessCorpus.jvmOptions</code>). Documents are sent to the
+ * workers in their binary form over the workers' standard input, with the workers pulling documents as fast as they
+ * can annotate them. Each worker writes its annotated documents to its own part file and the parts are combined into
+ * a single off heap corpus, which is again backed by the worker pool.</p>
+ *
+ * <p>Operations other than annotation are performed by the underlying corpus in the calling JVM.</p>
+ *
+ * @author David B. Bracewell
+ */
+public class MultiProcessCorpus implements Corpus, Serializable {
+   private static final long serialVersionUID = 1L;
+   private static final Logger log = Logger.getLogger(MultiProcessCorpus.class);
+   private static final int DEFAULT_BATCH_SIZE = 100;
+
+   private final Corpus source;
+   private final int numberOfWorkers;
+
+   /**
+    * Instantiates a new multi-process corpus.
+    *
+    * @param source          the corpus whose documents are to be processed
+    * @param numberOfWorkers the number of worker processes to use when annotating
+    */
+   public MultiProcessCorpus(@NonNull Corpus source, int numberOfWorkers) {
+      if (numberOfWorkers <= 0) {
+         throw new IllegalArgumentException("Number of workers must be > 0");
+      }
+      this.source = source;
+      this.numberOfWorkers = numberOfWorkers;
+   }
+
+   /**
+    * Gets the number of worker processes used when annotating.
+    *
+    * @return the number of workers
+    */
+   public int getNumberOfWorkers() {
+      return numberOfWorkers;
+   }
+
+   @Override
+   public Corpus annotate(@NonNull AnnotatableType... types) {
+      if (types.length == 0) {
+         return this;
+      }
+      Resource output = Resources.temporaryDirectory();
+      output.deleteOnExit();
+      try {
+         runWorkers(output, types);
+      } catch (IOException e) {
+         throw Throwables.propagate(e);
+      }
+      return new MultiProcessCorpus(new FileCorpus(CorpusFormats.forName(CorpusFormats.JSON_OPL),
+                                                   output,
+                                                   getDocumentFactory()),
+                                    numberOfWorkers);
+   }
+
+   private void runWorkers(Resource output, AnnotatableType[] types) throws IOException {
+      Resource configFile = Resources.temporaryFile();
+      configFile.deleteOnExit();
+      try {
+         configFile.writeObject(Config.getInstance());
+      } catch (Exception e) {
+         throw new IOException(e);
+      }
+
+      int batchSize = Config.get("MultiProcessCorpus.batchSize").asIntegerValue(DEFAULT_BATCH_SIZE);
+      List<Process> processes = new ArrayList<>();
+      ExecutorService executor = Executors.newFixedThreadPool(numberOfWorkers);
+      try {
+         Iterator<Document> documents = source.iterator();
+         List<Future<Void>> futures = new ArrayList<>();
+         for (int i = 0; i < numberOfWorkers; i++) {
+            Process process = startWorker(configFile, output.getChild(String.format("part-%05d.json", i)), batchSize,
+                                          types);
+            processes.add(process);
+            final int worker = i;
+            futures.add(executor.submit(() -> feed(worker, process, documents)));
+         }
+         for (Future<Void> future : futures) {
+            future.get();
+         }
+      } catch (ExecutionException e) {
+         if (e.getCause() instanceof IOException) {
+            throw (IOException) e.getCause();
+         }
+         throw Throwables.propagate(e.getCause());
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IOException(e);
+      } finally {
+         executor.shutdownNow();
+         processes.stream().filter(Process::isAlive).forEach(Process::destroyForcibly);
+         configFile.delete();
+      }
+   }
+
+   private Process startWorker(Resource configFile, Resource output, int batchSize, AnnotatableType[] types) throws IOException {
+      List<String> command = new ArrayList<>();
+      command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+      String jvmOptions = Config.get("MultiProcessCorpus.jvmOptions").asString("");
+      if (!StringUtils.isNullOrBlank(jvmOptions)) {
+         command.addAll(Arrays.asList(jvmOptions.trim().split("\\s+")));
+      }
+      command.add("-cp");
+      command.add(System.getProperty("java.class.path"));
+      command.add(CorpusWorker.class.getName());
+      command.add(configFile.path());
+      command.add(output.path());
+      command.add(Integer.toString(batchSize));
+      for (AnnotatableType type : types) {
+         command.add(type.canonicalName());
+      }
+      log.fine("Starting worker: {0}", command);
+      return new ProcessBuilder(command).redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                                        .start();
+   }
+
+   private Void feed(int worker, Process process, Iterator<Document> documents) throws IOException, InterruptedException {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()))) {
+         while (true) {
+            Document document;
+            synchronized (documents) {
+               if (!documents.hasNext()) {
+                  break;
+               }
+               document = documents.next();
+            }
+            byte[] bytes = document.toBytes();
+            out.writeInt(bytes.length);
+            out.write(bytes);
+         }
+         out.writeInt(-1);
+      }
+      int status = process.waitFor();
+      if (status != 0) {
+         throw new IOException("Worker " + worker + " exited with status " + status);
+      }
+      return null;
+   }
+
+   @Override
+   public CorpusType getCorpusType() {
+      return CorpusType.MULTI_PROCESS;
+   }
+
+   @Override
+   public DocumentFactory getDocumentFactory() {
+      return source.getDocumentFactory();
+   }
+
+   @Override
+   public MStream<Document> stream() {
+      return source.stream();
+   }
+
+   @Override
+   public Iterator<Document> iterator() {
+      return source.iterator();
+   }
+
+   @Override
+   public long size() {
+      return source.size();
+   }
+
+   @Override
+   public boolean isInMemory() {
+      return source.isInMemory();
+   }
+
+   @Override
+   public boolean isOffHeap() {
+      return source.isOffHeap();
+   }
+
+   @Override
+   public Corpus map(@NonNull SerializableFunction<Document, Document> function) {
+      return new MultiProcessCorpus(source.map(function), numberOfWorkers);
+   }
+
+   @Override
+   public void close() throws Exception {
+      source.close();
+   }
+
+}//END OF MultiProcessCorpus
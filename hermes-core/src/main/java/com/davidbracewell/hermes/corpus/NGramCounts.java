@@ -0,0 +1,267 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.collection.Streams;
+import com.davidbracewell.collection.counter.Counter;
+import com.davidbracewell.collection.counter.Counters;
+import com.davidbracewell.guava.common.base.Throwables;
+import com.davidbracewell.io.resource.Resource;
+import com.davidbracewell.tuple.Tuple;
+import lombok.NonNull;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static com.davidbracewell.tuple.Tuples.$;
+
+/**
+ * <p>
+ * Exact n-gram counts stored on disk as produced by {@link Corpus#nGramFrequencies(com.davidbracewell.hermes.extraction.NGramExtractor,
+ * Resource, int, long)}. Counts are stored in hash partitioned files, each sorted by n-gram, and can be streamed
+ * without loading them into memory or loaded (optionally filtered) into a {@link Counter}.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public final class NGramCounts implements Iterable<Map.Entry<Tuple, Long>>, Serializable {
+   private static final long serialVersionUID = 1L;
+   private static final String INFO_FILE = "ngrams.info";
+   private static final String PART_FORMAT = "part-%05d.bin";
+   private final Resource location;
+   private final int numberOfPartitions;
+   private final long size;
+
+   private NGramCounts(Resource location, int numberOfPartitions, long size) {
+      this.location = location;
+      this.numberOfPartitions = numberOfPartitions;
+      this.size = size;
+   }
+
+   /**
+    * Loads n-gram counts previously written to the given location.
+    *
+    * @param location the directory containing the counts
+    * @return the n-gram counts
+    * @throws IOException Something went wrong reading the counts information
+    */
+   public static NGramCounts load(@NonNull Resource location) throws IOException {
+      Resource info = location.getChild(INFO_FILE);
+      if (!info.exists()) {
+         throw new IOException(location.descriptor() + " does not contain n-gram counts");
+      }
+      String[] parts = info.readToString().trim().split("\\s+");
+      return new NGramCounts(location, Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+   }
+
+   static NGramCounts create(Resource location, int numberOfPartitions, long size) throws IOException {
+      location.getChild(INFO_FILE).write(numberOfPartitions + " " + size);
+      return new NGramCounts(location, numberOfPartitions, size);
+   }
+
+   static Resource partition(Resource location, int partition) {
+      return location.getChild(String.format(PART_FORMAT, partition));
+   }
+
+   static void write(DataOutputStream out, Tuple ngram, long count) throws IOException {
+      out.writeInt(ngram.degree());
+      for (int i = 0; i < ngram.degree(); i++) {
+         out.writeUTF(ngram.get(i).toString());
+      }
+      out.writeLong(count);
+   }
+
+   /**
+    * Gets the directory the counts are stored in.
+    *
+    * @return the location
+    */
+   public Resource getLocation() {
+      return location;
+   }
+
+   /**
+    * Gets the number of distinct n-grams.
+    *
+    * @return the number of n-grams
+    */
+   public long size() {
+      return size;
+   }
+
+   @Override
+   public Iterator<Map.Entry<Tuple, Long>> iterator() {
+      return new PartitionIterator(numberOfPartitions);
+   }
+
+   /**
+    * Streams the n-grams and their counts, reading them from disk as needed. Closing the stream releases any open
+    * files.
+    *
+    * @return the stream of n-grams and counts
+    */
+   public Stream<Map.Entry<Tuple, Long>> stream() {
+      PartitionIterator iterator = new PartitionIterator(numberOfPartitions);
+      return Streams.asStream(iterator).onClose(iterator::close);
+   }
+
+   /**
+    * Loads all n-grams and their counts into memory.
+    *
+    * @return the counter
+    */
+   public Counter<Tuple> toCounter() {
+      return toCounter(ngram -> true);
+   }
+
+   /**
+    * Loads the n-grams passing the given filter and their counts into memory.
+    *
+    * @param filter the filter
+    * @return the counter
+    */
+   public Counter<Tuple> toCounter(@NonNull Predicate<? super Tuple> filter) {
+      Counter<Tuple> counter = Counters.newCounter();
+      try (Stream<Map.Entry<Tuple, Long>> stream = stream()) {
+         stream.filter(e -> filter.test(e.getKey())).forEach(e -> counter.set(e.getKey(), e.getValue()));
+      }
+      return counter;
+   }
+
+   /**
+    * Reads the records of a single count file in order.
+    */
+   static class Reader implements Closeable {
+      private final DataInputStream in;
+      private Tuple ngram;
+      private long count;
+
+      /**
+       * Instantiates a new reader.
+       *
+       * @param resource the resource to read
+       * @throws IOException Something went wrong opening the resource
+       */
+      Reader(Resource resource) throws IOException {
+         this.in = new DataInputStream(new BufferedInputStream(resource.inputStream()));
+      }
+
+      /**
+       * Advances to the next record.
+       *
+       * @return True if a record was read, False if the end of the file was reached
+       * @throws IOException Something went wrong reading
+       */
+      boolean advance() throws IOException {
+         int degree;
+         try {
+            degree = in.readInt();
+         } catch (EOFException e) {
+            ngram = null;
+            return false;
+         }
+         List<String> items = new ArrayList<>(degree);
+         for (int i = 0; i < degree; i++) {
+            items.add(in.readUTF());
+         }
+         ngram = $(items);
+         count = in.readLong();
+         return true;
+      }
+
+      Tuple ngram() {
+         return ngram;
+      }
+
+      long count() {
+         return count;
+      }
+
+      @Override
+      public void close() throws IOException {
+         in.close();
+      }
+   }
+
+   private class PartitionIterator implements Iterator<Map.Entry<Tuple, Long>>, Closeable {
+      private final int partitions;
+      private int partition = 0;
+      private Reader reader;
+      private boolean hasNext;
+
+      private PartitionIterator(int partitions) {
+         this.partitions = partitions;
+      }
+
+      private boolean advance() {
+         try {
+            while (true) {
+               if (reader != null && reader.advance()) {
+                  return true;
+               }
+               close();
+               if (partition >= partitions) {
+                  return false;
+               }
+               Resource part = partition(location, partition++);
+               if (part.exists()) {
+                  reader = new Reader(part);
+               }
+            }
+         } catch (IOException e) {
+            throw Throwables.propagate(e);
+         }
+      }
+
+      @Override
+      public boolean hasNext() {
+         if (!hasNext) {
+            hasNext = advance();
+         }
+         return hasNext;
+      }
+
+      @Override
+      public Map.Entry<Tuple, Long> next() {
+         if (!hasNext()) {
+            throw new NoSuchElementException();
+         }
+         hasNext = false;
+         return new AbstractMap.SimpleImmutableEntry<>(reader.ngram(), reader.count());
+      }
+
+      @Override
+      public void close() {
+         if (reader != null) {
+            try {
+               reader.close();
+            } catch (IOException e) {
+               throw Throwables.propagate(e);
+            }
+            reader = null;
+         }
+      }
+   }
+
+}//END OF NGramCounts
@@ -0,0 +1,259 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.guava.common.base.Throwables;
+import com.davidbracewell.guava.common.collect.Iterators;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.corpus.sketch.MinHash;
+import com.davidbracewell.io.Resources;
+import com.davidbracewell.io.resource.Resource;
+import com.davidbracewell.tuple.Tuple2;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Finds near-duplicate documents using MinHash signatures and locality sensitive hashing. Signatures are computed in
+ * parallel (in corpus order) and written to a temporary file together with the document ids. The signatures are then
+ * banded one band at a time: documents whose band hashes collide are candidates, and a candidate is merged into the
+ * cluster of the first document in the bucket if their estimated Jaccard similarity (using the signature of the first
+ * document read back from disk) meets the threshold. Each document is compared against at most one document per band,
+ * so the work is linear in the size of the corpus.
+ * </p>
+ * <p>
+ * Memory use is bounded by the union-find array (one int per document) and the buckets of a single band (one entry
+ * per distinct band hash), i.e. it is linear in the number of documents but does not depend on the signature length
+ * or the number of bands. At most {@link #MAX_DOCUMENTS} documents are supported.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+final class NearDuplicateDetector {
+   /**
+    * The default signature length.
+    */
+   static final int DEFAULT_HASHES = 128;
+   /**
+    * The maximum number of documents that can be deduplicated.
+    */
+   static final long MAX_DOCUMENTS = Integer.MAX_VALUE - 8;
+   private static final int CHUNK_SIZE = 10_000;
+   private final MinHash minHash;
+   private final double threshold;
+   private final int bands;
+   private final int rows;
+
+   /**
+    * Instantiates a new near duplicate detector.
+    *
+    * @param threshold      the minimum Jaccard similarity for two documents to be near duplicates
+    * @param numberOfHashes the signature length
+    * @param seed           the seed for the hash functions
+    */
+   NearDuplicateDetector(double threshold, int numberOfHashes, long seed) {
+      Preconditions.checkArgument(threshold > 0 && threshold <= 1, "Threshold must be in (0, 1]");
+      this.minHash = new MinHash(numberOfHashes, seed);
+      this.threshold = threshold;
+      //Choose the banding whose S-curve midpoint (1/b)^(1/r) is closest to the threshold
+      int bestRows = 1;
+      double bestDiff = Double.MAX_VALUE;
+      for (int r = 1; r <= numberOfHashes; r++) {
+         int b = numberOfHashes / r;
+         double diff = Math.abs(Math.pow(1.0 / b, 1.0 / r) - threshold);
+         if (diff < bestDiff) {
+            bestDiff = diff;
+            bestRows = r;
+         }
+      }
+      this.rows = bestRows;
+      this.bands = numberOfHashes / bestRows;
+   }
+
+   /**
+    * Finds the ids of the documents that are near duplicates of an earlier document in the corpus.
+    *
+    * @param corpus   the corpus
+    * @param shingler the function generating the shingles of a document
+    * @return the ids of the duplicate documents
+    */
+   Set<String> duplicates(@NonNull Corpus corpus, @NonNull SerializableFunction<Document, Stream<String>> shingler) {
+      Resource directory = Resources.temporaryDirectory();
+      try {
+         File idFile = new File(directory.asFile().orElseThrow(IllegalStateException::new), "ids.txt");
+         File signatureFile = new File(idFile.getParentFile(), "signatures.bin");
+         int size = writeSignatures(corpus, shingler, idFile, signatureFile);
+         int[] parent = cluster(signatureFile, size);
+
+         Set<String> duplicates = new HashSet<>();
+         try (BufferedReader reader = Files.newBufferedReader(idFile.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < size; i++) {
+               String id = reader.readLine();
+               if (find(parent, i) != i) {
+                  duplicates.add(id);
+               }
+            }
+         }
+         return duplicates;
+      } catch (IOException e) {
+         throw Throwables.propagate(e);
+      } finally {
+         directory.delete(true);
+      }
+   }
+
+   private int writeSignatures(Corpus corpus,
+                               SerializableFunction<Document, Stream<String>> shingler,
+                               File idFile,
+                               File signatureFile
+                              ) throws IOException {
+      MinHash minHash = this.minHash;
+      Iterator<Tuple2<String, int[]>> signatures;
+      if (corpus.isDistributed()) {
+         signatures = corpus.stream()
+                            .map(document -> Tuple2.of(document.getId(),
+                                                       minHash.signature(shingler.apply(document).iterator())))
+                            .iterator();
+      } else {
+         //Signatures of each chunk are calculated in parallel while keeping the corpus order
+         signatures = Iterators.concat(Iterators.transform(
+            Iterators.partition(corpus.iterator(), CHUNK_SIZE),
+            chunk -> chunk.parallelStream()
+                          .map(document -> Tuple2.of(document.getId(),
+                                                     minHash.signature(shingler.apply(document).iterator())))
+                          .collect(Collectors.toList())
+                          .iterator()));
+      }
+
+      long size = 0;
+      try (BufferedWriter ids = Files.newBufferedWriter(idFile.toPath(), StandardCharsets.UTF_8);
+           DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(signatureFile)))) {
+         while (signatures.hasNext()) {
+            Tuple2<String, int[]> signature = signatures.next();
+            if (++size > MAX_DOCUMENTS) {
+               throw new IllegalStateException("Unable to deduplicate more than " + MAX_DOCUMENTS + " documents");
+            }
+            ids.write(String.valueOf(signature.v1).replace('\n', ' '));
+            ids.write('\n');
+            for (int hash : signature.v2) {
+               out.writeInt(hash);
+            }
+         }
+      }
+      return (int) size;
+   }
+
+   private int[] cluster(File signatureFile, int size) throws IOException {
+      int hashes = minHash.getNumberOfHashes();
+      int[] parent = new int[size];
+      for (int i = 0; i < size; i++) {
+         parent[i] = i;
+      }
+      int[] signature = new int[hashes];
+      int[] head = new int[hashes];
+      byte[] buffer = new byte[hashes * 4];
+      try (RandomAccessFile heads = new RandomAccessFile(signatureFile, "r")) {
+         for (int band = 0; band < bands; band++) {
+            LongLongOpenHashMap buckets = new LongLongOpenHashMap(size);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(signatureFile)))) {
+               for (int i = 0; i < size; i++) {
+                  for (int h = 0; h < hashes; h++) {
+                     signature[h] = in.readInt();
+                  }
+                  long key = bandHash(signature, band);
+                  long first = buckets.get(key);
+                  if (first == 0) {
+                     buckets.adjust(key, i + 1);
+                     continue;
+                  }
+                  int other = (int) first - 1;
+                  if (find(parent, other) == find(parent, i)) {
+                     continue;
+                  }
+                  heads.seek((long) other * buffer.length);
+                  heads.readFully(buffer);
+                  ByteBuffer.wrap(buffer).asIntBuffer().get(head);
+                  if (MinHash.similarity(signature, head) >= threshold) {
+                     union(parent, other, i);
+                  }
+               }
+            }
+         }
+      }
+      return parent;
+   }
+
+   private long bandHash(int[] signature, int band) {
+      long hash = 0xcbf29ce484222325L ^ band;
+      for (int i = band * rows; i < (band + 1) * rows; i++) {
+         hash = (hash ^ signature[i]) * 0x100000001b3L;
+      }
+      return (hash ^ (hash >>> 31)) & Long.MAX_VALUE;
+   }
+
+   private static int find(int[] parent, int i) {
+      while (parent[i] != i) {
+         parent[i] = parent[parent[i]];
+         i = parent[i];
+      }
+      return i;
+   }
+
+   private static void union(int[] parent, int i, int j) {
+      int ri = find(parent, i);
+      int rj = find(parent, j);
+      if (ri != rj) {
+         //The earliest document is the representative of a cluster
+         parent[Math.max(ri, rj)] = Math.min(ri, rj);
+      }
+   }
+
+   /**
+    * Gets the number of bands.
+    *
+    * @return the number of bands
+    */
+   int getBands() {
+      return bands;
+   }
+
+   /**
+    * Gets the number of rows per band.
+    *
+    * @return the number of rows
+    */
+   int getRows() {
+      return rows;
+   }
+
+}//END OF NearDuplicateDetector
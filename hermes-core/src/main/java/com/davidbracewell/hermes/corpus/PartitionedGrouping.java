@@ -0,0 +1,265 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.SystemInfo;
+import com.davidbracewell.conversion.Cast;
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.function.Unchecked;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.io.resource.Resource;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * A read-only map view of a corpus grouped by key where each group is a file-backed corpus loaded lazily from disk.
+ * Grouping is done in two phases so that the documents never have to fit in memory. First, documents are serialized
+ * in parallel into a fixed number of spill files chosen by hashing their key. Second, each spill file is split into
+ * one file per key, buffering a bounded number of characters before appending the buffered documents
+ * to their group files one file at a time. Only the keys are held in memory and at most one group file per spill is
+ * open at once, so high cardinality keys do not exhaust file handles.
+ * </p>
+ *
+ * @param <K> the key type
+ * @author David B. Bracewell
+ */
+public final class PartitionedGrouping<K> extends AbstractMap<K, Corpus> {
+   /**
+    * The default number of hash partitions used when spilling.
+    */
+   static final int DEFAULT_PARTITIONS = 64;
+   /**
+    * The default number of characters buffered while splitting a spill file before they are written to the group
+    * files.
+    */
+   static final int SPLIT_BUFFER_SIZE = 4 * 1024 * 1024;
+   private static final String SPILL_FORMAT = "spill-%05d.tsv";
+   private static final String GROUP_FORMAT = "group-%06d.json";
+   private final Resource location;
+   private final Map<K, Integer> keys;
+   private final List<K> keysById;
+
+   private PartitionedGrouping(Resource location, Map<K, Integer> keys) {
+      this.location = location;
+      this.keys = keys;
+      this.keysById = new ArrayList<>(Collections.nCopies(keys.size(), null));
+      keys.forEach((key, id) -> keysById.set(id, key));
+   }
+
+   /**
+    * Groups the documents in the given corpus by the given key function, storing the groups under the given location.
+    *
+    * @param <K>                the key type
+    * @param corpus             the corpus to group
+    * @param keyFunction        the function producing the (non-null) key of a document
+    * @param location           the directory to store the groups in
+    * @param numberOfPartitions the number of hash partitions to spill documents into
+    * @return the grouping
+    * @throws IOException Something went wrong writing the groups
+    */
+   static <K> PartitionedGrouping<K> create(@NonNull Corpus corpus,
+                                            @NonNull SerializableFunction<? super Document, K> keyFunction,
+                                            @NonNull Resource location,
+                                            int numberOfPartitions
+                                           ) throws IOException {
+      return create(corpus, keyFunction, location, numberOfPartitions, SPLIT_BUFFER_SIZE);
+   }
+
+   /**
+    * Groups the documents in the given corpus by the given key function, storing the groups under the given location.
+    *
+    * @param <K>                the key type
+    * @param corpus             the corpus to group
+    * @param keyFunction        the function producing the (non-null) key of a document
+    * @param location           the directory to store the groups in
+    * @param numberOfPartitions the number of hash partitions to spill documents into
+    * @param splitBufferSize    the number of characters to buffer while splitting a spill file
+    * @return the grouping
+    * @throws IOException Something went wrong writing the groups
+    */
+   static <K> PartitionedGrouping<K> create(@NonNull Corpus corpus,
+                                            @NonNull SerializableFunction<? super Document, K> keyFunction,
+                                            @NonNull Resource location,
+                                            int numberOfPartitions,
+                                            int splitBufferSize
+                                           ) throws IOException {
+      Preconditions.checkArgument(numberOfPartitions > 0, "Number of partitions must be positive");
+      Preconditions.checkArgument(splitBufferSize > 0, "Split buffer size must be positive");
+      location.mkdirs();
+      ConcurrentHashMap<K, Integer> keys = new ConcurrentHashMap<>();
+      AtomicInteger nextId = new AtomicInteger();
+      Writer[] spills = new Writer[numberOfPartitions];
+      try {
+         for (int p = 0; p < numberOfPartitions; p++) {
+            spills[p] = new BufferedWriter(spillFile(location, p).writer());
+         }
+         LazyCorpus.forEachConcurrent(corpus, Unchecked.consumer(document -> {
+            K key = keyFunction.apply(document);
+            Preconditions.checkNotNull(key, "Null keys are not supported");
+            int id = keys.computeIfAbsent(key, k -> nextId.getAndIncrement());
+            String line = id + "\t" + document.toJson() + "\n";
+            Writer spill = spills[(key.hashCode() & Integer.MAX_VALUE) % numberOfPartitions];
+            synchronized (spill) {
+               spill.write(line);
+            }
+         }), SystemInfo.NUMBER_OF_PROCESSORS - 1);
+      } catch (RuntimeException re) {
+         if (re.getCause() instanceof IOException) {
+            throw Cast.<IOException>as(re.getCause());
+         }
+         throw re;
+      } finally {
+         for (Writer spill : spills) {
+            if (spill != null) {
+               spill.close();
+            }
+         }
+      }
+
+      try {
+         IntStream.range(0, numberOfPartitions)
+                  .parallel()
+                  .forEach(Unchecked.intConsumer(p -> split(location, p, splitBufferSize)));
+      } catch (RuntimeException re) {
+         if (re.getCause() instanceof IOException) {
+            throw Cast.<IOException>as(re.getCause());
+         }
+         throw re;
+      }
+      return new PartitionedGrouping<>(location, keys);
+   }
+
+   private static Resource spillFile(Resource location, int partition) {
+      return location.getChild(String.format(SPILL_FORMAT, partition));
+   }
+
+   private static Resource groupFile(Resource location, int id) {
+      return location.getChild(String.format(GROUP_FORMAT, id));
+   }
+
+   private static void split(Resource location, int partition, int bufferSize) throws IOException {
+      Resource spill = spillFile(location, partition);
+      Map<Integer, StringBuilder> buffers = new HashMap<>();
+      Set<Integer> created = new HashSet<>();
+      long buffered = 0;
+      try (BufferedReader reader = new BufferedReader(spill.reader())) {
+         String line;
+         while ((line = reader.readLine()) != null) {
+            int tab = line.indexOf('\t');
+            int id = Integer.parseInt(line.substring(0, tab));
+            buffers.computeIfAbsent(id, i -> new StringBuilder())
+                   .append(line, tab + 1, line.length())
+                   .append('\n');
+            buffered += line.length() - tab;
+            if (buffered >= bufferSize) {
+               flush(location, buffers, created);
+               buffered = 0;
+            }
+         }
+      }
+      flush(location, buffers, created);
+      spill.delete();
+   }
+
+   private static void flush(Resource location, Map<Integer, StringBuilder> buffers, Set<Integer> created) throws IOException {
+      for (Map.Entry<Integer, StringBuilder> entry : buffers.entrySet()) {
+         Resource group = groupFile(location, entry.getKey());
+         if (created.add(entry.getKey())) {
+            group.write(entry.getValue().toString());
+         } else {
+            group.append(entry.getValue().toString());
+         }
+      }
+      buffers.clear();
+   }
+
+   /**
+    * Gets the directory the groups are stored in.
+    *
+    * @return the location
+    */
+   public Resource getLocation() {
+      return location;
+   }
+
+   @Override
+   public boolean containsKey(Object key) {
+      return keys.containsKey(key);
+   }
+
+   @Override
+   public Corpus get(Object key) {
+      Integer id = keys.get(key);
+      return id == null ? null : load(id);
+   }
+
+   private Corpus load(int id) {
+      return Corpus.builder().offHeap().source(CorpusFormats.JSON_OPL, groupFile(location, id)).build();
+   }
+
+   @Override
+   public int size() {
+      return keys.size();
+   }
+
+   @Override
+   public Set<Entry<K, Corpus>> entrySet() {
+      return new AbstractSet<Entry<K, Corpus>>() {
+         @Override
+         public Iterator<Entry<K, Corpus>> iterator() {
+            return new Iterator<Entry<K, Corpus>>() {
+               private int id = 0;
+
+               @Override
+               public boolean hasNext() {
+                  return id < keysById.size();
+               }
+
+               @Override
+               public Entry<K, Corpus> next() {
+                  if (!hasNext()) {
+                     throw new NoSuchElementException();
+                  }
+                  int current = id++;
+                  return new SimpleImmutableEntry<>(keysById.get(current), load(current));
+               }
+            };
+         }
+
+         @Override
+         public int size() {
+            return keys.size();
+         }
+      };
+   }
+
+}//END OF PartitionedGrouping
@@ -23,8 +23,11 @@ package com.davidbracewell.hermes.corpus;
 
 import com.davidbracewell.function.SerializablePredicate;
 import com.davidbracewell.hermes.AttributeType;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.DocumentFactory;
 import com.davidbracewell.hermes.Fragments;
 import com.davidbracewell.hermes.HString;
+import com.davidbracewell.hermes.Pipeline;
 import com.davidbracewell.parsing.*;
 import com.davidbracewell.parsing.expressions.BinaryOperatorExpression;
 import com.davidbracewell.parsing.expressions.Expression;
@@ -37,9 +40,25 @@ import com.davidbracewell.parsing.handlers.PrefixOperatorHandler;
 import lombok.NonNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.function.Function;
 
 /**
+ * <p>
+ * Parses queries into predicates over documents (or evaluates them against a {@link CorpusIndex}). Queries are made up
+ * of the following:
+ * </p>
+ * <ul>
+ * <li><code>word</code> - matches documents containing the word</li>
+ * <li><code>"a phrase"</code> - matches documents containing the sequence of tokens (case insensitive)</li>
+ * <li><code>a NEAR/k b</code> - matches documents where the words or phrases occur within <code>k</code> tokens of
+ * each other (in either order, case insensitive)</li>
+ * <li><code>a AND b</code>, <code>a OR b</code>, <code>-a</code> - boolean combinations</li>
+ * <li><code>[field]:value</code> - matches documents whose value for the given attribute contains the value</li>
+ * </ul>
+ *
  * @author David B. Bracewell
  */
 public class QueryParser {
@@ -66,7 +85,8 @@ public class QueryParser {
 
    private enum Types implements ParserTokenType, HasLexicalPattern {
       NOT("-"),
-      FIELD("\\[[^\\]]+\\]:");
+      FIELD("\\[[^\\]]+\\]:"),
+      NEAR("[Nn][Ee][Aa][Rr]/\\d+");
       private final String lexicalPattern;
 
       Types(String lexicalPattern) {
@@ -98,6 +118,7 @@ public class QueryParser {
             expressionIterator.hasNext() &&
                !expressionIterator.tokenStream().lookAheadType(0).equals(Operator.AND) &&
                !expressionIterator.tokenStream().lookAheadType(0).equals(Operator.OR) &&
+               !expressionIterator.tokenStream().lookAheadType(0).equals(Types.NEAR) &&
                !expressionIterator.tokenStream().lookAheadType(0).equals(CommonTypes.CLOSEPARENS)
             ) {
             return new BinaryOperatorExpression(
@@ -127,12 +148,14 @@ public class QueryParser {
                                     register(Types.FIELD, new PrefixOperatorHandler());
                                     register(Operator.AND, new BinaryOperatorHandler(10, true));
                                     register(Operator.OR, new BinaryOperatorHandler(10, true));
+                                    register(Types.NEAR, new BinaryOperatorHandler(20, true));
                                  }},
                                  RegularExpressionLexer.builder()
                                                        .add(CommonTypes.OPENPARENS)
                                                        .add(CommonTypes.CLOSEPARENS)
                                                        .add(Operator.AND)
                                                        .add(Operator.OR)
+                                                       .add(Types.NEAR)
                                                        .add(Types.NOT)
                                                        .add(Types.FIELD)
                                                        .add(CommonTypes.WORD,
@@ -148,7 +171,7 @@ public class QueryParser {
       List<SerializablePredicate<HString>> predicates = new ArrayList<>();
       while (expressionIterator.hasNext()) {
          Expression expression = expressionIterator.next();
-         predicates.add(generate(expression));
+         predicates.add(generate(expression, false));
       }
       if (predicates.isEmpty()) {
          return d -> true;
@@ -162,29 +185,202 @@ public class QueryParser {
       return finalPredicate;
    }
 
-   private SerializablePredicate<HString> generate(Expression e) {
+   /**
+    * Evaluates the query against the given index returning the ids of the matching documents. Values are tokenized and
+    * match documents containing their tokens as a phrase, field values match documents whose attribute value equals or
+    * contains the value as a white space separated token.
+    *
+    * @param query the query
+    * @param index the index to evaluate the query against
+    * @return the ids of the matching documents
+    * @throws ParseException the query could not be parsed
+    */
+   BitSet evaluate(String query, @NonNull CorpusIndex index) throws ParseException {
+      ExpressionIterator expressionIterator = parser.parse(query);
+      BitSet result = null;
+      while (expressionIterator.hasNext()) {
+         BitSet next = evaluate(expressionIterator.next(), index, value -> index.documentsWithPhrase(tokenize(value)));
+         if (result == null) {
+            result = next;
+         } else if (defaultOperator == Operator.AND) {
+            result.and(next);
+         } else {
+            result.or(next);
+         }
+      }
+      if (result == null) {
+         result = new BitSet();
+         result.set(0, index.numberOfDocuments());
+      }
+      return result;
+   }
+
+   private BitSet evaluate(Expression e, CorpusIndex index, Function<String, BitSet> lookup) throws ParseException {
       if (e.isInstance(ValueExpression.class)) {
-         return s -> s.contains(e.as(ValueExpression.class).value);
+         return lookup.apply(unquote(e.as(ValueExpression.class).value));
       } else if (e.isInstance(PrefixOperatorExpression.class)) {
          PrefixOperatorExpression pe = e.as(PrefixOperatorExpression.class);
          if (pe.operator.getType().isInstance(Types.NOT)) {
-            return negate(generate(pe.right));
+            BitSet result = new BitSet();
+            result.set(0, index.numberOfDocuments());
+            result.andNot(evaluate(pe.right, index, lookup));
+            return result;
          } else if (pe.operator.getType().isInstance(Types.FIELD)) {
             final AttributeType attributeType = com.davidbracewell.hermes.Types.attribute(
                pe.operator.getText().substring(1, pe.operator.getText().length() - 2));
-            final SerializablePredicate<HString> predicate = generate(pe.right);
+            return evaluate(pe.right, index, value -> index.documentsWithAttribute(attributeType, value));
+         }
+         return evaluate(pe.right, index, lookup);
+      }
+      BinaryOperatorExpression boe = e.as(BinaryOperatorExpression.class);
+      if (boe.operator.getType().isInstance(Types.NEAR)) {
+         return index.documentsNear(tokenize(nearOperand(boe.left)),
+                                    tokenize(nearOperand(boe.right)),
+                                    nearDistance(boe.operator));
+      }
+      BitSet left = evaluate(boe.left, index, lookup);
+      BitSet right = evaluate(boe.right, index, lookup);
+      if (boe.operator.getType().isInstance(Operator.AND)) {
+         left.and(right);
+      } else {
+         left.or(right);
+      }
+      return left;
+   }
+
+   /**
+    * Tokenizes a query value using the same tokenizer used for documents.
+    *
+    * @param value the value
+    * @return the tokens
+    */
+   static List<String> tokenize(String value) {
+      Document document = DocumentFactory.getInstance().create(value);
+      Pipeline.process(document, com.davidbracewell.hermes.Types.TOKEN);
+      List<String> tokens = new ArrayList<>();
+      document.tokens().forEach(token -> tokens.add(token.toString()));
+      return tokens;
+   }
+
+   private static String unquote(String value) {
+      if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+         return value.substring(1, value.length() - 1);
+      }
+      return value;
+   }
+
+   private SerializablePredicate<HString> generate(Expression e, boolean inField) throws ParseException {
+      if (e.isInstance(ValueExpression.class)) {
+         final String text = e.as(ValueExpression.class).value;
+         final String value = unquote(text);
+         if (!inField && !value.equals(text)) {
+            final List<String> phrase = normalize(tokenize(value));
+            return s -> phraseStarts(normalize(s), phrase).length > 0;
+         }
+         return s -> s.contains(value);
+      } else if (e.isInstance(PrefixOperatorExpression.class)) {
+         PrefixOperatorExpression pe = e.as(PrefixOperatorExpression.class);
+         if (pe.operator.getType().isInstance(Types.NOT)) {
+            return negate(generate(pe.right, inField));
+         } else if (pe.operator.getType().isInstance(Types.FIELD)) {
+            final AttributeType attributeType = com.davidbracewell.hermes.Types.attribute(
+               pe.operator.getText().substring(1, pe.operator.getText().length() - 2));
+            final SerializablePredicate<HString> predicate = generate(pe.right, true);
             return hString ->
                       hString.document().contains(attributeType) &&
                          predicate.test(Fragments.string(hString.document().get(attributeType).asString()));
          }
-         return generate(pe.right);
+         return generate(pe.right, inField);
       }
       BinaryOperatorExpression boe = e.as(BinaryOperatorExpression.class);
-      SerializablePredicate<HString> left = generate(boe.left);
-      SerializablePredicate<HString> right = generate(boe.right);
+      if (boe.operator.getType().isInstance(Types.NEAR)) {
+         final List<String> left = normalize(tokenize(nearOperand(boe.left)));
+         final List<String> right = normalize(tokenize(nearOperand(boe.right)));
+         final int distance = nearDistance(boe.operator);
+         return s -> {
+            List<String> tokens = normalize(s);
+            return near(phraseStarts(tokens, left), left.size(), phraseStarts(tokens, right), right.size(), distance);
+         };
+      }
+      SerializablePredicate<HString> left = generate(boe.left, inField);
+      SerializablePredicate<HString> right = generate(boe.right, inField);
       return boe.operator.getType().isInstance(Operator.AND) ? and(left, right) : or(left, right);
    }
 
+   private static String nearOperand(Expression e) throws ParseException {
+      if (!e.isInstance(ValueExpression.class)) {
+         throw new ParseException("NEAR can only be applied to words or phrases, but found " + e);
+      }
+      return unquote(e.as(ValueExpression.class).value);
+   }
+
+   private static int nearDistance(ParserToken operator) {
+      return Integer.parseInt(operator.getText().substring(operator.getText().indexOf('/') + 1));
+   }
+
+   private static List<String> normalize(HString hString) {
+      List<String> tokens = new ArrayList<>();
+      hString.tokens().forEach(token -> tokens.add(CorpusIndex.normalize(token.toString())));
+      return tokens;
+   }
+
+   private static List<String> normalize(List<String> tokens) {
+      List<String> normalized = new ArrayList<>(tokens.size());
+      tokens.forEach(token -> normalized.add(CorpusIndex.normalize(token)));
+      return normalized;
+   }
+
+   /**
+    * Finds the positions at which the given phrase starts in the given list of tokens.
+    *
+    * @param tokens the tokens to search
+    * @param phrase the phrase to search for
+    * @return the start positions of the phrase in ascending order
+    */
+   static int[] phraseStarts(List<String> tokens, List<String> phrase) {
+      if (phrase.isEmpty()) {
+         return new int[0];
+      }
+      int[] starts = new int[tokens.size()];
+      int n = 0;
+      for (int i = 0; i + phrase.size() <= tokens.size(); i++) {
+         if (tokens.subList(i, i + phrase.size()).equals(phrase)) {
+            starts[n++] = i;
+         }
+      }
+      return Arrays.copyOf(starts, n);
+   }
+
+   /**
+    * Determines if there is an occurrence of the left phrase and an occurrence of the right phrase (in either order)
+    * separated by at most <code>distance</code> tokens.
+    *
+    * @param left        the start positions of the left phrase in ascending order
+    * @param leftLength  the number of tokens in the left phrase
+    * @param right       the start positions of the right phrase in ascending order
+    * @param rightLength the number of tokens in the right phrase
+    * @param distance    the maximum number of tokens between the phrases
+    * @return True if the phrases are near each other
+    */
+   static boolean near(int[] left, int leftLength, int[] right, int rightLength, int distance) {
+      int i = 0;
+      int j = 0;
+      while (i < left.length && j < right.length) {
+         if (left[i] < right[j]) {
+            if (right[j] - (left[i] + leftLength) <= distance) {
+               return true;
+            }
+            i++;
+         } else {
+            if (left[i] - (right[j] + rightLength) <= distance) {
+               return true;
+            }
+            j++;
+         }
+      }
+      return false;
+   }
+
    SerializablePredicate<HString> negate(SerializablePredicate<HString> p) {
       return (hString -> !p.test(hString));
    }
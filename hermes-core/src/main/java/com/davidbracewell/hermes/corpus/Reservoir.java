@@ -0,0 +1,232 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.guava.common.hash.Hashing;
+import com.davidbracewell.hermes.Document;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * <p>
+ * A mergeable reservoir for uniform sampling without replacement. Every offered document is given a pseudo-random
+ * priority derived from the seed and the document, and the reservoir keeps the documents with the smallest
+ * priorities. Because the priorities are independent of where a document was seen, reservoirs filled from separate
+ * splits of a corpus, e.g. by different threads, can be merged by keeping the smallest priorities overall. This gives
+ * the same sample as a single sequential reservoir with the same seed while reading the corpus only once.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+final class Reservoir implements Serializable {
+   /**
+    * The number of documents in each split sampled independently.
+    */
+   static final long SPLIT_SIZE = 10_000;
+   private static final long serialVersionUID = 1L;
+   private final int capacity;
+   private final PriorityQueue<Entry> heap;
+
+   /**
+    * Instantiates a new reservoir.
+    *
+    * @param capacity the maximum number of documents to keep
+    */
+   Reservoir(int capacity) {
+      this.capacity = capacity;
+      this.heap = new PriorityQueue<>(Math.min(capacity, 1024));
+   }
+
+   /**
+    * Samples up to the given number of documents from the corpus in a single parallel pass. Local corpora are sampled
+    * into one reservoir per thread and distributed corpora into one reservoir per partition, which are then merged.
+    *
+    * @param corpus   the corpus to sample
+    * @param capacity the maximum number of documents to keep
+    * @param seed     the seed
+    * @return the sampled documents
+    */
+   static List<Document> sample(Corpus corpus, int capacity, long seed) {
+      if (corpus.isDistributed()) {
+         return corpus.stream()
+                      .partition(SPLIT_SIZE)
+                      .parallel()
+                      .map(split -> {
+                         Reservoir reservoir = new Reservoir(capacity);
+                         split.forEach(document -> reservoir.offer(priority(seed, document), document));
+                         return reservoir;
+                      })
+                      .reduce(Reservoir::merge)
+                      .map(Reservoir::documents)
+                      .orElse(Collections.emptyList());
+      }
+      List<Reservoir> reservoirs = Collections.synchronizedList(new ArrayList<>());
+      ThreadLocal<Reservoir> local = ThreadLocal.withInitial(() -> {
+         Reservoir reservoir = new Reservoir(capacity);
+         reservoirs.add(reservoir);
+         return reservoir;
+      });
+      corpus.forEachParallel(document -> local.get().offer(priority(seed, document), document));
+      return reservoirs.stream()
+                       .reduce(Reservoir::merge)
+                       .map(Reservoir::documents)
+                       .orElse(Collections.emptyList());
+   }
+
+   /**
+    * Samples up to the given number of documents for each stratum of the corpus in a single parallel pass.
+    *
+    * @param <K>         the stratum key type
+    * @param corpus      the corpus to sample
+    * @param keyFunction the function assigning documents to strata
+    * @param capacity    the maximum number of documents to keep per stratum
+    * @param seed        the seed
+    * @return the sampled documents
+    */
+   static <K> List<Document> sample(Corpus corpus,
+                                    SerializableFunction<? super Document, K> keyFunction,
+                                    int capacity,
+                                    long seed
+                                   ) {
+      Optional<HashMap<K, Reservoir>> merged;
+      if (corpus.isDistributed()) {
+         merged = corpus.stream()
+                        .partition(SPLIT_SIZE)
+                        .parallel()
+                        .map(split -> {
+                           HashMap<K, Reservoir> strata = new HashMap<>();
+                           split.forEach(document -> offer(strata, keyFunction, capacity, seed, document));
+                           return strata;
+                        })
+                        .reduce(Reservoir::merge);
+      } else {
+         List<HashMap<K, Reservoir>> strata = Collections.synchronizedList(new ArrayList<>());
+         ThreadLocal<HashMap<K, Reservoir>> local = ThreadLocal.withInitial(() -> {
+            HashMap<K, Reservoir> map = new HashMap<>();
+            strata.add(map);
+            return map;
+         });
+         corpus.forEachParallel(document -> offer(local.get(), keyFunction, capacity, seed, document));
+         merged = strata.stream().reduce(Reservoir::merge);
+      }
+      List<Document> documents = new ArrayList<>();
+      merged.ifPresent(m -> m.values().forEach(reservoir -> documents.addAll(reservoir.documents())));
+      return documents;
+   }
+
+   private static <K> void offer(Map<K, Reservoir> strata,
+                                 SerializableFunction<? super Document, K> keyFunction,
+                                 int capacity,
+                                 long seed,
+                                 Document document
+                                ) {
+      strata.computeIfAbsent(keyFunction.apply(document), k -> new Reservoir(capacity))
+            .offer(priority(seed, document), document);
+   }
+
+   /**
+    * Merges two sets of per-stratum reservoirs.
+    *
+    * @param <K>    the stratum key type
+    * @param first  the first set, which is updated and returned
+    * @param second the second set
+    * @return the merged reservoirs
+    */
+   static <K> HashMap<K, Reservoir> merge(HashMap<K, Reservoir> first, HashMap<K, Reservoir> second) {
+      second.forEach((key, reservoir) -> first.merge(key, reservoir, Reservoir::merge));
+      return first;
+   }
+
+   /**
+    * Calculates the priority of a document in [0, 1) from the seed and the document's id and content, so that the
+    * priority does not depend on which thread or partition sampled the document.
+    */
+   static double priority(long seed, Document document) {
+      long hash = Hashing.murmur3_128().newHasher()
+                         .putLong(seed)
+                         .putString(String.valueOf(document.getId()), StandardCharsets.UTF_8)
+                         .putString(document.toString(), StandardCharsets.UTF_8)
+                         .hash()
+                         .asLong();
+      return (hash >>> 11) * 0x1.0p-53;
+   }
+
+   /**
+    * Offers a document with the given priority, keeping it if the priority is among the smallest seen.
+    *
+    * @param priority the priority
+    * @param document the document
+    */
+   void offer(double priority, Document document) {
+      if (heap.size() < capacity) {
+         heap.add(new Entry(priority, document));
+      } else if (priority < heap.peek().priority) {
+         heap.poll();
+         heap.add(new Entry(priority, document));
+      }
+   }
+
+   /**
+    * Merges another reservoir into this one.
+    *
+    * @param other the other reservoir
+    * @return this reservoir
+    */
+   Reservoir merge(Reservoir other) {
+      other.heap.forEach(e -> offer(e.priority, e.document));
+      return this;
+   }
+
+   /**
+    * Gets the sampled documents.
+    *
+    * @return the documents
+    */
+   List<Document> documents() {
+      List<Document> documents = new ArrayList<>(heap.size());
+      heap.forEach(e -> documents.add(e.document));
+      return documents;
+   }
+
+   /**
+    * Entries are ordered by descending priority so that the head of the heap is the entry to evict.
+    */
+   private static class Entry implements Comparable<Entry>, Serializable {
+      private static final long serialVersionUID = 1L;
+      private final double priority;
+      private final Document document;
+
+      private Entry(double priority, Document document) {
+         this.priority = priority;
+         this.document = document;
+      }
+
+      @Override
+      public int compareTo(Entry o) {
+         return Double.compare(o.priority, priority);
+      }
+   }
+
+}//END OF Reservoir
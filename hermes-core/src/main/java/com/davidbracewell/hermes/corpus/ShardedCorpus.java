@@ -0,0 +1,353 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.SystemInfo;
+import com.davidbracewell.conversion.Cast;
+import com.davidbracewell.function.SerializableBiFunction;
+import com.davidbracewell.function.SerializableFunction;
+import com.davidbracewell.function.SerializablePredicate;
+import com.davidbracewell.function.Unchecked;
+import com.davidbracewell.guava.common.hash.Hashing;
+import com.davidbracewell.hermes.AnnotatableType;
+import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.io.resource.Resource;
+import com.davidbracewell.stream.MStream;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * A file-backed corpus whose documents are hash partitioned by a key (the document id by default) into a fixed number
+ * of shards, one <code>JSON_OPL</code> file per shard. The partitioning (number of shards, key name, and hash
+ * function) is recorded in a metadata file stored alongside the shards, so that later jobs can process the matching
+ * shards of two corpora sharded on the same key in parallel (see {@link #joinShards(ShardedCorpus,
+ * SerializableBiFunction)}) without having to reshuffle either corpus.
+ * </p>
+ * <p>
+ * Keys are hashed using murmur3 on their string form, so the shard of a key is stable across JVMs.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public final class ShardedCorpus implements Corpus, Serializable {
+   private static final long serialVersionUID = 1L;
+   /**
+    * The key name used when sharding by document id.
+    */
+   public static final String ID_KEY = "id";
+   private static final String METADATA_FILE = ".shards";
+   private static final String SHARD_FORMAT = "shard-%05d.json";
+   private static final Pattern SHARD_PATTERN = Pattern.compile("shard-\\d{5,}\\.json");
+   private static final String PARTITIONER = "murmur3_32";
+
+   private final Resource location;
+   private final int numberOfShards;
+   private final String keyName;
+   private final long size;
+   private final FileCorpus corpus;
+
+   private ShardedCorpus(Resource location, int numberOfShards, String keyName, long size) {
+      this.location = location;
+      this.numberOfShards = numberOfShards;
+      this.keyName = keyName;
+      this.size = size;
+      this.corpus = new FileCorpus(CorpusFormats.forName(CorpusFormats.JSON_OPL), location,
+                                   DocumentFactory.getInstance());
+   }
+
+   /**
+    * Writes the documents in the given corpus into a fixed number of shards under the given location, assigning each
+    * document to the shard of its key.
+    *
+    * @param source         the corpus to write
+    * @param keyName        the name of the key recorded in the metadata (used to check that corpora are sharded alike)
+    * @param keyFunction    the function producing the (non-null) key of a document
+    * @param numberOfShards the number of shards
+    * @param location       the directory to write the shards to
+    * @return the sharded corpus
+    * @throws IOException Something went wrong writing the shards
+    */
+   static ShardedCorpus write(@NonNull Corpus source,
+                              @NonNull String keyName,
+                              @NonNull SerializableFunction<? super Document, ?> keyFunction,
+                              int numberOfShards,
+                              @NonNull Resource location
+                             ) throws IOException {
+      Preconditions.checkArgument(numberOfShards > 0, "Number of shards must be positive");
+      clear(location);
+      location.mkdirs();
+      AtomicLong size = new AtomicLong();
+      Writer[] shards = new Writer[numberOfShards];
+      try {
+         for (int s = 0; s < numberOfShards; s++) {
+            shards[s] = new BufferedWriter(shardFile(location, s).writer());
+         }
+         LazyCorpus.forEachConcurrent(source, Unchecked.consumer(document -> {
+            Object key = keyFunction.apply(document);
+            Preconditions.checkNotNull(key, "Null keys are not supported");
+            String line = document.toJson() + "\n";
+            Writer shard = shards[shard(key, numberOfShards)];
+            synchronized (shard) {
+               shard.write(line);
+            }
+            size.incrementAndGet();
+         }), SystemInfo.NUMBER_OF_PROCESSORS - 1);
+      } catch (RuntimeException re) {
+         if (re.getCause() instanceof IOException) {
+            throw Cast.<IOException>as(re.getCause());
+         }
+         throw re;
+      } finally {
+         for (Writer shard : shards) {
+            if (shard != null) {
+               shard.close();
+            }
+         }
+      }
+
+      Properties metadata = new Properties();
+      metadata.setProperty("shards", Integer.toString(numberOfShards));
+      metadata.setProperty("key", keyName);
+      metadata.setProperty("partitioner", PARTITIONER);
+      metadata.setProperty("format", CorpusFormats.JSON_OPL);
+      metadata.setProperty("size", Long.toString(size.get()));
+      try (Writer writer = location.getChild(METADATA_FILE).writer()) {
+         metadata.store(writer, "Hermes sharded corpus");
+      }
+      return new ShardedCorpus(location, numberOfShards, keyName, size.get());
+   }
+
+   /**
+    * Removes a previously written sharded corpus from the given location, so that re-sharding into fewer shards does
+    * not leave stale shards behind. Locations containing anything other than a sharded corpus are refused.
+    */
+   private static void clear(Resource location) throws IOException {
+      if (!location.exists()) {
+         return;
+      }
+      if (!location.isDirectory()) {
+         throw new IOException(location.descriptor() + " is not a directory");
+      }
+      List<Resource> children = location.getChildren();
+      boolean sharded = isSharded(location);
+      for (Resource child : children) {
+         if (!child.baseName().equals(METADATA_FILE) && !(sharded && SHARD_PATTERN.matcher(child.baseName()).matches())) {
+            throw new IOException(location.descriptor() + " is not empty and does not contain a sharded corpus");
+         }
+      }
+      location.getChild(METADATA_FILE).delete();
+      for (Resource child : children) {
+         child.delete();
+      }
+   }
+
+   /**
+    * Loads a sharded corpus previously written to the given location.
+    *
+    * @param location the directory containing the shards
+    * @return the sharded corpus
+    * @throws IOException Something went wrong reading the metadata or the location is not a sharded corpus
+    */
+   public static ShardedCorpus load(@NonNull Resource location) throws IOException {
+      if (!isSharded(location)) {
+         throw new IOException(location.descriptor() + " is not a sharded corpus");
+      }
+      Properties metadata = new Properties();
+      try (Reader reader = location.getChild(METADATA_FILE).reader()) {
+         metadata.load(reader);
+      }
+      if (!PARTITIONER.equals(metadata.getProperty("partitioner"))) {
+         throw new IOException("Unsupported partitioner " + metadata.getProperty("partitioner"));
+      }
+      return new ShardedCorpus(location,
+                               Integer.parseInt(metadata.getProperty("shards")),
+                               metadata.getProperty("key"),
+                               Long.parseLong(metadata.getProperty("size", "-1")));
+   }
+
+   /**
+    * Determines if the given location contains a sharded corpus.
+    *
+    * @param location the location
+    * @return True if the location has sharding metadata
+    */
+   public static boolean isSharded(@NonNull Resource location) {
+      return location.getChild(METADATA_FILE).exists();
+   }
+
+   /**
+    * Calculates the shard a key is assigned to.
+    *
+    * @param key            the key
+    * @param numberOfShards the number of shards
+    * @return the shard index
+    */
+   public static int shard(@NonNull Object key, int numberOfShards) {
+      int hash = Hashing.murmur3_32().hashString(key.toString(), StandardCharsets.UTF_8).asInt();
+      return Math.floorMod(hash, numberOfShards);
+   }
+
+   private static Resource shardFile(Resource location, int shard) {
+      return location.getChild(String.format(SHARD_FORMAT, shard));
+   }
+
+   /**
+    * Gets the number of shards.
+    *
+    * @return the number of shards
+    */
+   public int getNumberOfShards() {
+      return numberOfShards;
+   }
+
+   /**
+    * Gets the name of the key the documents are sharded on.
+    *
+    * @return the key name
+    */
+   public String getKeyName() {
+      return keyName;
+   }
+
+   /**
+    * Gets the documents in the given shard.
+    *
+    * @param shard the shard index
+    * @return the corpus of documents in the shard
+    */
+   public Corpus getShard(int shard) {
+      Preconditions.checkElementIndex(shard, numberOfShards);
+      return new FileCorpus(CorpusFormats.forName(CorpusFormats.JSON_OPL), shardFile(location, shard),
+                            DocumentFactory.getInstance());
+   }
+
+   /**
+    * Gets the documents in the shard the given key is assigned to.
+    *
+    * @param key the key
+    * @return the corpus of documents in the key's shard
+    */
+   public Corpus getShardFor(@NonNull Object key) {
+      return getShard(shard(key, numberOfShards));
+   }
+
+   /**
+    * Determines if this corpus and the given corpus are sharded on the same key into the same number of shards, i.e.
+    * documents with the same key are in the same shard index of both corpora.
+    *
+    * @param other the other sharded corpus
+    * @return True if the corpora are co-partitioned
+    */
+   public boolean isCoPartitioned(@NonNull ShardedCorpus other) {
+      return numberOfShards == other.numberOfShards && keyName.equals(other.keyName);
+   }
+
+   /**
+    * Processes the matching shards of this corpus and the given co-partitioned corpus in parallel.
+    *
+    * @param <R>      the result type
+    * @param other    the other sharded corpus
+    * @param function the function processing a shard of this corpus and the matching shard of the other
+    * @return the results in shard order
+    */
+   public <R> List<R> joinShards(@NonNull ShardedCorpus other, @NonNull SerializableBiFunction<Corpus, Corpus, R> function) {
+      Preconditions.checkArgument(isCoPartitioned(other),
+                                  "Corpora are not co-partitioned (" + numberOfShards + " shards on " + keyName + " vs " +
+                                     other.numberOfShards + " shards on " + other.keyName + ")");
+      return IntStream.range(0, numberOfShards)
+                      .parallel()
+                      .mapToObj(shard -> function.apply(getShard(shard), other.getShard(shard)))
+                      .collect(Collectors.toList());
+   }
+
+   @Override
+   public Corpus annotate(@NonNull AnnotatableType... types) {
+      return corpus.annotate(types);
+   }
+
+   @Override
+   public Corpus filter(@NonNull SerializablePredicate<? super Document> filter) {
+      return corpus.filter(filter);
+   }
+
+   @Override
+   public Corpus map(@NonNull SerializableFunction<Document, Document> function) {
+      return corpus.map(function);
+   }
+
+   @Override
+   public MStream<Document> stream() {
+      return corpus.stream();
+   }
+
+   @Override
+   public Iterator<Document> iterator() {
+      return corpus.iterator();
+   }
+
+   @Override
+   public Spliterator<Document> spliterator() {
+      return corpus.spliterator();
+   }
+
+   @Override
+   public long size() {
+      if (size >= 0) {
+         return size;
+      }
+      return stream().count();
+   }
+
+   @Override
+   public CorpusType getCorpusType() {
+      return CorpusType.OFF_HEAP;
+   }
+
+   @Override
+   public boolean isOffHeap() {
+      return true;
+   }
+
+   @Override
+   public DocumentFactory getDocumentFactory() {
+      return corpus.getDocumentFactory();
+   }
+
+   @Override
+   public void close() throws Exception {
+
+   }
+
+}//END OF ShardedCorpus
@@ -38,25 +38,25 @@ public class SparkCorpus implements Corpus, Serializable {
    @SuppressWarnings("unchecked")
    public SparkCorpus(@NonNull String corpusLocation, @NonNull CorpusFormat corpusFormat, @NonNull DocumentFactory documentFactory) {
       if (corpusFormat.isOnePerLine() && corpusFormat.extension().toUpperCase().startsWith("JSON")) {
-         this.stream = new SparkDocumentStream(StreamingContext.distributed().textFile(corpusLocation));
+         this.stream = SparkDocumentStream.fromJson(StreamingContext.distributed().textFile(corpusLocation));
       } else if (corpusFormat.isOnePerLine()) {
          this.stream = new SparkDocumentStream(StreamingContext.distributed().textFile(corpusLocation).flatMap(
             line -> corpusFormat.create(Resources.fromString(line), documentFactory)
                                 .stream()
-                                .map(Document::toJson)
+                                .map(Document::toBytes)
                                 .javaStream()
                                                                                                               )
          );
       } else {
          Broadcast<Config> configBroadcast = SparkStreamingContext.INSTANCE.broadcast(Config.getInstance());
-         JavaRDD<String> rdd = StreamingContext.distributed().sparkContext()
+         JavaRDD<byte[]> rdd = StreamingContext.distributed().sparkContext()
                                                .wholeTextFiles(corpusLocation)
                                                .values()
                                                .flatMap(str -> {
                                                   Hermes.initializeWorker(configBroadcast.getValue());
                                                   return corpusFormat.create(Resources.fromString(str), documentFactory)
                                                                      .stream()
-                                                                     .map(Document::toJson)
+                                                                     .map(Document::toBytes)
                                                                      .iterator();
                                                });
          this.stream = new SparkDocumentStream(new SparkStream<>(rdd));
@@ -91,7 +91,7 @@ public class SparkCorpus implements Corpus, Serializable {
     */
    public SparkCorpus(@NonNull Collection<Document> documents) {
       this.stream = new SparkDocumentStream(StreamingContext.distributed().stream(
-         documents.stream().map(Document::toJson)
+         documents.stream().map(Document::toBytes)
                                                                                  ));
    }
 
@@ -143,13 +143,7 @@ public class SparkCorpus implements Corpus, Serializable {
       if (outFormat.extension().toLowerCase().startsWith("json")) {
          stream.saveAsTextFile(resource);
       } else {
-         stream.getSource().map(json -> {
-            if (outFormat.name().equals("JSON_OPL")) {
-               return json;
-            }
-            Document document = Document.fromJson(json);
-            return outFormat.toString(document);
-         }).saveAsTextFile(resource);
+         stream.map(document -> outFormat.toString(document)).saveAsTextFile(resource);
       }
       return this;
    }
@@ -161,7 +155,7 @@ public class SparkCorpus implements Corpus, Serializable {
 
    @Override
    public Corpus map(@NonNull SerializableFunction<Document, Document> function) {
-      return new SparkCorpus(new SparkDocumentStream(stream.map(d -> function.apply(d).toJson())));
+      return new SparkCorpus(stream.mapDocuments(function));
    }
 
    @Override
@@ -24,7 +24,6 @@ package com.davidbracewell.hermes.corpus;
 import com.davidbracewell.config.Config;
 import com.davidbracewell.conversion.Cast;
 import com.davidbracewell.function.*;
-import com.davidbracewell.guava.common.collect.Iterables;
 import com.davidbracewell.guava.common.collect.Iterators;
 import com.davidbracewell.hermes.AnnotatableType;
 import com.davidbracewell.hermes.Document;
@@ -37,35 +36,62 @@ import org.apache.spark.broadcast.Broadcast;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * The type Spark document stream.
+ * <p>A stream of documents backed by Spark. Documents are carried between stages as their compact binary form (see
+ * {@link Document#toBytes()}), which avoids the cost of JSON parsing and serialization on every transformation.
+ * Consecutive filters, maps, and annotation steps over documents are fused into a single pending function over the
+ * documents of a partition, so that each record is decoded only once per stage regardless of the number of chained
+ * document operations. Worker configuration is done once per partition and annotation is performed in batches, which
+ * lets annotators reuse their models and per call state across the documents of a partition.</p>
  *
  * @author David B. Bracewell
  */
 class SparkDocumentStream implements MStream<Document>, Serializable {
    private static final long serialVersionUID = 1L;
-   private volatile SparkStream<String> source;
+   private static final int DEFAULT_ANNOTATION_BATCH_SIZE = 100;
+   private volatile SparkStream<byte[]> source;
    private volatile Broadcast<Config> configBroadcast;
+   private volatile SerializableFunction<Iterator<Document>, Iterator<Document>> pipeline;
 
    /**
     * Instantiates a new Spark document stream.
     *
-    * @param source the source
+    * @param source the source of binary encoded documents
     */
-   public SparkDocumentStream(@NonNull MStream<String> source) {
+   public SparkDocumentStream(@NonNull MStream<byte[]> source) {
+      this(source, null);
+   }
+
+   private SparkDocumentStream(@NonNull MStream<byte[]> source, SerializableFunction<Iterator<Document>, Iterator<Document>> pipeline) {
       this.source = new SparkStream<>(source);
       this.configBroadcast = SparkStreamingContext.INSTANCE.getConfigBroadcast();
+      this.pipeline = pipeline;
    }
 
+   /**
+    * Creates a document stream from a stream of json encoded documents, converting the documents to their binary form
+    * once at ingestion.
+    *
+    * @param json the stream of json encoded documents
+    * @return the spark document stream
+    */
+   public static SparkDocumentStream fromJson(@NonNull MStream<String> json) {
+      Broadcast<Config> config = SparkStreamingContext.INSTANCE.getConfigBroadcast();
+      return new SparkDocumentStream(new SparkStream<>(new SparkStream<>(json).getRDD().mapPartitions(partition -> {
+         Hermes.initializeWorker(config.value());
+         return Iterators.transform(partition, j -> Document.fromJson(j).toBytes());
+      })));
+   }
 
    @Override
    public MStream<Document> repartition(int numPartition) {
-      source = source.repartition(numPartition);
+      source = new SparkStream<>(getSource().repartition(numPartition));
+      pipeline = null;
       return this;
    }
 
@@ -74,17 +100,53 @@ class SparkDocumentStream implements MStream<Document>, Serializable {
       return source.getContext();
    }
 
-   private SparkDocumentStream of(@NonNull MStream<String> source) {
+   private SparkDocumentStream of(@NonNull MStream<byte[]> source) {
       return new SparkDocumentStream(source);
    }
 
+   private SparkDocumentStream then(@NonNull SerializableFunction<Iterator<Document>, Iterator<Document>> function) {
+      final SerializableFunction<Iterator<Document>, Iterator<Document>> current = pipeline;
+      if (current == null) {
+         return new SparkDocumentStream(source, function);
+      }
+      return new SparkDocumentStream(source, documents -> function.apply(current.apply(documents)));
+   }
+
+   /**
+    * Decodes the binary source into documents a partition at a time, initializing the worker once per partition and
+    * applying any pending document operations.
+    *
+    * @return the stream of documents
+    */
+   private MStream<Document> documents() {
+      final Broadcast<Config> config = configBroadcast;
+      final SerializableFunction<Iterator<Document>, Iterator<Document>> function = pipeline;
+      return new SparkStream<>(source.getRDD().mapPartitions(partition -> {
+         Hermes.initializeWorker(config.value());
+         Iterator<Document> documents = Iterators.transform(partition, Document::fromBytes);
+         return function == null ? documents : function.apply(documents);
+      }));
+   }
+
    /**
-    * Gets source.
+    * Gets the binary encoded source with any pending document operations applied.
     *
     * @return the source
     */
-   protected MStream<String> getSource() {
-      return source;
+   protected MStream<byte[]> getSource() {
+      if (pipeline == null) {
+         return source;
+      }
+      return documents().map(Document::toBytes);
+   }
+
+   /**
+    * Gets the source as json encoded documents.
+    *
+    * @return the json source
+    */
+   protected MStream<String> getJsonSource() {
+      return documents().map(Document::toJson);
    }
 
    /**
@@ -94,12 +156,21 @@ class SparkDocumentStream implements MStream<Document>, Serializable {
     * @return the spark document stream
     */
    public SparkDocumentStream annotate(@NonNull AnnotatableType... types) {
-      return new SparkDocumentStream(source.map(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         Document document = Document.fromJson(json);
-         Pipeline.process(document, types);
-         return document.toJson();
-      }));
+      final int batchSize = Config.get("SparkCorpus.annotationBatchSize").asIntegerValue(DEFAULT_ANNOTATION_BATCH_SIZE);
+      return then(documents -> Iterators.concat(Iterators.transform(Iterators.partition(documents, batchSize), batch -> {
+         Pipeline.process(batch, types);
+         return batch.iterator();
+      })));
+   }
+
+   /**
+    * Maps the documents in the stream, fusing the function with any other pending document operations.
+    *
+    * @param function the function to apply to each document
+    * @return the spark document stream
+    */
+   public SparkDocumentStream mapDocuments(@NonNull SerializableFunction<Document, Document> function) {
+      return then(documents -> Iterators.transform(documents, function::apply));
    }
 
    @Override
@@ -114,136 +185,115 @@ class SparkDocumentStream implements MStream<Document>, Serializable {
 
    @Override
    public MStream<Document> filter(@NonNull SerializablePredicate<? super Document> predicate) {
-      return of(source.filter(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return predicate.test(Document.fromJson(json));
-      }));
+      return then(documents -> Iterators.filter(documents, predicate::test));
    }
 
    @Override
    public <R> MStream<R> map(@NonNull SerializableFunction<? super Document, ? extends R> function) {
-      return source.map(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return function.apply(Document.fromJson(json));
-      });
+      return documents().map(function);
    }
 
    @Override
    public <R> MStream<R> flatMap(@NonNull SerializableFunction<? super Document, Stream<? extends R>> mapper) {
-      return source.flatMap(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return mapper.apply(Document.fromJson(json));
-      });
+      return documents().flatMap(mapper);
    }
 
    @Override
    public <R, U> MPairStream<R, U> flatMapToPair(@NonNull SerializableFunction<? super Document, Stream<? extends Map.Entry<? extends R, ? extends U>>> function) {
-      return source.flatMapToPair(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return function.apply(Document.fromJson(json));
-      });
+      return documents().flatMapToPair(function);
    }
 
    @Override
    public <R, U> MPairStream<R, U> mapToPair(@NonNull SerializableFunction<? super Document, ? extends Map.Entry<? extends R, ? extends U>> function) {
-      return source.mapToPair(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return function.apply(Document.fromJson(json));
-      });
+      return documents().mapToPair(function);
    }
 
    @Override
    public <U> MPairStream<U, Iterable<Document>> groupBy(@NonNull SerializableFunction<? super Document, ? extends U> function) {
-      return source.map(json -> Document.fromJson(json)).groupBy(document -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return function.apply(document);
-      });
+      return documents().groupBy(function);
    }
 
    @Override
    public <R> R collect(Collector<? super Document, Document, R> collector) {
-      return source.map(json -> Document.fromJson(json)).collect(collector);
+      return documents().collect(collector);
    }
 
    @Override
    public List<Document> collect() {
-      return source.map(json -> Document.fromJson(json)).collect();
+      return documents().collect();
    }
 
    @Override
    public Optional<Document> reduce(@NonNull SerializableBinaryOperator<Document> reducer) {
-      return source.map(json -> Document.fromJson(json)).reduce(reducer);
+      return documents().reduce(reducer);
    }
 
    @Override
    public Document fold(@NonNull Document zeroValue, @NonNull SerializableBinaryOperator<Document> operator) {
-      return source.map(json -> Document.fromJson(json)).fold(zeroValue, operator);
+      return documents().fold(zeroValue, operator);
    }
 
    @Override
    public void forEach(SerializableConsumer<? super Document> consumer) {
-      source.forEach(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         consumer.accept(Document.fromJson(json));
-      });
+      documents().forEach(consumer);
    }
 
    @Override
    public void forEachLocal(SerializableConsumer<? super Document> consumer) {
-      source.forEachLocal(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         consumer.accept(Document.fromJson(json));
-      });
+      documents().forEachLocal(consumer);
    }
 
    @Override
    public Iterator<Document> iterator() {
-      return Iterators.transform(source.iterator(), Document::fromJson);
+      return documents().iterator();
    }
 
    @Override
    public Optional<Document> first() {
-      return source.first().map(Document::fromJson);
+      return documents().first();
    }
 
    @Override
    public MStream<Document> sample(boolean withReplacement, int number) {
-      return of(source.sample(withReplacement, number));
+      return of(getSource().sample(withReplacement, number));
    }
 
    @Override
    public long count() {
-      return source.count();
+      return pipeline == null ? source.count() : documents().count();
    }
 
    @Override
    public boolean isEmpty() {
-      return source.isEmpty();
+      return pipeline == null ? source.isEmpty() : documents().isEmpty();
    }
 
    @Override
    public Map<Document, Long> countByValue() {
-      return source.map(json -> Document.fromJson(json)).countByValue();
+      return documents().countByValue();
    }
 
    @Override
    public MStream<Document> distinct() {
-      return of(source.distinct());
+      //Arrays do not implement equals, so compare the encoded bytes as a lossless string
+      return of(getSource().map(bytes -> new String(bytes, StandardCharsets.ISO_8859_1))
+                           .distinct()
+                           .map(str -> str.getBytes(StandardCharsets.ISO_8859_1)));
    }
 
    @Override
    public MStream<Document> limit(long number) {
-      return of(source.limit(number));
+      return of(getSource().limit(number));
    }
 
    @Override
    public List<Document> take(int n) {
-      return source.take(n).stream().map(Document::fromJson).collect(Collectors.toList());
+      return documents().take(n);
    }
 
    @Override
    public MStream<Document> skip(long n) {
-      return of(source.skip(n));
+      return of(getSource().skip(n));
    }
 
    @Override
@@ -253,66 +303,66 @@ class SparkDocumentStream implements MStream<Document>, Serializable {
 
    @Override
    public MStream<Document> sorted(boolean ascending) {
-      return of(source.sorted(ascending));
+      return of(getSource().map(bytes -> new String(bytes, StandardCharsets.ISO_8859_1))
+                           .sorted(ascending)
+                           .map(str -> str.getBytes(StandardCharsets.ISO_8859_1)));
    }
 
    @Override
    public <R extends Comparable<R>> MStream<Document> sorted(boolean ascending, @NonNull SerializableFunction<? super Document, ? extends R> keyFunction) {
-      return of(source.sorted(ascending, k -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return keyFunction.apply(Document.fromJson(k));
+      final Broadcast<Config> config = configBroadcast;
+      return of(getSource().sorted(ascending, bytes -> {
+         Hermes.initializeWorker(config.value());
+         return keyFunction.apply(Document.fromBytes(bytes));
       }));
    }
 
    @Override
    public Optional<Document> max(@NonNull SerializableComparator<? super Document> comparator) {
-      return source.map(Document::fromJson).max(comparator);
+      return documents().max(comparator);
    }
 
    @Override
    public Optional<Document> min(@NonNull SerializableComparator<? super Document> comparator) {
-      return source.map(Document::fromJson).min(comparator);
+      return documents().min(comparator);
    }
 
    @Override
    public <U> MPairStream<Document, U> zip(@NonNull MStream<U> other) {
-      return source.map(Document::fromJson).zip(other);
+      return documents().zip(other);
    }
 
    @Override
    public MPairStream<Document, Long> zipWithIndex() {
-      return source.map(Document::fromJson).zipWithIndex();
+      return documents().zipWithIndex();
    }
 
    @Override
    public MDoubleStream mapToDouble(@NonNull SerializableToDoubleFunction<? super Document> function) {
-      return source.mapToDouble(json -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return function.applyAsDouble(Document.fromJson(json));
-      });
+      return documents().mapToDouble(function);
    }
 
    @Override
    public MStream<Document> cache() {
-      return of(source.cache());
+      return of(getSource().cache());
    }
 
    @Override
    public MStream<Document> union(@NonNull MStream<Document> other) {
       if (other instanceof SparkDocumentStream) {
-         return of(source.union(Cast.<SparkDocumentStream>as(other).source));
+         return of(getSource().union(Cast.<SparkDocumentStream>as(other).getSource()));
       }
-      return of(source.union(other.map(Document::toJson)));
+      return of(getSource().union(other.map(Document::toBytes)));
    }
 
    @Override
    public void saveAsTextFile(@NonNull Resource location) {
-      source.saveAsTextFile(location);
+      getJsonSource().saveAsTextFile(location);
    }
 
    @Override
    public void saveAsTextFile(@NonNull String location) {
-      source.saveAsTextFile(location);
+      getJsonSource().saveAsTextFile(location);
    }
 
    @Override
@@ -322,23 +372,17 @@ class SparkDocumentStream implements MStream<Document>, Serializable {
 
    @Override
    public MStream<Document> shuffle(Random random) {
-      return new SparkDocumentStream(source.shuffle(random));
+      return of(getSource().shuffle(random));
    }
 
    @Override
    public MStream<Iterable<Document>> split(int n) {
-      return source.split(n).map(jsonIterable -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return Iterables.transform(jsonIterable, Document::fromJson);
-      });
+      return documents().split(n);
    }
 
    @Override
    public MStream<Iterable<Document>> partition(long partitionSize) {
-      return source.partition(partitionSize).map(jsonIterable -> {
-         Hermes.initializeWorker(configBroadcast.value());
-         return Iterables.transform(jsonIterable, Document::fromJson);
-      });
+      return documents().partition(partitionSize);
    }
 
 
@@ -31,24 +31,53 @@ import com.davidbracewell.stream.MStream;
 import lombok.NonNull;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
+ * <p>A corpus made up of the documents of one or more member corpora. Nested unions are flattened, and when none of
+ * the members are distributed the union's {@link #spliterator()} splits first across members (balanced by their
+ * estimated sizes) and then within each member's own splits, so that parallel streams and pipelines can read all of
+ * the members concurrently. The union's stream is sequential and ordered (members in order) unless made parallel by
+ * the caller.</p>
+ *
  * @author David B. Bracewell
  */
 class UnionCorpus implements Corpus, Serializable {
    private static final long serialVersionUID = 1L;
-   private final Corpus c1;
-   private final Corpus c2;
+   private final List<Corpus> members;
 
    UnionCorpus(Corpus c1, Corpus c2) {
-      this.c1 = c1;
-      this.c2 = c2;
+      this(Collections.emptyList());
+      addMember(c1);
+      addMember(c2);
+   }
+
+   private UnionCorpus(List<Corpus> members) {
+      this.members = new ArrayList<>(members);
+   }
+
+   private void addMember(Corpus corpus) {
+      if (corpus instanceof UnionCorpus) {
+         members.addAll(((UnionCorpus) corpus).members);
+      } else {
+         members.add(corpus);
+      }
+   }
+
+   private UnionCorpus transform(SerializableFunction<Corpus, Corpus> function) {
+      return new UnionCorpus(members.stream().map(function).collect(Collectors.toList()));
    }
 
    @Override
    public Corpus annotate(AnnotatableType... types) {
-      return new UnionCorpus(c1.annotate(types), c2.annotate(types));
+      return transform(member -> member.annotate(types));
    }
 
    @Override
@@ -58,12 +87,34 @@ class UnionCorpus implements Corpus, Serializable {
 
    @Override
    public DocumentFactory getDocumentFactory() {
-      return c1.getDocumentFactory();
+      return members.get(0).getDocumentFactory();
+   }
+
+   @Override
+   public boolean isDistributed() {
+      return members.stream().anyMatch(Corpus::isDistributed);
    }
 
    @Override
    public MStream<Document> stream() {
-      return c1.stream().union(c2.stream());
+      if (isDistributed()) {
+         MStream<Document> stream = members.get(0).stream();
+         for (int i = 1; i < members.size(); i++) {
+            stream = stream.union(members.get(i).stream());
+         }
+         return stream;
+      }
+      return getStreamingContext().stream(StreamSupport.stream(spliterator(), false));
+   }
+
+   @Override
+   public Spliterator<Document> spliterator() {
+      if (isDistributed()) {
+         return Corpus.super.spliterator();
+      }
+      return new UnionSpliterator(members.stream()
+                                         .map(member -> member.stream().javaStream().spliterator())
+                                         .collect(Collectors.toList()));
    }
 
    @Override
@@ -73,31 +124,112 @@ class UnionCorpus implements Corpus, Serializable {
 
    @Override
    public Corpus cache() {
-      return new UnionCorpus(c1.cache(), c2.cache());
+      return transform(Corpus::cache);
    }
 
    @Override
    public Corpus filter(@NonNull SerializablePredicate<? super Document> filter) {
-      return new UnionCorpus(c1.filter(filter), c2.filter(filter));
+      return transform(member -> member.filter(filter));
    }
 
    @Override
    public long size() {
-      return c1.size() + c2.size();
+      return members.stream().mapToLong(Corpus::size).sum();
    }
 
    @Override
    public boolean isEmpty() {
-      return c1.isEmpty() && c2.isEmpty();
+      return members.stream().allMatch(Corpus::isEmpty);
    }
 
    @Override
    public Iterator<Document> iterator() {
-      return Iterators.concat(c1.iterator(), c2.iterator());
+      return Iterators.concat(members.stream().map(Corpus::iterator).iterator());
    }
 
    @Override
    public Corpus map(@NonNull SerializableFunction<Document, Document> function) {
-      return new MStreamCorpus(stream().map(function), DocumentFactory.getInstance());
+      return transform(member -> member.map(function));
+   }
+
+   /**
+    * Spliterator over the concatenation of the members' spliterators. Splits hand off half of the remaining members
+    * (by estimated size) until a single member remains, after which the member's own spliterator is split.
+    */
+   private static class UnionSpliterator implements Spliterator<Document> {
+      private final List<Spliterator<Document>> splits;
+      private int index = 0;
+
+      private UnionSpliterator(List<Spliterator<Document>> splits) {
+         this.splits = splits;
+      }
+
+      @Override
+      public boolean tryAdvance(Consumer<? super Document> action) {
+         while (index < splits.size()) {
+            if (splits.get(index).tryAdvance(action)) {
+               return true;
+            }
+            index++;
+         }
+         return false;
+      }
+
+      @Override
+      public void forEachRemaining(Consumer<? super Document> action) {
+         for (; index < splits.size(); index++) {
+            splits.get(index).forEachRemaining(action);
+         }
+      }
+
+      @Override
+      public Spliterator<Document> trySplit() {
+         int remaining = splits.size() - index;
+         if (remaining == 0) {
+            return null;
+         }
+         if (remaining == 1) {
+            return splits.get(index).trySplit();
+         }
+
+         //Hand off the prefix of members holding about half of the estimated documents
+         long half = estimateSize() / 2;
+         long prefixSize = 0;
+         int end = index;
+         while (end < splits.size() - 1 && (end == index || prefixSize + splits.get(end).estimateSize() <= half)) {
+            prefixSize = saturatedAdd(prefixSize, splits.get(end).estimateSize());
+            end++;
+         }
+         UnionSpliterator prefix = new UnionSpliterator(new ArrayList<>(splits.subList(index, end)));
+         index = end;
+         return prefix;
+      }
+
+      @Override
+      public long estimateSize() {
+         long size = 0;
+         for (int i = index; i < splits.size(); i++) {
+            size = saturatedAdd(size, splits.get(i).estimateSize());
+         }
+         return size;
+      }
+
+      @Override
+      public int characteristics() {
+         //Splits hand off prefixes, so the concatenation keeps the members' order
+         int characteristics = NONNULL | ORDERED | SIZED;
+         for (int i = index; i < splits.size(); i++) {
+            if (!splits.get(i).hasCharacteristics(SIZED)) {
+               characteristics &= ~SIZED;
+            }
+         }
+         return characteristics;
+      }
+
+      private static long saturatedAdd(long a, long b) {
+         long sum = a + b;
+         return sum < 0 ? Long.MAX_VALUE : sum;
+      }
    }
+
 }//END OF UnionCorpus
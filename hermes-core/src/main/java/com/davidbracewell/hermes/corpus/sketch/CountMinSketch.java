@@ -0,0 +1,153 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus.sketch;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * A count-min sketch answering point frequency queries in memory that depends only on the requested error bounds.
+ * With probability at least <code>1 - delta</code> the estimate of an item's count exceeds its true count by at most
+ * <code>epsilon * totalCount()</code> and it never underestimates. Sketches with the same dimensions can be merged,
+ * so they can be built per partition and combined.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public class CountMinSketch implements Serializable {
+   private static final long serialVersionUID = 1L;
+   private final int width;
+   private final int depth;
+   private final long[][] table;
+   private long totalCount;
+
+   /**
+    * Instantiates a new count-min sketch.
+    *
+    * @param epsilon the relative error as a fraction of the total count
+    * @param delta   the probability of the error bound not holding
+    */
+   public CountMinSketch(double epsilon, double delta) {
+      Preconditions.checkArgument(epsilon > 0 && epsilon < 1, "epsilon must be in (0, 1)");
+      Preconditions.checkArgument(delta > 0 && delta < 1, "delta must be in (0, 1)");
+      this.width = (int) Math.ceil(Math.E / epsilon);
+      this.depth = (int) Math.ceil(Math.log(1.0 / delta));
+      this.table = new long[depth][width];
+   }
+
+   /**
+    * Increments the count of the given item by one.
+    *
+    * @param item the item
+    */
+   public void add(@NonNull Object item) {
+      add(item, 1);
+   }
+
+   /**
+    * Increments the count of the given item.
+    *
+    * @param item  the item
+    * @param count the amount to increment by (must be non-negative)
+    */
+   public void add(@NonNull Object item, long count) {
+      Preconditions.checkArgument(count >= 0, "Count-min sketches only support non-negative increments");
+      long hash = SketchHashing.hash(item);
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32);
+      for (int i = 0; i < depth; i++) {
+         table[i][index(h1, h2, i)] += count;
+      }
+      totalCount += count;
+   }
+
+   /**
+    * Estimates the count of the given item.
+    *
+    * @param item the item
+    * @return the estimated count, which is never less than the true count
+    */
+   public long estimate(@NonNull Object item) {
+      long hash = SketchHashing.hash(item);
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32);
+      long min = Long.MAX_VALUE;
+      for (int i = 0; i < depth; i++) {
+         min = Math.min(min, table[i][index(h1, h2, i)]);
+      }
+      return min;
+   }
+
+   private int index(int h1, int h2, int row) {
+      int combined = h1 + row * h2;
+      return (combined & Integer.MAX_VALUE) % width;
+   }
+
+   /**
+    * Merges the counts of another sketch with the same dimensions into this one.
+    *
+    * @param other the sketch to merge
+    * @return this sketch
+    */
+   public CountMinSketch merge(@NonNull CountMinSketch other) {
+      Preconditions.checkArgument(width == other.width && depth == other.depth,
+                                  "Cannot merge count-min sketches of different dimensions");
+      for (int i = 0; i < depth; i++) {
+         for (int j = 0; j < width; j++) {
+            table[i][j] += other.table[i][j];
+         }
+      }
+      totalCount += other.totalCount;
+      return this;
+   }
+
+   /**
+    * Gets the sum of all counts added to the sketch.
+    *
+    * @return the total count
+    */
+   public long totalCount() {
+      return totalCount;
+   }
+
+   /**
+    * Gets the number of counters in each row.
+    *
+    * @return the width
+    */
+   public int getWidth() {
+      return width;
+   }
+
+   /**
+    * Gets the number of rows (hash functions).
+    *
+    * @return the depth
+    */
+   public int getDepth() {
+      return depth;
+   }
+
+}//END OF CountMinSketch
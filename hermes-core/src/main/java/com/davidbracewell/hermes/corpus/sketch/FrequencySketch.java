@@ -0,0 +1,174 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus.sketch;
+
+import com.davidbracewell.collection.counter.Counter;
+import com.davidbracewell.collection.counter.Counters;
+import lombok.NonNull;
+
+import java.io.Serializable;
+import java.util.Iterator;
+
+/**
+ * <p>
+ * Approximate, bounded memory frequency statistics over a stream of items combining a {@link CountMinSketch} for
+ * point frequency queries, {@link SpaceSaving} for the top-K most frequent items and a {@link HyperLogLog} for the
+ * number of distinct items. Sketches are mergeable, so they can be built independently over partitions of a corpus
+ * and combined.
+ * </p>
+ *
+ * @param <K> the item type
+ * @author David B. Bracewell
+ */
+public class FrequencySketch<K> implements Serializable {
+   /**
+    * The default HyperLogLog precision (about 0.8% relative error)
+    */
+   public static final int DEFAULT_PRECISION = 14;
+   private static final long serialVersionUID = 1L;
+   private final CountMinSketch frequencies;
+   private final SpaceSaving<K> heavyHitters;
+   private final HyperLogLog distinct;
+   private long documentCount;
+
+   /**
+    * Instantiates a new frequency sketch.
+    *
+    * @param epsilon the relative error of frequency estimates as a fraction of the total count
+    * @param delta   the probability of a frequency estimate exceeding its error bound
+    * @param topK    the number of most frequent items to track
+    */
+   public FrequencySketch(double epsilon, double delta, int topK) {
+      this.frequencies = new CountMinSketch(epsilon, delta);
+      this.heavyHitters = new SpaceSaving<>(topK);
+      this.distinct = new HyperLogLog(DEFAULT_PRECISION);
+   }
+
+   /**
+    * Increments the count of the given item by one.
+    *
+    * @param item the item
+    */
+   public void add(@NonNull K item) {
+      add(item, 1);
+   }
+
+   /**
+    * Increments the count of the given item.
+    *
+    * @param item  the item
+    * @param count the amount to increment by
+    */
+   public void add(@NonNull K item, long count) {
+      if (count <= 0) {
+         return;
+      }
+      frequencies.add(item, count);
+      heavyHitters.add(item, count);
+      distinct.add(item);
+   }
+
+   /**
+    * Adds the items of a single document, incrementing the document count.
+    *
+    * @param items the items in the document
+    */
+   public void addDocument(@NonNull Iterator<? extends K> items) {
+      items.forEachRemaining(this::add);
+      documentCount++;
+   }
+
+   /**
+    * Estimates the count of the given item. The estimate never underestimates the true count.
+    *
+    * @param item the item
+    * @return the estimated count
+    */
+   public long estimate(@NonNull K item) {
+      return frequencies.estimate(item);
+   }
+
+   /**
+    * Estimates the inverse document frequency, <code>log(N / df)</code>, of the given item where the sketch was built
+    * from per-document distinct items.
+    *
+    * @param item the item
+    * @return the estimated inverse document frequency
+    */
+   public double inverseDocumentFrequency(@NonNull K item) {
+      return Math.log((double) documentCount / Math.max(1, estimate(item)));
+   }
+
+   /**
+    * Gets the tracked most frequent items with their estimated counts.
+    *
+    * @return a counter of the most frequent items
+    */
+   public Counter<K> topK() {
+      Counter<K> counter = Counters.newCounter();
+      heavyHitters.topK()
+                  .forEach((item, count) -> counter.set(item, Math.min(count, frequencies.estimate(item))));
+      return counter;
+   }
+
+   /**
+    * Estimates the number of distinct items added.
+    *
+    * @return the estimated number of distinct items
+    */
+   public long distinctCount() {
+      return distinct.cardinality();
+   }
+
+   /**
+    * Gets the sum of all counts added.
+    *
+    * @return the total count
+    */
+   public long totalCount() {
+      return frequencies.totalCount();
+   }
+
+   /**
+    * Gets the number of documents added.
+    *
+    * @return the document count
+    */
+   public long documentCount() {
+      return documentCount;
+   }
+
+   /**
+    * Merges another sketch built with the same parameters into this one.
+    *
+    * @param other the sketch to merge
+    * @return this sketch
+    */
+   public FrequencySketch<K> merge(@NonNull FrequencySketch<K> other) {
+      frequencies.merge(other.frequencies);
+      heavyHitters.merge(other.heavyHitters);
+      distinct.merge(other.distinct);
+      documentCount += other.documentCount;
+      return this;
+   }
+
+}//END OF FrequencySketch
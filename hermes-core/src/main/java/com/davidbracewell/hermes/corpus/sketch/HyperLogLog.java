@@ -0,0 +1,140 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus.sketch;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * A HyperLogLog cardinality estimator for counting distinct items, e.g. the vocabulary size of a corpus, using
+ * <code>2^precision</code> bytes of memory. The relative standard error is roughly <code>1.04 /
+ * sqrt(2^precision)</code>. Estimators with the same precision can be merged.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public class HyperLogLog implements Serializable {
+   private static final long serialVersionUID = 1L;
+   private final int precision;
+   private final byte[] registers;
+
+   /**
+    * Instantiates a new HyperLogLog estimator.
+    *
+    * @param precision the number of bits used to select a register (4 to 18)
+    */
+   public HyperLogLog(int precision) {
+      Preconditions.checkArgument(precision >= 4 && precision <= 18, "precision must be in [4, 18]");
+      this.precision = precision;
+      this.registers = new byte[1 << precision];
+   }
+
+   /**
+    * Creates an estimator whose relative standard error is at most the given error.
+    *
+    * @param relativeError the relative standard error
+    * @return the HyperLogLog estimator
+    */
+   public static HyperLogLog withError(double relativeError) {
+      Preconditions.checkArgument(relativeError > 0 && relativeError < 1, "relativeError must be in (0, 1)");
+      double m = Math.pow(1.04 / relativeError, 2);
+      int precision = (int) Math.ceil(Math.log(m) / Math.log(2));
+      return new HyperLogLog(Math.max(4, Math.min(18, precision)));
+   }
+
+   /**
+    * Adds an item to the estimator.
+    *
+    * @param item the item
+    */
+   public void add(@NonNull Object item) {
+      long hash = SketchHashing.hash(item);
+      int index = (int) (hash >>> (64 - precision));
+      long remaining = (hash << precision) | (1L << (precision - 1));
+      byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+      if (rank > registers[index]) {
+         registers[index] = rank;
+      }
+   }
+
+   /**
+    * Estimates the number of distinct items added.
+    *
+    * @return the estimated cardinality
+    */
+   public long cardinality() {
+      int m = registers.length;
+      double sum = 0;
+      int zeros = 0;
+      for (byte register : registers) {
+         sum += 1.0 / (1L << register);
+         if (register == 0) {
+            zeros++;
+         }
+      }
+      double estimate = alpha(m) * m * m / sum;
+      if (estimate <= 2.5 * m && zeros > 0) {
+         estimate = m * Math.log((double) m / zeros);
+      }
+      return Math.round(estimate);
+   }
+
+   private static double alpha(int m) {
+      switch (m) {
+         case 16:
+            return 0.673;
+         case 32:
+            return 0.697;
+         case 64:
+            return 0.709;
+         default:
+            return 0.7213 / (1 + 1.079 / m);
+      }
+   }
+
+   /**
+    * Merges another estimator with the same precision into this one.
+    *
+    * @param other the estimator to merge
+    * @return this estimator
+    */
+   public HyperLogLog merge(@NonNull HyperLogLog other) {
+      Preconditions.checkArgument(precision == other.precision, "Cannot merge HyperLogLogs of different precision");
+      for (int i = 0; i < registers.length; i++) {
+         registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+      }
+      return this;
+   }
+
+   /**
+    * Gets the precision.
+    *
+    * @return the precision
+    */
+   public int getPrecision() {
+      return precision;
+   }
+
+}//END OF HyperLogLog
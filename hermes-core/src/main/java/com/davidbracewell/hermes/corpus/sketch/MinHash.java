@@ -0,0 +1,147 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus.sketch;
+
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Computes MinHash signatures of sets of shingles. The fraction of positions at which two signatures agree is an
+ * unbiased estimate of the Jaccard similarity of the underlying sets. Each of the hash functions is a multiply-shift
+ * hash applied to a 64-bit hash of the shingle, so a signature is computed with a single pass over the shingles.
+ * Signatures are only comparable when computed by MinHash instances with the same number of hashes and seed.
+ * </p>
+ *
+ * @author David B. Bracewell
+ */
+public class MinHash implements Serializable {
+   private static final long serialVersionUID = 1L;
+   private final long[] multipliers;
+   private final long[] increments;
+
+   /**
+    * Instantiates a new MinHash.
+    *
+    * @param numberOfHashes the number of hash functions (the signature length)
+    * @param seed           the seed used to generate the hash functions
+    */
+   public MinHash(int numberOfHashes, long seed) {
+      Preconditions.checkArgument(numberOfHashes > 0, "Number of hashes must be positive");
+      Random random = new Random(seed);
+      this.multipliers = new long[numberOfHashes];
+      this.increments = new long[numberOfHashes];
+      for (int i = 0; i < numberOfHashes; i++) {
+         multipliers[i] = random.nextLong() | 1L;
+         increments[i] = random.nextLong();
+      }
+   }
+
+   /**
+    * Generates the overlapping character shingles of the given text after lower casing it and collapsing whitespace.
+    *
+    * @param text the text
+    * @param size the number of characters in a shingle
+    * @return the stream of shingles
+    */
+   public static Stream<String> characterShingles(@NonNull String text, int size) {
+      Preconditions.checkArgument(size > 0, "Shingle size must be positive");
+      String normalized = text.toLowerCase().replaceAll("\\s+", " ").trim();
+      if (normalized.length() <= size) {
+         return Stream.of(normalized);
+      }
+      return IntStream.rangeClosed(0, normalized.length() - size).mapToObj(i -> normalized.substring(i, i + size));
+   }
+
+   /**
+    * Generates the overlapping shingles of the given words, e.g. tokens, joined by a space.
+    *
+    * @param words the words
+    * @param size  the number of words in a shingle
+    * @return the stream of shingles
+    */
+   public static Stream<String> wordShingles(@NonNull List<String> words, int size) {
+      Preconditions.checkArgument(size > 0, "Shingle size must be positive");
+      if (words.size() <= size) {
+         return Stream.of(String.join(" ", words));
+      }
+      return IntStream.rangeClosed(0, words.size() - size)
+                      .mapToObj(i -> String.join(" ", words.subList(i, i + size)));
+   }
+
+   /**
+    * Estimates the Jaccard similarity of the sets with the given signatures.
+    *
+    * @param signature1 the first signature
+    * @param signature2 the second signature
+    * @return the estimated Jaccard similarity
+    */
+   public static double similarity(@NonNull int[] signature1, @NonNull int[] signature2) {
+      Preconditions.checkArgument(signature1.length == signature2.length, "Signatures must be of equal length");
+      int agree = 0;
+      for (int i = 0; i < signature1.length; i++) {
+         if (signature1[i] == signature2[i]) {
+            agree++;
+         }
+      }
+      return (double) agree / signature1.length;
+   }
+
+   /**
+    * Computes the signature of the given set of shingles. Duplicate shingles do not affect the signature.
+    *
+    * @param shingles the shingles
+    * @return the signature
+    */
+   public int[] signature(@NonNull Iterator<?> shingles) {
+      int[] signature = new int[multipliers.length];
+      Arrays.fill(signature, Integer.MAX_VALUE);
+      while (shingles.hasNext()) {
+         long hash = SketchHashing.hash(shingles.next());
+         for (int i = 0; i < multipliers.length; i++) {
+            int value = (int) ((multipliers[i] * hash + increments[i]) >>> 33);
+            if (value < signature[i]) {
+               signature[i] = value;
+            }
+         }
+      }
+      return signature;
+   }
+
+   /**
+    * Gets the number of hash functions.
+    *
+    * @return the number of hash functions
+    */
+   public int getNumberOfHashes() {
+      return multipliers.length;
+   }
+
+}//END OF MinHash
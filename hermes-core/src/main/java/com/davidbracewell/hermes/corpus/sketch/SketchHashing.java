@@ -0,0 +1,50 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus.sketch;
+
+import com.davidbracewell.guava.common.hash.HashFunction;
+import com.davidbracewell.guava.common.hash.Hashing;
+
+/**
+ * <p>Hashing shared by the sketches. Items are hashed on their string form so that equal items hash identically
+ * across JVMs, which is required for sketches built on different workers to be mergeable.</p>
+ *
+ * @author David B. Bracewell
+ */
+final class SketchHashing {
+   private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128(0x5f3759df);
+
+   private SketchHashing() {
+      throw new IllegalAccessError();
+   }
+
+   /**
+    * Calculates a 64-bit hash of the given item.
+    *
+    * @param item the item
+    * @return the hash
+    */
+   static long hash(Object item) {
+      return HASH_FUNCTION.hashUnencodedChars(item.toString()).asLong();
+   }
+
+}//END OF SketchHashing
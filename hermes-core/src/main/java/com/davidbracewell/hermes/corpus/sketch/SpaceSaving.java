@@ -0,0 +1,214 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus.sketch;
+
+import com.davidbracewell.collection.counter.Counter;
+import com.davidbracewell.collection.counter.Counters;
+import com.google.common.base.Preconditions;
+import lombok.NonNull;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * <p>
+ * The SpaceSaving heavy hitters algorithm which tracks the approximate top-K most frequent items using a fixed number
+ * of counters. When a new item arrives and all counters are in use, the item with the smallest count is evicted and
+ * the new item inherits its count as error. Every item whose true count exceeds <code>totalCount() /
+ * capacity</code> is guaranteed to be tracked. Summaries can be merged to combine partition-level results.
+ * </p>
+ *
+ * @param <K> the item type
+ * @author David B. Bracewell
+ */
+public class SpaceSaving<K> implements Serializable {
+   private static final long serialVersionUID = 1L;
+   private final int capacity;
+   private final Map<K, long[]> counters = new HashMap<>();
+   private final TreeMap<Long, LinkedHashSet<K>> buckets = new TreeMap<>();
+   private long totalCount;
+
+   /**
+    * Instantiates a new SpaceSaving summary.
+    *
+    * @param capacity the number of items to track
+    */
+   public SpaceSaving(int capacity) {
+      Preconditions.checkArgument(capacity > 0, "Capacity must be positive");
+      this.capacity = capacity;
+   }
+
+   /**
+    * Increments the count of the given item by one.
+    *
+    * @param item the item
+    */
+   public void add(@NonNull K item) {
+      add(item, 1);
+   }
+
+   /**
+    * Increments the count of the given item.
+    *
+    * @param item  the item
+    * @param count the amount to increment by (must be positive)
+    */
+   public void add(@NonNull K item, long count) {
+      add(item, count, 0);
+   }
+
+   private void add(K item, long count, long error) {
+      Preconditions.checkArgument(count > 0, "SpaceSaving only supports positive increments");
+      totalCount += count;
+      long[] counter = counters.get(item);
+      if (counter != null) {
+         unlink(item, counter[0]);
+         counter[0] += count;
+         counter[1] += error;
+      } else if (counters.size() < capacity) {
+         counter = new long[]{count, error};
+         counters.put(item, counter);
+      } else {
+         Map.Entry<Long, LinkedHashSet<K>> minimum = buckets.firstEntry();
+         K evicted = minimum.getValue().iterator().next();
+         unlink(evicted, minimum.getKey());
+         counters.remove(evicted);
+         counter = new long[]{minimum.getKey() + count, minimum.getKey() + error};
+         counters.put(item, counter);
+      }
+      buckets.computeIfAbsent(counter[0], c -> new LinkedHashSet<>()).add(item);
+   }
+
+   private void unlink(K item, long count) {
+      LinkedHashSet<K> bucket = buckets.get(count);
+      bucket.remove(item);
+      if (bucket.isEmpty()) {
+         buckets.remove(count);
+      }
+   }
+
+   /**
+    * Estimates the count of the given item.
+    *
+    * @param item the item
+    * @return the estimated count (an upper bound) or 0 if the item is not tracked
+    */
+   public long estimate(@NonNull K item) {
+      long[] counter = counters.get(item);
+      return counter == null ? 0 : counter[0];
+   }
+
+   /**
+    * Gets the maximum amount the estimated count of the given item may overestimate its true count.
+    *
+    * @param item the item
+    * @return the error or 0 if the item is not tracked
+    */
+   public long error(@NonNull K item) {
+      long[] counter = counters.get(item);
+      return counter == null ? 0 : counter[1];
+   }
+
+   /**
+    * Merges another summary into this one. Items missing from a full summary may have been seen up to its minimum
+    * count, so an item tracked by only one of the summaries is credited with the other summary's minimum count (and
+    * error), which keeps the merged estimates upper bounds. The <code>capacity</code> items with the highest merged
+    * counts are kept.
+    *
+    * @param other the summary to merge
+    * @return this summary
+    */
+   public SpaceSaving<K> merge(@NonNull SpaceSaving<K> other) {
+      long thisMin = minimum();
+      long otherMin = other.minimum();
+      Map<K, long[]> merged = new HashMap<>();
+      counters.forEach((item, counter) -> {
+         long[] otherCounter = other.counters.get(item);
+         merged.put(item, otherCounter == null
+                          ? new long[]{counter[0] + otherMin, counter[1] + otherMin}
+                          : new long[]{counter[0] + otherCounter[0], counter[1] + otherCounter[1]});
+      });
+      other.counters.forEach((item, counter) -> {
+         if (!counters.containsKey(item)) {
+            merged.put(item, new long[]{counter[0] + thisMin, counter[1] + thisMin});
+         }
+      });
+
+      List<Map.Entry<K, long[]>> entries = new ArrayList<>(merged.entrySet());
+      entries.sort((e1, e2) -> Long.compare(e2.getValue()[0], e1.getValue()[0]));
+      counters.clear();
+      buckets.clear();
+      for (Map.Entry<K, long[]> entry : entries.subList(0, Math.min(capacity, entries.size()))) {
+         counters.put(entry.getKey(), entry.getValue());
+         buckets.computeIfAbsent(entry.getValue()[0], c -> new LinkedHashSet<>()).add(entry.getKey());
+      }
+      totalCount += other.totalCount;
+      return this;
+   }
+
+   /**
+    * The count an untracked item may have been seen, i.e. the smallest tracked count when all counters are in use.
+    */
+   private long minimum() {
+      return counters.size() < capacity || buckets.isEmpty() ? 0 : buckets.firstKey();
+   }
+
+   /**
+    * Gets all tracked items with their estimated counts.
+    *
+    * @return a counter of the tracked items
+    */
+   public Counter<K> topK() {
+      Counter<K> counter = Counters.newCounter();
+      counters.forEach((item, c) -> counter.set(item, c[0]));
+      return counter;
+   }
+
+   /**
+    * Gets the <code>k</code> tracked items with the highest estimated counts.
+    *
+    * @param k the number of items to return
+    * @return a counter of the top <code>k</code> items
+    */
+   public Counter<K> topK(int k) {
+      return topK().topN(k);
+   }
+
+   /**
+    * Gets the sum of all counts added to the summary.
+    *
+    * @return the total count
+    */
+   public long totalCount() {
+      return totalCount;
+   }
+
+   /**
+    * Gets the number of items the summary can track.
+    *
+    * @return the capacity
+    */
+   public int getCapacity() {
+      return capacity;
+   }
+
+}//END OF SpaceSaving
@@ -22,9 +22,9 @@
 package com.davidbracewell.hermes.corpus.spi;
 
 import com.davidbracewell.collection.Collect;
-import com.davidbracewell.guava.common.base.Throwables;
 import com.davidbracewell.hermes.Document;
 import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.hermes.corpus.BoundedTextReader;
 import com.davidbracewell.hermes.corpus.CorpusFormat;
 import com.davidbracewell.io.Resources;
 import com.davidbracewell.io.resource.Resource;
@@ -32,8 +32,8 @@ import com.davidbracewell.logging.Logger;
 import com.davidbracewell.string.StringUtils;
 import lombok.NonNull;
 
-import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -61,7 +61,21 @@ public class OnePerLineFormat extends FileBasedFormat {
 
    @Override
    public Iterable<Document> read(Resource resource, DocumentFactory documentFactory) throws IOException {
-      return Collect.asIterable(new LineIterator(resource, subFormat, documentFactory));
+      return Collect.asIterable(read(resource.reader(), documentFactory, CorpusFormat.maxDocumentSize()));
+   }
+
+   /**
+    * Reads one document per line from the given reader as lines are requested. Lines longer than the maximum document
+    * size are skipped.
+    *
+    * @param reader          the reader to read from
+    * @param documentFactory the document factory
+    * @param maxDocumentSize the maximum number of characters in a line
+    * @return iterator over the documents
+    */
+   @Override
+   public Iterator<Document> read(@NonNull Reader reader, @NonNull DocumentFactory documentFactory, int maxDocumentSize) {
+      return new LineIterator(new BoundedTextReader(reader, maxDocumentSize), subFormat, documentFactory);
    }
 
    @Override
@@ -71,7 +85,7 @@ public class OnePerLineFormat extends FileBasedFormat {
 
    private static class LineIterator implements Iterator<Document> {
 
-      final BufferedReader reader;
+      final BoundedTextReader reader;
       final CorpusFormat format;
       final DocumentFactory documentFactory;
       final Logger log = Logger.getLogger(LineIterator.class);
@@ -79,14 +93,10 @@ public class OnePerLineFormat extends FileBasedFormat {
       boolean isClosed = false;
       String line = null;
 
-      private LineIterator(Resource input, CorpusFormat format, DocumentFactory documentFactory) {
+      private LineIterator(BoundedTextReader reader, CorpusFormat format, DocumentFactory documentFactory) {
          this.documentFactory = documentFactory;
-         try {
-            this.reader = new BufferedReader(input.reader());
-            this.format = format;
-         } catch (IOException e) {
-            throw Throwables.propagate(e);
-         }
+         this.reader = reader;
+         this.format = format;
       }
 
       private boolean advance() {
@@ -21,17 +21,25 @@
 
 package com.davidbracewell.hermes.corpus.spi;
 
+import com.davidbracewell.collection.Collect;
+import com.davidbracewell.guava.common.collect.AbstractIterator;
 import com.davidbracewell.hermes.Document;
 import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.hermes.corpus.BoundedTextReader;
 import com.davidbracewell.hermes.corpus.CorpusFormat;
 import com.davidbracewell.io.resource.Resource;
+import lombok.NonNull;
 import org.kohsuke.MetaInfServices;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
 
 /**
- * <p>Processor for plain text documents.</p>
+ * <p>Processor for plain text documents. Each file is a single document unless it is longer than the maximum document
+ * size (see {@link CorpusFormat#maxDocumentSize()}), in which case the text is read incrementally and broken into
+ * documents at paragraph or line boundaries.</p>
  *
  * @author David B. Bracewell
  */
@@ -41,7 +49,49 @@ public class PlainTextFormat extends FileBasedFormat {
 
    @Override
    public Iterable<Document> read(Resource resource, DocumentFactory documentFactory) throws IOException {
-      return Collections.singleton(documentFactory.create(resource.readToString().trim()));
+      return Collect.asIterable(read(resource.reader(), documentFactory, CorpusFormat.maxDocumentSize(),
+                                     resource.descriptor()));
+   }
+
+   @Override
+   public Iterator<Document> read(@NonNull Reader reader, @NonNull DocumentFactory documentFactory, int maxDocumentSize) throws IOException {
+      return read(reader, documentFactory, maxDocumentSize, "reader");
+   }
+
+   private Iterator<Document> read(Reader reader, DocumentFactory documentFactory, int maxDocumentSize, String source) {
+      BoundedTextReader chunks = new BoundedTextReader(reader, maxDocumentSize);
+      return new AbstractIterator<Document>() {
+         boolean first = true;
+
+         @Override
+         protected Document computeNext() {
+            try {
+               String chunk;
+               while ((chunk = chunks.readChunk()) != null) {
+                  chunk = chunk.trim();
+                  if (!chunk.isEmpty()) {
+                     first = false;
+                     return documentFactory.create(chunk);
+                  }
+               }
+               chunks.close();
+               if (first) {
+                  //An empty file is still an (empty) document
+                  first = false;
+                  return documentFactory.create("");
+               }
+            } catch (IOException e) {
+               //Fail rather than silently truncate the documents read from the source
+               try {
+                  chunks.close();
+               } catch (IOException suppressed) {
+                  e.addSuppressed(suppressed);
+               }
+               throw new UncheckedIOException("Error reading " + source, e);
+            }
+            return endOfData();
+         }
+      };
    }
 
 //  @Override
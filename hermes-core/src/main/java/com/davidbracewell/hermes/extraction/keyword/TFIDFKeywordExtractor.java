@@ -24,6 +24,7 @@ package com.davidbracewell.hermes.extraction.keyword;
 import com.davidbracewell.collection.counter.Counter;
 import com.davidbracewell.collection.counter.Counters;
 import com.davidbracewell.hermes.HString;
+import com.davidbracewell.hermes.corpus.sketch.FrequencySketch;
 import com.davidbracewell.hermes.extraction.TermExtractor;
 import com.davidbracewell.string.StringUtils;
 import lombok.NonNull;
@@ -39,6 +40,7 @@ public class TFIDFKeywordExtractor implements KeywordExtractor {
    private static final long serialVersionUID = 1L;
    private final TermExtractor termExtractor;
    private final Counter<String> inverseDocumentFrequencies;
+   private final FrequencySketch<String> documentFrequencies;
 
    /**
     * Instantiates a new TFIDF based keyword extractor.
@@ -58,6 +60,21 @@ public class TFIDFKeywordExtractor implements KeywordExtractor {
    public TFIDFKeywordExtractor(@NonNull TermExtractor termExtractor, @NonNull Counter<String> inverseDocumentFrequencies) {
       this.termExtractor = termExtractor;
       this.inverseDocumentFrequencies = inverseDocumentFrequencies;
+      this.documentFrequencies = null;
+   }
+
+   /**
+    * Instantiates a new TFIDF based keyword extractor whose inverse document frequencies are estimated from a
+    * document frequency sketch (see {@link com.davidbracewell.hermes.corpus.Corpus#documentFrequencySketch(TermExtractor,
+    * double, double, int)}).
+    *
+    * @param termExtractor       the specification for filtering and converting annotations to strings
+    * @param documentFrequencies the document frequency sketch
+    */
+   public TFIDFKeywordExtractor(@NonNull TermExtractor termExtractor, @NonNull FrequencySketch<String> documentFrequencies) {
+      this.termExtractor = termExtractor;
+      this.inverseDocumentFrequencies = null;
+      this.documentFrequencies = documentFrequencies;
    }
 
    @Override
@@ -69,8 +86,15 @@ public class TFIDFKeywordExtractor implements KeywordExtractor {
                                                       .collect(Collectors.toList()));
       Counter<String> tfidf = Counters.newCounter();
       final double maxTF = tf.maximumCount();
-      tf.forEach((kw, freq) -> tfidf.set(kw, (0.5 + (0.5 * freq) / maxTF) * inverseDocumentFrequencies.get(kw)));
+      tf.forEach((kw, freq) -> tfidf.set(kw, (0.5 + (0.5 * freq) / maxTF) * inverseDocumentFrequency(kw)));
       return tfidf;
    }
 
+   private double inverseDocumentFrequency(String term) {
+      if (documentFrequencies != null) {
+         return documentFrequencies.inverseDocumentFrequency(term);
+      }
+      return inverseDocumentFrequencies.get(term);
+   }
+
 }//END OF TFIDFKeywordExtractor
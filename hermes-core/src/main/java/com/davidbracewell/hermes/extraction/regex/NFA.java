@@ -24,6 +24,7 @@ package com.davidbracewell.hermes.extraction.regex;
 
 import com.davidbracewell.guava.common.collect.ArrayListMultimap;
 import com.davidbracewell.hermes.Annotation;
+import com.davidbracewell.hermes.Deadline;
 import com.davidbracewell.hermes.HString;
 import com.davidbracewell.tuple.Tuple2;
 import com.davidbracewell.tuple.Tuples;
@@ -62,6 +63,7 @@ final class NFA implements Serializable {
 
 
     while (!states.isEmpty()) {
+      Deadline.check();
       Set<State> newStates = new HashSet<>(); //states after the next consumption
 
       for (State s : states) {
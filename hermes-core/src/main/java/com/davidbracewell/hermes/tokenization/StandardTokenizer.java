@@ -0,0 +1,3518 @@
+/* The following code was generated by JFlex 1.5.0-SNAPSHOT */
+
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.tokenization;
+
+import com.davidbracewell.hermes.tokenization.TokenType;
+
+
+/**
+ * This class is a scanner generated by 
+ * <a href="http://www.jflex.de/">JFlex</a> 1.5.0-SNAPSHOT
+ * from the specification file <tt>/root/project/hermes-core/src/main/jflex/StandardTokenizer.jflex</tt>
+ */
+public class StandardTokenizer {
+
+  /** This character denotes the end of file */
+  public static final int YYEOF = -1;
+
+  /** initial size of the lookahead buffer */
+  private static final int ZZ_BUFFERSIZE = 16384;
+
+  /** lexical states */
+  public static final int YYINITIAL = 0;
+
+  /**
+   * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
+   * ZZ_LEXSTATE[l+1] is the state in the DFA for the lexical state l
+   *                  at the beginning of a line
+   * l is of the form l = 2*k, k a non negative integer
+   */
+  private static final int ZZ_LEXSTATE[] = { 
+     0, 0
+  };
+
+  /** 
+   * Translates characters to character classes
+   */
+  private static final String ZZ_CMAP_PACKED = 
+    "\1\2\40\106\1\77\1\11\1\66\1\100\1\102\1\3\1\15\1\77"+
+    "\1\77\1\77\1\101\1\65\1\73\1\40\1\74\2\70\1\17\6\70"+
+    "\1\17\1\72\1\10\1\0\1\101\1\0\1\75\1\64\1\41\1\103"+
+    "\1\63\1\46\1\51\1\60\1\55\1\62\1\57\2\44\1\47\1\56"+
+    "\1\53\1\43\1\42\1\44\1\50\1\45\1\54\1\44\1\52\2\44"+
+    "\1\61\1\44\3\11\1\0\1\20\1\0\1\4\1\104\1\37\1\22"+
+    "\1\25\1\34\1\31\1\36\1\71\2\67\1\23\1\32\1\27\1\6"+
+    "\1\5\1\67\1\24\1\21\1\30\1\67\1\26\2\67\1\35\1\67"+
+    "\1\11\1\0\1\11\1\76\22\106\1\2\17\106\1\11\2\105\1\0"+
+    "\1\105\1\0\1\11\2\0\1\14\1\11\1\0\1\106\7\0\1\14"+
+    "\2\11\2\0\1\14\1\11\3\0\1\11\27\14\1\0\37\14\1\0"+
+    "\70\14\2\33\115\14\1\7\u0142\14\4\0\14\14\16\0\5\14\7\0"+
+    "\1\14\1\0\1\14\201\0\5\14\1\0\2\14\2\106\4\14\1\11"+
+    "\5\106\2\0\1\14\1\11\3\14\1\106\1\14\1\106\24\14\1\106"+
+    "\123\14\1\0\213\14\10\0\236\14\11\106\46\14\2\106\1\14\6\11"+
+    "\1\106\47\14\1\106\1\11\1\1\4\106\1\0\1\106\55\0\1\1"+
+    "\1\0\1\11\2\0\1\11\2\0\1\11\1\0\10\106\33\14\5\106"+
+    "\3\14\2\11\21\106\3\0\2\11\1\0\2\11\15\0\1\11\2\106"+
+    "\2\11\53\14\25\0\12\16\4\11\2\14\1\0\143\14\1\11\1\14"+
+    "\7\0\1\106\7\0\2\14\7\0\2\14\12\16\3\14\2\0\1\14"+
+    "\16\11\2\106\1\14\1\0\36\14\33\0\2\106\131\14\13\0\1\14"+
+    "\16\106\12\16\41\14\11\0\2\14\1\0\3\11\1\14\5\106\26\14"+
+    "\4\0\1\14\11\0\1\14\3\0\1\14\5\0\2\106\17\11\1\106"+
+    "\31\14\3\0\2\106\1\11\101\106\1\14\1\106\13\14\67\106\33\0"+
+    "\1\106\4\0\66\14\3\0\1\14\22\0\1\14\7\0\12\14\2\0"+
+    "\2\11\12\16\1\11\7\14\1\106\7\14\1\106\3\0\1\106\10\14"+
+    "\2\106\2\14\2\106\26\14\1\106\7\14\1\106\1\14\3\106\4\14"+
+    "\2\106\1\0\1\14\7\0\2\106\2\0\2\106\3\0\1\14\10\106"+
+    "\1\0\4\106\2\14\1\106\3\14\2\0\2\106\12\16\2\14\12\0"+
+    "\5\106\3\0\1\106\6\14\4\106\2\14\2\106\26\14\1\106\7\14"+
+    "\1\106\2\14\1\106\2\14\1\106\2\14\2\106\1\0\1\106\5\0"+
+    "\4\106\2\0\2\106\3\0\3\106\1\0\7\106\4\14\1\106\1\14"+
+    "\7\106\12\16\2\0\3\14\1\0\13\106\3\0\1\106\11\14\1\106"+
+    "\3\14\1\106\26\14\1\106\7\14\1\106\2\14\1\106\5\14\2\106"+
+    "\1\0\1\14\10\0\1\106\3\0\1\106\3\0\2\106\1\14\17\106"+
+    "\2\14\2\0\2\106\12\16\1\11\1\0\17\106\3\0\1\106\10\14"+
+    "\2\106\2\14\2\106\26\14\1\106\7\14\1\106\2\14\1\106\5\14"+
+    "\2\106\1\0\1\14\7\0\2\106\2\0\2\106\3\0\10\106\2\0"+
+    "\4\106\2\14\1\106\3\14\2\0\2\106\12\16\1\0\1\14\6\0"+
+    "\12\106\1\0\1\14\1\106\6\14\3\106\3\14\1\106\4\14\3\106"+
+    "\2\14\1\106\1\14\1\106\2\14\3\106\2\14\3\106\3\14\3\106"+
+    "\14\14\4\106\5\0\3\106\3\0\1\106\4\0\2\106\1\14\6\106"+
+    "\1\0\16\106\12\16\13\0\6\106\3\0\1\106\10\14\1\106\3\14"+
+    "\1\106\27\14\1\106\12\14\1\106\5\14\3\106\1\14\7\0\1\106"+
+    "\3\0\1\106\4\0\7\106\2\0\1\106\2\14\6\106\2\14\2\0"+
+    "\2\106\12\16\10\106\10\0\2\106\2\0\1\106\10\14\1\106\3\14"+
+    "\1\106\27\14\1\106\12\14\1\106\5\14\2\106\1\0\1\14\7\0"+
+    "\1\106\3\0\1\106\4\0\7\106\2\0\7\106\1\14\1\106\2\14"+
+    "\2\0\2\106\12\16\1\106\2\14\17\106\2\0\1\106\10\14\1\106"+
+    "\3\14\1\106\51\14\2\106\1\14\7\0\1\106\3\0\1\106\4\0"+
+    "\1\14\10\106\1\0\10\106\2\14\2\0\2\106\12\16\6\0\3\106"+
+    "\1\0\6\14\2\106\2\0\1\106\22\14\3\106\30\14\1\106\11\14"+
+    "\1\106\1\14\2\106\7\14\3\106\1\0\4\106\6\0\1\106\1\0"+
+    "\1\106\10\0\22\106\2\0\1\11\14\106\60\14\1\0\2\14\7\0"+
+    "\4\106\1\0\7\14\10\0\1\11\12\16\2\11\45\106\2\14\1\106"+
+    "\1\14\2\106\2\14\1\106\1\14\2\106\1\14\6\106\4\14\1\106"+
+    "\7\14\1\106\3\14\1\106\1\14\1\106\1\14\2\106\2\14\1\106"+
+    "\4\14\1\0\2\14\6\0\1\106\2\0\1\14\2\106\5\14\1\106"+
+    "\1\14\1\106\6\0\2\106\12\16\2\106\4\14\40\106\1\14\3\0"+
+    "\17\11\1\0\1\11\13\0\12\16\20\0\4\11\2\0\10\14\1\106"+
+    "\44\14\4\106\24\0\1\11\2\0\5\14\13\0\1\106\44\0\1\106"+
+    "\17\0\1\106\2\0\5\11\4\0\2\11\45\106\53\14\24\0\1\14"+
+    "\12\16\6\11\6\14\4\0\4\14\3\0\1\14\3\0\2\14\7\0"+
+    "\3\14\4\0\15\14\14\0\1\14\1\0\12\16\6\0\46\14\1\106"+
+    "\1\14\5\106\1\14\2\106\53\14\1\11\u014d\14\1\106\4\14\2\106"+
+    "\7\14\1\106\1\14\1\106\4\14\2\106\51\14\1\106\4\14\2\106"+
+    "\41\14\1\106\4\14\2\106\7\14\1\106\1\14\1\106\4\14\2\106"+
+    "\17\14\1\106\71\14\1\106\4\14\2\106\103\14\2\106\3\0\11\11"+
+    "\24\0\3\106\20\14\12\0\6\106\125\14\13\106\1\1\u026c\14\2\11"+
+    "\21\14\1\106\32\14\2\11\3\106\113\14\3\11\3\0\17\106\15\14"+
+    "\1\106\4\14\3\0\13\106\22\14\3\0\2\11\11\106\22\14\2\0"+
+    "\14\106\15\14\1\106\3\14\1\106\2\0\14\106\64\14\40\0\3\11"+
+    "\1\14\3\11\1\0\1\14\1\0\2\106\12\16\6\106\12\0\6\106"+
+    "\6\11\1\1\4\11\3\0\2\106\12\16\6\106\130\14\10\106\51\14"+
+    "\1\0\1\14\5\106\106\14\12\106\35\14\3\106\14\0\4\106\14\0"+
+    "\4\106\1\0\3\106\2\11\12\16\36\14\2\106\5\14\13\106\54\14"+
+    "\4\106\21\0\7\14\2\0\6\106\12\16\1\0\3\106\42\0\27\14"+
+    "\5\0\2\106\2\11\65\14\12\0\1\106\35\0\2\106\1\0\12\16"+
+    "\6\106\12\16\6\106\7\11\1\14\6\11\122\106\5\0\57\14\21\0"+
+    "\7\14\4\106\12\16\7\11\34\0\3\106\3\0\36\14\15\0\2\14"+
+    "\12\16\54\14\16\0\10\106\4\11\44\14\24\0\3\106\5\11\12\16"+
+    "\3\106\3\14\12\16\44\14\2\11\100\106\10\11\10\106\3\0\1\11"+
+    "\25\0\4\14\1\0\4\14\3\0\2\14\11\106\300\14\47\0\25\106"+
+    "\4\0\u0116\14\2\106\6\14\2\106\46\14\2\106\6\14\2\106\10\14"+
+    "\1\106\1\14\1\106\1\14\1\106\1\14\1\106\37\14\2\106\65\14"+
+    "\1\106\7\14\1\0\1\14\3\0\3\14\1\106\7\14\3\0\4\14"+
+    "\2\106\6\14\1\106\3\0\15\14\3\0\2\106\3\14\1\106\7\14"+
+    "\2\0\21\106\6\1\2\11\2\12\1\11\1\12\14\11\10\106\24\11"+
+    "\1\0\15\11\1\0\14\11\21\106\1\0\1\14\2\106\11\0\2\11"+
+    "\1\14\15\0\2\11\1\106\15\14\3\106\33\105\25\110\41\0\17\106"+
+    "\2\0\1\14\4\0\1\14\2\0\12\14\1\0\1\14\3\0\5\14"+
+    "\6\0\1\14\1\0\1\14\1\0\1\14\1\0\4\14\1\0\13\14"+
+    "\2\0\4\14\5\0\5\14\4\0\1\14\64\0\2\14\5\0\6\106"+
+    "\15\0\1\111\142\0\u0100\0\10\111\4\112\35\111\2\112\311\111\14\113"+
+    "\47\111\31\113\13\111\25\113\u02a0\111\1\113\147\111\16\112\117\111\2\112"+
+    "\37\111\12\112\21\111\u0182\0\26\11\77\0\4\11\40\0\2\11\u014f\0"+
+    "\3\106\12\0\246\106\57\14\1\106\57\14\1\106\205\14\6\0\4\14"+
+    "\3\0\2\14\5\106\4\11\1\0\2\11\46\14\1\106\1\14\5\106"+
+    "\1\14\2\106\70\14\7\106\1\14\1\11\16\106\1\0\27\14\11\106"+
+    "\7\14\1\106\7\14\1\106\7\14\1\106\7\14\1\106\7\14\1\106"+
+    "\7\14\1\106\7\14\1\106\7\14\1\106\40\0\27\11\1\1\2\11"+
+    "\1\1\24\11\1\14\12\11\2\1\104\106\32\0\1\106\131\0\14\106"+
+    "\326\0\32\106\14\0\5\106\3\11\1\0\2\14\1\0\12\11\2\0"+
+    "\10\11\1\1\3\11\20\0\1\1\5\14\5\0\2\14\1\11\2\0"+
+    "\1\107\126\13\2\107\4\13\3\13\1\1\132\13\1\11\4\13\5\107"+
+    "\51\13\2\107\1\106\136\14\1\106\20\0\33\14\5\106\44\0\14\106"+
+    "\20\13\37\0\1\106\337\0\1\106\200\13\200\0\u19b6\13\12\107\100\0"+
+    "\u51cd\13\63\107\u048d\14\3\106\67\0\11\106\56\14\2\11\u010d\14\3\11"+
+    "\20\14\12\16\2\14\24\106\57\14\4\0\1\11\12\0\1\11\31\14"+
+    "\7\106\1\0\106\14\14\0\6\11\10\106\27\0\11\14\2\0\147\14"+
+    "\2\0\4\14\1\106\4\14\14\106\13\14\115\106\12\14\1\0\3\14"+
+    "\1\0\4\14\1\0\27\14\11\0\4\106\12\0\6\106\64\14\4\11"+
+    "\10\106\2\0\62\14\21\0\11\106\2\11\12\16\6\106\22\0\6\14"+
+    "\3\11\1\14\4\106\12\16\34\14\10\0\2\11\27\14\15\0\13\106"+
+    "\1\11\35\14\3\106\4\0\57\14\16\0\15\11\1\106\1\14\12\16"+
+    "\4\106\2\11\40\106\51\14\16\0\11\106\3\14\1\0\10\14\2\0"+
+    "\2\106\12\16\2\106\4\11\27\14\3\0\1\14\1\0\4\106\60\14"+
+    "\1\0\1\14\3\0\2\14\2\0\5\14\2\0\1\14\1\0\1\14"+
+    "\30\106\3\14\2\11\13\14\5\0\2\11\3\14\2\0\12\106\6\14"+
+    "\2\106\6\14\2\106\6\14\11\106\7\14\1\106\7\14\221\106\43\14"+
+    "\10\0\1\11\2\0\2\106\12\16\6\106\u2ba4\14\14\106\27\14\4\106"+
+    "\61\14\4\106\u0800\111\172\113\u0186\106\144\113\u019b\106\150\113\234\106\u0afd\113"+
+    "\75\106\u025a\113\u0669\106\u016e\13\2\107\152\13\46\107\7\14\14\106\5\14"+
+    "\5\106\1\14\1\0\12\14\1\0\15\14\1\106\5\14\1\106\1\14"+
+    "\1\106\2\14\1\106\2\14\1\106\154\14\20\0\21\106\u016b\14\2\11"+
+    "\20\106\100\14\2\106\66\14\50\106\14\14\2\0\2\106\20\111\12\11"+
+    "\6\106\7\0\11\106\1\11\2\1\40\11\1\106\4\11\1\1\11\11"+
+    "\1\0\1\1\3\0\1\106\1\11\1\0\2\11\4\106\5\14\1\106"+
+    "\207\14\4\106\3\11\1\0\6\11\1\0\1\11\1\1\2\11\12\16"+
+    "\2\11\3\0\2\11\32\14\3\11\1\0\1\11\1\0\32\14\1\11"+
+    "\1\0\1\11\1\0\6\11\1\11\72\13\37\14\3\106\6\14\2\106"+
+    "\6\14\2\106\6\14\2\106\3\14\3\106\7\0\1\106\7\0\15\106"+
+    "\2\0\2\106";
+
+  /** 
+   * Translates characters to character classes
+   */
+  private static final char [] ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);
+
+  /** 
+   * Translates DFA states to action switch labels.
+   */
+  private static final int [] ZZ_ACTION = zzUnpackAction();
+
+  private static final String ZZ_ACTION_PACKED_0 =
+    "\6\0\1\1\1\2\1\3\1\4\4\5\2\4\1\6"+
+    "\2\7\24\5\2\4\1\10\1\4\1\3\1\11\1\4"+
+    "\23\0\1\12\6\0\1\5\2\0\3\5\1\0\3\5"+
+    "\1\13\5\0\3\5\6\0\1\12\1\0\1\12\1\0"+
+    "\3\12\2\5\3\0\10\5\2\14\1\15\1\16\32\0"+
+    "\1\5\1\17\2\0\12\20\1\0\2\5\13\0\1\17"+
+    "\1\0\1\17\4\5\1\0\2\17\5\5\1\17\3\5"+
+    "\2\0\1\5\1\17\4\5\1\0\6\5\3\0\1\17"+
+    "\1\0\3\17\4\0\2\5\1\13\10\0\1\13\2\0"+
+    "\12\20\1\0\1\5\13\0\2\5\2\0\2\7\1\13"+
+    "\1\20\1\21\1\20\1\12\5\5\10\14\1\13\3\14"+
+    "\1\15\22\0\1\5\6\20\1\22\3\20\1\22\2\20"+
+    "\5\0\2\17\4\0\1\17\4\0\3\5\1\0\2\17"+
+    "\2\5\12\20\17\0\1\22\3\0\1\22\2\0\1\17"+
+    "\1\0\10\5\1\0\6\5\2\17\1\5\1\17\1\0"+
+    "\10\5\13\0\1\5\1\0\2\5\1\0\1\5\1\0"+
+    "\4\5\1\22\3\5\1\22\2\5\1\0\2\20\1\23"+
+    "\2\0\1\23\2\0\3\23\1\22\3\23\2\22\1\0"+
+    "\1\13\2\23\2\20\1\0\3\20\1\22\3\20\1\22"+
+    "\2\20\1\0\2\5\5\0\1\22\3\0\1\22\2\0"+
+    "\1\21\1\0\2\20\2\5\10\14\1\22\3\14\2\22"+
+    "\1\14\1\13\2\14\1\15\14\0\4\20\1\0\1\22"+
+    "\2\20\4\0\1\22\1\17\3\0\1\22\3\0\3\20"+
+    "\2\0\3\20\1\22\3\20\1\22\2\20\5\0\1\22"+
+    "\3\0\1\22\13\0\2\17\4\0\1\17\4\0\3\5"+
+    "\1\0\1\5\1\0\1\5\1\0\4\5\1\22\3\5"+
+    "\1\22\2\5\1\22\5\5\1\23\2\0\1\23\2\0"+
+    "\3\23\1\22\3\23\2\22\1\0\2\23\2\5\1\0"+
+    "\1\5\1\0\2\5\1\0\2\5\1\22\2\5\2\20"+
+    "\1\24\1\23\10\24\3\23\1\22\1\24\1\22\1\0"+
+    "\1\23\1\0\1\23\1\20\1\25\2\20\1\0\1\22"+
+    "\2\20\4\0\1\22\2\0\1\21\1\13\1\0\2\20"+
+    "\1\5\1\14\2\24\4\14\1\22\1\24\1\22\4\14"+
+    "\1\15\12\0\3\20\4\0\1\22\2\0\1\23\1\20"+
+    "\2\25\2\20\1\0\1\22\2\20\4\0\1\22\10\0"+
+    "\1\22\1\17\3\0\1\22\3\0\1\22\1\0\1\5"+
+    "\1\0\2\5\1\0\1\5\1\22\4\5\1\23\5\24"+
+    "\3\23\1\22\1\24\1\22\1\0\1\23\1\0\1\23"+
+    "\4\0\1\22\2\5\2\20\2\23\1\24\2\23\1\24"+
+    "\2\22\1\0\2\23\2\25\2\20\2\0\1\13\2\20"+
+    "\3\14\2\22\3\14\1\15\10\0\1\20\1\22\2\0"+
+    "\1\23\2\24\4\25\2\20\6\0\1\22\2\0\1\23"+
+    "\2\0\1\22\2\5\1\23\2\22\1\0\2\23\1\5"+
+    "\2\20\3\0\1\20\2\14\1\15\3\0\1\23\1\25"+
+    "\1\24\1\20\1\22\2\0\1\23\1\24\1\5\1\0"+
+    "\1\14\1\15\1\25\1\23\1\14\1\24\1\15\1\14"+
+    "\7\15";
+
+  private static int [] zzUnpackAction() {
+    int [] result = new int[903];
+    int offset = 0;
+    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackAction(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+
+  /** 
+   * Translates a state to a row index in the transition table
+   */
+  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
+
+  private static final String ZZ_ROWMAP_PACKED_0 =
+    "\0\0\0\114\0\230\0\344\0\u0130\0\u017c\0\u01c8\0\u01c8"+
+    "\0\u0214\0\u0260\0\u02ac\0\u02f8\0\u0344\0\u0390\0\u01c8\0\u0214"+
+    "\0\u01c8\0\u03dc\0\u0428\0\u0474\0\u04c0\0\u050c\0\u0558\0\u05a4"+
+    "\0\u05f0\0\u063c\0\u0688\0\u06d4\0\u0720\0\u076c\0\u07b8\0\u0804"+
+    "\0\u0850\0\u089c\0\u08e8\0\u0934\0\u0980\0\u09cc\0\u0a18\0\u0a64"+
+    "\0\u0ab0\0\u01c8\0\u0afc\0\u01c8\0\u0b48\0\u0b48\0\u0b94\0\u0be0"+
+    "\0\u0c2c\0\u0c78\0\u0cc4\0\u0d10\0\u0d5c\0\u0da8\0\u0df4\0\u0e40"+
+    "\0\u0e8c\0\u0ed8\0\u0f24\0\u0f70\0\u0fbc\0\u1008\0\u1054\0\u10a0"+
+    "\0\u01c8\0\u01c8\0\u10ec\0\u1138\0\u1184\0\u11d0\0\u121c\0\u1268"+
+    "\0\u12b4\0\u1300\0\u134c\0\u1398\0\u13e4\0\u1430\0\u147c\0\u14c8"+
+    "\0\u1514\0\u1560\0\u15ac\0\u15f8\0\u1644\0\u1690\0\u16dc\0\u1728"+
+    "\0\u1774\0\u17c0\0\u180c\0\u1858\0\u18a4\0\u18f0\0\u193c\0\u1988"+
+    "\0\u19d4\0\u18a4\0\u1a20\0\u121c\0\u1a6c\0\u134c\0\u1398\0\u1430"+
+    "\0\u1ab8\0\u1b04\0\u1b50\0\u1b9c\0\u1be8\0\u1c34\0\u1c80\0\u1ccc"+
+    "\0\u1d18\0\u1d64\0\u1db0\0\u1dfc\0\u1e48\0\u1e94\0\u1ee0\0\u1f2c"+
+    "\0\u0ab0\0\u1f78\0\u1fc4\0\u2010\0\u205c\0\u20a8\0\u20f4\0\u2140"+
+    "\0\u218c\0\u21d8\0\u2224\0\u2270\0\u22bc\0\u2308\0\u2354\0\u23a0"+
+    "\0\u23ec\0\u2438\0\u2484\0\u24d0\0\u251c\0\u2568\0\u25b4\0\u2600"+
+    "\0\u264c\0\u2698\0\u26e4\0\u2730\0\u01c8\0\u277c\0\u27c8\0\u2814"+
+    "\0\u2860\0\u28ac\0\u28f8\0\u2944\0\u2990\0\u29dc\0\u2a28\0\u2a74"+
+    "\0\u2ac0\0\u2b0c\0\u2b58\0\u2ba4\0\u2bf0\0\u2c3c\0\u2c88\0\u2cd4"+
+    "\0\u2d20\0\u2d6c\0\u2db8\0\u2e04\0\u2e50\0\u2e9c\0\u2ee8\0\u2d6c"+
+    "\0\u2f34\0\u2e50\0\u2f80\0\u2fcc\0\u3018\0\u3064\0\u30b0\0\u30fc"+
+    "\0\u3148\0\u3194\0\u31e0\0\u322c\0\u3278\0\u32c4\0\u3310\0\u3148"+
+    "\0\u335c\0\u33a8\0\u33f4\0\u3440\0\u30fc\0\u3064\0\u348c\0\u34d8"+
+    "\0\u3524\0\u3570\0\u35bc\0\u3608\0\u3654\0\u36a0\0\u36ec\0\u3738"+
+    "\0\u3784\0\u37d0\0\u381c\0\u3868\0\u121c\0\u38b4\0\u134c\0\u2b0c"+
+    "\0\u2ba4\0\u3900\0\u394c\0\u3998\0\u39e4\0\u3a30\0\u3a7c\0\u1858"+
+    "\0\u3ac8\0\u3b14\0\u3b60\0\u3bac\0\u3bf8\0\u3c44\0\u3c90\0\u3cdc"+
+    "\0\u3d28\0\u3d74\0\u3dc0\0\u3e0c\0\u3e58\0\u3ea4\0\u3ef0\0\u3f3c"+
+    "\0\u3f88\0\u3fd4\0\u4020\0\u406c\0\u40b8\0\u4104\0\u4150\0\u419c"+
+    "\0\u41e8\0\u4234\0\u4280\0\u42cc\0\u4318\0\u4364\0\u43b0\0\u43fc"+
+    "\0\u4448\0\u4494\0\u44e0\0\u452c\0\u4578\0\u45c4\0\u01c8\0\u4610"+
+    "\0\u465c\0\u46a8\0\u1858\0\u46f4\0\u3064\0\u4740\0\u478c\0\u47d8"+
+    "\0\u4824\0\u4870\0\u48bc\0\u4908\0\u4954\0\u49a0\0\u49ec\0\u4a38"+
+    "\0\u4a84\0\u4ad0\0\u4b1c\0\u4b68\0\u4bb4\0\u4c00\0\u4c4c\0\u4c98"+
+    "\0\u4ce4\0\u4d30\0\u4d7c\0\u4dc8\0\u4e14\0\u4e60\0\u4eac\0\u4ef8"+
+    "\0\u4f44\0\u4f90\0\u4fdc\0\u5028\0\u5074\0\u50c0\0\u510c\0\u5158"+
+    "\0\u51a4\0\u51f0\0\u523c\0\u5288\0\u52d4\0\u5320\0\u536c\0\u53b8"+
+    "\0\u5404\0\u5450\0\u549c\0\u54e8\0\u5534\0\u5580\0\u55cc\0\u5618"+
+    "\0\u5664\0\u56b0\0\u56fc\0\u5748\0\u56fc\0\u5794\0\u57e0\0\u582c"+
+    "\0\u5878\0\u58c4\0\u5910\0\u5794\0\u595c\0\u59a8\0\u59f4\0\u5a40"+
+    "\0\u5a8c\0\u5ad8\0\u5b24\0\u5a8c\0\u5a40\0\u5b70\0\u5bbc\0\u5c08"+
+    "\0\u5c54\0\u5ca0\0\u5cec\0\u5d38\0\u5d84\0\u5dd0\0\u5e1c\0\u5e68"+
+    "\0\u5eb4\0\u5f00\0\u5f4c\0\u5f98\0\u5fe4\0\u6030\0\u607c\0\u60c8"+
+    "\0\u6114\0\u6160\0\u61ac\0\u61f8\0\u6244\0\u6290\0\u62dc\0\u6328"+
+    "\0\u6374\0\u63c0\0\u640c\0\u6458\0\u64a4\0\u64f0\0\u653c\0\u63c0"+
+    "\0\u6588\0\u65d4\0\u6620\0\u666c\0\u66b8\0\u6704\0\u6750\0\u679c"+
+    "\0\u67e8\0\u6834\0\u6880\0\u68cc\0\u6918\0\u6964\0\u69b0\0\u69fc"+
+    "\0\u6588\0\u1430\0\u6a48\0\u6a94\0\u6ae0\0\u6b2c\0\u6a94\0\u6b78"+
+    "\0\u6bc4\0\u6c10\0\u6c5c\0\u6ca8\0\u6cf4\0\u6d40\0\u6d8c\0\u6dd8"+
+    "\0\u6e24\0\u6e70\0\u6ebc\0\u6f08\0\u6f54\0\u6fa0\0\u6fec\0\u7038"+
+    "\0\u7084\0\u70d0\0\u711c\0\u7168\0\u71b4\0\u7200\0\u724c\0\u7298"+
+    "\0\u72e4\0\u7330\0\u737c\0\u73c8\0\u7414\0\u7460\0\u74ac\0\u74f8"+
+    "\0\u7544\0\u7590\0\u75dc\0\u7628\0\u7674\0\u76c0\0\u770c\0\u7758"+
+    "\0\u77a4\0\u77f0\0\u783c\0\u7888\0\u78d4\0\u7920\0\u796c\0\u79b8"+
+    "\0\u7a04\0\u7a50\0\u7a9c\0\u7ae8\0\u7b34\0\u77f0\0\u7b80\0\u7bcc"+
+    "\0\u7c18\0\u7c64\0\u7cb0\0\u7cfc\0\u7d48\0\u7d94\0\u7de0\0\u7e2c"+
+    "\0\u7e78\0\u7ec4\0\u7f10\0\u7f5c\0\u7fa8\0\u7ff4\0\u8040\0\u808c"+
+    "\0\u80d8\0\u8124\0\u8170\0\u81bc\0\u8208\0\u8254\0\u82a0\0\u82ec"+
+    "\0\u8338\0\u8384\0\u83d0\0\u841c\0\u8468\0\u84b4\0\u8500\0\u854c"+
+    "\0\u8598\0\u85e4\0\u8630\0\u867c\0\u86c8\0\u8714\0\u8760\0\u87ac"+
+    "\0\u87f8\0\u8844\0\u8890\0\u88dc\0\u8928\0\u8974\0\u89c0\0\u8a0c"+
+    "\0\u8a58\0\u8760\0\u8aa4\0\u8af0\0\u8b3c\0\u8b88\0\u8bd4\0\u8c20"+
+    "\0\u8c6c\0\u8cb8\0\u8d04\0\u8d50\0\u8d9c\0\u8de8\0\u8e34\0\u8e80"+
+    "\0\u8ecc\0\u8f18\0\u8f64\0\u8fb0\0\u8ffc\0\u9048\0\u01c8\0\u9094"+
+    "\0\u90e0\0\u912c\0\u9178\0\u91c4\0\u9210\0\u925c\0\u92a8\0\u92a8"+
+    "\0\u92f4\0\u9340\0\u938c\0\u93d8\0\u9424\0\u9470\0\u94bc\0\u9508"+
+    "\0\u9554\0\u95a0\0\u95ec\0\u9638\0\u9684\0\u96d0\0\u971c\0\u9768"+
+    "\0\u97b4\0\u9800\0\u984c\0\u9898\0\u98e4\0\u9930\0\u997c\0\u99c8"+
+    "\0\u9a14\0\u9a60\0\u9aac\0\u9af8\0\u9b44\0\u9b90\0\u9bdc\0\u9c28"+
+    "\0\u9c74\0\u9cc0\0\u9d0c\0\u9d58\0\u9da4\0\u9df0\0\u9e3c\0\u9e88"+
+    "\0\u9ed4\0\u9f20\0\u75dc\0\u9f6c\0\u9fb8\0\ua004\0\ua050\0\ua09c"+
+    "\0\ua0e8\0\u9f6c\0\ua134\0\ua180\0\ua1cc\0\ua218\0\ua264\0\ua2b0"+
+    "\0\ua2fc\0\ua348\0\ua394\0\ua3e0\0\ua42c\0\ua478\0\ua4c4\0\ua510"+
+    "\0\ua55c\0\ua5a8\0\ua5f4\0\ua640\0\ua68c\0\ua6d8\0\ua724\0\ua770"+
+    "\0\u33f4\0\ua7bc\0\ua808\0\ua854\0\ua8a0\0\ua8ec\0\ua938\0\ua984"+
+    "\0\ua9d0\0\uaa1c\0\uaa68\0\uaab4\0\uab00\0\uab4c\0\uab98\0\uabe4"+
+    "\0\uac30\0\uac7c\0\uacc8\0\uad14\0\uad60\0\uadac\0\uadf8\0\uae44"+
+    "\0\uae90\0\uaedc\0\uaf28\0\uaf74\0\uafc0\0\ub00c\0\ub058\0\ub0a4"+
+    "\0\ub0f0\0\ub13c\0\u71b4\0\ub188\0\ub1d4\0\ub220\0\ub26c\0\u01c8"+
+    "\0\ub2b8\0\u5748\0\u71b4\0\u77f0\0\u724c\0\ub304\0\ub350\0\ub39c"+
+    "\0\u37d0\0\ub3e8\0\ub434\0\ub480\0\ub4cc\0\ub518\0\u77f0\0\ub564"+
+    "\0\ub5b0\0\ub5fc\0\ub648\0\ub694\0\ub6e0\0\ub72c\0\ub778\0\ub7c4"+
+    "\0\u7cb0\0\ub810\0\ub85c\0\ub8a8\0\ub8f4\0\ub940\0\ub98c\0\u37d0"+
+    "\0\ub9d8\0\uba24\0\u77f0\0\uba70\0\ubabc\0\ubb08\0\ubb54\0\ubba0"+
+    "\0\ubbec\0\ubc38\0\u8760\0\ubc38\0\ubc84\0\ubcd0\0\ubd1c\0\ubd68"+
+    "\0\ubdb4\0\u8760\0\ube00\0\ube4c\0\ube98\0\ubee4\0\ubf30\0\ubf7c"+
+    "\0\ubfc8\0\uc014\0\uc060\0\uc0ac\0\uc0f8\0\uc144\0\uc190\0\uc1dc"+
+    "\0\u0214\0\uc228\0\uc274\0\uc2c0\0\uc30c\0\uc358\0\uc3a4\0\uc3f0"+
+    "\0\u59f4\0\uc43c\0\uc488\0\uc4d4\0\uc520\0\uc56c\0\uc5b8\0\uc604"+
+    "\0\uc650\0\uc69c\0\u95a0\0\uc6e8\0\uc734\0\uc780\0\uc7cc\0\uc818"+
+    "\0\uc864\0\u5f00\0\uc8b0\0\uc8fc\0\uc948\0\uc994\0\uc9e0\0\uca2c"+
+    "\0\uca78\0\ucac4\0\ucb10\0\ucb5c\0\ucb5c\0\ucba8\0\ucbf4\0\ucc40"+
+    "\0\ucc8c\0\uccd8\0\ucd24\0\ucd70\0\ucdbc\0\uce08\0\uce54\0\ucea0"+
+    "\0\uceec\0\ucf38\0\ucf84\0\ua394\0\ucfd0\0\ud01c\0\ud068\0\ud0b4"+
+    "\0\ud100\0\u9f20\0\ua394\0\uaa68\0\ua42c\0\ud14c\0\ud198\0\ud1e4"+
+    "\0\ud230\0\ud27c\0\ud2c8\0\uaa68\0\ud314\0\ud360\0\ud3ac\0\ud3f8"+
+    "\0\ud444\0\ud490\0\ud4dc\0\ud528\0\ud574\0\ud5c0\0\ud60c\0\ud658"+
+    "\0\ud6a4\0\ud6f0\0\ub304\0\ud73c\0\ud788\0\ub39c\0\ud7d4\0\ud820"+
+    "\0\ud86c\0\ud8b8\0\ud904\0\ud950\0\ud99c\0\ud9e8\0\uda34\0\uda80"+
+    "\0\udacc\0\udb18\0\u01c8\0\udb64\0\udbb0\0\udbfc\0\udc48\0\udc94"+
+    "\0\udce0\0\udd2c\0\udd78\0\uddc4\0\ude10\0\ude5c\0\udea8\0\udef4"+
+    "\0\udf40\0\udf8c\0\udfd8\0\ue024\0\ue070\0\ue0bc\0\ue108\0\ue154"+
+    "\0\ue1a0\0\ue1ec\0\ue238\0\u59f4\0\u381c\0\ue284\0\ue2d0\0\ue31c"+
+    "\0\ue368\0\ue3b4\0\ue400\0\ue44c\0\ue498\0\ue4e4\0\ue530\0\ue57c"+
+    "\0\ue5c8\0\ua1cc\0\ue614\0\ue660\0\ue6ac\0\ue6f8\0\ue744\0\ue790"+
+    "\0\ue7dc\0\ue828\0\ue874\0\ue8c0\0\ue90c\0\ue958\0\ue9a4\0\ue9f0"+
+    "\0\uea3c\0\uea88\0\uead4\0\ueb20\0\ueb6c\0\uebb8\0\uec04\0\uec50"+
+    "\0\uec9c\0\uece8\0\ued34\0\ued80\0\uedcc\0\uee18\0\uee64\0\u95a0"+
+    "\0\ueeb0\0\ueefc\0\uef48\0\uef94\0\uefe0\0\ua1cc\0\uf02c\0\uf078"+
+    "\0\uf0c4\0\uf110\0\uf15c\0\uf1a8\0\uf1f4\0\udc94\0\uf240\0\uf28c"+
+    "\0\uf2d8\0\uf324\0\uf370\0\uf3bc\0\uf408\0\uf454\0\u01c8";
+
+  private static int [] zzUnpackRowMap() {
+    int [] result = new int[903];
+    int offset = 0;
+    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
+    int i = 0;  /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int high = packed.charAt(i++) << 16;
+      result[j++] = high | packed.charAt(i++);
+    }
+    return j;
+  }
+
+  /** 
+   * The transition table of the DFA
+   */
+  private static final int [] ZZ_TRANS = zzUnpackTrans();
+
+  private static final String ZZ_TRANS_PACKED_0 =
+    "\1\7\1\10\1\11\1\12\1\13\1\14\1\15\1\16"+
+    "\2\17\1\20\1\21\1\16\1\20\1\22\1\23\1\17"+
+    "\1\24\1\25\1\16\1\26\2\16\1\27\1\16\1\30"+
+    "\1\31\1\16\1\25\1\16\1\32\1\33\1\17\1\34"+
+    "\1\35\1\36\1\37\1\40\1\41\1\37\1\42\2\37"+
+    "\1\43\1\37\1\44\1\45\1\37\1\41\1\37\1\46"+
+    "\1\47\1\50\1\17\1\51\1\16\1\22\1\16\1\17"+
+    "\1\10\4\17\1\52\1\7\1\53\1\37\1\16\1\52"+
+    "\1\54\1\21\1\52\1\55\1\56\1\55\4\0\4\57"+
+    "\4\0\1\57\4\0\17\57\1\0\23\57\3\0\1\57"+
+    "\1\0\1\57\11\0\2\57\11\0\1\60\5\0\1\61"+
+    "\1\0\1\60\2\0\1\60\1\0\1\60\1\0\2\62"+
+    "\1\63\1\0\1\64\2\0\1\65\1\0\1\62\12\0"+
+    "\2\62\1\63\1\0\1\64\2\0\1\65\1\0\1\62"+
+    "\44\0\1\66\11\0\1\66\1\67\1\0\1\70\1\0"+
+    "\1\71\1\72\4\0\1\73\1\74\1\75\1\76\1\77"+
+    "\4\0\1\66\1\67\1\0\1\70\1\0\1\71\1\72"+
+    "\4\0\1\73\1\74\1\75\1\76\34\0\4\100\4\0"+
+    "\1\100\4\0\17\100\1\0\23\100\3\0\1\100\1\0"+
+    "\1\100\11\0\2\100\11\0\2\101\4\0\3\101\2\0"+
+    "\1\101\2\0\1\101\17\0\1\101\23\0\3\101\3\0"+
+    "\1\101\1\0\4\101\2\0\1\101\3\0\3\101\1\0"+
+    "\2\101\135\0\2\102\1\103\1\104\1\0\1\104\3\0"+
+    "\1\102\12\0\2\102\1\103\1\104\1\0\1\104\3\0"+
+    "\1\102\41\0\1\105\34\0\1\105\53\0\1\106\1\107"+
+    "\1\110\4\111\2\112\1\113\1\0\1\111\1\114\1\115"+
+    "\1\116\1\117\1\120\5\111\1\121\1\122\1\111\1\123"+
+    "\5\111\1\124\4\111\1\120\5\111\1\121\1\122\1\111"+
+    "\1\123\5\111\1\125\2\112\1\111\1\115\1\111\1\126"+
+    "\1\127\2\112\1\130\1\112\2\0\1\112\2\111\5\0"+
+    "\1\112\2\0\1\106\1\107\1\110\4\111\2\112\1\113"+
+    "\1\0\1\111\1\114\1\115\1\116\1\117\1\120\2\111"+
+    "\1\131\2\111\1\121\2\111\1\123\3\111\1\132\1\111"+
+    "\1\124\4\111\1\120\2\111\1\131\2\111\1\121\2\111"+
+    "\1\123\3\111\1\132\1\111\1\125\2\112\1\111\1\115"+
+    "\1\111\1\126\1\127\2\112\1\130\1\112\2\0\1\112"+
+    "\2\111\5\0\1\112\2\0\1\106\1\107\1\110\4\111"+
+    "\2\112\1\113\1\0\1\111\1\114\1\115\1\116\1\117"+
+    "\1\120\5\111\1\121\4\111\1\133\3\111\1\134\4\111"+
+    "\1\120\5\111\1\121\4\111\1\133\3\111\1\125\2\112"+
+    "\1\111\1\115\1\111\1\126\1\127\2\112\1\130\1\112"+
+    "\2\0\1\112\2\111\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\4\111\2\112\1\113\1\0\1\111\1\114\1\115"+
+    "\1\116\1\117\1\120\5\111\1\121\10\111\1\134\4\111"+
+    "\1\120\5\111\1\121\10\111\1\125\2\112\1\111\1\115"+
+    "\1\111\1\126\1\127\2\112\1\130\1\112\2\0\1\112"+
+    "\2\111\5\0\1\112\10\0\1\135\6\0\2\22\1\0"+
+    "\1\135\2\0\1\136\3\0\1\137\7\0\1\140\4\0"+
+    "\1\135\2\0\1\136\3\0\1\137\10\0\1\140\2\0"+
+    "\1\22\1\0\1\141\30\0\1\135\6\0\2\22\1\0"+
+    "\1\142\1\102\1\103\1\143\1\0\1\104\1\0\1\137"+
+    "\1\0\1\102\5\0\1\140\4\0\1\142\1\102\1\103"+
+    "\1\143\1\0\1\104\1\0\1\137\1\0\1\102\6\0"+
+    "\1\140\2\0\1\22\1\0\1\141\22\0\1\106\1\144"+
+    "\1\145\4\111\2\112\1\146\1\0\1\111\1\147\1\115"+
+    "\1\150\1\117\1\120\5\111\1\121\10\111\1\134\4\111"+
+    "\1\120\5\111\1\121\10\111\1\125\2\112\1\111\1\115"+
+    "\1\111\1\126\1\127\2\112\1\130\1\112\2\0\1\112"+
+    "\2\111\5\0\1\112\2\0\1\106\1\107\1\110\4\111"+
+    "\2\112\1\113\1\0\1\111\1\114\1\115\1\116\1\117"+
+    "\1\120\2\111\1\151\2\111\1\121\10\111\1\134\4\111"+
+    "\1\120\2\111\1\151\2\111\1\121\10\111\1\125\2\112"+
+    "\1\111\1\115\1\111\1\126\1\127\2\112\1\130\1\112"+
+    "\2\0\1\112\2\111\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\4\111\2\112\1\113\1\0\1\111\1\114\1\115"+
+    "\1\116\1\117\1\120\3\111\1\152\1\111\1\121\10\111"+
+    "\1\134\4\111\1\120\3\111\1\152\1\111\1\121\10\111"+
+    "\1\125\2\112\1\111\1\115\1\111\1\126\1\127\2\112"+
+    "\1\130\1\112\2\0\1\112\2\111\5\0\1\112\2\0"+
+    "\1\106\1\153\1\154\4\111\2\112\1\155\1\0\1\111"+
+    "\1\156\1\115\1\157\1\117\1\120\5\111\1\121\10\111"+
+    "\1\134\4\111\1\120\5\111\1\121\10\111\1\125\2\112"+
+    "\1\111\1\115\1\111\1\126\1\127\2\112\1\130\1\112"+
+    "\2\0\1\112\2\111\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\2\111\1\152\1\111\2\112\1\113\1\0\1\111"+
+    "\1\114\1\115\1\116\1\117\1\120\3\111\1\160\1\111"+
+    "\1\121\10\111\1\134\2\111\1\152\1\111\1\120\3\111"+
+    "\1\160\1\111\1\121\10\111\1\125\2\112\1\111\1\115"+
+    "\1\111\1\126\1\127\2\112\1\130\1\112\2\0\1\112"+
+    "\2\111\5\0\1\112\2\0\1\106\1\107\1\110\1\161"+
+    "\2\111\1\151\2\112\1\113\1\0\1\111\1\114\1\115"+
+    "\1\116\1\117\1\162\2\111\1\163\2\111\1\121\3\111"+
+    "\1\164\4\111\1\134\1\161\3\111\1\162\2\111\1\163"+
+    "\2\111\1\121\3\111\1\164\4\111\1\125\2\112\1\111"+
+    "\1\115\1\164\1\126\1\127\2\112\1\130\1\112\2\0"+
+    "\1\112\2\111\5\0\1\112\2\0\1\106\1\107\1\110"+
+    "\2\111\1\160\1\111\2\112\1\113\1\0\1\111\1\114"+
+    "\1\115\1\116\1\117\1\120\5\111\1\121\10\111\1\134"+
+    "\2\111\1\160\1\111\1\120\5\111\1\121\10\111\1\125"+
+    "\2\112\1\111\1\115\1\111\1\126\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\2\111\1\165\1\111\2\112\1\113\1\0"+
+    "\1\111\1\114\1\115\1\116\1\117\1\120\5\111\1\121"+
+    "\10\111\1\134\2\111\1\165\1\111\1\120\5\111\1\121"+
+    "\10\111\1\125\2\112\1\111\1\115\1\111\1\126\1\127"+
+    "\2\112\1\130\1\112\2\0\1\112\2\111\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\111\2\112\1\113\1\0"+
+    "\1\111\1\114\1\115\1\116\1\117\1\120\5\111\1\121"+
+    "\1\122\1\111\1\123\5\111\1\166\4\111\1\120\5\111"+
+    "\1\121\1\122\1\111\1\123\5\111\1\125\2\112\1\111"+
+    "\1\115\1\111\1\126\1\127\2\112\1\130\1\112\2\0"+
+    "\1\112\2\111\5\0\1\112\2\0\1\106\1\107\1\110"+
+    "\4\111\2\112\1\113\1\0\1\111\1\114\1\115\1\116"+
+    "\1\117\1\120\2\111\1\131\2\111\1\121\2\111\1\123"+
+    "\3\111\1\132\1\111\1\166\4\111\1\120\2\111\1\131"+
+    "\2\111\1\121\2\111\1\123\3\111\1\132\1\111\1\125"+
+    "\2\112\1\111\1\115\1\111\1\126\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\4\111\2\112\1\113\1\0\1\111\1\114"+
+    "\1\115\1\116\1\117\1\120\5\111\1\121\4\111\1\133"+
+    "\3\111\1\167\4\111\1\120\5\111\1\121\4\111\1\133"+
+    "\3\111\1\125\2\112\1\111\1\115\1\111\1\126\1\127"+
+    "\2\112\1\130\1\112\2\0\1\112\2\111\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\111\2\112\1\113\1\0"+
+    "\1\111\1\114\1\115\1\116\1\117\1\120\5\111\1\121"+
+    "\10\111\1\167\4\111\1\120\5\111\1\121\10\111\1\125"+
+    "\2\112\1\111\1\115\1\111\1\126\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\144\1\145\4\111\2\112\1\146\1\0\1\111\1\147"+
+    "\1\115\1\150\1\117\1\120\5\111\1\121\10\111\1\167"+
+    "\4\111\1\120\5\111\1\121\10\111\1\125\2\112\1\111"+
+    "\1\115\1\111\1\126\1\127\2\112\1\130\1\112\2\0"+
+    "\1\112\2\111\5\0\1\112\2\0\1\106\1\107\1\110"+
+    "\4\111\2\112\1\113\1\0\1\111\1\114\1\115\1\116"+
+    "\1\117\1\120\2\111\1\151\2\111\1\121\10\111\1\167"+
+    "\4\111\1\120\2\111\1\151\2\111\1\121\10\111\1\125"+
+    "\2\112\1\111\1\115\1\111\1\126\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\4\111\2\112\1\113\1\0\1\111\1\114"+
+    "\1\115\1\116\1\117\1\120\3\111\1\152\1\111\1\121"+
+    "\10\111\1\167\4\111\1\120\3\111\1\152\1\111\1\121"+
+    "\10\111\1\125\2\112\1\111\1\115\1\111\1\126\1\127"+
+    "\2\112\1\130\1\112\2\0\1\112\2\111\5\0\1\112"+
+    "\2\0\1\106\1\153\1\154\4\111\2\112\1\155\1\0"+
+    "\1\111\1\156\1\115\1\157\1\117\1\120\5\111\1\121"+
+    "\10\111\1\167\4\111\1\120\5\111\1\121\10\111\1\125"+
+    "\2\112\1\111\1\115\1\111\1\126\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\2\111\1\152\1\111\2\112\1\113\1\0"+
+    "\1\111\1\114\1\115\1\116\1\117\1\120\3\111\1\160"+
+    "\1\111\1\121\10\111\1\167\2\111\1\152\1\111\1\120"+
+    "\3\111\1\160\1\111\1\121\10\111\1\125\2\112\1\111"+
+    "\1\115\1\111\1\126\1\127\2\112\1\130\1\112\2\0"+
+    "\1\112\2\111\5\0\1\112\2\0\1\106\1\107\1\110"+
+    "\1\161\2\111\1\151\2\112\1\113\1\0\1\111\1\114"+
+    "\1\115\1\116\1\117\1\162\2\111\1\163\2\111\1\121"+
+    "\3\111\1\164\4\111\1\167\1\161\3\111\1\162\2\111"+
+    "\1\163\2\111\1\121\3\111\1\164\4\111\1\125\2\112"+
+    "\1\111\1\115\1\164\1\126\1\127\2\112\1\130\1\112"+
+    "\2\0\1\112\2\111\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\2\111\1\160\1\111\2\112\1\113\1\0\1\111"+
+    "\1\114\1\115\1\116\1\117\1\120\5\111\1\121\10\111"+
+    "\1\167\2\111\1\160\1\111\1\120\5\111\1\121\10\111"+
+    "\1\125\2\112\1\111\1\115\1\111\1\126\1\127\2\112"+
+    "\1\130\1\112\2\0\1\112\2\111\5\0\1\112\2\0"+
+    "\1\106\1\107\1\110\2\111\1\165\1\111\2\112\1\113"+
+    "\1\0\1\111\1\114\1\115\1\116\1\117\1\120\5\111"+
+    "\1\121\10\111\1\167\2\111\1\165\1\111\1\120\5\111"+
+    "\1\121\10\111\1\125\2\112\1\111\1\115\1\111\1\126"+
+    "\1\127\2\112\1\130\1\112\2\0\1\112\2\111\5\0"+
+    "\1\112\5\0\3\170\10\0\14\170\1\0\4\170\1\0"+
+    "\23\170\3\0\3\170\11\0\2\170\13\0\4\171\4\0"+
+    "\1\171\1\0\2\171\1\0\17\171\1\0\23\171\3\0"+
+    "\3\171\11\0\2\171\13\0\1\172\11\0\2\172\2\0"+
+    "\1\172\2\0\1\172\6\0\1\172\2\0\1\172\1\0"+
+    "\1\172\4\0\1\172\2\0\1\172\6\0\1\172\2\0"+
+    "\1\172\4\0\1\172\12\0\2\172\120\0\3\55\4\0"+
+    "\4\173\4\0\4\173\1\0\17\173\1\0\23\173\3\0"+
+    "\3\173\11\0\2\173\30\0\1\101\23\0\1\101\55\0"+
+    "\1\174\11\0\1\174\23\0\1\174\50\0\1\101\5\0"+
+    "\1\175\1\0\1\101\2\0\1\101\1\0\1\101\117\0"+
+    "\1\62\23\0\1\62\70\0\1\62\1\0\1\62\21\0"+
+    "\1\62\1\0\1\62\43\0\1\176\5\0\1\177\1\0"+
+    "\1\176\2\0\1\176\1\0\1\176\103\0\1\200\11\0"+
+    "\1\200\2\0\1\201\1\202\4\0\1\203\12\0\1\200"+
+    "\2\0\1\201\1\202\4\0\1\203\73\0\1\204\1\0"+
+    "\1\205\21\0\1\204\53\0\1\203\2\0\1\206\4\0"+
+    "\1\203\1\0\1\203\11\0\1\203\2\0\1\206\4\0"+
+    "\1\203\1\0\1\203\41\0\1\207\16\0\1\210\15\0"+
+    "\1\207\5\0\1\210\50\0\1\211\16\0\1\207\15\0"+
+    "\1\211\5\0\1\207\50\0\1\202\34\0\1\202\100\0"+
+    "\1\212\23\0\1\212\76\0\1\213\23\0\1\213\64\0"+
+    "\1\214\23\0\1\214\42\0\1\66\11\0\1\66\1\67"+
+    "\1\0\1\70\1\0\1\71\1\72\4\0\1\73\1\74"+
+    "\1\75\1\76\5\0\1\66\1\67\1\0\1\70\1\0"+
+    "\1\71\1\72\4\0\1\73\1\74\1\75\1\76\34\0"+
+    "\4\215\4\0\1\215\3\216\1\217\17\215\1\220\23\215"+
+    "\3\0\1\215\1\216\1\215\1\221\1\222\2\0\1\217"+
+    "\4\0\2\215\32\0\1\102\23\0\1\102\71\0\1\102"+
+    "\23\0\1\102\47\0\1\223\34\0\1\223\55\0\4\224"+
+    "\4\0\1\224\4\0\17\224\1\0\23\224\3\0\1\224"+
+    "\1\0\1\224\11\0\2\224\30\0\2\225\1\226\1\227"+
+    "\1\0\1\227\3\0\1\225\12\0\2\225\1\226\1\227"+
+    "\1\0\1\227\3\0\1\225\41\0\1\230\1\231\1\232"+
+    "\1\233\4\0\1\233\4\0\1\233\1\234\1\233\1\235"+
+    "\4\233\1\236\1\237\1\233\1\234\1\233\1\240\1\241"+
+    "\1\0\1\230\1\231\1\232\2\233\1\234\1\233\1\235"+
+    "\4\233\1\236\1\237\1\233\1\234\1\233\1\240\1\241"+
+    "\3\0\1\233\1\0\1\233\11\0\2\233\10\0\1\106"+
+    "\1\107\1\110\4\111\2\112\1\113\1\0\1\111\1\242"+
+    "\1\243\1\244\1\117\1\120\5\111\1\121\10\111\1\134"+
+    "\4\111\1\120\5\111\1\121\10\111\1\245\2\112\1\111"+
+    "\1\243\1\111\1\246\1\127\2\112\1\130\1\112\2\0"+
+    "\1\112\2\111\5\0\1\112\5\0\1\247\1\250\1\251"+
+    "\13\0\1\252\1\0\1\253\4\0\1\254\1\255\1\0"+
+    "\1\252\1\0\1\256\1\257\1\0\1\247\1\250\1\251"+
+    "\2\0\1\252\1\0\1\253\4\0\1\254\1\255\1\0"+
+    "\1\252\1\0\1\256\1\257\34\0\1\247\1\250\1\251"+
+    "\12\0\1\225\1\260\1\226\1\261\1\0\1\227\2\0"+
+    "\1\254\1\262\1\0\1\252\1\0\1\256\1\257\1\0"+
+    "\1\247\1\250\1\251\1\0\1\225\1\260\1\226\1\261"+
+    "\1\0\1\227\2\0\1\254\1\262\1\0\1\252\1\0"+
+    "\1\256\1\257\31\0\1\106\1\107\1\110\1\263\1\264"+
+    "\1\265\1\266\2\112\1\113\1\0\1\266\1\113\1\115"+
+    "\1\116\1\267\1\270\1\271\1\272\1\273\1\266\1\274"+
+    "\1\275\1\266\1\276\1\277\1\266\1\300\1\266\1\301"+
+    "\1\302\1\303\1\263\1\264\1\265\1\266\1\270\1\271"+
+    "\1\272\1\273\1\266\1\274\1\275\1\266\1\276\1\277"+
+    "\1\266\1\300\1\266\1\301\1\302\1\125\2\112\1\266"+
+    "\1\115\1\266\1\112\1\304\4\112\2\0\1\112\2\266"+
+    "\5\0\1\112\2\0\1\106\1\107\1\110\4\266\2\112"+
+    "\1\113\1\0\1\266\1\113\1\115\1\116\1\267\1\305"+
+    "\5\266\1\275\10\266\1\303\4\266\1\305\5\266\1\275"+
+    "\10\266\1\125\2\112\1\266\1\115\1\266\1\112\1\304"+
+    "\4\112\2\0\1\112\2\266\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\4\266\2\112\1\113\1\0\1\266\1\113"+
+    "\1\115\1\116\1\267\1\270\1\306\1\272\1\274\1\266"+
+    "\1\274\1\275\2\266\1\306\5\266\1\303\4\266\1\270"+
+    "\1\306\1\272\1\274\1\266\1\274\1\275\2\266\1\306"+
+    "\5\266\1\125\2\112\1\266\1\115\1\266\1\112\1\304"+
+    "\4\112\2\0\1\112\2\266\5\0\1\112\5\0\1\307"+
+    "\1\310\1\311\1\312\4\0\1\312\3\0\1\313\1\312"+
+    "\1\314\1\312\1\315\4\312\1\316\1\317\1\312\1\314"+
+    "\1\312\1\320\1\321\1\322\1\307\1\310\1\311\2\312"+
+    "\1\314\1\312\1\315\4\312\1\316\1\317\1\312\1\314"+
+    "\1\312\1\320\1\321\1\323\2\0\1\312\1\0\1\312"+
+    "\1\324\1\322\2\0\1\322\4\0\2\312\10\0\1\106"+
+    "\1\325\1\326\4\111\2\112\1\327\1\0\1\111\1\330"+
+    "\1\243\1\331\1\117\1\120\5\111\1\121\10\111\1\134"+
+    "\4\111\1\120\5\111\1\121\10\111\1\245\2\112\1\111"+
+    "\1\243\1\111\1\246\1\127\2\112\1\130\1\112\2\0"+
+    "\1\112\2\111\5\0\1\112\2\0\1\106\1\332\1\333"+
+    "\4\111\2\112\1\334\1\0\1\111\1\335\1\243\1\336"+
+    "\1\117\1\120\5\111\1\121\10\111\1\134\4\111\1\120"+
+    "\5\111\1\121\10\111\1\245\2\112\1\111\1\243\1\111"+
+    "\1\246\1\127\2\112\1\130\1\112\2\0\1\112\2\111"+
+    "\5\0\1\112\2\0\1\106\1\107\1\110\4\111\2\112"+
+    "\1\113\1\0\1\111\1\242\1\243\1\244\1\117\1\120"+
+    "\5\111\1\121\1\337\7\111\1\134\4\111\1\120\5\111"+
+    "\1\121\1\337\7\111\1\245\2\112\1\111\1\243\1\111"+
+    "\1\246\1\127\2\112\1\130\1\112\2\0\1\112\2\111"+
+    "\5\0\1\112\2\0\1\106\1\107\1\110\4\111\2\112"+
+    "\1\113\1\0\1\111\1\242\1\243\1\244\1\117\1\120"+
+    "\5\111\1\121\10\111\1\340\4\111\1\120\5\111\1\121"+
+    "\10\111\1\245\2\112\1\111\1\243\1\111\1\246\1\127"+
+    "\2\112\1\130\1\112\2\0\1\112\2\111\5\0\1\112"+
+    "\5\0\1\341\1\342\1\343\1\344\4\0\1\344\3\0"+
+    "\1\322\1\345\1\346\1\345\1\347\4\345\1\350\1\351"+
+    "\1\344\1\346\1\345\1\352\1\353\1\322\1\341\1\342"+
+    "\1\343\2\345\1\346\1\345\1\347\4\345\1\350\1\351"+
+    "\1\345\1\346\1\345\1\352\1\353\1\323\2\0\1\345"+
+    "\1\0\1\345\1\324\1\322\2\0\1\322\4\0\2\345"+
+    "\13\0\1\354\1\355\1\356\1\357\4\0\1\357\4\0"+
+    "\1\357\1\360\1\357\1\361\4\357\1\362\1\363\1\357"+
+    "\1\360\1\357\1\364\1\365\1\0\1\354\1\355\1\356"+
+    "\2\357\1\360\1\357\1\361\4\357\1\362\1\363\1\357"+
+    "\1\360\1\357\1\364\1\365\3\0\1\357\1\0\1\357"+
+    "\11\0\2\357\13\0\1\247\1\250\1\251\13\0\1\252"+
+    "\1\0\1\253\4\0\1\254\1\255\1\0\1\252\1\0"+
+    "\1\256\1\257\1\0\1\247\1\250\1\251\2\0\1\252"+
+    "\1\0\1\253\4\0\1\254\1\255\1\0\1\252\1\0"+
+    "\1\256\1\257\10\0\1\366\23\0\4\367\4\0\1\367"+
+    "\3\0\1\322\17\367\1\322\23\367\1\323\2\0\1\367"+
+    "\1\0\1\367\1\324\1\370\2\0\1\322\4\0\2\367"+
+    "\13\0\1\371\1\372\1\373\1\374\4\0\1\374\3\0"+
+    "\1\322\1\374\1\375\1\374\1\376\4\374\1\377\1\u0100"+
+    "\1\374\1\375\1\374\1\u0101\1\u0102\1\322\1\371\1\372"+
+    "\1\373\2\374\1\375\1\374\1\376\4\374\1\377\1\u0100"+
+    "\1\374\1\375\1\374\1\u0101\1\u0102\1\323\2\0\1\374"+
+    "\1\0\1\374\1\324\1\322\2\0\1\322\4\0\2\374"+
+    "\10\0\1\106\1\107\1\110\2\111\1\u0103\1\111\2\112"+
+    "\1\113\1\0\1\111\1\242\1\243\1\244\1\117\1\120"+
+    "\3\111\1\u0104\1\111\1\121\10\111\1\134\2\111\1\u0103"+
+    "\1\111\1\120\3\111\1\u0104\1\111\1\121\10\111\1\245"+
+    "\2\112\1\111\1\243\1\111\1\246\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\4\111\2\112\1\113\1\0\1\111\1\242"+
+    "\1\243\1\244\1\117\1\120\1\151\4\111\1\121\10\111"+
+    "\1\u0105\4\111\1\120\1\151\4\111\1\121\10\111\1\245"+
+    "\2\112\1\111\1\243\1\111\1\246\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\4\111\2\112\1\113\1\0\1\111\1\242"+
+    "\1\243\1\244\1\117\1\120\5\111\1\121\7\111\1\151"+
+    "\1\134\4\111\1\120\5\111\1\121\7\111\1\151\1\245"+
+    "\2\112\1\111\1\243\1\111\1\246\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\5\0\1\341"+
+    "\1\342\1\343\1\344\4\0\1\344\3\0\1\322\1\345"+
+    "\1\346\1\345\1\347\4\345\1\350\1\u0106\1\344\1\346"+
+    "\1\345\1\352\1\353\1\322\1\341\1\342\1\343\2\345"+
+    "\1\346\1\345\1\347\4\345\1\350\1\u0106\1\345\1\346"+
+    "\1\345\1\352\1\353\1\323\2\0\1\345\1\0\1\345"+
+    "\1\324\1\322\2\0\1\322\4\0\2\345\37\0\1\u0107"+
+    "\23\0\1\u0107\61\0\1\u0107\23\0\1\u0107\103\0\1\u0107"+
+    "\23\0\1\u0107\47\0\2\u0108\50\0\1\u0108\41\0\2\u0109"+
+    "\50\0\1\u0109\45\0\1\u0107\2\0\1\102\20\0\1\u0107"+
+    "\2\0\1\102\46\0\1\u010a\1\231\1\232\1\233\4\0"+
+    "\1\233\4\0\1\233\1\234\1\233\1\235\4\233\1\236"+
+    "\1\237\1\233\1\234\1\233\1\240\1\241\1\0\1\u010a"+
+    "\1\231\1\232\2\233\1\234\1\233\1\235\4\233\1\236"+
+    "\1\237\1\233\1\234\1\233\1\240\1\241\3\0\1\233"+
+    "\1\0\1\233\11\0\2\233\10\0\1\106\1\107\1\110"+
+    "\4\111\2\112\1\113\1\0\1\111\1\242\1\243\1\244"+
+    "\1\117\1\120\5\111\1\121\10\111\1\u010b\4\111\1\120"+
+    "\5\111\1\121\10\111\1\245\2\112\1\111\1\243\1\111"+
+    "\1\246\1\127\2\112\1\130\1\112\2\0\1\112\2\111"+
+    "\5\0\1\112\2\0\1\106\1\107\1\110\4\111\2\112"+
+    "\1\113\1\0\1\111\1\242\1\243\1\244\1\117\1\120"+
+    "\4\111\1\151\1\121\10\111\1\134\4\111\1\120\4\111"+
+    "\1\151\1\121\10\111\1\245\2\112\1\111\1\243\1\111"+
+    "\1\246\1\127\2\112\1\130\1\112\2\0\1\112\2\111"+
+    "\5\0\1\112\22\0\2\225\1\226\1\227\1\0\1\227"+
+    "\1\0\1\102\1\0\1\225\12\0\2\225\1\226\1\227"+
+    "\1\0\1\227\1\0\1\102\1\0\1\225\41\0\1\u010c"+
+    "\1\231\1\232\1\233\4\0\1\233\4\0\1\233\1\234"+
+    "\1\233\1\235\4\233\1\236\1\237\1\233\1\234\1\233"+
+    "\1\240\1\241\1\0\1\u010c\1\231\1\232\2\233\1\234"+
+    "\1\233\1\235\4\233\1\236\1\237\1\233\1\234\1\233"+
+    "\1\240\1\241\3\0\1\233\1\0\1\233\11\0\2\233"+
+    "\13\0\1\247\1\250\1\251\12\0\1\225\1\260\1\226"+
+    "\1\261\1\0\1\227\1\0\1\102\1\254\1\262\1\0"+
+    "\1\252\1\0\1\256\1\257\1\0\1\247\1\250\1\251"+
+    "\1\0\1\225\1\260\1\226\1\261\1\0\1\227\1\0"+
+    "\1\102\1\254\1\262\1\0\1\252\1\0\1\256\1\257"+
+    "\31\0\1\106\1\107\1\110\1\263\1\264\1\265\1\266"+
+    "\2\112\1\113\1\0\1\266\1\113\1\115\1\116\1\267"+
+    "\1\270\1\271\1\272\1\273\1\266\1\274\1\275\1\u010d"+
+    "\1\276\1\277\1\266\1\300\1\266\1\301\1\302\1\303"+
+    "\1\263\1\264\1\265\1\266\1\270\1\271\1\272\1\273"+
+    "\1\266\1\274\1\275\1\u010d\1\276\1\277\1\266\1\300"+
+    "\1\266\1\301\1\302\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\266\2\112\1\113\1\0"+
+    "\1\266\1\113\1\115\1\116\1\267\1\270\1\306\1\272"+
+    "\1\274\1\266\1\274\1\275\1\u010d\1\266\1\306\5\266"+
+    "\1\303\4\266\1\270\1\306\1\272\1\274\1\266\1\274"+
+    "\1\275\1\u010d\1\266\1\306\5\266\1\125\2\112\1\266"+
+    "\1\115\1\266\1\112\1\304\4\112\2\0\1\112\2\266"+
+    "\5\0\1\112\2\0\1\106\1\107\1\110\4\111\2\112"+
+    "\1\113\1\0\1\111\1\242\1\243\1\244\1\117\1\120"+
+    "\5\111\1\u010e\10\111\1\134\4\111\1\120\5\111\1\u010e"+
+    "\10\111\1\245\2\112\1\111\1\243\1\111\1\246\1\127"+
+    "\2\112\1\130\1\112\2\0\1\112\2\111\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\3\111\1\u010f\2\112\1\113"+
+    "\1\0\1\111\1\242\1\243\1\244\1\117\1\u0110\5\111"+
+    "\1\121\10\111\1\134\4\111\1\u0110\5\111\1\121\10\111"+
+    "\1\245\2\112\1\111\1\243\1\111\1\246\1\127\2\112"+
+    "\1\130\1\112\2\0\1\112\2\111\5\0\1\112\2\0"+
+    "\1\106\1\325\1\326\4\111\2\112\1\327\1\0\1\111"+
+    "\1\330\1\243\1\331\1\117\1\120\5\111\1\121\10\111"+
+    "\1\u010b\4\111\1\120\5\111\1\121\10\111\1\245\2\112"+
+    "\1\111\1\243\1\111\1\246\1\127\2\112\1\130\1\112"+
+    "\2\0\1\112\2\111\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\3\111\1\151\2\112\1\113\1\0\1\111\1\242"+
+    "\1\243\1\244\1\117\1\162\5\111\1\121\10\111\1\u010b"+
+    "\4\111\1\162\5\111\1\121\10\111\1\245\2\112\1\111"+
+    "\1\243\1\111\1\246\1\127\2\112\1\130\1\112\2\0"+
+    "\1\112\2\111\5\0\1\112\2\0\1\106\1\107\1\110"+
+    "\3\111\1\u0104\2\112\1\113\1\0\1\111\1\242\1\243"+
+    "\1\244\1\117\1\u0111\5\111\1\121\10\111\1\134\4\111"+
+    "\1\u0111\5\111\1\121\10\111\1\245\2\112\1\111\1\243"+
+    "\1\111\1\246\1\127\2\112\1\130\1\112\2\0\1\112"+
+    "\2\111\5\0\1\112\2\0\1\106\1\107\1\110\1\u0112"+
+    "\3\111\2\112\1\113\1\0\1\111\1\242\1\243\1\244"+
+    "\1\117\1\120\5\111\1\121\10\111\1\134\1\u0112\3\111"+
+    "\1\120\5\111\1\121\10\111\1\245\2\112\1\111\1\243"+
+    "\1\111\1\246\1\127\2\112\1\130\1\112\2\0\1\112"+
+    "\2\111\5\0\1\112\5\0\1\u0113\1\u0114\1\u0115\1\u0116"+
+    "\4\0\1\u0116\3\0\1\322\1\u0117\1\u0118\1\u0117\1\u0119"+
+    "\4\u0117\1\u011a\1\u011b\1\u0116\1\u0118\1\u0117\1\u011c\1\u011d"+
+    "\1\322\1\u0113\1\u0114\1\u0115\2\u0117\1\u0118\1\u0117\1\u0119"+
+    "\4\u0117\1\u011a\1\u011b\1\u0117\1\u0118\1\u0117\1\u011c\1\u011d"+
+    "\1\323\2\0\1\u0117\1\0\1\u0117\1\324\1\322\2\0"+
+    "\1\322\4\0\2\u0117\13\0\1\u0113\1\u0114\1\u0115\1\u0116"+
+    "\4\0\1\u0116\3\0\1\322\1\u0117\1\u0118\1\u0117\1\u0119"+
+    "\4\u0117\1\u011a\1\u011e\1\u0116\1\u0118\1\u0117\1\u011c\1\u011d"+
+    "\1\322\1\u0113\1\u0114\1\u0115\2\u0117\1\u0118\1\u0117\1\u0119"+
+    "\4\u0117\1\u011a\1\u011e\1\u0117\1\u0118\1\u0117\1\u011c\1\u011d"+
+    "\1\323\2\0\1\u0117\1\0\1\u0117\1\324\1\322\2\0"+
+    "\1\322\4\0\2\u0117\13\0\3\u011f\10\0\14\u011f\1\0"+
+    "\4\u011f\1\0\23\u011f\3\0\3\u011f\11\0\2\u011f\13\0"+
+    "\1\u0107\11\0\2\u0107\2\0\1\u0107\2\0\1\u0107\6\0"+
+    "\1\u0107\2\0\1\u0107\1\0\1\u0107\4\0\1\u0107\2\0"+
+    "\1\u0107\6\0\1\u0107\2\0\1\u0107\4\0\1\u0107\12\0"+
+    "\2\u0107\13\0\4\173\4\0\1\173\1\0\2\173\1\0"+
+    "\17\173\1\0\23\173\3\0\3\173\11\0\2\173\15\0"+
+    "\1\u0120\34\0\1\u0120\57\0\1\u0121\11\0\1\u0121\23\0"+
+    "\1\u0121\75\0\1\101\23\0\1\101\47\0\1\u0122\11\0"+
+    "\1\u0122\23\0\1\u0122\101\0\1\201\23\0\1\201\11\0"+
+    "\1\201\54\0\1\203\23\0\1\203\61\0\1\204\23\0"+
+    "\1\204\46\0\1\101\4\0\3\101\2\0\1\101\2\0"+
+    "\1\101\17\0\1\101\23\0\3\101\3\0\1\101\1\0"+
+    "\4\101\2\0\1\101\7\0\1\101\6\0\1\203\34\0"+
+    "\1\203\107\0\1\204\23\0\1\204\61\0\1\u0123\23\0"+
+    "\1\u0123\70\0\1\203\23\0\1\203\62\0\1\203\23\0"+
+    "\1\203\101\0\1\203\23\0\1\203\61\0\1\u0124\23\0"+
+    "\1\u0124\43\0\1\u0125\34\0\1\u0125\60\0\1\203\34\0"+
+    "\1\203\54\0\4\215\4\0\1\215\3\u0126\1\217\17\215"+
+    "\1\220\23\215\1\u0127\2\0\1\215\1\u0126\1\215\1\u0128"+
+    "\1\222\2\0\1\217\4\0\2\215\13\0\4\u0129\4\0"+
+    "\1\u0129\1\0\2\216\1\0\17\u0129\1\u012a\23\u0129\3\0"+
+    "\1\u0129\1\216\1\u0129\1\0\1\u012b\7\0\2\u0129\13\0"+
+    "\4\u012c\4\0\1\u012c\3\0\1\217\17\u012c\1\217\23\u012c"+
+    "\1\u0127\2\0\1\u012c\1\0\1\u012c\1\u012d\1\217\2\0"+
+    "\1\217\4\0\2\u012c\13\0\3\u012e\1\u012f\4\0\1\u012f"+
+    "\3\0\1\217\12\u012e\1\u012f\4\u012e\1\217\23\u012e\1\u0127"+
+    "\2\0\1\u012e\1\0\1\u012e\1\u012d\1\217\2\0\1\217"+
+    "\4\0\2\u012e\103\0\1\u0130\23\0\4\u012f\4\0\1\u012f"+
+    "\3\0\1\217\17\u012f\1\217\23\u012f\1\u0127\2\0\1\u012f"+
+    "\1\0\1\u012f\1\u012d\1\222\2\0\1\217\4\0\2\u012f"+
+    "\15\0\1\u0131\34\0\1\u0131\51\0\1\106\2\0\4\u0132"+
+    "\4\0\4\u0132\1\0\17\u0132\1\0\23\u0132\3\0\3\u0132"+
+    "\1\0\1\106\7\0\2\u0132\32\0\1\225\23\0\1\225"+
+    "\71\0\1\225\23\0\1\225\46\0\1\u0133\1\u0134\2\u0133"+
+    "\4\0\4\u0133\1\0\7\u0133\1\u0135\7\u0133\1\0\1\u0133"+
+    "\1\u0134\11\u0133\1\u0135\7\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\4\u0133\4\0\4\u0133\1\0\3\u0133\1\u0136\11\u0133"+
+    "\1\u0137\1\u0133\1\0\7\u0133\1\u0136\11\u0133\1\u0137\1\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133\4\0\4\u0133"+
+    "\1\0\13\u0133\1\u0138\3\u0133\1\0\17\u0133\1\u0138\3\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133\4\0\4\u0133"+
+    "\1\0\17\u0133\1\0\23\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\4\u0133\4\0\4\u0133\1\0\3\u0133\1\u0139\13\u0133"+
+    "\1\0\7\u0133\1\u0139\13\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\4\u0133\4\0\4\u0133\1\0\4\u0133\1\u013a\12\u0133"+
+    "\1\0\10\u0133\1\u013a\12\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\2\u0133\1\u013a\1\u0133\4\0\4\u0133\1\0\4\u0133"+
+    "\1\u013b\12\u0133\1\0\2\u0133\1\u013a\5\u0133\1\u013b\12\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\13\0\1\u013c\2\u0133\1\u0139"+
+    "\4\0\4\u0133\1\0\1\u0139\2\u0133\1\u013d\6\u0133\1\u013e"+
+    "\4\u0133\1\0\1\u013c\3\u0133\1\u0139\2\u0133\1\u013d\6\u0133"+
+    "\1\u013e\4\u0133\3\0\2\u0133\1\u013e\11\0\2\u0133\13\0"+
+    "\2\u0133\1\u013b\1\u0133\4\0\4\u0133\1\0\17\u0133\1\0"+
+    "\2\u0133\1\u013b\20\u0133\3\0\3\u0133\11\0\2\u0133\13\0"+
+    "\2\u0133\1\u013f\1\u0133\4\0\4\u0133\1\0\17\u0133\1\0"+
+    "\2\u0133\1\u013f\20\u0133\3\0\3\u0133\11\0\2\u0133\13\0"+
+    "\1\u0140\1\u0141\1\u0142\1\u0143\4\0\1\u0143\1\0\2\u0144"+
+    "\1\322\1\u0145\1\u0146\1\u0147\1\u0148\1\u0143\1\u0149\2\u0143"+
+    "\1\u014a\1\u014b\1\u0143\1\u014c\1\u0143\1\u014d\1\u014e\1\u014f"+
+    "\1\u0140\1\u0141\1\u0142\1\u0143\1\u0145\1\u0146\1\u0147\1\u0148"+
+    "\1\u0143\1\u0149\2\u0143\1\u014a\1\u014b\1\u0143\1\u014c\1\u0143"+
+    "\1\u014d\1\u014e\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324"+
+    "\1\370\2\0\1\322\4\0\2\u0143\10\0\1\106\1\107"+
+    "\1\110\4\u0150\2\112\1\113\1\0\1\u0150\1\113\1\243"+
+    "\1\244\1\117\1\u0151\5\u0150\1\u0152\10\u0150\1\134\4\u0150"+
+    "\1\u0151\5\u0150\1\u0152\10\u0150\1\245\2\112\1\u0150\1\243"+
+    "\1\u0150\1\u0153\1\127\2\112\1\130\1\112\2\0\1\112"+
+    "\2\u0150\5\0\1\112\2\0\1\106\1\107\1\110\4\u0150"+
+    "\2\112\1\113\1\0\1\u0150\1\113\1\243\1\244\1\117"+
+    "\1\u0154\1\u0155\1\u0156\1\u0157\1\u0150\1\u0157\1\u0152\2\u0150"+
+    "\1\u0155\5\u0150\1\134\4\u0150\1\u0154\1\u0155\1\u0156\1\u0157"+
+    "\1\u0150\1\u0157\1\u0152\2\u0150\1\u0155\5\u0150\1\245\2\112"+
+    "\1\u0150\1\243\1\u0150\1\u0153\1\127\2\112\1\130\1\112"+
+    "\2\0\1\112\2\u0150\5\0\1\112\5\0\1\u0158\1\u0159"+
+    "\1\u015a\1\u015b\4\0\1\u015b\4\0\1\u015b\1\u015c\1\u015b"+
+    "\1\u015d\4\u015b\1\u015e\1\u015f\1\u015b\1\u015c\1\u015b\1\u0160"+
+    "\1\u0161\1\0\1\u0158\1\u0159\1\u015a\2\u015b\1\u015c\1\u015b"+
+    "\1\u015d\4\u015b\1\u015e\1\u015f\1\u015b\1\u015c\1\u015b\1\u0160"+
+    "\1\u0161\3\0\1\u015b\1\0\1\u015b\11\0\2\u015b\12\0"+
+    "\1\u0162\1\u0163\1\u0164\1\u0165\1\u0166\1\u0162\3\0\1\u0166"+
+    "\1\u0162\2\0\1\u0162\1\u0166\1\u0167\1\u0166\1\u0168\4\u0166"+
+    "\1\u0169\1\u016a\1\u0166\1\u0167\1\u0166\1\u016b\1\u016c\1\u0162"+
+    "\1\u0163\1\u0164\1\u0165\2\u0166\1\u0167\1\u0166\1\u0168\4\u0166"+
+    "\1\u0169\1\u016a\1\u0166\1\u0167\1\u0166\1\u016b\1\u016c\1\0"+
+    "\1\u0162\1\0\1\u0166\1\0\1\u0166\2\u0162\1\366\1\0"+
+    "\4\u0162\1\0\2\u0166\37\0\1\u016d\23\0\1\u016d\63\0"+
+    "\1\u016e\11\0\1\u016f\11\0\1\u016e\11\0\1\u016f\65\0"+
+    "\1\u0170\23\0\1\u0170\57\0\1\u0171\23\0\1\u0171\70\0"+
+    "\1\u0172\23\0\1\u0172\50\0\1\u0172\16\0\1\u0173\15\0"+
+    "\1\u0172\5\0\1\u0173\46\0\1\u0174\2\0\1\u0171\11\0"+
+    "\1\u0171\2\0\1\u0175\6\0\1\u0176\5\0\1\u0174\3\0"+
+    "\1\u0171\2\0\1\u0175\6\0\1\u0176\11\0\1\u0176\30\0"+
+    "\1\u0173\34\0\1\u0173\56\0\1\u0177\34\0\1\u0177\75\0"+
+    "\1\u0178\23\0\1\u0178\43\0\1\106\1\107\1\110\4\266"+
+    "\2\112\1\113\1\0\1\266\1\u0179\1\115\1\116\1\267"+
+    "\1\305\5\266\1\275\1\u017a\7\266\1\303\4\266\1\305"+
+    "\5\266\1\275\1\u017a\7\266\1\125\2\112\1\266\1\115"+
+    "\1\266\1\112\1\304\4\112\2\0\1\112\2\266\5\0"+
+    "\1\112\2\0\1\106\1\107\1\110\4\266\2\112\1\113"+
+    "\1\0\1\266\1\u0179\1\115\1\116\1\267\1\305\2\266"+
+    "\1\u017b\2\266\1\275\6\266\1\u017c\1\266\1\303\4\266"+
+    "\1\305\2\266\1\u017b\2\266\1\275\6\266\1\u017c\1\266"+
+    "\1\125\2\112\1\266\1\115\1\266\1\112\1\304\4\112"+
+    "\2\0\1\112\2\266\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\4\266\2\112\1\113\1\0\1\266\1\u0179\1\115"+
+    "\1\116\1\267\1\305\5\266\1\275\4\266\1\u017d\3\266"+
+    "\1\303\4\266\1\305\5\266\1\275\4\266\1\u017d\3\266"+
+    "\1\125\2\112\1\266\1\115\1\266\1\112\1\304\4\112"+
+    "\2\0\1\112\2\266\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\4\266\2\112\1\113\1\0\1\266\1\u0179\1\115"+
+    "\1\116\1\267\1\305\5\266\1\275\10\266\1\303\4\266"+
+    "\1\305\5\266\1\275\10\266\1\125\2\112\1\266\1\115"+
+    "\1\266\1\112\1\304\4\112\2\0\1\112\2\266\5\0"+
+    "\1\112\5\0\1\u017e\1\u017f\1\u0180\1\u0181\4\0\1\u0181"+
+    "\3\0\1\u0182\1\u0181\1\u0183\1\u0181\1\u0184\4\u0181\1\u0185"+
+    "\1\u0186\1\u0181\1\u0183\1\u0181\1\u0187\1\u0188\1\0\1\u017e"+
+    "\1\u017f\1\u0180\2\u0181\1\u0183\1\u0181\1\u0184\4\u0181\1\u0185"+
+    "\1\u0186\1\u0181\1\u0183\1\u0181\1\u0187\1\u0188\3\0\1\u0181"+
+    "\1\0\1\u0181\11\0\2\u0181\10\0\1\106\1\325\1\326"+
+    "\4\266\2\112\1\327\1\0\1\266\1\u0189\1\115\1\u018a"+
+    "\1\267\1\305\5\266\1\275\10\266\1\303\4\266\1\305"+
+    "\5\266\1\275\10\266\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\266\2\112\1\113\1\0"+
+    "\1\266\1\u0179\1\115\1\116\1\267\1\305\2\266\1\u018b"+
+    "\2\266\1\275\10\266\1\303\4\266\1\305\2\266\1\u018b"+
+    "\2\266\1\275\10\266\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\266\2\112\1\113\1\0"+
+    "\1\266\1\u0179\1\115\1\116\1\267\1\305\1\266\1\306"+
+    "\3\266\1\275\10\266\1\303\4\266\1\305\1\266\1\306"+
+    "\3\266\1\275\10\266\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\266\2\112\1\113\1\0"+
+    "\1\266\1\u0179\1\115\1\116\1\267\1\305\3\266\1\u018c"+
+    "\1\266\1\275\10\266\1\303\4\266\1\305\3\266\1\u018c"+
+    "\1\266\1\275\10\266\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\266\2\112\1\113\1\0"+
+    "\1\266\1\u0179\1\115\1\116\1\267\1\305\3\266\1\306"+
+    "\1\266\1\275\10\266\1\303\4\266\1\305\3\266\1\306"+
+    "\1\266\1\275\10\266\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\332\1\333\4\266\2\112\1\334\1\0"+
+    "\1\266\1\u018d\1\115\1\u018e\1\267\1\305\5\266\1\275"+
+    "\10\266\1\303\4\266\1\305\5\266\1\275\10\266\1\125"+
+    "\2\112\1\266\1\115\1\266\1\112\1\304\4\112\2\0"+
+    "\1\112\2\266\5\0\1\112\2\0\1\106\1\107\1\110"+
+    "\2\266\1\u018f\1\266\2\112\1\113\1\0\1\266\1\u0179"+
+    "\1\115\1\116\1\267\1\305\3\266\1\u0190\1\266\1\275"+
+    "\10\266\1\303\2\266\1\u018f\1\266\1\305\3\266\1\u0190"+
+    "\1\266\1\275\10\266\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\1\u0191\2\266\1\u018b\2\112"+
+    "\1\113\1\0\1\266\1\u0179\1\115\1\116\1\267\1\u0192"+
+    "\2\266\1\u0193\2\266\1\275\3\266\1\u0194\4\266\1\303"+
+    "\1\u0191\3\266\1\u0192\2\266\1\u0193\2\266\1\275\3\266"+
+    "\1\u0194\4\266\1\125\2\112\1\266\1\115\1\u0194\1\112"+
+    "\1\304\4\112\2\0\1\112\2\266\5\0\1\112\2\0"+
+    "\1\106\1\107\1\110\2\266\1\u0190\1\266\2\112\1\113"+
+    "\1\0\1\266\1\u0179\1\115\1\116\1\267\1\305\5\266"+
+    "\1\275\10\266\1\303\2\266\1\u0190\1\266\1\305\5\266"+
+    "\1\275\10\266\1\125\2\112\1\266\1\115\1\266\1\112"+
+    "\1\304\4\112\2\0\1\112\2\266\5\0\1\112\2\0"+
+    "\1\106\1\107\1\110\2\266\1\u0195\1\266\2\112\1\113"+
+    "\1\0\1\266\1\u0179\1\115\1\116\1\267\1\305\5\266"+
+    "\1\275\10\266\1\303\2\266\1\u0195\1\266\1\305\5\266"+
+    "\1\275\10\266\1\125\2\112\1\266\1\115\1\266\1\112"+
+    "\1\304\4\112\2\0\1\112\2\266\5\0\1\112\5\0"+
+    "\1\u0196\1\u0197\1\u0198\1\u0199\4\0\1\u0199\4\0\1\u019a"+
+    "\1\u019b\1\u019a\1\u019c\4\u019a\1\u019d\1\u019e\1\u0199\1\u019b"+
+    "\1\u019a\1\u019f\1\u01a0\1\0\1\u0196\1\u0197\1\u0198\2\u019a"+
+    "\1\u019b\1\u019a\1\u019c\4\u019a\1\u019d\1\u019e\1\u019a\1\u019b"+
+    "\1\u019a\1\u019f\1\u01a0\3\0\1\u019a\1\0\1\u019a\11\0"+
+    "\2\u019a\13\0\4\u01a1\4\0\1\u01a1\4\0\17\u01a1\1\0"+
+    "\23\u01a1\3\0\1\u01a1\1\0\1\u01a1\1\0\1\u01a2\7\0"+
+    "\2\u01a1\13\0\4\u01a3\4\0\1\u01a3\3\u01a4\1\u01a5\7\u01a3"+
+    "\1\u01a6\7\u01a3\1\u01a5\13\u01a3\1\u01a6\7\u01a3\1\u01a7\2\0"+
+    "\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0"+
+    "\2\u01a3\13\0\4\u01a3\4\0\1\u01a3\3\u01a4\1\u01a5\3\u01a3"+
+    "\1\u01a8\11\u01a3\1\u01a9\1\u01a3\1\u01a5\7\u01a3\1\u01a8\11\u01a3"+
+    "\1\u01a9\1\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324"+
+    "\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\4\u01a3\4\0"+
+    "\1\u01a3\3\u01a4\1\u01a5\13\u01a3\1\u01aa\3\u01a3\1\u01a5\17\u01a3"+
+    "\1\u01aa\3\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324"+
+    "\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\4\u01a3\4\0"+
+    "\1\u01a3\3\u01a4\1\u01a5\17\u01a3\1\u01a5\23\u01a3\1\u01a7\2\0"+
+    "\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0"+
+    "\2\u01a3\13\0\4\u01ab\4\0\1\u01ab\3\0\1\313\17\u01ab"+
+    "\1\322\23\u01ab\1\323\2\0\1\u01ab\1\0\1\u01ab\1\324"+
+    "\1\322\2\0\1\322\4\0\2\u01ab\13\0\4\u01a3\4\0"+
+    "\1\u01a3\3\u01a4\1\u01a5\3\u01a3\1\u01ac\13\u01a3\1\u01a5\7\u01a3"+
+    "\1\u01ac\13\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324"+
+    "\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\4\u01a3\4\0"+
+    "\1\u01a3\3\u01a4\1\u01a5\4\u01a3\1\u01ad\12\u01a3\1\u01a5\10\u01a3"+
+    "\1\u01ad\12\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324"+
+    "\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\2\u01a3\1\u01ad"+
+    "\1\u01a3\4\0\1\u01a3\3\u01a4\1\u01a5\4\u01a3\1\u01ae\12\u01a3"+
+    "\1\u01a5\2\u01a3\1\u01ad\5\u01a3\1\u01ae\12\u01a3\1\u01a7\2\0"+
+    "\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0"+
+    "\2\u01a3\13\0\1\u01af\2\u01a3\1\u01ac\4\0\1\u01a3\3\u01a4"+
+    "\1\u01a5\1\u01ac\2\u01a3\1\u01b0\6\u01a3\1\u01b1\4\u01a3\1\u01a5"+
+    "\1\u01af\3\u01a3\1\u01ac\2\u01a3\1\u01b0\6\u01a3\1\u01b1\4\u01a3"+
+    "\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01b1\1\324\1\u01a5\2\0"+
+    "\1\322\4\0\2\u01a3\13\0\2\u01a3\1\u01ae\1\u01a3\4\0"+
+    "\1\u01a3\3\u01a4\1\u01a5\17\u01a3\1\u01a5\2\u01a3\1\u01ae\20\u01a3"+
+    "\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0"+
+    "\1\322\4\0\2\u01a3\13\0\2\u01a3\1\u01b2\1\u01a3\4\0"+
+    "\1\u01a3\3\u01a4\1\u01a5\17\u01a3\1\u01a5\2\u01a3\1\u01b2\20\u01a3"+
+    "\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0"+
+    "\1\322\4\0\2\u01a3\13\0\4\374\4\0\1\374\3\0"+
+    "\1\322\17\374\1\322\23\374\1\323\2\0\1\374\1\0"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\4\u01b3\4\0\1\u01b3\4\0\17\u01b3\1\0\23\u01b3\3\0"+
+    "\1\u01b3\1\0\1\u01b3\11\0\2\u01b3\12\0\1\u0162\4\u0166"+
+    "\1\u0162\3\0\1\u0166\1\u0162\2\0\1\u0162\17\u0166\1\u0162"+
+    "\23\u0166\1\0\1\u0162\1\0\1\u0166\1\0\1\u0166\2\u0162"+
+    "\2\0\4\u0162\1\0\2\u0166\13\0\1\u01b4\1\231\1\232"+
+    "\1\233\4\0\1\233\4\0\1\233\1\234\1\233\1\235"+
+    "\4\233\1\236\1\237\1\233\1\234\1\233\1\240\1\241"+
+    "\1\0\1\u01b4\1\231\1\232\2\233\1\234\1\233\1\235"+
+    "\4\233\1\236\1\237\1\233\1\234\1\233\1\240\1\241"+
+    "\3\0\1\233\1\0\1\233\11\0\2\233\30\0\2\225"+
+    "\1\226\1\227\1\0\1\227\1\0\1\225\1\0\1\225"+
+    "\12\0\2\225\1\226\1\227\1\0\1\227\1\0\1\225"+
+    "\1\0\1\225\41\0\1\u01b5\1\231\1\232\1\233\4\0"+
+    "\1\233\4\0\1\233\1\234\1\233\1\235\4\233\1\236"+
+    "\1\237\1\233\1\234\1\233\1\240\1\241\1\0\1\u01b5"+
+    "\1\231\1\232\2\233\1\234\1\233\1\235\4\233\1\236"+
+    "\1\237\1\233\1\234\1\233\1\240\1\241\3\0\1\233"+
+    "\1\0\1\233\11\0\2\233\13\0\1\247\1\250\1\251"+
+    "\12\0\1\225\1\260\1\226\1\261\1\0\1\227\1\0"+
+    "\1\225\1\254\1\262\1\0\1\252\1\0\1\256\1\257"+
+    "\1\0\1\247\1\250\1\251\1\0\1\225\1\260\1\226"+
+    "\1\261\1\0\1\227\1\0\1\225\1\254\1\262\1\0"+
+    "\1\252\1\0\1\256\1\257\34\0\1\u0140\1\u0141\1\u0142"+
+    "\1\u0143\4\0\1\u0143\1\0\2\u0144\1\322\1\u0145\1\u0146"+
+    "\1\u0147\1\u0148\1\u0143\1\u0149\1\u0143\1\u0145\1\u014a\1\u014b"+
+    "\1\u0143\1\u014c\1\u0143\1\u014d\1\u014e\1\u014f\1\u0140\1\u0141"+
+    "\1\u0142\1\u0143\1\u0145\1\u0146\1\u0147\1\u0148\1\u0143\1\u0149"+
+    "\1\u0143\1\u0145\1\u014a\1\u014b\1\u0143\1\u014c\1\u0143\1\u014d"+
+    "\1\u014e\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370"+
+    "\2\0\1\322\4\0\2\u0143\10\0\1\106\1\107\1\110"+
+    "\4\u0150\2\112\1\113\1\0\1\u0150\1\113\1\243\1\244"+
+    "\1\117\1\u0154\1\u0155\1\u0156\1\u0157\1\u0150\1\u0157\1\u0152"+
+    "\1\u0155\1\u0150\1\u0155\5\u0150\1\134\4\u0150\1\u0154\1\u0155"+
+    "\1\u0156\1\u0157\1\u0150\1\u0157\1\u0152\1\u0155\1\u0150\1\u0155"+
+    "\5\u0150\1\245\2\112\1\u0150\1\243\1\u0150\1\u0153\1\127"+
+    "\2\112\1\130\1\112\2\0\1\112\2\u0150\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\111\2\112\1\113\1\0"+
+    "\1\111\1\242\1\243\1\244\1\117\1\120\5\111\1\121"+
+    "\5\111\1\151\2\111\1\134\4\111\1\120\5\111\1\121"+
+    "\5\111\1\151\2\111\1\245\2\112\1\111\1\243\1\111"+
+    "\1\246\1\127\2\112\1\130\1\112\2\0\1\112\2\111"+
+    "\5\0\1\112\5\0\3\u01b6\1\u01b7\4\0\1\u01b7\3\u01b8"+
+    "\1\u01a5\7\u01b6\1\u01b9\2\u01b6\1\u01b7\4\u01b6\1\u01ba\13\u01b6"+
+    "\1\u01b9\7\u01b6\1\u01a7\2\0\1\u01b6\1\u01b8\1\u01b6\1\324"+
+    "\1\u01bb\2\0\1\322\4\0\2\u01b6\13\0\3\u01b6\1\u01b7"+
+    "\4\0\1\u01b7\3\u01b8\1\u01a5\3\u01b6\1\u01bc\6\u01b6\1\u01b7"+
+    "\2\u01b6\1\u01bd\1\u01b6\1\u01ba\7\u01b6\1\u01bc\11\u01b6\1\u01bd"+
+    "\1\u01b6\1\u01a7\2\0\1\u01b6\1\u01b8\1\u01b6\1\324\1\u01bb"+
+    "\2\0\1\322\4\0\2\u01b6\13\0\3\u01b6\1\u01b7\4\0"+
+    "\1\u01b7\3\u01b8\1\u01a5\12\u01b6\1\u01b7\1\u01be\3\u01b6\1\u01ba"+
+    "\17\u01b6\1\u01be\3\u01b6\1\u01a7\2\0\1\u01b6\1\u01b8\1\u01b6"+
+    "\1\324\1\u01bb\2\0\1\322\4\0\2\u01b6\13\0\4\u01b7"+
+    "\4\0\1\u01b7\3\u01b8\1\u01a5\17\u01b7\1\u01ba\23\u01b7\1\u01a7"+
+    "\2\0\1\u01b7\1\u01b8\1\u01b7\1\324\1\u01bb\2\0\1\322"+
+    "\4\0\2\u01b7\13\0\3\u01b6\1\u01b7\4\0\1\u01b7\3\u01b8"+
+    "\1\u01a5\12\u01b6\1\u01b7\4\u01b6\1\u01ba\23\u01b6\1\u01a7\2\0"+
+    "\1\u01b6\1\u01b8\1\u01b6\1\324\1\u01bb\2\0\1\322\4\0"+
+    "\2\u01b6\13\0\3\u01b6\1\u01b7\4\0\1\u01b7\3\u01b8\1\u01a5"+
+    "\3\u01b6\1\u01bf\6\u01b6\1\u01b7\4\u01b6\1\u01ba\7\u01b6\1\u01bf"+
+    "\13\u01b6\1\u01a7\2\0\1\u01b6\1\u01b8\1\u01b6\1\324\1\u01bb"+
+    "\2\0\1\322\4\0\2\u01b6\13\0\3\u01b6\1\u01b7\4\0"+
+    "\1\u01b7\3\u01b8\1\u01a5\4\u01b6\1\u01c0\5\u01b6\1\u01b7\4\u01b6"+
+    "\1\u01ba\10\u01b6\1\u01c0\12\u01b6\1\u01a7\2\0\1\u01b6\1\u01b8"+
+    "\1\u01b6\1\324\1\u01bb\2\0\1\322\4\0\2\u01b6\13\0"+
+    "\2\u01b6\1\u01c0\1\u01b7\4\0\1\u01b7\3\u01b8\1\u01a5\4\u01b6"+
+    "\1\u01c1\5\u01b6\1\u01b7\4\u01b6\1\u01ba\2\u01b6\1\u01c0\5\u01b6"+
+    "\1\u01c1\12\u01b6\1\u01a7\2\0\1\u01b6\1\u01b8\1\u01b6\1\324"+
+    "\1\u01bb\2\0\1\322\4\0\2\u01b6\13\0\1\u01c2\2\u01b6"+
+    "\1\u01c3\4\0\1\u01b7\3\u01b8\1\u01a5\1\u01bf\2\u01b6\1\u01c4"+
+    "\6\u01b6\1\u01c5\4\u01b6\1\u01c6\1\u01c2\3\u01b6\1\u01bf\2\u01b6"+
+    "\1\u01c4\6\u01b6\1\u01c7\4\u01b6\1\u01a7\2\0\1\u01b6\1\u01b8"+
+    "\1\u01c7\1\324\1\u01bb\2\0\1\322\4\0\2\u01b6\13\0"+
+    "\2\u01b6\1\u01c1\1\u01b7\4\0\1\u01b7\3\u01b8\1\u01a5\12\u01b6"+
+    "\1\u01b7\4\u01b6\1\u01ba\2\u01b6\1\u01c1\20\u01b6\1\u01a7\2\0"+
+    "\1\u01b6\1\u01b8\1\u01b6\1\324\1\u01bb\2\0\1\322\4\0"+
+    "\2\u01b6\13\0\2\u01b6\1\u01c8\1\u01b7\4\0\1\u01b7\3\u01b8"+
+    "\1\u01a5\12\u01b6\1\u01b7\4\u01b6\1\u01ba\2\u01b6\1\u01c8\20\u01b6"+
+    "\1\u01a7\2\0\1\u01b6\1\u01b8\1\u01b6\1\324\1\u01bb\2\0"+
+    "\1\322\4\0\2\u01b6\13\0\4\u01c9\4\0\4\u01c9\1\0"+
+    "\7\u01c9\1\u01ca\7\u01c9\1\u01cb\13\u01c9\1\u01ca\7\u01c9\3\0"+
+    "\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0"+
+    "\4\u01c9\1\0\3\u01c9\1\u01cc\11\u01c9\1\u01cd\1\u01c9\1\u01cb"+
+    "\7\u01c9\1\u01cc\11\u01c9\1\u01cd\1\u01c9\3\0\3\u01c9\1\0"+
+    "\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0\4\u01c9\1\0"+
+    "\13\u01c9\1\u01ce\3\u01c9\1\u01cb\17\u01c9\1\u01ce\3\u01c9\3\0"+
+    "\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0"+
+    "\4\u01c9\1\0\17\u01c9\1\u01cb\23\u01c9\3\0\3\u01c9\1\0"+
+    "\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0\4\u01c9\1\0"+
+    "\3\u01c9\1\u01cf\13\u01c9\1\u01cb\7\u01c9\1\u01cf\13\u01c9\3\0"+
+    "\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0"+
+    "\4\u01c9\1\0\4\u01c9\1\u01d0\12\u01c9\1\u01cb\10\u01c9\1\u01d0"+
+    "\12\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0"+
+    "\2\u01c9\1\u01d0\1\u01c9\4\0\4\u01c9\1\0\4\u01c9\1\u01d1"+
+    "\12\u01c9\1\u01cb\2\u01c9\1\u01d0\5\u01c9\1\u01d1\12\u01c9\3\0"+
+    "\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0\1\u01d2\2\u01c9"+
+    "\1\u01cf\4\0\4\u01c9\1\0\1\u01cf\2\u01c9\1\u01d3\6\u01c9"+
+    "\1\u01d4\4\u01c9\1\u01cb\1\u01d2\3\u01c9\1\u01cf\2\u01c9\1\u01d3"+
+    "\6\u01c9\1\u01d4\4\u01c9\3\0\2\u01c9\1\u01d4\1\0\1\u01cb"+
+    "\7\0\2\u01c9\13\0\2\u01c9\1\u01d1\1\u01c9\4\0\4\u01c9"+
+    "\1\0\17\u01c9\1\u01cb\2\u01c9\1\u01d1\20\u01c9\3\0\3\u01c9"+
+    "\1\0\1\u01cb\7\0\2\u01c9\13\0\2\u01c9\1\u01d5\1\u01c9"+
+    "\4\0\4\u01c9\1\0\17\u01c9\1\u01cb\2\u01c9\1\u01d5\20\u01c9"+
+    "\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\103\0\1\u01d6"+
+    "\20\0\1\106\2\0\4\u01d7\4\0\1\u01d7\3\u01d8\1\u01a5"+
+    "\17\u01d7\1\u01ba\23\u01d7\1\u01a7\2\0\1\u01d7\1\u01d8\1\u01d7"+
+    "\1\324\1\127\2\0\1\322\4\0\2\u01d7\13\0\4\u0143"+
+    "\4\0\1\u0143\3\0\1\322\17\u0143\1\322\23\u0143\1\323"+
+    "\2\0\1\u0143\1\0\1\u0143\1\324\1\370\2\0\1\322"+
+    "\4\0\2\u0143\13\0\4\374\4\0\1\374\3\u01d9\1\322"+
+    "\7\374\1\u01da\7\374\1\322\13\374\1\u01da\7\374\1\323"+
+    "\2\0\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322"+
+    "\4\0\2\374\13\0\4\374\4\0\1\374\3\u01d9\1\322"+
+    "\3\374\1\u01db\11\374\1\u01dc\1\374\1\322\7\374\1\u01db"+
+    "\11\374\1\u01dc\1\374\1\323\2\0\1\374\1\u01d9\1\374"+
+    "\1\324\1\322\2\0\1\322\4\0\2\374\13\0\4\374"+
+    "\4\0\1\374\3\u01d9\1\322\13\374\1\u01dd\3\374\1\322"+
+    "\17\374\1\u01dd\3\374\1\323\2\0\1\374\1\u01d9\1\374"+
+    "\1\324\1\322\2\0\1\322\4\0\2\374\13\0\4\374"+
+    "\4\0\1\374\3\u01d9\1\322\17\374\1\322\23\374\1\323"+
+    "\2\0\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322"+
+    "\4\0\2\374\13\0\4\374\4\0\1\374\3\u01d9\1\322"+
+    "\3\374\1\u01de\13\374\1\322\7\374\1\u01de\13\374\1\323"+
+    "\2\0\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322"+
+    "\4\0\2\374\13\0\4\374\4\0\1\374\3\u01d9\1\322"+
+    "\4\374\1\u01df\12\374\1\322\10\374\1\u01df\12\374\1\323"+
+    "\2\0\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322"+
+    "\4\0\2\374\13\0\2\374\1\u01df\1\374\4\0\1\374"+
+    "\3\u01d9\1\322\4\374\1\u01e0\12\374\1\322\2\374\1\u01df"+
+    "\5\374\1\u01e0\12\374\1\323\2\0\1\374\1\u01d9\1\374"+
+    "\1\324\1\322\2\0\1\322\4\0\2\374\13\0\1\u01e1"+
+    "\2\374\1\u01de\4\0\1\374\3\u01d9\1\322\1\u01de\2\374"+
+    "\1\u01e2\6\374\1\u01e3\4\374\1\322\1\u01e1\3\374\1\u01de"+
+    "\2\374\1\u01e2\6\374\1\u01e3\4\374\1\323\2\0\1\374"+
+    "\1\u01d9\1\u01e3\1\324\1\322\2\0\1\322\4\0\2\374"+
+    "\13\0\2\374\1\u01e0\1\374\4\0\1\374\3\u01d9\1\322"+
+    "\17\374\1\322\2\374\1\u01e0\20\374\1\323\2\0\1\374"+
+    "\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0\2\374"+
+    "\13\0\2\374\1\u01e4\1\374\4\0\1\374\3\u01d9\1\322"+
+    "\17\374\1\322\2\374\1\u01e4\20\374\1\323\2\0\1\374"+
+    "\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0\2\374"+
+    "\10\0\1\106\1\107\1\110\4\111\2\112\1\113\1\0"+
+    "\1\111\1\242\1\243\1\244\1\117\1\120\5\111\1\121"+
+    "\4\111\1\151\3\111\1\134\4\111\1\120\5\111\1\121"+
+    "\4\111\1\151\3\111\1\245\2\112\1\111\1\243\1\111"+
+    "\1\246\1\127\2\112\1\130\1\112\2\0\1\112\2\111"+
+    "\5\0\1\112\2\0\1\106\1\107\1\110\3\111\1\151"+
+    "\2\112\1\113\1\0\1\111\1\242\1\243\1\244\1\117"+
+    "\1\162\5\111\1\121\10\111\1\134\4\111\1\162\5\111"+
+    "\1\121\10\111\1\245\2\112\1\111\1\243\1\111\1\246"+
+    "\1\127\2\112\1\130\1\112\2\0\1\112\2\111\5\0"+
+    "\1\112\5\0\1\341\1\342\1\343\1\344\4\0\1\344"+
+    "\3\0\1\322\1\345\1\u01e5\1\345\1\347\4\345\1\350"+
+    "\1\u0106\1\344\1\346\1\345\1\352\1\353\1\322\1\341"+
+    "\1\342\1\343\2\345\1\u01e5\1\345\1\347\4\345\1\350"+
+    "\1\u0106\1\345\1\346\1\345\1\352\1\353\1\323\2\0"+
+    "\1\345\1\0\1\345\1\324\1\322\2\0\1\322\4\0"+
+    "\2\345\13\0\1\u01c2\2\u01b6\1\u01c3\4\0\1\u01b7\3\u01b8"+
+    "\1\u01a5\1\u01bf\2\u01b6\1\u01c4\6\u01b6\1\u01c5\4\u01b6\1\u01ba"+
+    "\1\u01c2\3\u01b6\1\u01bf\2\u01b6\1\u01c4\6\u01b6\1\u01c7\4\u01b6"+
+    "\1\u01a7\2\0\1\u01b6\1\u01b8\1\u01c7\1\324\1\u01bb\2\0"+
+    "\1\322\4\0\2\u01b6\16\0\1\135\6\0\2\u0108\1\0"+
+    "\1\135\2\0\1\136\3\0\1\137\7\0\1\140\4\0"+
+    "\1\135\2\0\1\136\3\0\1\137\10\0\1\140\2\0"+
+    "\1\u0108\27\0\2\u01e6\10\0\2\u0109\21\0\2\u01e6\25\0"+
+    "\1\u0109\27\0\1\u0133\1\u01e7\2\u0133\4\0\4\u0133\1\0"+
+    "\7\u0133\1\u0135\7\u0133\1\0\1\u0133\1\u01e7\11\u0133\1\u0135"+
+    "\7\u0133\3\0\3\u0133\11\0\2\u0133\13\0\1\u0133\1\u01e8"+
+    "\2\u0133\4\0\4\u0133\1\0\7\u0133\1\u0135\7\u0133\1\0"+
+    "\1\u0133\1\u01e8\11\u0133\1\u0135\7\u0133\3\0\3\u0133\11\0"+
+    "\2\u0133\10\0\1\106\1\332\1\333\4\111\2\112\1\334"+
+    "\1\0\1\111\1\335\1\243\1\336\1\117\1\120\5\111"+
+    "\1\121\10\111\1\u010b\4\111\1\120\5\111\1\121\10\111"+
+    "\1\245\2\112\1\111\1\243\1\111\1\246\1\127\2\112"+
+    "\1\130\1\112\2\0\1\112\2\111\5\0\1\112\2\0"+
+    "\1\106\1\107\1\110\4\111\2\112\1\113\1\0\1\111"+
+    "\1\242\1\243\1\244\1\117\1\120\5\111\1\121\1\u01e9"+
+    "\7\111\1\134\4\111\1\120\5\111\1\121\1\u01e9\7\111"+
+    "\1\245\2\112\1\111\1\243\1\111\1\246\1\127\2\112"+
+    "\1\130\1\112\2\0\1\112\2\111\5\0\1\112\2\0"+
+    "\1\106\1\325\1\326\4\111\2\112\1\327\1\0\1\111"+
+    "\1\330\1\243\1\331\1\117\1\120\5\111\1\121\1\u01e9"+
+    "\7\111\1\134\4\111\1\120\5\111\1\121\1\u01e9\7\111"+
+    "\1\245\2\112\1\111\1\243\1\111\1\246\1\127\2\112"+
+    "\1\130\1\112\2\0\1\112\2\111\5\0\1\112\2\0"+
+    "\1\106\1\325\1\326\3\111\1\151\2\112\1\327\1\0"+
+    "\1\111\1\330\1\243\1\331\1\117\1\162\5\111\1\121"+
+    "\10\111\1\134\4\111\1\162\5\111\1\121\10\111\1\245"+
+    "\2\112\1\111\1\243\1\111\1\246\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\4\111\2\112\1\113\1\0\1\111\1\242"+
+    "\1\243\1\244\1\117\1\120\5\111\1\121\7\111\1\u01ea"+
+    "\1\134\4\111\1\120\5\111\1\121\7\111\1\u01ea\1\245"+
+    "\2\112\1\111\1\243\1\111\1\246\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\5\0\3\u01eb"+
+    "\1\u01ec\4\0\1\u01ec\3\u01ed\1\u01a5\7\u01eb\1\u01ee\2\u01eb"+
+    "\1\u01ec\4\u01eb\1\u01ef\13\u01eb\1\u01ee\7\u01eb\1\u01a7\2\0"+
+    "\1\u01eb\1\u01ed\1\u01eb\1\324\1\u01bb\2\0\1\322\4\0"+
+    "\2\u01eb\13\0\3\u01eb\1\u01ec\4\0\1\u01ec\3\u01ed\1\u01a5"+
+    "\3\u01eb\1\u01f0\6\u01eb\1\u01ec\2\u01eb\1\u01f1\1\u01eb\1\u01ef"+
+    "\7\u01eb\1\u01f0\11\u01eb\1\u01f1\1\u01eb\1\u01a7\2\0\1\u01eb"+
+    "\1\u01ed\1\u01eb\1\324\1\u01bb\2\0\1\322\4\0\2\u01eb"+
+    "\13\0\3\u01eb\1\u01ec\4\0\1\u01ec\3\u01ed\1\u01a5\12\u01eb"+
+    "\1\u01ec\1\u01f2\3\u01eb\1\u01ef\17\u01eb\1\u01f2\3\u01eb\1\u01a7"+
+    "\2\0\1\u01eb\1\u01ed\1\u01eb\1\324\1\u01bb\2\0\1\322"+
+    "\4\0\2\u01eb\13\0\4\u01ec\4\0\1\u01ec\3\u01ed\1\u01a5"+
+    "\17\u01ec\1\u01ef\23\u01ec\1\u01a7\2\0\1\u01ec\1\u01ed\1\u01ec"+
+    "\1\324\1\u01bb\2\0\1\322\4\0\2\u01ec\13\0\3\u01eb"+
+    "\1\u01ec\4\0\1\u01ec\3\u01ed\1\u01a5\12\u01eb\1\u01ec\4\u01eb"+
+    "\1\u01ef\23\u01eb\1\u01a7\2\0\1\u01eb\1\u01ed\1\u01eb\1\324"+
+    "\1\u01bb\2\0\1\322\4\0\2\u01eb\13\0\3\u01eb\1\u01ec"+
+    "\4\0\1\u01ec\3\u01ed\1\u01a5\3\u01eb\1\u01f3\6\u01eb\1\u01ec"+
+    "\4\u01eb\1\u01ef\7\u01eb\1\u01f3\13\u01eb\1\u01a7\2\0\1\u01eb"+
+    "\1\u01ed\1\u01eb\1\324\1\u01bb\2\0\1\322\4\0\2\u01eb"+
+    "\13\0\3\u01eb\1\u01ec\4\0\1\u01ec\3\u01ed\1\u01a5\4\u01eb"+
+    "\1\u01f4\5\u01eb\1\u01ec\4\u01eb\1\u01ef\10\u01eb\1\u01f4\12\u01eb"+
+    "\1\u01a7\2\0\1\u01eb\1\u01ed\1\u01eb\1\324\1\u01bb\2\0"+
+    "\1\322\4\0\2\u01eb\13\0\2\u01eb\1\u01f4\1\u01ec\4\0"+
+    "\1\u01ec\3\u01ed\1\u01a5\4\u01eb\1\u01f5\5\u01eb\1\u01ec\4\u01eb"+
+    "\1\u01ef\2\u01eb\1\u01f4\5\u01eb\1\u01f5\12\u01eb\1\u01a7\2\0"+
+    "\1\u01eb\1\u01ed\1\u01eb\1\324\1\u01bb\2\0\1\322\4\0"+
+    "\2\u01eb\13\0\1\u01f6\2\u01eb\1\u01f7\4\0\1\u01ec\3\u01ed"+
+    "\1\u01a5\1\u01f3\2\u01eb\1\u01f8\6\u01eb\1\u01f9\4\u01eb\1\u01fa"+
+    "\1\u01f6\3\u01eb\1\u01f3\2\u01eb\1\u01f8\6\u01eb\1\u01fb\4\u01eb"+
+    "\1\u01a7\2\0\1\u01eb\1\u01ed\1\u01fb\1\324\1\u01bb\2\0"+
+    "\1\322\4\0\2\u01eb\13\0\2\u01eb\1\u01f5\1\u01ec\4\0"+
+    "\1\u01ec\3\u01ed\1\u01a5\12\u01eb\1\u01ec\4\u01eb\1\u01ef\2\u01eb"+
+    "\1\u01f5\20\u01eb\1\u01a7\2\0\1\u01eb\1\u01ed\1\u01eb\1\324"+
+    "\1\u01bb\2\0\1\322\4\0\2\u01eb\13\0\2\u01eb\1\u01fc"+
+    "\1\u01ec\4\0\1\u01ec\3\u01ed\1\u01a5\12\u01eb\1\u01ec\4\u01eb"+
+    "\1\u01ef\2\u01eb\1\u01fc\20\u01eb\1\u01a7\2\0\1\u01eb\1\u01ed"+
+    "\1\u01eb\1\324\1\u01bb\2\0\1\322\4\0\2\u01eb\13\0"+
+    "\1\u01f6\2\u01eb\1\u01f7\4\0\1\u01ec\3\u01ed\1\u01a5\1\u01f3"+
+    "\2\u01eb\1\u01f8\6\u01eb\1\u01f9\4\u01eb\1\u01ef\1\u01f6\3\u01eb"+
+    "\1\u01f3\2\u01eb\1\u01f8\6\u01eb\1\u01fb\4\u01eb\1\u01a7\2\0"+
+    "\1\u01eb\1\u01ed\1\u01fb\1\324\1\u01bb\2\0\1\322\4\0"+
+    "\2\u01eb\13\0\3\u01fd\10\0\14\u01fd\1\0\4\u01fd\1\0"+
+    "\23\u01fd\3\0\3\u01fd\11\0\2\u01fd\14\0\1\u01fe\34\0"+
+    "\1\u01fe\57\0\1\u01ff\34\0\1\u01ff\56\0\1\u0200\34\0"+
+    "\1\u0200\57\0\1\u0201\11\0\1\u0201\23\0\1\u0201\52\0"+
+    "\1\203\34\0\1\203\60\0\1\u0202\34\0\1\u0202\54\0"+
+    "\4\u012f\4\0\1\u012f\1\0\2\u0126\1\217\17\u012f\1\220"+
+    "\23\u012f\1\u0127\2\0\1\u012f\1\u0126\1\u012f\1\u012d\1\222"+
+    "\2\0\1\217\4\0\2\u012f\13\0\4\u0129\4\0\1\u0129"+
+    "\4\0\17\u0129\1\0\23\u0129\3\0\1\u0129\1\0\1\u0129"+
+    "\11\0\2\u0129\12\0\1\u0203\4\u0204\1\u0203\3\0\1\u0204"+
+    "\1\u0203\2\0\1\u0203\17\u0204\1\u0203\23\u0204\1\0\1\u0203"+
+    "\1\0\1\u0204\1\0\1\u0204\2\u0203\1\u0130\1\0\4\u0203"+
+    "\1\0\2\u0204\13\0\4\u0129\4\0\1\u0129\3\216\1\0"+
+    "\17\u0129\1\u012a\23\u0129\3\0\1\u0129\1\216\1\u0129\1\0"+
+    "\1\u012b\7\0\2\u0129\13\0\3\u0205\1\u0129\4\0\1\u0129"+
+    "\4\0\12\u0205\1\u0129\4\u0205\1\0\23\u0205\3\0\1\u0205"+
+    "\1\0\1\u0205\11\0\2\u0205\13\0\4\u0129\4\0\1\u0129"+
+    "\4\0\17\u0129\1\0\23\u0129\3\0\1\u0129\1\0\1\u0129"+
+    "\1\0\1\u012b\7\0\2\u0129\13\0\4\u012c\4\0\1\u012c"+
+    "\3\u0206\1\217\17\u012c\1\217\23\u012c\1\u0127\2\0\1\u012c"+
+    "\1\u0206\1\u012c\1\u012d\1\217\2\0\1\217\4\0\2\u012c"+
+    "\12\0\1\u0203\4\u0204\1\u0203\3\0\1\u0204\1\u0203\2\0"+
+    "\1\u0203\17\u0204\1\u0203\23\u0204\1\0\1\u0203\1\0\1\u0204"+
+    "\1\0\1\u0204\2\u0203\2\0\4\u0203\1\0\2\u0204\13\0"+
+    "\3\u0207\1\u012f\4\0\1\u012f\3\u0126\1\217\12\u0207\1\u012f"+
+    "\4\u0207\1\220\23\u0207\1\u0127\2\0\1\u0207\1\u0126\1\u0207"+
+    "\1\u012d\1\222\2\0\1\217\4\0\2\u0207\13\0\4\u012f"+
+    "\4\0\1\u012f\3\u0126\1\217\17\u012f\1\220\23\u012f\1\u0127"+
+    "\2\0\1\u012f\1\u0126\1\u012f\1\u012d\1\222\2\0\1\217"+
+    "\4\0\2\u012f\103\0\1\u0208\26\0\1\u0209\11\0\1\u0209"+
+    "\23\0\1\u0209\47\0\1\106\2\0\4\u0132\4\0\1\u0132"+
+    "\1\0\2\u0132\1\0\17\u0132\1\0\23\u0132\3\0\3\u0132"+
+    "\1\0\1\106\7\0\2\u0132\13\0\4\u0133\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\17\u0133\1\0\23\u0133\3\0\3\u0133"+
+    "\11\0\2\u0133\13\0\2\u0133\1\u020a\1\u0133\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\17\u0133\1\0\2\u0133\1\u020a\20\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\7\u0133\1\u020b\7\u0133\1\0\13\u0133"+
+    "\1\u020b\7\u0133\3\0\3\u0133\11\0\2\u0133\13\0\2\u0133"+
+    "\1\u020c\1\u0133\4\0\1\u0133\1\0\2\u0133\1\0\4\u0133"+
+    "\1\u020d\12\u0133\1\0\2\u0133\1\u020c\5\u0133\1\u020d\12\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\1\u0133\1\u0139\15\u0133\1\u020e\5\u0133"+
+    "\1\u0139\15\u0133\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133"+
+    "\4\0\1\u0133\1\0\2\u0133\1\0\16\u0133\1\u0139\1\0"+
+    "\22\u0133\1\u0139\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133"+
+    "\4\0\1\u0133\1\0\2\u0133\1\0\17\u0133\1\u020f\23\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\5\u0133\1\u0139\11\u0133\1\0\11\u0133"+
+    "\1\u0139\11\u0133\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133"+
+    "\4\0\1\u0133\1\0\2\u0133\1\0\6\u0133\1\u0139\10\u0133"+
+    "\1\0\12\u0133\1\u0139\10\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\3\u0133\1\u0210\4\0\1\u0133\1\0\2\u0133\1\0"+
+    "\1\u0210\16\u0133\1\0\4\u0133\1\u0210\16\u0133\3\0\3\u0133"+
+    "\11\0\2\u0133\13\0\3\u0133\1\u0139\4\0\1\u0133\1\0"+
+    "\2\u0133\1\0\1\u0139\16\u0133\1\u020f\4\u0133\1\u0139\16\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\13\0\3\u0133\1\u020d\4\0"+
+    "\1\u0133\1\0\2\u0133\1\0\1\u020d\16\u0133\1\0\4\u0133"+
+    "\1\u020d\16\u0133\3\0\3\u0133\11\0\2\u0133\13\0\1\u0211"+
+    "\3\u0133\4\0\1\u0133\1\0\2\u0133\1\0\17\u0133\1\0"+
+    "\1\u0211\22\u0133\3\0\3\u0133\11\0\2\u0133\13\0\4\u0143"+
+    "\4\0\1\u0143\3\u0144\1\322\7\u0143\1\u0212\7\u0143\1\u014f"+
+    "\13\u0143\1\u0212\7\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\4\u0143"+
+    "\4\0\1\u0143\3\u0144\1\322\3\u0143\1\u0213\11\u0143\1\u0214"+
+    "\1\u0143\1\u014f\7\u0143\1\u0213\11\u0143\1\u0214\1\u0143\1\323"+
+    "\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0\1\322"+
+    "\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143\3\u0144\1\322"+
+    "\13\u0143\1\u0215\3\u0143\1\u014f\17\u0143\1\u0215\3\u0143\1\323"+
+    "\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0\1\322"+
+    "\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143\3\u0144\1\322"+
+    "\17\u0143\1\u014f\23\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\4\u0143"+
+    "\4\0\1\u0143\1\0\2\u0144\1\322\17\u0143\1\u014f\23\u0143"+
+    "\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0"+
+    "\1\322\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143\3\u0144"+
+    "\1\322\3\u0143\1\u0216\13\u0143\1\u014f\7\u0143\1\u0216\13\u0143"+
+    "\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0"+
+    "\1\322\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143\3\u0144"+
+    "\1\322\2\u0143\1\u0145\14\u0143\1\u014f\6\u0143\1\u0145\14\u0143"+
+    "\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0"+
+    "\1\322\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143\3\u0144"+
+    "\1\322\4\u0143\1\u0217\12\u0143\1\u014f\10\u0143\1\u0217\12\u0143"+
+    "\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0"+
+    "\1\322\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143\3\u0144"+
+    "\1\322\4\u0143\1\u0145\12\u0143\1\u014f\10\u0143\1\u0145\12\u0143"+
+    "\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0"+
+    "\1\322\4\0\2\u0143\13\0\2\u0143\1\u0218\1\u0143\4\0"+
+    "\1\u0143\3\u0144\1\322\4\u0143\1\u0219\12\u0143\1\u014f\2\u0143"+
+    "\1\u0218\5\u0143\1\u0219\12\u0143\1\323\2\0\1\u0143\1\u0144"+
+    "\1\u0143\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0"+
+    "\1\u021a\2\u0143\1\u0216\4\0\1\u0143\3\u0144\1\322\1\u0216"+
+    "\2\u0143\1\u021b\6\u0143\1\u021c\4\u0143\1\u014f\1\u021a\3\u0143"+
+    "\1\u0216\2\u0143\1\u021b\6\u0143\1\u021c\4\u0143\1\323\2\0"+
+    "\1\u0143\1\u0144\1\u021c\1\324\1\370\2\0\1\322\4\0"+
+    "\2\u0143\13\0\2\u0143\1\u0219\1\u0143\4\0\1\u0143\3\u0144"+
+    "\1\322\17\u0143\1\u014f\2\u0143\1\u0219\20\u0143\1\323\2\0"+
+    "\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0\1\322\4\0"+
+    "\2\u0143\13\0\2\u0143\1\u021d\1\u0143\4\0\1\u0143\3\u0144"+
+    "\1\322\17\u0143\1\u014f\2\u0143\1\u021d\20\u0143\1\323\2\0"+
+    "\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0\1\322\4\0"+
+    "\2\u0143\13\0\3\u021e\1\u0143\4\0\1\u0143\3\0\1\322"+
+    "\12\u021e\1\u0143\4\u021e\1\322\23\u021e\1\323\2\0\1\u021e"+
+    "\1\0\1\u021e\1\324\1\322\2\0\1\322\4\0\2\u021e"+
+    "\10\0\1\106\1\107\1\110\4\u0150\2\112\1\113\1\0"+
+    "\1\u0150\1\242\1\243\1\244\1\117\1\u0151\5\u0150\1\u0152"+
+    "\10\u0150\1\134\4\u0150\1\u0151\5\u0150\1\u0152\10\u0150\1\245"+
+    "\2\112\1\u0150\1\243\1\u0150\1\u0153\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\u0150\5\0\1\112\2\0\1\106"+
+    "\1\325\1\326\4\u0150\2\112\1\327\1\0\1\u0150\1\330"+
+    "\1\243\1\331\1\117\1\u0151\5\u0150\1\u0152\10\u0150\1\134"+
+    "\4\u0150\1\u0151\5\u0150\1\u0152\10\u0150\1\245\2\112\1\u0150"+
+    "\1\243\1\u0150\1\u0153\1\127\2\112\1\130\1\112\2\0"+
+    "\1\112\2\u0150\5\0\1\112\2\0\1\106\1\332\1\333"+
+    "\4\u0150\2\112\1\334\1\0\1\u0150\1\335\1\243\1\336"+
+    "\1\117\1\u0151\5\u0150\1\u0152\10\u0150\1\134\4\u0150\1\u0151"+
+    "\5\u0150\1\u0152\10\u0150\1\245\2\112\1\u0150\1\243\1\u0150"+
+    "\1\u0153\1\127\2\112\1\130\1\112\2\0\1\112\2\u0150"+
+    "\5\0\1\112\4\0\1\u0162\1\u0163\1\u0164\1\u0165\1\u0166"+
+    "\1\u0162\3\0\1\u0166\1\u0162\2\0\1\u0162\1\u0166\1\u0167"+
+    "\1\u0166\1\u0168\4\u0166\1\u0169\1\u016a\1\u0166\1\u0167\1\u0166"+
+    "\1\u016b\1\u016c\1\u0162\1\u0163\1\u0164\1\u0165\2\u0166\1\u0167"+
+    "\1\u0166\1\u0168\4\u0166\1\u0169\1\u016a\1\u0166\1\u0167\1\u0166"+
+    "\1\u016b\1\u016c\1\0\1\u0162\1\0\1\u0166\1\0\1\u0166"+
+    "\2\u0162\2\0\4\u0162\1\0\2\u0166\10\0\1\106\1\107"+
+    "\1\110\4\u0150\2\112\1\113\1\0\1\u0150\1\242\1\243"+
+    "\1\244\1\117\1\u0151\1\u0150\1\u0155\3\u0150\1\u0152\10\u0150"+
+    "\1\134\4\u0150\1\u0151\1\u0150\1\u0155\3\u0150\1\u0152\10\u0150"+
+    "\1\245\2\112\1\u0150\1\243\1\u0150\1\u0153\1\127\2\112"+
+    "\1\130\1\112\2\0\1\112\2\u0150\5\0\1\112\2\0"+
+    "\1\106\1\107\1\110\4\u0150\2\112\1\113\1\0\1\u0150"+
+    "\1\242\1\243\1\244\1\117\1\u0151\3\u0150\1\u0155\1\u0150"+
+    "\1\u0152\10\u0150\1\134\4\u0150\1\u0151\3\u0150\1\u0155\1\u0150"+
+    "\1\u0152\10\u0150\1\245\2\112\1\u0150\1\243\1\u0150\1\u0153"+
+    "\1\127\2\112\1\130\1\112\2\0\1\112\2\u0150\5\0"+
+    "\1\112\5\0\4\u021f\4\0\1\u021f\3\u0220\1\0\7\u021f"+
+    "\1\u0221\7\u021f\1\u0222\13\u021f\1\u0221\7\u021f\3\0\1\u021f"+
+    "\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0\4\u021f"+
+    "\4\0\1\u021f\3\u0220\1\0\3\u021f\1\u0224\11\u021f\1\u0225"+
+    "\1\u021f\1\u0222\7\u021f\1\u0224\11\u021f\1\u0225\1\u021f\3\0"+
+    "\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0"+
+    "\4\u021f\4\0\1\u021f\3\u0220\1\0\13\u021f\1\u0226\3\u021f"+
+    "\1\u0222\17\u021f\1\u0226\3\u021f\3\0\1\u021f\1\u0220\1\u021f"+
+    "\1\0\1\u0223\7\0\2\u021f\13\0\4\u021f\4\0\1\u021f"+
+    "\3\u0220\1\0\17\u021f\1\u0222\23\u021f\3\0\1\u021f\1\u0220"+
+    "\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0\4\u021f\4\0"+
+    "\1\u021f\3\u0220\1\0\3\u021f\1\u0227\13\u021f\1\u0222\7\u021f"+
+    "\1\u0227\13\u021f\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223"+
+    "\7\0\2\u021f\13\0\4\u021f\4\0\1\u021f\3\u0220\1\0"+
+    "\4\u021f\1\u0228\12\u021f\1\u0222\10\u021f\1\u0228\12\u021f\3\0"+
+    "\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0"+
+    "\2\u021f\1\u0228\1\u021f\4\0\1\u021f\3\u0220\1\0\4\u021f"+
+    "\1\u0229\12\u021f\1\u0222\2\u021f\1\u0228\5\u021f\1\u0229\12\u021f"+
+    "\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f"+
+    "\13\0\1\u022a\2\u021f\1\u0227\4\0\1\u021f\3\u0220\1\0"+
+    "\1\u0227\2\u021f\1\u022b\6\u021f\1\u022c\4\u021f\1\u0222\1\u022a"+
+    "\3\u021f\1\u0227\2\u021f\1\u022b\6\u021f\1\u022c\4\u021f\3\0"+
+    "\1\u021f\1\u0220\1\u022c\1\0\1\u0223\7\0\2\u021f\13\0"+
+    "\2\u021f\1\u0229\1\u021f\4\0\1\u021f\3\u0220\1\0\17\u021f"+
+    "\1\u0222\2\u021f\1\u0229\20\u021f\3\0\1\u021f\1\u0220\1\u021f"+
+    "\1\0\1\u0223\7\0\2\u021f\13\0\2\u021f\1\u022d\1\u021f"+
+    "\4\0\1\u021f\3\u0220\1\0\17\u021f\1\u0222\2\u021f\1\u022d"+
+    "\20\u021f\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0"+
+    "\2\u021f\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166\1\u0162"+
+    "\2\0\1\u0162\17\u0166\1\u0162\23\u0166\1\323\1\u0162\1\0"+
+    "\1\u0166\1\0\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166"+
+    "\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162"+
+    "\7\u0166\1\u022f\7\u0166\1\u0162\13\u0166\1\u022f\7\u0166\1\323"+
+    "\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162"+
+    "\1\0\2\u0166\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166"+
+    "\3\u022e\1\u0162\3\u0166\1\u0230\11\u0166\1\u0231\1\u0166\1\u0162"+
+    "\7\u0166\1\u0230\11\u0166\1\u0231\1\u0166\1\323\1\u0162\1\0"+
+    "\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166"+
+    "\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162"+
+    "\13\u0166\1\u0232\3\u0166\1\u0162\17\u0166\1\u0232\3\u0166\1\323"+
+    "\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162"+
+    "\1\0\2\u0166\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166"+
+    "\3\u022e\1\u0162\17\u0166\1\u0162\23\u0166\1\323\1\u0162\1\0"+
+    "\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166"+
+    "\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162"+
+    "\3\u0166\1\u0233\13\u0166\1\u0162\7\u0166\1\u0233\13\u0166\1\323"+
+    "\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162"+
+    "\1\0\2\u0166\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166"+
+    "\3\u022e\1\u0162\4\u0166\1\u0234\12\u0166\1\u0162\10\u0166\1\u0234"+
+    "\12\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162"+
+    "\2\0\4\u0162\1\0\2\u0166\12\0\1\u0162\2\u0166\1\u0234"+
+    "\1\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162\4\u0166\1\u0235"+
+    "\12\u0166\1\u0162\2\u0166\1\u0234\5\u0166\1\u0235\12\u0166\1\323"+
+    "\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162"+
+    "\1\0\2\u0166\12\0\1\u0162\1\u0236\2\u0166\1\u0233\1\u0162"+
+    "\3\0\1\u0166\3\u022e\1\u0162\1\u0233\2\u0166\1\u0237\6\u0166"+
+    "\1\u0238\4\u0166\1\u0162\1\u0236\3\u0166\1\u0233\2\u0166\1\u0237"+
+    "\6\u0166\1\u0238\4\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e"+
+    "\1\u0238\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0\1\u0162"+
+    "\2\u0166\1\u0235\1\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162"+
+    "\17\u0166\1\u0162\2\u0166\1\u0235\20\u0166\1\323\1\u0162\1\0"+
+    "\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166"+
+    "\12\0\1\u0162\2\u0166\1\u0239\1\u0166\1\u0162\3\0\1\u0166"+
+    "\3\u022e\1\u0162\17\u0166\1\u0162\2\u0166\1\u0239\20\u0166\1\323"+
+    "\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162"+
+    "\1\0\2\u0166\37\0\1\u023a\23\0\1\u023a\45\0\1\u023b"+
+    "\16\0\1\u023c\15\0\1\u023b\5\0\1\u023c\64\0\1\u0171"+
+    "\15\0\1\u020e\5\0\1\u0171\104\0\1\u0171\23\0\1\u0171"+
+    "\70\0\1\u020f\101\0\1\u0171\23\0\1\u0171\70\0\1\u0171"+
+    "\23\0\1\u0171\47\0\1\u023d\11\0\1\u023d\23\0\1\u023d"+
+    "\55\0\1\u0171\11\0\1\u0171\16\0\1\u020f\4\0\1\u0171"+
+    "\55\0\1\u023c\11\0\1\u023c\23\0\1\u023c\52\0\1\u023e"+
+    "\34\0\1\u023e\56\0\1\u023f\1\u0240\1\u0241\1\u01b3\4\0"+
+    "\1\u01b3\1\0\2\u0242\1\0\1\u0243\1\u0244\1\u0245\1\u0246"+
+    "\1\u01b3\1\u0247\2\u01b3\1\u0248\1\u0249\1\u01b3\1\u024a\1\u01b3"+
+    "\1\u024b\1\u024c\1\u024d\1\u023f\1\u0240\1\u0241\1\u01b3\1\u0243"+
+    "\1\u0244\1\u0245\1\u0246\1\u01b3\1\u0247\2\u01b3\1\u0248\1\u0249"+
+    "\1\u01b3\1\u024a\1\u01b3\1\u024b\1\u024c\3\0\1\u01b3\1\u0242"+
+    "\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\10\0\1\106\1\107"+
+    "\1\110\4\266\2\112\1\113\1\0\1\266\1\u0179\1\115"+
+    "\1\116\1\267\1\305\5\266\1\275\1\u024e\7\266\1\303"+
+    "\4\266\1\305\5\266\1\275\1\u024e\7\266\1\125\2\112"+
+    "\1\266\1\115\1\266\1\112\1\304\4\112\2\0\1\112"+
+    "\2\266\5\0\1\112\2\0\1\106\1\107\1\110\2\266"+
+    "\1\u024f\1\266\2\112\1\113\1\0\1\266\1\u0179\1\115"+
+    "\1\116\1\267\1\305\3\266\1\u0250\1\266\1\275\10\266"+
+    "\1\303\2\266\1\u024f\1\266\1\305\3\266\1\u0250\1\266"+
+    "\1\275\10\266\1\125\2\112\1\266\1\115\1\266\1\112"+
+    "\1\304\4\112\2\0\1\112\2\266\5\0\1\112\2\0"+
+    "\1\106\1\107\1\110\4\266\2\112\1\113\1\0\1\266"+
+    "\1\u0179\1\115\1\116\1\267\1\305\1\u018b\4\266\1\275"+
+    "\10\266\1\u0251\4\266\1\305\1\u018b\4\266\1\275\10\266"+
+    "\1\125\2\112\1\266\1\115\1\266\1\112\1\304\4\112"+
+    "\2\0\1\112\2\266\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\4\266\2\112\1\113\1\0\1\266\1\u0179\1\115"+
+    "\1\116\1\267\1\305\5\266\1\275\7\266\1\u018b\1\303"+
+    "\4\266\1\305\5\266\1\275\7\266\1\u018b\1\125\2\112"+
+    "\1\266\1\115\1\266\1\112\1\304\4\112\2\0\1\112"+
+    "\2\266\5\0\1\112\5\0\4\u0252\4\0\4\u0252\1\u0253"+
+    "\7\u0252\1\u0254\7\u0252\1\u0253\13\u0252\1\u0254\7\u0252\1\u0255"+
+    "\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252\13\0\4\u0252"+
+    "\4\0\4\u0252\1\u0253\3\u0252\1\u0256\11\u0252\1\u0257\1\u0252"+
+    "\1\u0253\7\u0252\1\u0256\11\u0252\1\u0257\1\u0252\1\u0255\2\0"+
+    "\3\u0252\1\0\1\u0253\7\0\2\u0252\13\0\4\u0252\4\0"+
+    "\4\u0252\1\u0253\13\u0252\1\u0258\3\u0252\1\u0253\17\u0252\1\u0258"+
+    "\3\u0252\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252"+
+    "\13\0\4\u0252\4\0\4\u0252\1\u0253\17\u0252\1\u0253\23\u0252"+
+    "\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252\13\0"+
+    "\4\u0259\4\0\1\u0259\3\0\1\u0182\17\u0259\1\0\23\u0259"+
+    "\3\0\1\u0259\1\0\1\u0259\11\0\2\u0259\13\0\4\u0252"+
+    "\4\0\4\u0252\1\u0253\3\u0252\1\u025a\13\u0252\1\u0253\7\u0252"+
+    "\1\u025a\13\u0252\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0"+
+    "\2\u0252\13\0\4\u0252\4\0\4\u0252\1\u0253\4\u0252\1\u025b"+
+    "\12\u0252\1\u0253\10\u0252\1\u025b\12\u0252\1\u0255\2\0\3\u0252"+
+    "\1\0\1\u0253\7\0\2\u0252\13\0\2\u0252\1\u025b\1\u0252"+
+    "\4\0\4\u0252\1\u0253\4\u0252\1\u025c\12\u0252\1\u0253\2\u0252"+
+    "\1\u025b\5\u0252\1\u025c\12\u0252\1\u0255\2\0\3\u0252\1\0"+
+    "\1\u0253\7\0\2\u0252\13\0\1\u025d\2\u0252\1\u025a\4\0"+
+    "\4\u0252\1\u0253\1\u025a\2\u0252\1\u025e\6\u0252\1\u025f\4\u0252"+
+    "\1\u0253\1\u025d\3\u0252\1\u025a\2\u0252\1\u025e\6\u0252\1\u025f"+
+    "\4\u0252\1\u0255\2\0\2\u0252\1\u025f\1\0\1\u0253\7\0"+
+    "\2\u0252\13\0\2\u0252\1\u025c\1\u0252\4\0\4\u0252\1\u0253"+
+    "\17\u0252\1\u0253\2\u0252\1\u025c\20\u0252\1\u0255\2\0\3\u0252"+
+    "\1\0\1\u0253\7\0\2\u0252\13\0\2\u0252\1\u0260\1\u0252"+
+    "\4\0\4\u0252\1\u0253\17\u0252\1\u0253\2\u0252\1\u0260\20\u0252"+
+    "\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252\10\0"+
+    "\1\106\1\107\1\110\4\266\2\112\1\113\1\0\1\266"+
+    "\1\u0179\1\115\1\116\1\267\1\305\5\266\1\275\10\266"+
+    "\1\u0261\4\266\1\305\5\266\1\275\10\266\1\125\2\112"+
+    "\1\266\1\115\1\266\1\112\1\304\4\112\2\0\1\112"+
+    "\2\266\5\0\1\112\2\0\1\106\1\107\1\110\4\266"+
+    "\2\112\1\113\1\0\1\266\1\u0179\1\115\1\116\1\267"+
+    "\1\305\4\266\1\u018b\1\275\10\266\1\303\4\266\1\305"+
+    "\4\266\1\u018b\1\275\10\266\1\125\2\112\1\266\1\115"+
+    "\1\266\1\112\1\304\4\112\2\0\1\112\2\266\5\0"+
+    "\1\112\5\0\1\u023f\1\u0240\1\u0241\1\u01b3\4\0\1\u01b3"+
+    "\1\0\2\u0242\1\0\1\u0243\1\u0244\1\u0245\1\u0246\1\u01b3"+
+    "\1\u0247\1\u01b3\1\u0243\1\u0248\1\u0249\1\u01b3\1\u024a\1\u01b3"+
+    "\1\u024b\1\u024c\1\u024d\1\u023f\1\u0240\1\u0241\1\u01b3\1\u0243"+
+    "\1\u0244\1\u0245\1\u0246\1\u01b3\1\u0247\1\u01b3\1\u0243\1\u0248"+
+    "\1\u0249\1\u01b3\1\u024a\1\u01b3\1\u024b\1\u024c\3\0\1\u01b3"+
+    "\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\10\0\1\106"+
+    "\1\107\1\110\4\266\2\112\1\113\1\0\1\266\1\113"+
+    "\1\115\1\116\1\267\1\270\1\306\1\272\1\274\1\266"+
+    "\1\274\1\275\1\306\1\266\1\306\5\266\1\303\4\266"+
+    "\1\270\1\306\1\272\1\274\1\266\1\274\1\275\1\306"+
+    "\1\266\1\306\5\266\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\266\2\112\1\113\1\0"+
+    "\1\266\1\u0179\1\115\1\116\1\267\1\305\5\266\1\u0262"+
+    "\10\266\1\303\4\266\1\305\5\266\1\u0262\10\266\1\125"+
+    "\2\112\1\266\1\115\1\266\1\112\1\304\4\112\2\0"+
+    "\1\112\2\266\5\0\1\112\2\0\1\106\1\107\1\110"+
+    "\3\266\1\u0263\2\112\1\113\1\0\1\266\1\u0179\1\115"+
+    "\1\116\1\267\1\u0264\5\266\1\275\10\266\1\303\4\266"+
+    "\1\u0264\5\266\1\275\10\266\1\125\2\112\1\266\1\115"+
+    "\1\266\1\112\1\304\4\112\2\0\1\112\2\266\5\0"+
+    "\1\112\2\0\1\106\1\325\1\326\4\266\2\112\1\327"+
+    "\1\0\1\266\1\u0189\1\115\1\u018a\1\267\1\305\5\266"+
+    "\1\275\10\266\1\u0261\4\266\1\305\5\266\1\275\10\266"+
+    "\1\125\2\112\1\266\1\115\1\266\1\112\1\304\4\112"+
+    "\2\0\1\112\2\266\5\0\1\112\2\0\1\106\1\107"+
+    "\1\110\3\266\1\u018b\2\112\1\113\1\0\1\266\1\u0179"+
+    "\1\115\1\116\1\267\1\u0192\5\266\1\275\10\266\1\u0261"+
+    "\4\266\1\u0192\5\266\1\275\10\266\1\125\2\112\1\266"+
+    "\1\115\1\266\1\112\1\304\4\112\2\0\1\112\2\266"+
+    "\5\0\1\112\2\0\1\106\1\107\1\110\3\266\1\u0250"+
+    "\2\112\1\113\1\0\1\266\1\u0179\1\115\1\116\1\267"+
+    "\1\u0265\5\266\1\275\10\266\1\303\4\266\1\u0265\5\266"+
+    "\1\275\10\266\1\125\2\112\1\266\1\115\1\266\1\112"+
+    "\1\304\4\112\2\0\1\112\2\266\5\0\1\112\2\0"+
+    "\1\106\1\107\1\110\1\u0266\3\266\2\112\1\113\1\0"+
+    "\1\266\1\u0179\1\115\1\116\1\267\1\305\5\266\1\275"+
+    "\10\266\1\303\1\u0266\3\266\1\305\5\266\1\275\10\266"+
+    "\1\125\2\112\1\266\1\115\1\266\1\112\1\304\4\112"+
+    "\2\0\1\112\2\266\5\0\1\112\5\0\3\u0267\1\u0268"+
+    "\4\0\1\u0268\3\u0269\1\u0253\7\u0267\1\u026a\2\u0267\1\u0268"+
+    "\4\u0267\1\u026b\13\u0267\1\u026a\7\u0267\1\u0255\2\0\1\u0267"+
+    "\1\u0269\1\u0267\1\0\1\u026c\7\0\2\u0267\13\0\3\u0267"+
+    "\1\u0268\4\0\1\u0268\3\u0269\1\u0253\3\u0267\1\u026d\6\u0267"+
+    "\1\u0268\2\u0267\1\u026e\1\u0267\1\u026b\7\u0267\1\u026d\11\u0267"+
+    "\1\u026e\1\u0267\1\u0255\2\0\1\u0267\1\u0269\1\u0267\1\0"+
+    "\1\u026c\7\0\2\u0267\13\0\3\u0267\1\u0268\4\0\1\u0268"+
+    "\3\u0269\1\u0253\12\u0267\1\u0268\1\u026f\3\u0267\1\u026b\17\u0267"+
+    "\1\u026f\3\u0267\1\u0255\2\0\1\u0267\1\u0269\1\u0267\1\0"+
+    "\1\u026c\7\0\2\u0267\13\0\4\u0268\4\0\1\u0268\3\u0269"+
+    "\1\u0253\17\u0268\1\u026b\23\u0268\1\u0255\2\0\1\u0268\1\u0269"+
+    "\1\u0268\1\0\1\u026c\7\0\2\u0268\13\0\3\u0267\1\u0268"+
+    "\4\0\1\u0268\3\u0269\1\u0253\12\u0267\1\u0268\4\u0267\1\u026b"+
+    "\23\u0267\1\u0255\2\0\1\u0267\1\u0269\1\u0267\1\0\1\u026c"+
+    "\7\0\2\u0267\13\0\3\u0267\1\u0268\4\0\1\u0268\3\u0269"+
+    "\1\u0253\3\u0267\1\u0270\6\u0267\1\u0268\4\u0267\1\u026b\7\u0267"+
+    "\1\u0270\13\u0267\1\u0255\2\0\1\u0267\1\u0269\1\u0267\1\0"+
+    "\1\u026c\7\0\2\u0267\13\0\3\u0267\1\u0268\4\0\1\u0268"+
+    "\3\u0269\1\u0253\4\u0267\1\u0271\5\u0267\1\u0268\4\u0267\1\u026b"+
+    "\10\u0267\1\u0271\12\u0267\1\u0255\2\0\1\u0267\1\u0269\1\u0267"+
+    "\1\0\1\u026c\7\0\2\u0267\13\0\2\u0267\1\u0271\1\u0268"+
+    "\4\0\1\u0268\3\u0269\1\u0253\4\u0267\1\u0272\5\u0267\1\u0268"+
+    "\4\u0267\1\u026b\2\u0267\1\u0271\5\u0267\1\u0272\12\u0267\1\u0255"+
+    "\2\0\1\u0267\1\u0269\1\u0267\1\0\1\u026c\7\0\2\u0267"+
+    "\13\0\1\u0273\2\u0267\1\u0274\4\0\1\u0268\3\u0269\1\u0253"+
+    "\1\u0270\2\u0267\1\u0275\6\u0267\1\u0276\4\u0267\1\u026b\1\u0273"+
+    "\3\u0267\1\u0270\2\u0267\1\u0275\6\u0267\1\u0277\4\u0267\1\u0255"+
+    "\2\0\1\u0267\1\u0269\1\u0277\1\0\1\u026c\7\0\2\u0267"+
+    "\13\0\2\u0267\1\u0272\1\u0268\4\0\1\u0268\3\u0269\1\u0253"+
+    "\12\u0267\1\u0268\4\u0267\1\u026b\2\u0267\1\u0272\20\u0267\1\u0255"+
+    "\2\0\1\u0267\1\u0269\1\u0267\1\0\1\u026c\7\0\2\u0267"+
+    "\13\0\2\u0267\1\u0278\1\u0268\4\0\1\u0268\3\u0269\1\u0253"+
+    "\12\u0267\1\u0268\4\u0267\1\u026b\2\u0267\1\u0278\20\u0267\1\u0255"+
+    "\2\0\1\u0267\1\u0269\1\u0267\1\0\1\u026c\7\0\2\u0267"+
+    "\10\0\1\106\2\0\4\u0279\4\0\1\u0279\3\u027a\1\u0253"+
+    "\17\u0279\1\u026b\23\u0279\1\u0255\2\0\1\u0279\1\u027a\1\u0279"+
+    "\1\0\1\304\7\0\2\u0279\13\0\4\u01b3\4\0\1\u01b3"+
+    "\4\0\17\u01b3\1\0\23\u01b3\3\0\1\u01b3\1\0\1\u01b3"+
+    "\1\0\1\u01a2\7\0\2\u01b3\13\0\4\u01a3\4\0\1\u01a3"+
+    "\1\u01d9\2\u01a4\1\u01a5\17\u01a3\1\u01a5\23\u01a3\1\u01a7\2\0"+
+    "\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0"+
+    "\2\u01a3\13\0\4\u01a3\4\0\1\u01a3\1\0\2\u01a4\1\u01a5"+
+    "\17\u01a3\1\u01a5\23\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3"+
+    "\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\4\u027b"+
+    "\4\0\1\u027b\3\0\1\322\17\u027b\1\322\23\u027b\1\323"+
+    "\2\0\1\u027b\1\0\1\u027b\1\324\1\322\2\0\1\322"+
+    "\4\0\2\u027b\13\0\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4"+
+    "\1\u01a5\7\u01a3\1\u027c\7\u01a3\1\u01a5\13\u01a3\1\u027c\7\u01a3"+
+    "\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0"+
+    "\1\322\4\0\2\u01a3\13\0\4\u027d\4\0\1\u027d\4\0"+
+    "\17\u027d\1\0\23\u027d\3\0\1\u027d\1\0\1\u027d\11\0"+
+    "\2\u027d\13\0\2\u01a3\1\u027e\1\u01a3\4\0\1\u01a3\1\u01d9"+
+    "\2\u01a4\1\u01a5\4\u01a3\1\u027f\12\u01a3\1\u01a5\2\u01a3\1\u027e"+
+    "\5\u01a3\1\u027f\12\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3"+
+    "\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\4\u01a3"+
+    "\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5\1\u01a3\1\u01ac\15\u01a3"+
+    "\1\u0280\5\u01a3\1\u01ac\15\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4"+
+    "\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0"+
+    "\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5\16\u01a3\1\u01ac"+
+    "\1\u01a5\22\u01a3\1\u01ac\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3"+
+    "\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\4\u0281"+
+    "\4\0\1\u0281\3\u0282\1\322\17\u0281\1\322\23\u0281\1\323"+
+    "\2\0\1\u0281\1\u0282\1\u0281\1\324\1\322\2\0\1\322"+
+    "\4\0\2\u0281\13\0\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4"+
+    "\1\u01a5\17\u01a3\1\u0283\23\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4"+
+    "\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0"+
+    "\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5\5\u01a3\1\u01ac"+
+    "\11\u01a3\1\u01a5\11\u01a3\1\u01ac\11\u01a3\1\u01a7\2\0\1\u01a3"+
+    "\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3"+
+    "\13\0\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5\6\u01a3"+
+    "\1\u01ac\10\u01a3\1\u01a5\12\u01a3\1\u01ac\10\u01a3\1\u01a7\2\0"+
+    "\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0"+
+    "\2\u01a3\13\0\3\u01a3\1\u0284\4\0\1\u01a3\1\u01d9\2\u01a4"+
+    "\1\u01a5\1\u0284\16\u01a3\1\u01a5\4\u01a3\1\u0284\16\u01a3\1\u01a7"+
+    "\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322"+
+    "\4\0\2\u01a3\13\0\3\u01a3\1\u01ac\4\0\1\u01a3\1\u01d9"+
+    "\2\u01a4\1\u01a5\1\u01ac\16\u01a3\1\u0283\4\u01a3\1\u01ac\16\u01a3"+
+    "\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0"+
+    "\1\322\4\0\2\u01a3\13\0\3\u01a3\1\u027f\4\0\1\u01a3"+
+    "\1\u01d9\2\u01a4\1\u01a5\1\u027f\16\u01a3\1\u01a5\4\u01a3\1\u027f"+
+    "\16\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5"+
+    "\2\0\1\322\4\0\2\u01a3\13\0\1\u0285\3\u01a3\4\0"+
+    "\1\u01a3\1\u01d9\2\u01a4\1\u01a5\17\u01a3\1\u01a5\1\u0285\22\u01a3"+
+    "\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0"+
+    "\1\322\4\0\2\u01a3\13\0\4\u01b3\4\0\1\u01b3\3\u0242"+
+    "\1\0\17\u01b3\1\u024d\23\u01b3\3\0\1\u01b3\1\u0242\1\u01b3"+
+    "\1\0\1\u01a2\7\0\2\u01b3\13\0\1\u0133\1\u0286\2\u0133"+
+    "\4\0\4\u0133\1\0\7\u0133\1\u0135\7\u0133\1\0\1\u0133"+
+    "\1\u0286\11\u0133\1\u0135\7\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\1\u0133\1\u0287\2\u0133\4\0\4\u0133\1\0\7\u0133"+
+    "\1\u0135\7\u0133\1\0\1\u0133\1\u0287\11\u0133\1\u0135\7\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\11\0\2\u0288\3\u0289\1\u01b7"+
+    "\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\12\u0289\1\u01b7"+
+    "\4\u0289\1\u028c\23\u0289\1\u028d\1\u0288\1\u028e\1\u0289\1\u01b8"+
+    "\1\u0289\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288"+
+    "\2\u0289\1\0\3\u0288\1\0\2\u0288\4\0\4\u01b7\4\0"+
+    "\1\u01b7\1\u0144\2\u01b8\1\u01a5\17\u01b7\1\u01ba\23\u01b7\1\u01a7"+
+    "\2\0\1\u01b7\1\u01b8\1\u01b7\1\324\1\u01bb\2\0\1\322"+
+    "\4\0\2\u01b7\13\0\4\u01b7\4\0\1\u01b7\1\0\2\u01b8"+
+    "\1\u01a5\17\u01b7\1\u01ba\23\u01b7\1\u01a7\2\0\1\u01b7\1\u01b8"+
+    "\1\u01b7\1\324\1\u01bb\2\0\1\322\4\0\2\u01b7\11\0"+
+    "\2\u0288\3\u0289\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8"+
+    "\1\u028b\7\u0289\1\u0292\2\u0289\1\u01b7\4\u0289\1\u028c\13\u0289"+
+    "\1\u0292\7\u0289\1\u028d\1\u0288\1\u028e\1\u0289\1\u01b8\1\u0289"+
+    "\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u0289"+
+    "\1\0\3\u0288\1\0\2\u0288\4\0\3\345\1\344\4\0"+
+    "\1\344\3\0\1\322\12\345\1\344\4\345\1\322\23\345"+
+    "\1\323\2\0\1\345\1\0\1\345\1\324\1\322\2\0"+
+    "\1\322\4\0\2\345\13\0\4\344\4\0\1\344\3\0"+
+    "\1\322\17\344\1\322\23\344\1\323\2\0\1\344\1\0"+
+    "\1\344\1\324\1\370\2\0\1\322\4\0\2\344\11\0"+
+    "\2\u0288\2\u0289\1\u0293\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a"+
+    "\2\u01b8\1\u028b\4\u0289\1\u0294\5\u0289\1\u01b7\4\u0289\1\u028c"+
+    "\2\u0289\1\u0293\5\u0289\1\u0294\12\u0289\1\u028d\1\u0288\1\u028e"+
+    "\1\u0289\1\u01b8\1\u0289\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u0289\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u0289\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8"+
+    "\1\u028b\1\u0289\1\u0295\10\u0289\1\u01b7\4\u0289\1\u0296\5\u0289"+
+    "\1\u0295\15\u0289\1\u028d\1\u0288\1\u028e\1\u0289\1\u01b8\1\u0289"+
+    "\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u0289"+
+    "\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u0289\1\u01b7"+
+    "\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\12\u0289\1\u01b7"+
+    "\3\u0289\1\u0295\1\u028c\22\u0289\1\u0295\1\u028d\1\u0288\1\u028e"+
+    "\1\u0289\1\u01b8\1\u0289\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u0289\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u0289\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8"+
+    "\1\u028b\12\u0289\1\u01b7\4\u0289\1\u0297\23\u0289\1\u028d\1\u0288"+
+    "\1\u028e\1\u0289\1\u01b8\1\u0289\1\u028f\1\u01bb\2\u0290\1\u0291"+
+    "\1\u0288\2\0\1\u0288\2\u0289\1\0\3\u0288\1\0\2\u0288"+
+    "\2\0\2\u0288\3\u0289\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a"+
+    "\2\u01b8\1\u028b\5\u0289\1\u0295\4\u0289\1\u01b7\4\u0289\1\u028c"+
+    "\11\u0289\1\u0295\11\u0289\1\u028d\1\u0288\1\u028e\1\u0289\1\u01b8"+
+    "\1\u0289\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288"+
+    "\2\u0289\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u0289"+
+    "\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\6\u0289"+
+    "\1\u0295\3\u0289\1\u01b7\4\u0289\1\u028c\12\u0289\1\u0295\10\u0289"+
+    "\1\u028d\1\u0288\1\u028e\1\u0289\1\u01b8\1\u0289\1\u028f\1\u01bb"+
+    "\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u0289\1\0\3\u0288"+
+    "\1\0\2\u0288\2\0\2\u0288\3\u0289\1\u0298\3\u0288\1\0"+
+    "\1\u01b7\1\u028a\2\u01b8\1\u028b\1\u0299\11\u0289\1\u01b7\4\u0289"+
+    "\1\u028c\4\u0289\1\u0299\16\u0289\1\u028d\1\u0288\1\u028e\1\u0289"+
+    "\1\u01b8\1\u0289\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0"+
+    "\1\u0288\2\u0289\1\0\3\u0288\1\0\2\u0288\4\0\4\u01b7"+
+    "\4\0\1\u01b7\1\u0144\2\u01b8\1\u01a5\17\u01b7\1\u0297\23\u01b7"+
+    "\1\u01a7\2\0\1\u01b7\1\u01b8\1\u01b7\1\324\1\u01bb\2\0"+
+    "\1\322\4\0\2\u01b7\11\0\2\u0288\3\u0289\1\u01c3\3\u0288"+
+    "\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\1\u0295\11\u0289\1\u01b7"+
+    "\4\u0289\1\u0297\4\u0289\1\u0295\16\u0289\1\u028d\1\u0288\1\u028e"+
+    "\1\u0289\1\u01b8\1\u0289\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u0289\1\0\3\u0288\1\0\2\u0288\4\0"+
+    "\3\u01b7\1\u029a\4\0\1\u01b7\1\u0144\2\u01b8\1\u01a5\1\u029a"+
+    "\16\u01b7\1\u01ba\4\u01b7\1\u029a\16\u01b7\1\u01a7\2\0\1\u01b7"+
+    "\1\u01b8\1\u01b7\1\324\1\u01bb\2\0\1\322\4\0\2\u01b7"+
+    "\11\0\2\u0288\3\u0289\1\u029a\3\u0288\1\0\1\u01b7\1\u028a"+
+    "\2\u01b8\1\u028b\1\u0294\11\u0289\1\u01b7\4\u0289\1\u028c\4\u0289"+
+    "\1\u0294\16\u0289\1\u028d\1\u0288\1\u028e\1\u0289\1\u01b8\1\u0289"+
+    "\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u0289"+
+    "\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\1\u029b\2\u0289"+
+    "\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\12\u0289"+
+    "\1\u01b7\4\u0289\1\u028c\1\u029b\22\u0289\1\u028d\1\u0288\1\u028e"+
+    "\1\u0289\1\u01b8\1\u0289\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u0289\1\0\3\u0288\1\0\2\u0288\4\0"+
+    "\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0\17\u01c9\1\u01cb"+
+    "\23\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0"+
+    "\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0\7\u01c9\1\u029c"+
+    "\7\u01c9\1\u01cb\13\u01c9\1\u029c\7\u01c9\3\0\3\u01c9\1\0"+
+    "\1\u01cb\7\0\2\u01c9\13\0\4\u029d\4\0\1\u029d\4\0"+
+    "\17\u029d\1\0\23\u029d\3\0\1\u029d\1\0\1\u029d\11\0"+
+    "\2\u029d\13\0\2\u01c9\1\u029e\1\u01c9\4\0\1\u01c9\1\0"+
+    "\2\u01c9\1\0\4\u01c9\1\u029f\12\u01c9\1\u01cb\2\u01c9\1\u029e"+
+    "\5\u01c9\1\u029f\12\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0"+
+    "\2\u01c9\13\0\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0"+
+    "\1\u01c9\1\u01cf\15\u01c9\1\u02a0\5\u01c9\1\u01cf\15\u01c9\3\0"+
+    "\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0"+
+    "\1\u01c9\1\0\2\u01c9\1\0\16\u01c9\1\u01cf\1\u01cb\22\u01c9"+
+    "\1\u01cf\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0"+
+    "\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0\17\u01c9\1\u02a1"+
+    "\23\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0"+
+    "\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0\5\u01c9\1\u01cf"+
+    "\11\u01c9\1\u01cb\11\u01c9\1\u01cf\11\u01c9\3\0\3\u01c9\1\0"+
+    "\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0\1\u01c9\1\0"+
+    "\2\u01c9\1\0\6\u01c9\1\u01cf\10\u01c9\1\u01cb\12\u01c9\1\u01cf"+
+    "\10\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0"+
+    "\3\u01c9\1\u02a2\4\0\1\u01c9\1\0\2\u01c9\1\0\1\u02a2"+
+    "\16\u01c9\1\u01cb\4\u01c9\1\u02a2\16\u01c9\3\0\3\u01c9\1\0"+
+    "\1\u01cb\7\0\2\u01c9\13\0\3\u01c9\1\u01cf\4\0\1\u01c9"+
+    "\1\0\2\u01c9\1\0\1\u01cf\16\u01c9\1\u02a1\4\u01c9\1\u01cf"+
+    "\16\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0"+
+    "\3\u01c9\1\u029f\4\0\1\u01c9\1\0\2\u01c9\1\0\1\u029f"+
+    "\16\u01c9\1\u01cb\4\u01c9\1\u029f\16\u01c9\3\0\3\u01c9\1\0"+
+    "\1\u01cb\7\0\2\u01c9\13\0\1\u02a3\3\u01c9\4\0\1\u01c9"+
+    "\1\0\2\u01c9\1\0\17\u01c9\1\u01cb\1\u02a3\22\u01c9\3\0"+
+    "\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0\4\u0143\4\0"+
+    "\1\u0143\3\0\1\322\17\u0143\1\322\23\u0143\3\0\1\u0143"+
+    "\1\0\1\u0143\1\0\1\322\2\0\1\322\4\0\2\u0143"+
+    "\10\0\1\106\2\0\4\u01d7\4\0\1\u01d7\1\u0144\2\u01d8"+
+    "\1\u01a5\17\u01d7\1\u01ba\23\u01d7\1\u01a7\2\0\1\u01d7\1\u01d8"+
+    "\1\u01d7\1\324\1\127\2\0\1\322\4\0\2\u01d7\10\0"+
+    "\1\106\2\0\4\u01d7\4\0\1\u01d7\1\0\2\u01d8\1\u01a5"+
+    "\17\u01d7\1\u01ba\23\u01d7\1\u01a7\2\0\1\u01d7\1\u01d8\1\u01d7"+
+    "\1\324\1\127\2\0\1\322\4\0\2\u01d7\13\0\4\374"+
+    "\4\0\1\374\1\0\2\u01d9\1\322\17\374\1\322\23\374"+
+    "\1\323\2\0\1\374\1\u01d9\1\374\1\324\1\322\2\0"+
+    "\1\322\4\0\2\374\13\0\4\374\4\0\1\374\3\u01d9"+
+    "\1\322\7\374\1\u02a4\7\374\1\322\13\374\1\u02a4\7\374"+
+    "\1\323\2\0\1\374\1\u01d9\1\374\1\324\1\322\2\0"+
+    "\1\322\4\0\2\374\13\0\2\374\1\u02a5\1\374\4\0"+
+    "\1\374\3\u01d9\1\322\4\374\1\u02a6\12\374\1\322\2\374"+
+    "\1\u02a5\5\374\1\u02a6\12\374\1\323\2\0\1\374\1\u01d9"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\4\374\4\0\1\374\3\u01d9\1\322\1\374\1\u01de\15\374"+
+    "\1\u02a7\5\374\1\u01de\15\374\1\323\2\0\1\374\1\u01d9"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\4\374\4\0\1\374\3\u01d9\1\322\16\374\1\u01de\1\322"+
+    "\22\374\1\u01de\1\323\2\0\1\374\1\u01d9\1\374\1\324"+
+    "\1\322\2\0\1\322\4\0\2\374\13\0\4\374\4\0"+
+    "\1\374\3\u01d9\1\322\17\374\1\u02a8\23\374\1\323\2\0"+
+    "\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0"+
+    "\2\374\13\0\4\374\4\0\1\374\3\u01d9\1\322\5\374"+
+    "\1\u01de\11\374\1\322\11\374\1\u01de\11\374\1\323\2\0"+
+    "\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0"+
+    "\2\374\13\0\4\374\4\0\1\374\3\u01d9\1\322\6\374"+
+    "\1\u01de\10\374\1\322\12\374\1\u01de\10\374\1\323\2\0"+
+    "\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0"+
+    "\2\374\13\0\3\374\1\u02a9\4\0\1\374\3\u01d9\1\322"+
+    "\1\u02a9\16\374\1\322\4\374\1\u02a9\16\374\1\323\2\0"+
+    "\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0"+
+    "\2\374\13\0\3\374\1\u01de\4\0\1\374\3\u01d9\1\322"+
+    "\1\u01de\16\374\1\u02a8\4\374\1\u01de\16\374\1\323\2\0"+
+    "\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0"+
+    "\2\374\13\0\3\374\1\u02a6\4\0\1\374\3\u01d9\1\322"+
+    "\1\u02a6\16\374\1\322\4\374\1\u02a6\16\374\1\323\2\0"+
+    "\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0"+
+    "\2\374\13\0\1\u02aa\3\374\4\0\1\374\3\u01d9\1\322"+
+    "\17\374\1\322\1\u02aa\22\374\1\323\2\0\1\374\1\u01d9"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\3\u01b6\1\u01b7\4\0\1\u01b7\3\u01b8\1\u01a5\3\u01b6\1\u01bf"+
+    "\6\u01b6\1\u01b7\4\u01b6\1\u02ab\7\u01b6\1\u01bf\13\u01b6\1\u01a7"+
+    "\2\0\1\u01b6\1\u01b8\1\u01b6\1\324\1\u01bb\2\0\1\322"+
+    "\4\0\2\u01b6\41\0\1\u02ac\5\0\1\u02ad\15\0\1\u02ac"+
+    "\41\0\2\u0133\1\u02ae\1\u0133\4\0\1\u0133\1\0\2\u0133"+
+    "\1\0\17\u0133\1\0\2\u0133\1\u02ae\20\u0133\3\0\3\u0133"+
+    "\11\0\2\u0133\13\0\2\u0133\1\u02af\1\u0133\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\17\u0133\1\0\2\u0133\1\u02af\20\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\10\0\1\106\1\107\1\110"+
+    "\4\111\2\112\1\113\1\0\1\111\1\242\1\243\1\244"+
+    "\1\117\1\120\3\111\1\u02b0\1\111\1\121\10\111\1\134"+
+    "\4\111\1\120\3\111\1\u02b0\1\111\1\121\10\111\1\245"+
+    "\2\112\1\111\1\243\1\111\1\246\1\127\2\112\1\130"+
+    "\1\112\2\0\1\112\2\111\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\4\111\2\112\1\113\1\0\1\111\1\242"+
+    "\1\243\1\244\1\117\1\120\5\111\1\121\6\111\1\151"+
+    "\1\111\1\134\4\111\1\120\5\111\1\121\6\111\1\151"+
+    "\1\111\1\245\2\112\1\111\1\243\1\111\1\246\1\127"+
+    "\2\112\1\130\1\112\2\0\1\112\2\111\5\0\1\112"+
+    "\3\0\2\u0288\3\u02b1\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2"+
+    "\2\u01ed\1\u028b\12\u02b1\1\u01ec\4\u02b1\1\u02b3\23\u02b1\1\u028d"+
+    "\1\u0288\1\u028e\1\u02b1\1\u01ed\1\u02b1\1\u028f\1\u01bb\2\u0290"+
+    "\1\u0291\1\u0288\2\0\1\u0288\2\u02b1\1\0\3\u0288\1\0"+
+    "\2\u0288\4\0\4\u01ec\4\0\1\u01ec\1\u02b4\2\u01ed\1\u01a5"+
+    "\17\u01ec\1\u01ef\23\u01ec\1\u01a7\2\0\1\u01ec\1\u01ed\1\u01ec"+
+    "\1\324\1\u01bb\2\0\1\322\4\0\2\u01ec\13\0\4\u01ec"+
+    "\4\0\1\u01ec\1\0\2\u01ed\1\u01a5\17\u01ec\1\u01ef\23\u01ec"+
+    "\1\u01a7\2\0\1\u01ec\1\u01ed\1\u01ec\1\324\1\u01bb\2\0"+
+    "\1\322\4\0\2\u01ec\11\0\2\u0288\3\u02b1\1\u01ec\3\u0288"+
+    "\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b\7\u02b1\1\u02b5\2\u02b1"+
+    "\1\u01ec\4\u02b1\1\u02b3\13\u02b1\1\u02b5\7\u02b1\1\u028d\1\u0288"+
+    "\1\u028e\1\u02b1\1\u01ed\1\u02b1\1\u028f\1\u01bb\2\u0290\1\u0291"+
+    "\1\u0288\2\0\1\u0288\2\u02b1\1\0\3\u0288\1\0\2\u0288"+
+    "\4\0\3\u0117\1\u0116\4\0\1\u0116\3\0\1\322\12\u0117"+
+    "\1\u0116\4\u0117\1\322\23\u0117\1\323\2\0\1\u0117\1\0"+
+    "\1\u0117\1\324\1\322\2\0\1\322\4\0\2\u0117\11\0"+
+    "\2\u0288\2\u02b1\1\u02b6\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2"+
+    "\2\u01ed\1\u028b\4\u02b1\1\u02b7\5\u02b1\1\u01ec\4\u02b1\1\u02b3"+
+    "\2\u02b1\1\u02b6\5\u02b1\1\u02b7\12\u02b1\1\u028d\1\u0288\1\u028e"+
+    "\1\u02b1\1\u01ed\1\u02b1\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u02b1\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u02b1\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed"+
+    "\1\u028b\1\u02b1\1\u02b8\10\u02b1\1\u01ec\4\u02b1\1\u02b9\5\u02b1"+
+    "\1\u02b8\15\u02b1\1\u028d\1\u0288\1\u028e\1\u02b1\1\u01ed\1\u02b1"+
+    "\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u02b1"+
+    "\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u02b1\1\u01ec"+
+    "\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b\12\u02b1\1\u01ec"+
+    "\3\u02b1\1\u02b8\1\u02b3\22\u02b1\1\u02b8\1\u028d\1\u0288\1\u028e"+
+    "\1\u02b1\1\u01ed\1\u02b1\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u02b1\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u02b1\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed"+
+    "\1\u028b\12\u02b1\1\u01ec\4\u02b1\1\u02ba\23\u02b1\1\u028d\1\u0288"+
+    "\1\u028e\1\u02b1\1\u01ed\1\u02b1\1\u028f\1\u01bb\2\u0290\1\u0291"+
+    "\1\u0288\2\0\1\u0288\2\u02b1\1\0\3\u0288\1\0\2\u0288"+
+    "\2\0\2\u0288\3\u02b1\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2"+
+    "\2\u01ed\1\u028b\5\u02b1\1\u02b8\4\u02b1\1\u01ec\4\u02b1\1\u02b3"+
+    "\11\u02b1\1\u02b8\11\u02b1\1\u028d\1\u0288\1\u028e\1\u02b1\1\u01ed"+
+    "\1\u02b1\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288"+
+    "\2\u02b1\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u02b1"+
+    "\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b\6\u02b1"+
+    "\1\u02b8\3\u02b1\1\u01ec\4\u02b1\1\u02b3\12\u02b1\1\u02b8\10\u02b1"+
+    "\1\u028d\1\u0288\1\u028e\1\u02b1\1\u01ed\1\u02b1\1\u028f\1\u01bb"+
+    "\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u02b1\1\0\3\u0288"+
+    "\1\0\2\u0288\2\0\2\u0288\3\u02b1\1\u02bb\3\u0288\1\0"+
+    "\1\u01ec\1\u02b2\2\u01ed\1\u028b\1\u02bc\11\u02b1\1\u01ec\4\u02b1"+
+    "\1\u02b3\4\u02b1\1\u02bc\16\u02b1\1\u028d\1\u0288\1\u028e\1\u02b1"+
+    "\1\u01ed\1\u02b1\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0"+
+    "\1\u0288\2\u02b1\1\0\3\u0288\1\0\2\u0288\4\0\4\u01ec"+
+    "\4\0\1\u01ec\1\u02b4\2\u01ed\1\u01a5\17\u01ec\1\u02ba\23\u01ec"+
+    "\1\u01a7\2\0\1\u01ec\1\u01ed\1\u01ec\1\324\1\u01bb\2\0"+
+    "\1\322\4\0\2\u01ec\11\0\2\u0288\3\u02b1\1\u01f7\3\u0288"+
+    "\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b\1\u02b8\11\u02b1\1\u01ec"+
+    "\4\u02b1\1\u02ba\4\u02b1\1\u02b8\16\u02b1\1\u028d\1\u0288\1\u028e"+
+    "\1\u02b1\1\u01ed\1\u02b1\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u02b1\1\0\3\u0288\1\0\2\u0288\4\0"+
+    "\3\u01ec\1\u02bd\4\0\1\u01ec\1\u02b4\2\u01ed\1\u01a5\1\u02bd"+
+    "\16\u01ec\1\u01ef\4\u01ec\1\u02bd\16\u01ec\1\u01a7\2\0\1\u01ec"+
+    "\1\u01ed\1\u01ec\1\324\1\u01bb\2\0\1\322\4\0\2\u01ec"+
+    "\11\0\2\u0288\3\u02b1\1\u02bd\3\u0288\1\0\1\u01ec\1\u02b2"+
+    "\2\u01ed\1\u028b\1\u02b7\11\u02b1\1\u01ec\4\u02b1\1\u02b3\4\u02b1"+
+    "\1\u02b7\16\u02b1\1\u028d\1\u0288\1\u028e\1\u02b1\1\u01ed\1\u02b1"+
+    "\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u02b1"+
+    "\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\1\u02be\2\u02b1"+
+    "\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b\12\u02b1"+
+    "\1\u01ec\4\u02b1\1\u02b3\1\u02be\22\u02b1\1\u028d\1\u0288\1\u028e"+
+    "\1\u02b1\1\u01ed\1\u02b1\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u02b1\1\0\3\u0288\1\0\2\u0288\4\0"+
+    "\3\u02bf\10\0\14\u02bf\1\0\4\u02bf\1\0\23\u02bf\3\0"+
+    "\3\u02bf\11\0\2\u02bf\13\0\1\u02c0\34\0\1\u02c0\57\0"+
+    "\1\u02c1\34\0\1\u02c1\56\0\1\u02c2\34\0\1\u02c2\55\0"+
+    "\1\201\34\0\1\201\111\0\1\203\23\0\1\203\33\0"+
+    "\1\u0203\4\u0204\1\u0203\3\0\1\u0204\1\u0203\2\0\1\u0203"+
+    "\17\u0204\1\u0203\23\u0204\1\u0127\1\u0203\1\0\1\u0204\1\0"+
+    "\1\u0204\2\u0203\2\0\4\u0203\1\0\2\u0204\12\0\1\u0203"+
+    "\4\u0204\1\u0203\3\0\1\u0204\3\u02c3\1\u0203\17\u0204\1\u0203"+
+    "\23\u0204\1\u0127\1\u0203\1\0\1\u0204\1\u02c3\1\u0204\2\u0203"+
+    "\2\0\4\u0203\1\0\2\u0204\13\0\3\u02c4\1\u0129\4\0"+
+    "\1\u0129\3\216\1\0\12\u02c4\1\u0129\4\u02c4\1\u012a\23\u02c4"+
+    "\3\0\1\u02c4\1\216\1\u02c4\1\0\1\u012b\7\0\2\u02c4"+
+    "\13\0\4\u012c\4\0\1\u012c\1\0\2\u0206\1\217\17\u012c"+
+    "\1\217\23\u012c\1\u0127\2\0\1\u012c\1\u0206\1\u012c\1\u012d"+
+    "\1\217\2\0\1\217\4\0\2\u012c\13\0\3\u02c5\1\u012f"+
+    "\4\0\1\u012f\3\u0126\1\217\12\u02c5\1\u012f\4\u02c5\1\220"+
+    "\23\u02c5\1\u0127\1\0\1\u02c6\1\u02c5\1\u0126\1\u02c5\1\u02c7"+
+    "\1\222\2\u02c8\1\217\4\0\2\u02c5\13\0\4\u012f\4\0"+
+    "\1\u012f\3\0\1\217\17\u012f\1\217\23\u012f\3\0\1\u012f"+
+    "\1\0\1\u012f\1\0\1\217\2\0\1\217\4\0\2\u012f"+
+    "\17\0\1\u02c9\107\0\3\u0133\1\u02ca\4\0\1\u0133\1\0"+
+    "\2\u0133\1\0\1\u02ca\16\u0133\1\0\4\u0133\1\u02ca\16\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\14\u0133\1\u0139\2\u0133\1\0\20\u0133"+
+    "\1\u0139\2\u0133\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133"+
+    "\4\0\1\u0133\1\0\2\u0133\1\0\13\u0133\1\u0139\3\u0133"+
+    "\1\0\17\u0133\1\u0139\3\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\3\u0133\1\u0139\4\0\1\u0133\1\0\2\u0133\1\0"+
+    "\1\u0139\16\u0133\1\0\4\u0133\1\u0139\16\u0133\3\0\3\u0133"+
+    "\11\0\2\u0133\31\0\1\u0171\23\0\1\u0171\51\0\4\u0133"+
+    "\4\0\1\u0133\1\0\2\u0133\1\0\7\u0133\1\u02cb\7\u0133"+
+    "\1\0\13\u0133\1\u02cb\7\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\4\u0133\4\0\1\u0133\1\0\2\u0133\1\0\16\u0133"+
+    "\1\u02cc\1\0\22\u0133\1\u02cc\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\4\u0143\4\0\1\u0143\3\u0144\1\322\7\u0143\1\u02cd"+
+    "\7\u0143\1\u014f\13\u0143\1\u02cd\7\u0143\1\323\2\0\1\u0143"+
+    "\1\u0144\1\u0143\1\324\1\370\2\0\1\322\4\0\2\u0143"+
+    "\13\0\2\u0143\1\u02ce\1\u0143\4\0\1\u0143\3\u0144\1\322"+
+    "\4\u0143\1\u02cf\12\u0143\1\u014f\2\u0143\1\u02ce\5\u0143\1\u02cf"+
+    "\12\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370"+
+    "\2\0\1\322\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143"+
+    "\3\u0144\1\322\1\u0143\1\u0216\15\u0143\1\u02d0\5\u0143\1\u0216"+
+    "\15\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370"+
+    "\2\0\1\322\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143"+
+    "\3\u0144\1\322\16\u0143\1\u0216\1\u014f\22\u0143\1\u0216\1\323"+
+    "\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0\1\322"+
+    "\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143\3\u0144\1\322"+
+    "\17\u0143\1\u02d1\23\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\4\u0143"+
+    "\4\0\1\u0143\3\u0144\1\322\5\u0143\1\u0216\11\u0143\1\u014f"+
+    "\11\u0143\1\u0216\11\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\4\u0143"+
+    "\4\0\1\u0143\3\u0144\1\322\6\u0143\1\u0216\10\u0143\1\u014f"+
+    "\12\u0143\1\u0216\10\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\3\u0143"+
+    "\1\u02d2\4\0\1\u0143\3\u0144\1\322\1\u02d2\16\u0143\1\u014f"+
+    "\4\u0143\1\u02d2\16\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\3\u0143"+
+    "\1\u0216\4\0\1\u0143\3\u0144\1\322\1\u0216\16\u0143\1\u02d1"+
+    "\4\u0143\1\u0216\16\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\3\u0143"+
+    "\1\u02cf\4\0\1\u0143\3\u0144\1\322\1\u02cf\16\u0143\1\u014f"+
+    "\4\u0143\1\u02cf\16\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\1\u02d3"+
+    "\3\u0143\4\0\1\u0143\3\u0144\1\322\17\u0143\1\u014f\1\u02d3"+
+    "\22\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370"+
+    "\2\0\1\322\4\0\2\u0143\13\0\3\u02d4\1\u0143\4\0"+
+    "\1\u0143\3\u0144\1\322\12\u02d4\1\u0143\4\u02d4\1\u014f\23\u02d4"+
+    "\1\323\2\0\1\u02d4\1\u0144\1\u02d4\1\324\1\370\2\0"+
+    "\1\322\4\0\2\u02d4\13\0\4\u021f\4\0\1\u021f\1\u0242"+
+    "\2\u0220\1\0\17\u021f\1\u0222\23\u021f\3\0\1\u021f\1\u0220"+
+    "\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0\4\u021f\4\0"+
+    "\1\u021f\1\0\2\u0220\1\0\17\u021f\1\u0222\23\u021f\3\0"+
+    "\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0"+
+    "\4\u021f\4\0\1\u021f\1\u0242\2\u0220\1\0\7\u021f\1\u02d5"+
+    "\7\u021f\1\u0222\13\u021f\1\u02d5\7\u021f\3\0\1\u021f\1\u0220"+
+    "\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0\3\u02d6\1\u02d7"+
+    "\4\0\1\u02d7\4\0\12\u02d6\1\u02d7\4\u02d6\1\0\23\u02d6"+
+    "\3\0\1\u02d6\1\0\1\u02d6\11\0\2\u02d6\13\0\4\u02d7"+
+    "\4\0\1\u02d7\4\0\17\u02d7\1\0\23\u02d7\3\0\1\u02d7"+
+    "\1\0\1\u02d7\1\0\1\u01a2\7\0\2\u02d7\13\0\2\u021f"+
+    "\1\u02d8\1\u021f\4\0\1\u021f\1\u0242\2\u0220\1\0\4\u021f"+
+    "\1\u02d9\12\u021f\1\u0222\2\u021f\1\u02d8\5\u021f\1\u02d9\12\u021f"+
+    "\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f"+
+    "\13\0\4\u021f\4\0\1\u021f\1\u0242\2\u0220\1\0\1\u021f"+
+    "\1\u0227\15\u021f\1\u02da\5\u021f\1\u0227\15\u021f\3\0\1\u021f"+
+    "\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0\4\u021f"+
+    "\4\0\1\u021f\1\u0242\2\u0220\1\0\16\u021f\1\u0227\1\u0222"+
+    "\22\u021f\1\u0227\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223"+
+    "\7\0\2\u021f\13\0\4\u021f\4\0\1\u021f\1\u0242\2\u0220"+
+    "\1\0\17\u021f\1\u02db\23\u021f\3\0\1\u021f\1\u0220\1\u021f"+
+    "\1\0\1\u0223\7\0\2\u021f\13\0\4\u021f\4\0\1\u021f"+
+    "\1\u0242\2\u0220\1\0\5\u021f\1\u0227\11\u021f\1\u0222\11\u021f"+
+    "\1\u0227\11\u021f\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223"+
+    "\7\0\2\u021f\13\0\4\u021f\4\0\1\u021f\1\u0242\2\u0220"+
+    "\1\0\6\u021f\1\u0227\10\u021f\1\u0222\12\u021f\1\u0227\10\u021f"+
+    "\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f"+
+    "\13\0\3\u021f\1\u02dc\4\0\1\u021f\1\u0242\2\u0220\1\0"+
+    "\1\u02dc\16\u021f\1\u0222\4\u021f\1\u02dc\16\u021f\3\0\1\u021f"+
+    "\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0\3\u021f"+
+    "\1\u0227\4\0\1\u021f\1\u0242\2\u0220\1\0\1\u0227\16\u021f"+
+    "\1\u02db\4\u021f\1\u0227\16\u021f\3\0\1\u021f\1\u0220\1\u021f"+
+    "\1\0\1\u0223\7\0\2\u021f\13\0\3\u021f\1\u02d9\4\0"+
+    "\1\u021f\1\u0242\2\u0220\1\0\1\u02d9\16\u021f\1\u0222\4\u021f"+
+    "\1\u02d9\16\u021f\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223"+
+    "\7\0\2\u021f\13\0\1\u02dd\3\u021f\4\0\1\u021f\1\u0242"+
+    "\2\u0220\1\0\17\u021f\1\u0222\1\u02dd\22\u021f\3\0\1\u021f"+
+    "\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\12\0\1\u0162"+
+    "\4\u0166\1\u0162\3\0\1\u0166\1\u0162\2\u022e\1\u0162\17\u0166"+
+    "\1\u0162\23\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166"+
+    "\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0\1\u0162\4\u0166"+
+    "\1\u0162\3\0\1\u0166\3\u022e\1\u0162\7\u0166\1\u02de\7\u0166"+
+    "\1\u0162\13\u0166\1\u02de\7\u0166\1\323\1\u0162\1\0\1\u0166"+
+    "\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0"+
+    "\1\u0162\2\u0166\1\u02df\1\u0166\1\u0162\3\0\1\u0166\3\u022e"+
+    "\1\u0162\4\u0166\1\u02e0\12\u0166\1\u0162\2\u0166\1\u02df\5\u0166"+
+    "\1\u02e0\12\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166"+
+    "\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0\1\u0162\4\u0166"+
+    "\1\u0162\3\0\1\u0166\3\u022e\1\u0162\1\u0166\1\u0233\15\u0166"+
+    "\1\u02e1\5\u0166\1\u0233\15\u0166\1\323\1\u0162\1\0\1\u0166"+
+    "\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0"+
+    "\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162\16\u0166"+
+    "\1\u0233\1\u0162\22\u0166\1\u0233\1\323\1\u0162\1\0\1\u0166"+
+    "\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0"+
+    "\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162\17\u0166"+
+    "\1\u02e2\23\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166"+
+    "\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0\1\u0162\4\u0166"+
+    "\1\u0162\3\0\1\u0166\3\u022e\1\u0162\5\u0166\1\u0233\11\u0166"+
+    "\1\u0162\11\u0166\1\u0233\11\u0166\1\323\1\u0162\1\0\1\u0166"+
+    "\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0"+
+    "\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162\6\u0166"+
+    "\1\u0233\10\u0166\1\u0162\12\u0166\1\u0233\10\u0166\1\323\1\u0162"+
+    "\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0"+
+    "\2\u0166\12\0\1\u0162\3\u0166\1\u02e3\1\u0162\3\0\1\u0166"+
+    "\3\u022e\1\u0162\1\u02e3\16\u0166\1\u0162\4\u0166\1\u02e3\16\u0166"+
+    "\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0"+
+    "\4\u0162\1\0\2\u0166\12\0\1\u0162\3\u0166\1\u0233\1\u0162"+
+    "\3\0\1\u0166\3\u022e\1\u0162\1\u0233\16\u0166\1\u02e2\4\u0166"+
+    "\1\u0233\16\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166"+
+    "\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0\1\u0162\3\u0166"+
+    "\1\u02e0\1\u0162\3\0\1\u0166\3\u022e\1\u0162\1\u02e0\16\u0166"+
+    "\1\u0162\4\u0166\1\u02e0\16\u0166\1\323\1\u0162\1\0\1\u0166"+
+    "\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0"+
+    "\1\u0162\1\u02e4\3\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162"+
+    "\17\u0166\1\u0162\1\u02e4\22\u0166\1\323\1\u0162\1\0\1\u0166"+
+    "\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166\44\0"+
+    "\1\u0171\23\0\1\u0171\66\0\1\u0171\23\0\1\u0171\42\0"+
+    "\1\u0171\11\0\1\u0171\23\0\1\u0171\76\0\1\u02e5\23\0"+
+    "\1\u02e5\76\0\1\u02e6\23\0\1\u02e6\34\0\4\u01b3\4\0"+
+    "\1\u01b3\3\u0242\1\0\7\u01b3\1\u02e7\7\u01b3\1\u024d\13\u01b3"+
+    "\1\u02e7\7\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2"+
+    "\7\0\2\u01b3\13\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0"+
+    "\3\u01b3\1\u02e8\11\u01b3\1\u02e9\1\u01b3\1\u024d\7\u01b3\1\u02e8"+
+    "\11\u01b3\1\u02e9\1\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0"+
+    "\1\u01a2\7\0\2\u01b3\13\0\4\u01b3\4\0\1\u01b3\3\u0242"+
+    "\1\0\13\u01b3\1\u02ea\3\u01b3\1\u024d\17\u01b3\1\u02ea\3\u01b3"+
+    "\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3"+
+    "\13\0\4\u01b3\4\0\1\u01b3\1\0\2\u0242\1\0\17\u01b3"+
+    "\1\u024d\23\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2"+
+    "\7\0\2\u01b3\13\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0"+
+    "\3\u01b3\1\u02eb\13\u01b3\1\u024d\7\u01b3\1\u02eb\13\u01b3\3\0"+
+    "\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0"+
+    "\4\u01b3\4\0\1\u01b3\3\u0242\1\0\2\u01b3\1\u0243\14\u01b3"+
+    "\1\u024d\6\u01b3\1\u0243\14\u01b3\3\0\1\u01b3\1\u0242\1\u01b3"+
+    "\1\0\1\u01a2\7\0\2\u01b3\13\0\4\u01b3\4\0\1\u01b3"+
+    "\3\u0242\1\0\4\u01b3\1\u02ec\12\u01b3\1\u024d\10\u01b3\1\u02ec"+
+    "\12\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0"+
+    "\2\u01b3\13\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0\4\u01b3"+
+    "\1\u0243\12\u01b3\1\u024d\10\u01b3\1\u0243\12\u01b3\3\0\1\u01b3"+
+    "\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0\2\u01b3"+
+    "\1\u02ed\1\u01b3\4\0\1\u01b3\3\u0242\1\0\4\u01b3\1\u02ee"+
+    "\12\u01b3\1\u024d\2\u01b3\1\u02ed\5\u01b3\1\u02ee\12\u01b3\3\0"+
+    "\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0"+
+    "\1\u02ef\2\u01b3\1\u02eb\4\0\1\u01b3\3\u0242\1\0\1\u02eb"+
+    "\2\u01b3\1\u02f0\6\u01b3\1\u02f1\4\u01b3\1\u024d\1\u02ef\3\u01b3"+
+    "\1\u02eb\2\u01b3\1\u02f0\6\u01b3\1\u02f1\4\u01b3\3\0\1\u01b3"+
+    "\1\u0242\1\u02f1\1\0\1\u01a2\7\0\2\u01b3\13\0\2\u01b3"+
+    "\1\u02ee\1\u01b3\4\0\1\u01b3\3\u0242\1\0\17\u01b3\1\u024d"+
+    "\2\u01b3\1\u02ee\20\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0"+
+    "\1\u01a2\7\0\2\u01b3\13\0\2\u01b3\1\u02f2\1\u01b3\4\0"+
+    "\1\u01b3\3\u0242\1\0\17\u01b3\1\u024d\2\u01b3\1\u02f2\20\u01b3"+
+    "\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3"+
+    "\13\0\3\u02f3\1\u01b3\4\0\1\u01b3\4\0\12\u02f3\1\u01b3"+
+    "\4\u02f3\1\0\23\u02f3\3\0\1\u02f3\1\0\1\u02f3\11\0"+
+    "\2\u02f3\10\0\1\106\1\107\1\110\4\266\2\112\1\113"+
+    "\1\0\1\266\1\u0179\1\115\1\116\1\267\1\305\5\266"+
+    "\1\275\5\266\1\u018b\2\266\1\303\4\266\1\305\5\266"+
+    "\1\275\5\266\1\u018b\2\266\1\125\2\112\1\266\1\115"+
+    "\1\266\1\112\1\304\4\112\2\0\1\112\2\266\5\0"+
+    "\1\112\2\0\1\106\1\107\1\110\4\266\2\112\1\113"+
+    "\1\0\1\266\1\u0179\1\115\1\116\1\267\1\305\5\266"+
+    "\1\275\4\266\1\u018b\3\266\1\303\4\266\1\305\5\266"+
+    "\1\275\4\266\1\u018b\3\266\1\125\2\112\1\266\1\115"+
+    "\1\266\1\112\1\304\4\112\2\0\1\112\2\266\5\0"+
+    "\1\112\2\0\1\106\1\107\1\110\3\266\1\u018b\2\112"+
+    "\1\113\1\0\1\266\1\u0179\1\115\1\116\1\267\1\u0192"+
+    "\5\266\1\275\10\266\1\303\4\266\1\u0192\5\266\1\275"+
+    "\10\266\1\125\2\112\1\266\1\115\1\266\1\112\1\304"+
+    "\4\112\2\0\1\112\2\266\5\0\1\112\5\0\1\u0196"+
+    "\1\u0197\1\u0198\1\u0199\4\0\1\u0199\4\0\1\u019a\1\u02f4"+
+    "\1\u019a\1\u019c\4\u019a\1\u019d\1\u019e\1\u0199\1\u019b\1\u019a"+
+    "\1\u019f\1\u01a0\1\0\1\u0196\1\u0197\1\u0198\2\u019a\1\u02f4"+
+    "\1\u019a\1\u019c\4\u019a\1\u019d\1\u019e\1\u019a\1\u019b\1\u019a"+
+    "\1\u019f\1\u01a0\3\0\1\u019a\1\0\1\u019a\11\0\2\u019a"+
+    "\13\0\4\u0252\4\0\1\u0252\1\0\2\u0252\1\u0253\17\u0252"+
+    "\1\u0253\23\u0252\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0"+
+    "\2\u0252\13\0\4\u02f5\4\0\1\u02f5\4\0\17\u02f5\1\0"+
+    "\23\u02f5\3\0\1\u02f5\1\0\1\u02f5\11\0\2\u02f5\13\0"+
+    "\4\u0252\4\0\1\u0252\1\0\2\u0252\1\u0253\7\u0252\1\u02f6"+
+    "\7\u0252\1\u0253\13\u0252\1\u02f6\7\u0252\1\u0255\2\0\3\u0252"+
+    "\1\0\1\u0253\7\0\2\u0252\13\0\4\u02f7\4\0\1\u02f7"+
+    "\4\0\17\u02f7\1\0\23\u02f7\3\0\1\u02f7\1\0\1\u02f7"+
+    "\11\0\2\u02f7\13\0\2\u0252\1\u02f8\1\u0252\4\0\1\u0252"+
+    "\1\0\2\u0252\1\u0253\4\u0252\1\u02f9\12\u0252\1\u0253\2\u0252"+
+    "\1\u02f8\5\u0252\1\u02f9\12\u0252\1\u0255\2\0\3\u0252\1\0"+
+    "\1\u0253\7\0\2\u0252\13\0\4\u0252\4\0\1\u0252\1\0"+
+    "\2\u0252\1\u0253\1\u0252\1\u025a\15\u0252\1\u02fa\5\u0252\1\u025a"+
+    "\15\u0252\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252"+
+    "\13\0\4\u0252\4\0\1\u0252\1\0\2\u0252\1\u0253\16\u0252"+
+    "\1\u025a\1\u0253\22\u0252\1\u025a\1\u0255\2\0\3\u0252\1\0"+
+    "\1\u0253\7\0\2\u0252\13\0\4\u02fb\4\0\4\u02fb\1\0"+
+    "\17\u02fb\1\0\23\u02fb\3\0\3\u02fb\11\0\2\u02fb\13\0"+
+    "\4\u0252\4\0\1\u0252\1\0\2\u0252\1\u0253\17\u0252\1\u02fc"+
+    "\23\u0252\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252"+
+    "\13\0\4\u0252\4\0\1\u0252\1\0\2\u0252\1\u0253\5\u0252"+
+    "\1\u025a\11\u0252\1\u0253\11\u0252\1\u025a\11\u0252\1\u0255\2\0"+
+    "\3\u0252\1\0\1\u0253\7\0\2\u0252\13\0\4\u0252\4\0"+
+    "\1\u0252\1\0\2\u0252\1\u0253\6\u0252\1\u025a\10\u0252\1\u0253"+
+    "\12\u0252\1\u025a\10\u0252\1\u0255\2\0\3\u0252\1\0\1\u0253"+
+    "\7\0\2\u0252\13\0\3\u0252\1\u02fd\4\0\1\u0252\1\0"+
+    "\2\u0252\1\u0253\1\u02fd\16\u0252\1\u0253\4\u0252\1\u02fd\16\u0252"+
+    "\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252\13\0"+
+    "\3\u0252\1\u025a\4\0\1\u0252\1\0\2\u0252\1\u0253\1\u025a"+
+    "\16\u0252\1\u02fc\4\u0252\1\u025a\16\u0252\1\u0255\2\0\3\u0252"+
+    "\1\0\1\u0253\7\0\2\u0252\13\0\3\u0252\1\u02f9\4\0"+
+    "\1\u0252\1\0\2\u0252\1\u0253\1\u02f9\16\u0252\1\u0253\4\u0252"+
+    "\1\u02f9\16\u0252\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0"+
+    "\2\u0252\13\0\1\u02fe\3\u0252\4\0\1\u0252\1\0\2\u0252"+
+    "\1\u0253\17\u0252\1\u0253\1\u02fe\22\u0252\1\u0255\2\0\3\u0252"+
+    "\1\0\1\u0253\7\0\2\u0252\10\0\1\106\1\332\1\333"+
+    "\4\266\2\112\1\334\1\0\1\266\1\u018d\1\115\1\u018e"+
+    "\1\267\1\305\5\266\1\275\10\266\1\u0261\4\266\1\305"+
+    "\5\266\1\275\10\266\1\125\2\112\1\266\1\115\1\266"+
+    "\1\112\1\304\4\112\2\0\1\112\2\266\5\0\1\112"+
+    "\2\0\1\106\1\107\1\110\4\266\2\112\1\113\1\0"+
+    "\1\266\1\u0179\1\115\1\116\1\267\1\305\5\266\1\275"+
+    "\1\u02ff\7\266\1\303\4\266\1\305\5\266\1\275\1\u02ff"+
+    "\7\266\1\125\2\112\1\266\1\115\1\266\1\112\1\304"+
+    "\4\112\2\0\1\112\2\266\5\0\1\112\2\0\1\106"+
+    "\1\325\1\326\4\266\2\112\1\327\1\0\1\266\1\u0189"+
+    "\1\115\1\u018a\1\267\1\305\5\266\1\275\1\u02ff\7\266"+
+    "\1\303\4\266\1\305\5\266\1\275\1\u02ff\7\266\1\125"+
+    "\2\112\1\266\1\115\1\266\1\112\1\304\4\112\2\0"+
+    "\1\112\2\266\5\0\1\112\2\0\1\106\1\325\1\326"+
+    "\3\266\1\u018b\2\112\1\327\1\0\1\266\1\u0189\1\115"+
+    "\1\u018a\1\267\1\u0192\5\266\1\275\10\266\1\303\4\266"+
+    "\1\u0192\5\266\1\275\10\266\1\125\2\112\1\266\1\115"+
+    "\1\266\1\112\1\304\4\112\2\0\1\112\2\266\5\0"+
+    "\1\112\2\0\1\106\1\107\1\110\4\266\2\112\1\113"+
+    "\1\0\1\266\1\u0179\1\115\1\116\1\267\1\305\5\266"+
+    "\1\275\7\266\1\u0300\1\303\4\266\1\305\5\266\1\275"+
+    "\7\266\1\u0300\1\125\2\112\1\266\1\115\1\266\1\112"+
+    "\1\304\4\112\2\0\1\112\2\266\5\0\1\112\3\0"+
+    "\2\u0288\3\u0301\1\u0268\3\u0288\1\0\1\u0268\1\u0302\2\u0269"+
+    "\1\u0303\12\u0301\1\u0268\4\u0301\1\u0304\23\u0301\1\u0305\1\u0288"+
+    "\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306\1\u026c\2\u0290\2\u0288"+
+    "\2\0\1\u0288\2\u0301\1\0\3\u0288\1\0\2\u0288\4\0"+
+    "\4\u0268\4\0\1\u0268\1\u0242\2\u0269\1\u0253\17\u0268\1\u026b"+
+    "\23\u0268\1\u0255\2\0\1\u0268\1\u0269\1\u0268\1\0\1\u026c"+
+    "\7\0\2\u0268\13\0\4\u0268\4\0\1\u0268\1\0\2\u0269"+
+    "\1\u0253\17\u0268\1\u026b\23\u0268\1\u0255\2\0\1\u0268\1\u0269"+
+    "\1\u0268\1\0\1\u026c\7\0\2\u0268\11\0\2\u0288\3\u0301"+
+    "\1\u0268\3\u0288\1\0\1\u0268\1\u0302\2\u0269\1\u0303\7\u0301"+
+    "\1\u0307\2\u0301\1\u0268\4\u0301\1\u0304\13\u0301\1\u0307\7\u0301"+
+    "\1\u0305\1\u0288\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306\1\u026c"+
+    "\2\u0290\2\u0288\2\0\1\u0288\2\u0301\1\0\3\u0288\1\0"+
+    "\2\u0288\4\0\3\u019a\1\u0199\4\0\1\u0199\4\0\12\u019a"+
+    "\1\u0199\4\u019a\1\0\23\u019a\3\0\1\u019a\1\0\1\u019a"+
+    "\11\0\2\u019a\13\0\4\u0199\4\0\1\u0199\4\0\17\u0199"+
+    "\1\0\23\u0199\3\0\1\u0199\1\0\1\u0199\1\0\1\u01a2"+
+    "\7\0\2\u0199\11\0\2\u0288\2\u0301\1\u0308\1\u0268\3\u0288"+
+    "\1\0\1\u0268\1\u0302\2\u0269\1\u0303\4\u0301\1\u0309\5\u0301"+
+    "\1\u0268\4\u0301\1\u0304\2\u0301\1\u0308\5\u0301\1\u0309\12\u0301"+
+    "\1\u0305\1\u0288\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306\1\u026c"+
+    "\2\u0290\2\u0288\2\0\1\u0288\2\u0301\1\0\3\u0288\1\0"+
+    "\2\u0288\2\0\2\u0288\3\u0301\1\u0268\3\u0288\1\0\1\u0268"+
+    "\1\u0302\2\u0269\1\u0303\1\u0301\1\u030a\10\u0301\1\u0268\4\u0301"+
+    "\1\u030b\5\u0301\1\u030a\15\u0301\1\u0305\1\u0288\1\u028e\1\u0301"+
+    "\1\u0269\1\u0301\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288"+
+    "\2\u0301\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u0301"+
+    "\1\u0268\3\u0288\1\0\1\u0268\1\u0302\2\u0269\1\u0303\12\u0301"+
+    "\1\u0268\3\u0301\1\u030a\1\u0304\22\u0301\1\u030a\1\u0305\1\u0288"+
+    "\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306\1\u026c\2\u0290\2\u0288"+
+    "\2\0\1\u0288\2\u0301\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u0301\1\u0268\3\u0288\1\0\1\u0268\1\u0302\2\u0269"+
+    "\1\u0303\12\u0301\1\u0268\4\u0301\1\u030c\23\u0301\1\u0305\1\u0288"+
+    "\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306\1\u026c\2\u0290\2\u0288"+
+    "\2\0\1\u0288\2\u0301\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u0301\1\u0268\3\u0288\1\0\1\u0268\1\u0302\2\u0269"+
+    "\1\u0303\5\u0301\1\u030a\4\u0301\1\u0268\4\u0301\1\u0304\11\u0301"+
+    "\1\u030a\11\u0301\1\u0305\1\u0288\1\u028e\1\u0301\1\u0269\1\u0301"+
+    "\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u0301\1\0"+
+    "\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u0301\1\u0268\3\u0288"+
+    "\1\0\1\u0268\1\u0302\2\u0269\1\u0303\6\u0301\1\u030a\3\u0301"+
+    "\1\u0268\4\u0301\1\u0304\12\u0301\1\u030a\10\u0301\1\u0305\1\u0288"+
+    "\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306\1\u026c\2\u0290\2\u0288"+
+    "\2\0\1\u0288\2\u0301\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u0301\1\u030d\3\u0288\1\0\1\u0268\1\u0302\2\u0269"+
+    "\1\u0303\1\u030e\11\u0301\1\u0268\4\u0301\1\u0304\4\u0301\1\u030e"+
+    "\16\u0301\1\u0305\1\u0288\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306"+
+    "\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u0301\1\0\3\u0288"+
+    "\1\0\2\u0288\4\0\4\u0268\4\0\1\u0268\1\u0242\2\u0269"+
+    "\1\u0253\17\u0268\1\u030c\23\u0268\1\u0255\2\0\1\u0268\1\u0269"+
+    "\1\u0268\1\0\1\u026c\7\0\2\u0268\11\0\2\u0288\3\u0301"+
+    "\1\u0274\3\u0288\1\0\1\u0268\1\u0302\2\u0269\1\u0303\1\u030a"+
+    "\11\u0301\1\u0268\4\u0301\1\u030c\4\u0301\1\u030a\16\u0301\1\u0305"+
+    "\1\u0288\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306\1\u026c\2\u0290"+
+    "\2\u0288\2\0\1\u0288\2\u0301\1\0\3\u0288\1\0\2\u0288"+
+    "\4\0\3\u0268\1\u030f\4\0\1\u0268\1\u0242\2\u0269\1\u0253"+
+    "\1\u030f\16\u0268\1\u026b\4\u0268\1\u030f\16\u0268\1\u0255\2\0"+
+    "\1\u0268\1\u0269\1\u0268\1\0\1\u026c\7\0\2\u0268\11\0"+
+    "\2\u0288\3\u0301\1\u030f\3\u0288\1\0\1\u0268\1\u0302\2\u0269"+
+    "\1\u0303\1\u0309\11\u0301\1\u0268\4\u0301\1\u0304\4\u0301\1\u0309"+
+    "\16\u0301\1\u0305\1\u0288\1\u028e\1\u0301\1\u0269\1\u0301\1\u0306"+
+    "\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u0301\1\0\3\u0288"+
+    "\1\0\2\u0288\2\0\2\u0288\1\u0310\2\u0301\1\u0268\3\u0288"+
+    "\1\0\1\u0268\1\u0302\2\u0269\1\u0303\12\u0301\1\u0268\4\u0301"+
+    "\1\u0304\1\u0310\22\u0301\1\u0305\1\u0288\1\u028e\1\u0301\1\u0269"+
+    "\1\u0301\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u0301"+
+    "\1\0\3\u0288\1\0\2\u0288\1\0\1\106\2\0\4\u0279"+
+    "\4\0\1\u0279\1\u0242\2\u027a\1\u0253\17\u0279\1\u026b\23\u0279"+
+    "\1\u0255\2\0\1\u0279\1\u027a\1\u0279\1\0\1\304\7\0"+
+    "\2\u0279\10\0\1\106\2\0\4\u0279\4\0\1\u0279\1\0"+
+    "\2\u027a\1\u0253\17\u0279\1\u026b\23\u0279\1\u0255\2\0\1\u0279"+
+    "\1\u027a\1\u0279\1\0\1\304\7\0\2\u0279\13\0\4\u0311"+
+    "\4\0\1\u0311\3\u0312\1\u01a5\17\u0311\1\u01a5\23\u0311\1\u01a7"+
+    "\2\0\1\u0311\1\u0312\1\u0311\1\324\1\u01a5\2\0\1\322"+
+    "\4\0\2\u0311\13\0\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4"+
+    "\1\u01a5\14\u01a3\1\u01ac\2\u01a3\1\u01a5\20\u01a3\1\u01ac\2\u01a3"+
+    "\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0"+
+    "\1\322\4\0\2\u01a3\13\0\4\u0313\4\0\1\u0313\3\u0314"+
+    "\1\0\17\u0313\1\u0222\23\u0313\3\0\1\u0313\1\u0314\1\u0313"+
+    "\1\0\1\u0223\7\0\2\u0313\13\0\4\u01a3\4\0\1\u01a3"+
+    "\1\u01d9\2\u01a4\1\u01a5\13\u01a3\1\u01ac\3\u01a3\1\u01a5\17\u01a3"+
+    "\1\u01ac\3\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324"+
+    "\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\3\u01a3\1\u01ac"+
+    "\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5\1\u01ac\16\u01a3\1\u01a5"+
+    "\4\u01a3\1\u01ac\16\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3"+
+    "\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3\13\0\4\u027b"+
+    "\4\0\1\u027b\3\0\1\322\1\u027b\1\u0315\15\u027b\1\322"+
+    "\5\u027b\1\u0315\15\u027b\1\323\2\0\1\u027b\1\0\1\u027b"+
+    "\1\324\1\322\2\0\1\322\4\0\2\u027b\13\0\4\u0281"+
+    "\4\0\1\u0281\1\u01d9\2\u0282\1\322\17\u0281\1\322\23\u0281"+
+    "\1\323\2\0\1\u0281\1\u0282\1\u0281\1\324\1\322\2\0"+
+    "\1\322\4\0\2\u0281\13\0\4\u0281\4\0\1\u0281\1\0"+
+    "\2\u0282\1\322\17\u0281\1\322\23\u0281\1\323\2\0\1\u0281"+
+    "\1\u0282\1\u0281\1\324\1\322\2\0\1\322\4\0\2\u0281"+
+    "\13\0\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5\7\u01a3"+
+    "\1\u0316\7\u01a3\1\u01a5\13\u01a3\1\u0316\7\u01a3\1\u01a7\2\0"+
+    "\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0"+
+    "\2\u01a3\13\0\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5"+
+    "\16\u01a3\1\u0317\1\u01a5\22\u01a3\1\u0317\1\u01a7\2\0\1\u01a3"+
+    "\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3"+
+    "\13\0\2\u0133\1\u0318\1\u0133\4\0\1\u0133\1\0\2\u0133"+
+    "\1\0\17\u0133\1\0\2\u0133\1\u0318\20\u0133\3\0\3\u0133"+
+    "\11\0\2\u0133\13\0\2\u0133\1\u0319\1\u0133\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\17\u0133\1\0\2\u0133\1\u0319\20\u0133"+
+    "\3\0\3\u0133\11\0\2\u0133\11\0\2\u0288\3\u031a\1\u01b7"+
+    "\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\12\u031a\1\u01b7"+
+    "\4\u031a\1\u028c\23\u031a\1\u028d\1\u0288\1\u028e\1\u031a\1\u01b8"+
+    "\1\u031a\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288"+
+    "\2\u031a\1\0\3\u0288\1\0\2\u0288\2\0\1\u0288\1\u028e"+
+    "\4\u031b\1\u028e\2\u0288\1\0\1\u031b\1\u028e\2\u031b\1\u028e"+
+    "\17\u031b\1\u028e\23\u031b\2\u028e\1\u0288\3\u031b\1\u028e\1\u031b"+
+    "\4\u028e\2\u031b\1\u031c\2\u031b\1\0\3\u0288\1\0\2\u0288"+
+    "\3\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166\1\u0162\2\u031d"+
+    "\1\u0162\17\u0166\1\u0162\23\u0166\1\0\1\u0162\1\0\1\u0166"+
+    "\1\u031d\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166\11\0"+
+    "\1\u0288\1\u0290\4\u031e\1\u0290\2\u0288\1\0\1\u031e\1\u0290"+
+    "\2\u031e\1\u0290\17\u031e\1\u0290\23\u031e\2\u0290\1\u028e\3\u031e"+
+    "\1\u0290\1\u031e\4\u0290\2\u031e\1\u031f\2\u031e\1\0\3\u0288"+
+    "\1\0\2\u0288\2\0\2\u0288\3\u031a\1\u01b7\3\u0288\1\0"+
+    "\1\u01b7\1\u028a\2\u01b8\1\u028b\12\u031a\1\u01b7\1\u031a\1\u0320"+
+    "\2\u031a\1\u028c\20\u031a\1\u0320\2\u031a\1\u028d\1\u0288\1\u028e"+
+    "\1\u031a\1\u01b8\1\u031a\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u031a\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u031a\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8"+
+    "\1\u028b\12\u031a\1\u01b7\1\u0320\3\u031a\1\u028c\17\u031a\1\u0320"+
+    "\3\u031a\1\u028d\1\u0288\1\u028e\1\u031a\1\u01b8\1\u031a\1\u028f"+
+    "\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u031a\1\0"+
+    "\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u031a\1\u01c3\3\u0288"+
+    "\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\1\u0320\11\u031a\1\u01b7"+
+    "\4\u031a\1\u028c\4\u031a\1\u0320\16\u031a\1\u028d\1\u0288\1\u028e"+
+    "\1\u031a\1\u01b8\1\u031a\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u031a\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u031a\1\u01b7\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8"+
+    "\1\u028b\12\u031a\1\u01b7\4\u031a\1\u0297\23\u031a\1\u028d\1\u0288"+
+    "\1\u028e\1\u031a\1\u01b8\1\u031a\1\u028f\1\u01bb\2\u0290\1\u0291"+
+    "\1\u0288\2\0\1\u0288\2\u031a\1\0\3\u0288\1\0\2\u0288"+
+    "\4\0\3\345\1\344\4\0\1\344\3\0\1\322\1\345"+
+    "\1\u0321\10\345\1\344\4\345\1\322\5\345\1\u0321\15\345"+
+    "\1\323\2\0\1\345\1\0\1\345\1\324\1\322\2\0"+
+    "\1\322\4\0\2\345\13\0\4\u01b7\4\0\1\u01b7\1\u0144"+
+    "\2\u01b8\1\u01a5\7\u01b7\1\u0322\7\u01b7\1\u01ba\13\u01b7\1\u0322"+
+    "\7\u01b7\1\u01a7\2\0\1\u01b7\1\u01b8\1\u01b7\1\324\1\u01bb"+
+    "\2\0\1\322\4\0\2\u01b7\11\0\2\u0288\3\u031a\1\u01b7"+
+    "\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\7\u031a\1\u0323"+
+    "\2\u031a\1\u01b7\4\u031a\1\u028c\13\u031a\1\u0323\7\u031a\1\u028d"+
+    "\1\u0288\1\u028e\1\u031a\1\u01b8\1\u031a\1\u028f\1\u01bb\2\u0290"+
+    "\1\u0291\1\u0288\2\0\1\u0288\2\u031a\1\0\3\u0288\1\0"+
+    "\2\u0288\4\0\3\u01b7\1\u01c3\4\0\1\u01b7\1\u0144\2\u01b8"+
+    "\1\u01a5\1\u01c3\16\u01b7\1\u01ba\4\u01b7\1\u01c3\16\u01b7\1\u01a7"+
+    "\2\0\1\u01b7\1\u01b8\1\u01b7\1\324\1\u01bb\2\0\1\322"+
+    "\4\0\2\u01b7\11\0\2\u0288\3\u031a\1\u01b7\3\u0288\1\0"+
+    "\1\u01b7\1\u028a\2\u01b8\1\u028b\12\u031a\1\u01b7\3\u031a\1\u0324"+
+    "\1\u028c\22\u031a\1\u0324\1\u028d\1\u0288\1\u028e\1\u031a\1\u01b8"+
+    "\1\u031a\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288"+
+    "\2\u031a\1\0\3\u0288\1\0\2\u0288\4\0\4\u01c9\4\0"+
+    "\1\u01c9\1\0\2\u01c9\1\0\14\u01c9\1\u01cf\2\u01c9\1\u01cb"+
+    "\20\u01c9\1\u01cf\2\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0"+
+    "\2\u01c9\13\0\4\u0325\4\0\4\u0325\1\0\17\u0325\1\u01cb"+
+    "\23\u0325\3\0\3\u0325\1\0\1\u01cb\7\0\2\u0325\13\0"+
+    "\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0\13\u01c9\1\u01cf"+
+    "\3\u01c9\1\u01cb\17\u01c9\1\u01cf\3\u01c9\3\0\3\u01c9\1\0"+
+    "\1\u01cb\7\0\2\u01c9\13\0\3\u01c9\1\u01cf\4\0\1\u01c9"+
+    "\1\0\2\u01c9\1\0\1\u01cf\16\u01c9\1\u01cb\4\u01c9\1\u01cf"+
+    "\16\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0"+
+    "\4\u029d\4\0\1\u029d\4\0\1\u029d\1\u0326\15\u029d\1\0"+
+    "\5\u029d\1\u0326\15\u029d\3\0\1\u029d\1\0\1\u029d\11\0"+
+    "\2\u029d\13\0\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0"+
+    "\7\u01c9\1\u0327\7\u01c9\1\u01cb\13\u01c9\1\u0327\7\u01c9\3\0"+
+    "\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0"+
+    "\1\u01c9\1\0\2\u01c9\1\0\16\u01c9\1\u0328\1\u01cb\22\u01c9"+
+    "\1\u0328\3\0\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0"+
+    "\4\374\4\0\1\374\3\u01d9\1\322\14\374\1\u01de\2\374"+
+    "\1\322\20\374\1\u01de\2\374\1\323\2\0\1\374\1\u01d9"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\4\374\4\0\1\374\3\u01d9\1\322\13\374\1\u01de\3\374"+
+    "\1\322\17\374\1\u01de\3\374\1\323\2\0\1\374\1\u01d9"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\3\374\1\u01de\4\0\1\374\3\u01d9\1\322\1\u01de\16\374"+
+    "\1\322\4\374\1\u01de\16\374\1\323\2\0\1\374\1\u01d9"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\4\374\4\0\1\374\3\0\1\322\1\374\1\u01de\15\374"+
+    "\1\322\5\374\1\u01de\15\374\1\323\2\0\1\374\1\0"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\4\374\4\0\1\374\3\u01d9\1\322\7\374\1\u0329\7\374"+
+    "\1\322\13\374\1\u0329\7\374\1\323\2\0\1\374\1\u01d9"+
+    "\1\374\1\324\1\322\2\0\1\322\4\0\2\374\13\0"+
+    "\4\374\4\0\1\374\3\u01d9\1\322\16\374\1\u032a\1\322"+
+    "\22\374\1\u032a\1\323\2\0\1\374\1\u01d9\1\374\1\324"+
+    "\1\322\2\0\1\322\4\0\2\374\47\0\1\u032b\105\0"+
+    "\1\u02ac\23\0\1\u02ac\41\0\3\u0133\1\u032c\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\1\u032c\16\u0133\1\0\4\u0133\1\u032c"+
+    "\16\u0133\3\0\3\u0133\11\0\2\u0133\13\0\3\u0133\1\u032d"+
+    "\4\0\1\u0133\1\0\2\u0133\1\0\1\u032d\16\u0133\1\0"+
+    "\4\u0133\1\u032d\16\u0133\3\0\3\u0133\11\0\2\u0133\10\0"+
+    "\1\106\1\107\1\110\4\111\2\112\1\113\1\0\1\111"+
+    "\1\242\1\243\1\244\1\117\1\120\2\111\1\151\2\111"+
+    "\1\121\10\111\1\134\4\111\1\120\2\111\1\151\2\111"+
+    "\1\121\10\111\1\245\2\112\1\111\1\243\1\111\1\246"+
+    "\1\127\2\112\1\130\1\112\2\0\1\112\2\111\5\0"+
+    "\1\112\3\0\2\u0288\3\u032e\1\u01ec\3\u0288\1\0\1\u01ec"+
+    "\1\u02b2\2\u01ed\1\u028b\12\u032e\1\u01ec\4\u032e\1\u02b3\23\u032e"+
+    "\1\u028d\1\u0288\1\u028e\1\u032e\1\u01ed\1\u032e\1\u028f\1\u01bb"+
+    "\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u032e\1\0\3\u0288"+
+    "\1\0\2\u0288\4\0\4\u032f\4\0\1\u032f\1\0\2\u02b4"+
+    "\1\322\17\u032f\1\u0330\23\u032f\1\323\2\0\1\u032f\1\u02b4"+
+    "\1\u032f\1\324\1\370\2\0\1\322\4\0\2\u032f\11\0"+
+    "\2\u0288\3\u032e\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed"+
+    "\1\u028b\12\u032e\1\u01ec\1\u032e\1\u0331\2\u032e\1\u02b3\20\u032e"+
+    "\1\u0331\2\u032e\1\u028d\1\u0288\1\u028e\1\u032e\1\u01ed\1\u032e"+
+    "\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u032e"+
+    "\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u032e\1\u01ec"+
+    "\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b\12\u032e\1\u01ec"+
+    "\1\u0331\3\u032e\1\u02b3\17\u032e\1\u0331\3\u032e\1\u028d\1\u0288"+
+    "\1\u028e\1\u032e\1\u01ed\1\u032e\1\u028f\1\u01bb\2\u0290\1\u0291"+
+    "\1\u0288\2\0\1\u0288\2\u032e\1\0\3\u0288\1\0\2\u0288"+
+    "\2\0\2\u0288\3\u032e\1\u01f7\3\u0288\1\0\1\u01ec\1\u02b2"+
+    "\2\u01ed\1\u028b\1\u0331\11\u032e\1\u01ec\4\u032e\1\u02b3\4\u032e"+
+    "\1\u0331\16\u032e\1\u028d\1\u0288\1\u028e\1\u032e\1\u01ed\1\u032e"+
+    "\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u032e"+
+    "\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u032e\1\u01ec"+
+    "\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b\12\u032e\1\u01ec"+
+    "\4\u032e\1\u02ba\23\u032e\1\u028d\1\u0288\1\u028e\1\u032e\1\u01ed"+
+    "\1\u032e\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288"+
+    "\2\u032e\1\0\3\u0288\1\0\2\u0288\4\0\3\u0117\1\u0116"+
+    "\4\0\1\u0116\3\0\1\322\1\u0117\1\u0332\10\u0117\1\u0116"+
+    "\4\u0117\1\322\5\u0117\1\u0332\15\u0117\1\323\2\0\1\u0117"+
+    "\1\0\1\u0117\1\324\1\322\2\0\1\322\4\0\2\u0117"+
+    "\13\0\4\u01ec\4\0\1\u01ec\1\u02b4\2\u01ed\1\u01a5\7\u01ec"+
+    "\1\u0333\7\u01ec\1\u01ef\13\u01ec\1\u0333\7\u01ec\1\u01a7\2\0"+
+    "\1\u01ec\1\u01ed\1\u01ec\1\324\1\u01bb\2\0\1\322\4\0"+
+    "\2\u01ec\11\0\2\u0288\3\u032e\1\u01ec\3\u0288\1\0\1\u01ec"+
+    "\1\u02b2\2\u01ed\1\u028b\7\u032e\1\u0334\2\u032e\1\u01ec\4\u032e"+
+    "\1\u02b3\13\u032e\1\u0334\7\u032e\1\u028d\1\u0288\1\u028e\1\u032e"+
+    "\1\u01ed\1\u032e\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0"+
+    "\1\u0288\2\u032e\1\0\3\u0288\1\0\2\u0288\4\0\3\u01ec"+
+    "\1\u01f7\4\0\1\u01ec\1\u02b4\2\u01ed\1\u01a5\1\u01f7\16\u01ec"+
+    "\1\u01ef\4\u01ec\1\u01f7\16\u01ec\1\u01a7\2\0\1\u01ec\1\u01ed"+
+    "\1\u01ec\1\324\1\u01bb\2\0\1\322\4\0\2\u01ec\11\0"+
+    "\2\u0288\3\u032e\1\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed"+
+    "\1\u028b\12\u032e\1\u01ec\3\u032e\1\u0335\1\u02b3\22\u032e\1\u0335"+
+    "\1\u028d\1\u0288\1\u028e\1\u032e\1\u01ed\1\u032e\1\u028f\1\u01bb"+
+    "\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u032e\1\0\3\u0288"+
+    "\1\0\2\u0288\4\0\3\u0336\10\0\14\u0336\1\0\4\u0336"+
+    "\1\0\23\u0336\3\0\3\u0336\11\0\2\u0336\12\0\1\60"+
+    "\114\0\1\u0337\34\0\1\u0337\56\0\1\u0338\34\0\1\u0338"+
+    "\55\0\1\u0203\4\u0204\1\u0203\3\0\1\u0204\1\u0203\2\u02c3"+
+    "\1\u0203\17\u0204\1\u0203\23\u0204\1\u0127\1\u0203\1\0\1\u0204"+
+    "\1\u02c3\1\u0204\2\u0203\2\0\4\u0203\1\0\2\u0204\13\0"+
+    "\3\u0339\1\u0129\4\0\1\u0129\3\216\1\0\12\u0339\1\u0129"+
+    "\4\u0339\1\u012a\23\u0339\2\0\1\u02c6\1\u0339\1\216\1\u0339"+
+    "\1\u033a\1\u012b\2\u02c8\5\0\2\u0339\13\0\3\u033b\1\u012f"+
+    "\4\0\1\u012f\3\u0126\1\217\12\u033b\1\u012f\4\u033b\1\220"+
+    "\23\u033b\1\u0127\1\0\1\u02c6\1\u033b\1\u0126\1\u033b\1\u02c7"+
+    "\1\222\2\u02c8\1\217\4\0\2\u033b\12\0\6\u02c6\3\0"+
+    "\52\u02c6\1\0\13\u02c6\1\u033c\2\u02c6\12\0\1\u0203\4\u0204"+
+    "\1\u0203\3\0\1\u0204\1\u0203\2\u033d\1\u0203\17\u0204\1\u0203"+
+    "\23\u0204\1\0\1\u0203\1\0\1\u0204\1\u033d\1\u0204\2\u0203"+
+    "\2\0\4\u0203\1\0\2\u0204\12\0\6\u02c8\3\0\52\u02c8"+
+    "\1\u02c6\13\u02c8\1\u033e\2\u02c8\13\0\4\u0133\1\107\3\0"+
+    "\1\u0133\1\0\2\u0133\1\0\17\u0133\1\0\23\u0133\3\0"+
+    "\3\u0133\11\0\2\u0133\13\0\4\u0133\4\0\1\u0133\1\0"+
+    "\2\u0133\1\0\4\u0133\1\u033f\12\u0133\1\0\10\u0133\1\u033f"+
+    "\12\u0133\3\0\3\u0133\11\0\2\u0133\13\0\4\u0133\4\0"+
+    "\1\u0133\1\0\2\u0133\1\0\15\u0133\1\u0139\1\u0133\1\0"+
+    "\21\u0133\1\u0139\1\u0133\3\0\3\u0133\11\0\2\u0133\13\0"+
+    "\4\u0143\4\0\1\u0143\3\u0144\1\322\14\u0143\1\u0216\2\u0143"+
+    "\1\u014f\20\u0143\1\u0216\2\u0143\1\323\2\0\1\u0143\1\u0144"+
+    "\1\u0143\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0"+
+    "\4\u0143\4\0\1\u0143\3\u0144\1\322\13\u0143\1\u0216\3\u0143"+
+    "\1\u014f\17\u0143\1\u0216\3\u0143\1\323\2\0\1\u0143\1\u0144"+
+    "\1\u0143\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0"+
+    "\3\u0143\1\u0216\4\0\1\u0143\3\u0144\1\322\1\u0216\16\u0143"+
+    "\1\u014f\4\u0143\1\u0216\16\u0143\1\323\2\0\1\u0143\1\u0144"+
+    "\1\u0143\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0"+
+    "\3\u021e\1\u0143\4\0\1\u0143\3\0\1\322\1\u021e\1\u0340"+
+    "\10\u021e\1\u0143\4\u021e\1\322\5\u021e\1\u0340\15\u021e\1\323"+
+    "\2\0\1\u021e\1\0\1\u021e\1\324\1\322\2\0\1\322"+
+    "\4\0\2\u021e\13\0\4\u0143\4\0\1\u0143\3\u0144\1\322"+
+    "\7\u0143\1\u0341\7\u0143\1\u014f\13\u0143\1\u0341\7\u0143\1\323"+
+    "\2\0\1\u0143\1\u0144\1\u0143\1\324\1\370\2\0\1\322"+
+    "\4\0\2\u0143\13\0\4\u0143\4\0\1\u0143\3\u0144\1\322"+
+    "\16\u0143\1\u0342\1\u014f\22\u0143\1\u0342\1\323\2\0\1\u0143"+
+    "\1\u0144\1\u0143\1\324\1\370\2\0\1\322\4\0\2\u0143"+
+    "\11\0\2\u0288\3\u0343\1\u0143\3\u0288\1\0\1\u0143\1\u028a"+
+    "\2\u0144\1\u0291\12\u0343\1\u0143\4\u0343\1\u0344\23\u0343\1\u0345"+
+    "\1\u0288\1\u028e\1\u0343\1\u0144\1\u0343\1\u028f\1\370\2\u0290"+
+    "\1\u0291\1\u0288\2\0\1\u0288\2\u0343\1\0\3\u0288\1\0"+
+    "\2\u0288\4\0\4\u021f\4\0\1\u021f\1\u0242\2\u0220\1\0"+
+    "\14\u021f\1\u0227\2\u021f\1\u0222\20\u021f\1\u0227\2\u021f\3\0"+
+    "\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\13\0"+
+    "\3\u0346\1\u0347\4\0\1\u0347\3\u0348\1\0\12\u0346\1\u0347"+
+    "\4\u0346\1\u0222\23\u0346\3\0\1\u0346\1\u0348\1\u0346\1\0"+
+    "\1\u0223\7\0\2\u0346\13\0\4\u0347\4\0\1\u0347\3\u0348"+
+    "\1\0\17\u0347\1\u0222\23\u0347\3\0\1\u0347\1\u0348\1\u0347"+
+    "\1\0\1\u0223\7\0\2\u0347\13\0\4\u021f\4\0\1\u021f"+
+    "\1\u0242\2\u0220\1\0\13\u021f\1\u0227\3\u021f\1\u0222\17\u021f"+
+    "\1\u0227\3\u021f\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223"+
+    "\7\0\2\u021f\13\0\3\u021f\1\u0227\4\0\1\u021f\1\u0242"+
+    "\2\u0220\1\0\1\u0227\16\u021f\1\u0222\4\u021f\1\u0227\16\u021f"+
+    "\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f"+
+    "\13\0\3\u02d6\1\u02d7\4\0\1\u02d7\4\0\1\u02d6\1\u0349"+
+    "\10\u02d6\1\u02d7\4\u02d6\1\0\5\u02d6\1\u0349\15\u02d6\3\0"+
+    "\1\u02d6\1\0\1\u02d6\11\0\2\u02d6\13\0\4\u021f\4\0"+
+    "\1\u021f\1\u0242\2\u0220\1\0\7\u021f\1\u034a\7\u021f\1\u0222"+
+    "\13\u021f\1\u034a\7\u021f\3\0\1\u021f\1\u0220\1\u021f\1\0"+
+    "\1\u0223\7\0\2\u021f\13\0\4\u021f\4\0\1\u021f\1\u0242"+
+    "\2\u0220\1\0\16\u021f\1\u034b\1\u0222\22\u021f\1\u034b\3\0"+
+    "\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0\2\u021f\12\0"+
+    "\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162\14\u0166"+
+    "\1\u0233\2\u0166\1\u0162\20\u0166\1\u0233\2\u0166\1\323\1\u0162"+
+    "\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162\1\0"+
+    "\2\u0166\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e"+
+    "\1\u0162\13\u0166\1\u0233\3\u0166\1\u0162\17\u0166\1\u0233\3\u0166"+
+    "\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0"+
+    "\4\u0162\1\0\2\u0166\12\0\1\u0162\3\u0166\1\u0233\1\u0162"+
+    "\3\0\1\u0166\3\u022e\1\u0162\1\u0233\16\u0166\1\u0162\4\u0166"+
+    "\1\u0233\16\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166"+
+    "\2\u0162\2\0\4\u0162\1\0\2\u0166\12\0\1\u0162\4\u0166"+
+    "\1\u0162\3\0\1\u0166\1\u0162\2\0\1\u0162\1\u0166\1\u0233"+
+    "\15\u0166\1\u0162\5\u0166\1\u0233\15\u0166\1\323\1\u0162\1\0"+
+    "\1\u0166\1\0\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166"+
+    "\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166\3\u022e\1\u0162"+
+    "\7\u0166\1\u034c\7\u0166\1\u0162\13\u0166\1\u034c\7\u0166\1\323"+
+    "\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162"+
+    "\1\0\2\u0166\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166"+
+    "\3\u022e\1\u0162\16\u0166\1\u034d\1\u0162\22\u0166\1\u034d\1\323"+
+    "\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162\2\0\4\u0162"+
+    "\1\0\2\u0166\34\0\1\252\23\0\1\252\100\0\1\u0171"+
+    "\23\0\1\u0171\35\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0"+
+    "\7\u01b3\1\u034e\7\u01b3\1\u024d\13\u01b3\1\u034e\7\u01b3\3\0"+
+    "\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0"+
+    "\2\u01b3\1\u034f\1\u01b3\4\0\1\u01b3\3\u0242\1\0\4\u01b3"+
+    "\1\u0350\12\u01b3\1\u024d\2\u01b3\1\u034f\5\u01b3\1\u0350\12\u01b3"+
+    "\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3"+
+    "\13\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0\1\u01b3\1\u02eb"+
+    "\15\u01b3\1\u0351\5\u01b3\1\u02eb\15\u01b3\3\0\1\u01b3\1\u0242"+
+    "\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0\4\u01b3\4\0"+
+    "\1\u01b3\3\u0242\1\0\16\u01b3\1\u02eb\1\u024d\22\u01b3\1\u02eb"+
+    "\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3"+
+    "\13\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0\17\u01b3\1\u0352"+
+    "\23\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0"+
+    "\2\u01b3\13\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0\5\u01b3"+
+    "\1\u02eb\11\u01b3\1\u024d\11\u01b3\1\u02eb\11\u01b3\3\0\1\u01b3"+
+    "\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0\4\u01b3"+
+    "\4\0\1\u01b3\3\u0242\1\0\6\u01b3\1\u02eb\10\u01b3\1\u024d"+
+    "\12\u01b3\1\u02eb\10\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0"+
+    "\1\u01a2\7\0\2\u01b3\13\0\3\u01b3\1\u0353\4\0\1\u01b3"+
+    "\3\u0242\1\0\1\u0353\16\u01b3\1\u024d\4\u01b3\1\u0353\16\u01b3"+
+    "\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3"+
+    "\13\0\3\u01b3\1\u02eb\4\0\1\u01b3\3\u0242\1\0\1\u02eb"+
+    "\16\u01b3\1\u0352\4\u01b3\1\u02eb\16\u01b3\3\0\1\u01b3\1\u0242"+
+    "\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0\3\u01b3\1\u0350"+
+    "\4\0\1\u01b3\3\u0242\1\0\1\u0350\16\u01b3\1\u024d\4\u01b3"+
+    "\1\u0350\16\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2"+
+    "\7\0\2\u01b3\13\0\1\u0354\3\u01b3\4\0\1\u01b3\3\u0242"+
+    "\1\0\17\u01b3\1\u024d\1\u0354\22\u01b3\3\0\1\u01b3\1\u0242"+
+    "\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0\3\u0355\1\u01b3"+
+    "\4\0\1\u01b3\3\u0242\1\0\12\u0355\1\u01b3\4\u0355\1\u024d"+
+    "\23\u0355\3\0\1\u0355\1\u0242\1\u0355\1\0\1\u01a2\7\0"+
+    "\2\u0355\13\0\3\u0267\1\u0268\4\0\1\u0268\3\u0269\1\u0253"+
+    "\3\u0267\1\u0270\6\u0267\1\u0268\4\u0267\1\u030c\7\u0267\1\u0270"+
+    "\13\u0267\1\u0255\2\0\1\u0267\1\u0269\1\u0267\1\0\1\u026c"+
+    "\7\0\2\u0267\13\0\4\u0356\4\0\4\u0356\1\u0253\17\u0356"+
+    "\1\u0253\23\u0356\1\u0255\2\0\3\u0356\1\0\1\u0253\7\0"+
+    "\2\u0356\13\0\4\u0252\4\0\1\u0252\1\0\2\u0252\1\u0253"+
+    "\14\u0252\1\u025a\2\u0252\1\u0253\20\u0252\1\u025a\2\u0252\1\u0255"+
+    "\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252\13\0\4\u0357"+
+    "\4\0\4\u0357\1\0\17\u0357\1\u01cb\23\u0357\3\0\3\u0357"+
+    "\1\0\1\u01cb\7\0\2\u0357\13\0\4\u0252\4\0\1\u0252"+
+    "\1\0\2\u0252\1\u0253\13\u0252\1\u025a\3\u0252\1\u0253\17\u0252"+
+    "\1\u025a\3\u0252\1\u0255\2\0\3\u0252\1\0\1\u0253\7\0"+
+    "\2\u0252\13\0\3\u0252\1\u025a\4\0\1\u0252\1\0\2\u0252"+
+    "\1\u0253\1\u025a\16\u0252\1\u0253\4\u0252\1\u025a\16\u0252\1\u0255"+
+    "\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252\13\0\4\u02f5"+
+    "\4\0\1\u02f5\4\0\1\u02f5\1\u0358\15\u02f5\1\0\5\u02f5"+
+    "\1\u0358\15\u02f5\3\0\1\u02f5\1\0\1\u02f5\11\0\2\u02f5"+
+    "\13\0\4\u02fb\4\0\1\u02fb\1\0\2\u02fb\1\0\17\u02fb"+
+    "\1\0\23\u02fb\3\0\3\u02fb\11\0\2\u02fb\13\0\4\u0252"+
+    "\4\0\1\u0252\1\0\2\u0252\1\u0253\7\u0252\1\u0359\7\u0252"+
+    "\1\u0253\13\u0252\1\u0359\7\u0252\1\u0255\2\0\3\u0252\1\0"+
+    "\1\u0253\7\0\2\u0252\13\0\4\u0252\4\0\1\u0252\1\0"+
+    "\2\u0252\1\u0253\16\u0252\1\u035a\1\u0253\22\u0252\1\u035a\1\u0255"+
+    "\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252\10\0\1\106"+
+    "\1\107\1\110\4\266\2\112\1\113\1\0\1\266\1\u0179"+
+    "\1\115\1\116\1\267\1\305\3\266\1\300\1\266\1\275"+
+    "\10\266\1\303\4\266\1\305\3\266\1\300\1\266\1\275"+
+    "\10\266\1\125\2\112\1\266\1\115\1\266\1\112\1\304"+
+    "\4\112\2\0\1\112\2\266\5\0\1\112\2\0\1\106"+
+    "\1\107\1\110\4\266\2\112\1\113\1\0\1\266\1\u0179"+
+    "\1\115\1\116\1\267\1\305\5\266\1\275\6\266\1\u018b"+
+    "\1\266\1\303\4\266\1\305\5\266\1\275\6\266\1\u018b"+
+    "\1\266\1\125\2\112\1\266\1\115\1\266\1\112\1\304"+
+    "\4\112\2\0\1\112\2\266\5\0\1\112\3\0\2\u0288"+
+    "\3\u035b\1\u0268\3\u0288\1\0\1\u0268\1\u0302\2\u0269\1\u0303"+
+    "\12\u035b\1\u0268\4\u035b\1\u0304\23\u035b\1\u0305\1\u0288\1\u028e"+
+    "\1\u035b\1\u0269\1\u035b\1\u0306\1\u026c\2\u0290\2\u0288\2\0"+
+    "\1\u0288\2\u035b\1\0\3\u0288\1\0\2\u0288\16\0\2\u031d"+
+    "\50\0\1\u031d\25\0\2\u0288\3\u035b\1\u0268\3\u0288\1\0"+
+    "\1\u0268\1\u0302\2\u0269\1\u0303\12\u035b\1\u0268\1\u035b\1\u035c"+
+    "\2\u035b\1\u0304\20\u035b\1\u035c\2\u035b\1\u0305\1\u0288\1\u028e"+
+    "\1\u035b\1\u0269\1\u035b\1\u0306\1\u026c\2\u0290\2\u0288\2\0"+
+    "\1\u0288\2\u035b\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288"+
+    "\3\u035b\1\u0268\3\u0288\1\0\1\u0268\1\u0302\2\u0269\1\u0303"+
+    "\12\u035b\1\u0268\1\u035c\3\u035b\1\u0304\17\u035b\1\u035c\3\u035b"+
+    "\1\u0305\1\u0288\1\u028e\1\u035b\1\u0269\1\u035b\1\u0306\1\u026c"+
+    "\2\u0290\2\u0288\2\0\1\u0288\2\u035b\1\0\3\u0288\1\0"+
+    "\2\u0288\2\0\2\u0288\3\u035b\1\u0274\3\u0288\1\0\1\u0268"+
+    "\1\u0302\2\u0269\1\u0303\1\u035c\11\u035b\1\u0268\4\u035b\1\u0304"+
+    "\4\u035b\1\u035c\16\u035b\1\u0305\1\u0288\1\u028e\1\u035b\1\u0269"+
+    "\1\u035b\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u035b"+
+    "\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u035b\1\u0268"+
+    "\3\u0288\1\0\1\u0268\1\u0302\2\u0269\1\u0303\12\u035b\1\u0268"+
+    "\4\u035b\1\u030c\23\u035b\1\u0305\1\u0288\1\u028e\1\u035b\1\u0269"+
+    "\1\u035b\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u035b"+
+    "\1\0\3\u0288\1\0\2\u0288\4\0\3\u019a\1\u0199\4\0"+
+    "\1\u0199\4\0\1\u019a\1\u035d\10\u019a\1\u0199\4\u019a\1\0"+
+    "\5\u019a\1\u035d\15\u019a\3\0\1\u019a\1\0\1\u019a\11\0"+
+    "\2\u019a\13\0\4\u0268\4\0\1\u0268\1\u0242\2\u0269\1\u0253"+
+    "\7\u0268\1\u035e\7\u0268\1\u026b\13\u0268\1\u035e\7\u0268\1\u0255"+
+    "\2\0\1\u0268\1\u0269\1\u0268\1\0\1\u026c\7\0\2\u0268"+
+    "\11\0\2\u0288\3\u035b\1\u0268\3\u0288\1\0\1\u0268\1\u0302"+
+    "\2\u0269\1\u0303\7\u035b\1\u035f\2\u035b\1\u0268\4\u035b\1\u0304"+
+    "\13\u035b\1\u035f\7\u035b\1\u0305\1\u0288\1\u028e\1\u035b\1\u0269"+
+    "\1\u035b\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u035b"+
+    "\1\0\3\u0288\1\0\2\u0288\4\0\3\u0268\1\u0274\4\0"+
+    "\1\u0268\1\u0242\2\u0269\1\u0253\1\u0274\16\u0268\1\u026b\4\u0268"+
+    "\1\u0274\16\u0268\1\u0255\2\0\1\u0268\1\u0269\1\u0268\1\0"+
+    "\1\u026c\7\0\2\u0268\11\0\2\u0288\3\u035b\1\u0268\3\u0288"+
+    "\1\0\1\u0268\1\u0302\2\u0269\1\u0303\12\u035b\1\u0268\3\u035b"+
+    "\1\u0360\1\u0304\22\u035b\1\u0360\1\u0305\1\u0288\1\u028e\1\u035b"+
+    "\1\u0269\1\u035b\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288"+
+    "\2\u035b\1\0\3\u0288\1\0\2\u0288\4\0\4\u0311\4\0"+
+    "\1\u0311\1\u01d9\2\u0312\1\u01a5\17\u0311\1\u01a5\23\u0311\1\u01a7"+
+    "\2\0\1\u0311\1\u0312\1\u0311\1\324\1\u01a5\2\0\1\322"+
+    "\4\0\2\u0311\13\0\4\u0311\4\0\1\u0311\1\0\2\u0312"+
+    "\1\u01a5\17\u0311\1\u01a5\23\u0311\1\u01a7\2\0\1\u0311\1\u0312"+
+    "\1\u0311\1\324\1\u01a5\2\0\1\322\4\0\2\u0311\13\0"+
+    "\4\u0313\4\0\1\u0313\1\u0242\2\u0314\1\0\17\u0313\1\u0222"+
+    "\23\u0313\3\0\1\u0313\1\u0314\1\u0313\1\0\1\u0223\7\0"+
+    "\2\u0313\13\0\4\u0313\4\0\1\u0313\1\0\2\u0314\1\0"+
+    "\17\u0313\1\u0222\23\u0313\3\0\1\u0313\1\u0314\1\u0313\1\0"+
+    "\1\u0223\7\0\2\u0313\13\0\4\u0311\4\0\1\u0311\3\u0312"+
+    "\1\u01a5\17\u0311\1\u0283\23\u0311\1\u01a7\2\0\1\u0311\1\u0312"+
+    "\1\u0311\1\324\1\u01a5\2\0\1\322\4\0\2\u0311\13\0"+
+    "\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5\4\u01a3\1\u0361"+
+    "\12\u01a3\1\u01a5\10\u01a3\1\u0361\12\u01a3\1\u01a7\2\0\1\u01a3"+
+    "\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0\2\u01a3"+
+    "\13\0\4\u01a3\4\0\1\u01a3\1\u01d9\2\u01a4\1\u01a5\15\u01a3"+
+    "\1\u01ac\1\u01a3\1\u01a5\21\u01a3\1\u01ac\1\u01a3\1\u01a7\2\0"+
+    "\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5\2\0\1\322\4\0"+
+    "\2\u01a3\13\0\3\u0133\1\u0362\4\0\1\u0133\1\0\2\u0133"+
+    "\1\0\1\u0362\16\u0133\1\0\4\u0133\1\u0362\16\u0133\3\0"+
+    "\3\u0133\11\0\2\u0133\13\0\3\u0133\1\u0363\4\0\1\u0133"+
+    "\1\0\2\u0133\1\0\1\u0363\16\u0133\1\0\4\u0133\1\u0363"+
+    "\16\u0133\3\0\3\u0133\11\0\2\u0133\11\0\2\u0288\4\u01b7"+
+    "\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b\17\u01b7\1\u028c"+
+    "\23\u01b7\1\u028d\1\u0288\1\u028e\1\u01b7\1\u01b8\1\u01b7\1\u028f"+
+    "\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u01b7\1\0"+
+    "\3\u0288\1\0\2\u0288\4\0\1\u0364\11\0\2\u0364\2\0"+
+    "\1\u0364\2\0\1\u0364\6\0\1\u0364\2\0\1\u0364\1\0"+
+    "\1\u0364\4\0\1\u0364\2\0\1\u0364\6\0\1\u0364\2\0"+
+    "\1\u0364\4\0\1\u0364\12\0\2\u0364\11\0\2\u0288\4\0"+
+    "\3\u0288\2\0\1\u0288\2\u031d\1\u0288\17\0\1\u0288\23\0"+
+    "\2\u0288\1\u028e\1\0\1\u031d\1\0\1\u0288\1\0\2\u0290"+
+    "\2\u0288\2\0\1\u0288\3\0\3\u0288\1\0\2\u0288\4\0"+
+    "\1\u0365\11\0\2\u0365\2\0\1\u0365\2\0\1\u0365\6\0"+
+    "\1\u0365\2\0\1\u0365\1\0\1\u0365\4\0\1\u0365\2\0"+
+    "\1\u0365\6\0\1\u0365\2\0\1\u0365\4\0\1\u0365\12\0"+
+    "\2\u0365\11\0\2\u0288\4\u01b7\3\u0288\1\0\1\u01b7\1\u028a"+
+    "\2\u01b8\1\u028b\17\u01b7\1\u0297\23\u01b7\1\u028d\1\u0288\1\u028e"+
+    "\1\u01b7\1\u01b8\1\u01b7\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u01b7\1\0\3\u0288\1\0\2\u0288\4\0"+
+    "\3\u01b6\1\u01b7\4\0\1\u01b7\3\u01b8\1\u01a5\12\u01b6\1\u01b7"+
+    "\4\u01b6\1\u0297\23\u01b6\1\u01a7\2\0\1\u01b6\1\u01b8\1\u01b6"+
+    "\1\324\1\u01bb\2\0\1\322\4\0\2\u01b6\13\0\4\u01b7"+
+    "\4\0\1\u01b7\1\u0144\2\u01b8\1\u01a5\4\u01b7\1\u0366\12\u01b7"+
+    "\1\u01ba\10\u01b7\1\u0366\12\u01b7\1\u01a7\2\0\1\u01b7\1\u01b8"+
+    "\1\u01b7\1\324\1\u01bb\2\0\1\322\4\0\2\u01b7\11\0"+
+    "\2\u0288\4\u01b7\3\u0288\1\0\1\u01b7\1\u028a\2\u01b8\1\u028b"+
+    "\4\u01b7\1\u0366\12\u01b7\1\u028c\10\u01b7\1\u0366\12\u01b7\1\u028d"+
+    "\1\u0288\1\u028e\1\u01b7\1\u01b8\1\u01b7\1\u028f\1\u01bb\2\u0290"+
+    "\1\u0291\1\u0288\2\0\1\u0288\2\u01b7\1\0\3\u0288\1\0"+
+    "\2\u0288\2\0\2\u0288\4\u01b7\3\u0288\1\0\1\u01b7\1\u028a"+
+    "\2\u01b8\1\u028b\15\u01b7\1\u01c3\1\u01b7\1\u028c\21\u01b7\1\u01c3"+
+    "\1\u01b7\1\u028d\1\u0288\1\u028e\1\u01b7\1\u01b8\1\u01b7\1\u028f"+
+    "\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u01b7\1\0"+
+    "\3\u0288\1\0\2\u0288\4\0\4\u0325\4\0\1\u0325\1\0"+
+    "\2\u0325\1\0\17\u0325\1\u01cb\23\u0325\3\0\3\u0325\1\0"+
+    "\1\u01cb\7\0\2\u0325\13\0\4\u0325\4\0\4\u0325\1\0"+
+    "\17\u0325\1\u02a1\23\u0325\3\0\3\u0325\1\0\1\u01cb\7\0"+
+    "\2\u0325\13\0\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0"+
+    "\4\u01c9\1\u0367\12\u01c9\1\u01cb\10\u01c9\1\u0367\12\u01c9\3\0"+
+    "\3\u01c9\1\0\1\u01cb\7\0\2\u01c9\13\0\4\u01c9\4\0"+
+    "\1\u01c9\1\0\2\u01c9\1\0\15\u01c9\1\u01cf\1\u01c9\1\u01cb"+
+    "\21\u01c9\1\u01cf\1\u01c9\3\0\3\u01c9\1\0\1\u01cb\7\0"+
+    "\2\u01c9\13\0\4\374\4\0\1\374\3\u01d9\1\322\4\374"+
+    "\1\375\12\374\1\322\10\374\1\375\12\374\1\323\2\0"+
+    "\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0"+
+    "\2\374\13\0\4\374\4\0\1\374\3\u01d9\1\322\15\374"+
+    "\1\u01de\1\374\1\322\21\374\1\u01de\1\374\1\323\2\0"+
+    "\1\374\1\u01d9\1\374\1\324\1\322\2\0\1\322\4\0"+
+    "\2\374\13\0\4\u0133\1\144\3\0\1\u0133\1\0\2\u0133"+
+    "\1\0\17\u0133\1\0\23\u0133\3\0\3\u0133\11\0\2\u0133"+
+    "\13\0\4\u0133\1\153\3\0\1\u0133\1\0\2\u0133\1\0"+
+    "\17\u0133\1\0\23\u0133\3\0\3\u0133\11\0\2\u0133\11\0"+
+    "\2\u0288\4\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b"+
+    "\17\u01ec\1\u02b3\23\u01ec\1\u028d\1\u0288\1\u028e\1\u01ec\1\u01ed"+
+    "\1\u01ec\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0\1\u0288"+
+    "\2\u01ec\1\0\3\u0288\1\0\2\u0288\4\0\4\u032f\4\0"+
+    "\1\u032f\3\u02b4\1\322\17\u032f\1\u0330\23\u032f\1\323\2\0"+
+    "\1\u032f\1\u02b4\1\u032f\1\324\1\370\2\0\1\322\4\0"+
+    "\2\u032f\13\0\3\u0368\1\u032f\4\0\1\u032f\3\0\1\322"+
+    "\12\u0368\1\u032f\4\u0368\1\322\23\u0368\1\323\2\0\1\u0368"+
+    "\1\0\1\u0368\1\324\1\322\2\0\1\322\4\0\2\u0368"+
+    "\11\0\2\u0288\4\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed"+
+    "\1\u028b\17\u01ec\1\u02ba\23\u01ec\1\u028d\1\u0288\1\u028e\1\u01ec"+
+    "\1\u01ed\1\u01ec\1\u028f\1\u01bb\2\u0290\1\u0291\1\u0288\2\0"+
+    "\1\u0288\2\u01ec\1\0\3\u0288\1\0\2\u0288\4\0\3\u01eb"+
+    "\1\u01ec\4\0\1\u01ec\3\u01ed\1\u01a5\12\u01eb\1\u01ec\4\u01eb"+
+    "\1\u02ba\23\u01eb\1\u01a7\2\0\1\u01eb\1\u01ed\1\u01eb\1\324"+
+    "\1\u01bb\2\0\1\322\4\0\2\u01eb\13\0\4\u01ec\4\0"+
+    "\1\u01ec\1\u02b4\2\u01ed\1\u01a5\4\u01ec\1\u0369\12\u01ec\1\u01ef"+
+    "\10\u01ec\1\u0369\12\u01ec\1\u01a7\2\0\1\u01ec\1\u01ed\1\u01ec"+
+    "\1\324\1\u01bb\2\0\1\322\4\0\2\u01ec\11\0\2\u0288"+
+    "\4\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed\1\u028b\4\u01ec"+
+    "\1\u0369\12\u01ec\1\u02b3\10\u01ec\1\u0369\12\u01ec\1\u028d\1\u0288"+
+    "\1\u028e\1\u01ec\1\u01ed\1\u01ec\1\u028f\1\u01bb\2\u0290\1\u0291"+
+    "\1\u0288\2\0\1\u0288\2\u01ec\1\0\3\u0288\1\0\2\u0288"+
+    "\2\0\2\u0288\4\u01ec\3\u0288\1\0\1\u01ec\1\u02b2\2\u01ed"+
+    "\1\u028b\15\u01ec\1\u01f7\1\u01ec\1\u02b3\21\u01ec\1\u01f7\1\u01ec"+
+    "\1\u028d\1\u0288\1\u028e\1\u01ec\1\u01ed\1\u01ec\1\u028f\1\u01bb"+
+    "\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u01ec\1\0\3\u0288"+
+    "\1\0\2\u0288\4\0\3\u036a\10\0\14\u036a\1\0\4\u036a"+
+    "\1\0\23\u036a\3\0\3\u036a\11\0\2\u036a\12\0\1\101"+
+    "\113\0\1\176\114\0\3\u036b\1\u0129\4\0\1\u0129\3\216"+
+    "\1\0\12\u036b\1\u0129\4\u036b\1\u012a\23\u036b\2\0\1\u02c6"+
+    "\1\u036b\1\216\1\u036b\1\u033a\1\u012b\2\u02c8\5\0\2\u036b"+
+    "\25\0\2\u033d\50\0\1\u033d\27\0\4\u012f\4\0\1\u012f"+
+    "\3\u0126\1\217\17\u012f\1\220\23\u012f\1\u0127\1\0\1\u02c6"+
+    "\1\u012f\1\u0126\1\u012f\1\u02c7\1\222\2\u02c8\1\217\4\0"+
+    "\2\u012f\13\0\1\u036c\11\0\2\u036c\2\0\1\u036c\2\0"+
+    "\1\u036c\6\0\1\u036c\2\0\1\u036c\1\0\1\u036c\4\0"+
+    "\1\u036c\2\0\1\u036c\6\0\1\u036c\2\0\1\u036c\4\0"+
+    "\1\u036c\12\0\2\u036c\25\0\2\u033d\46\0\1\u02c6\1\0"+
+    "\1\u033d\3\0\2\u02c8\22\0\1\u036d\11\0\2\u036d\2\0"+
+    "\1\u036d\2\0\1\u036d\6\0\1\u036d\2\0\1\u036d\1\0"+
+    "\1\u036d\4\0\1\u036d\2\0\1\u036d\6\0\1\u036d\2\0"+
+    "\1\u036d\4\0\1\u036d\12\0\2\u036d\13\0\4\u0133\4\0"+
+    "\1\u0133\1\0\2\u0133\1\0\3\u0133\1\u0139\13\u0133\1\0"+
+    "\7\u0133\1\u0139\13\u0133\3\0\3\u0133\11\0\2\u0133\13\0"+
+    "\3\u02d4\1\u0143\4\0\1\u0143\3\u0144\1\322\12\u02d4\1\u0143"+
+    "\4\u02d4\1\u02d1\23\u02d4\1\323\2\0\1\u02d4\1\u0144\1\u02d4"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u02d4\13\0\4\u0143"+
+    "\4\0\1\u0143\3\u0144\1\322\4\u0143\1\u014c\12\u0143\1\u014f"+
+    "\10\u0143\1\u014c\12\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\13\0\4\u0143"+
+    "\4\0\1\u0143\3\u0144\1\322\15\u0143\1\u0216\1\u0143\1\u014f"+
+    "\21\u0143\1\u0216\1\u0143\1\323\2\0\1\u0143\1\u0144\1\u0143"+
+    "\1\324\1\370\2\0\1\322\4\0\2\u0143\11\0\2\u0288"+
+    "\3\u036e\1\u0143\3\u0288\1\0\1\u0143\1\u028a\2\u0144\1\u0291"+
+    "\12\u036e\1\u0143\4\u036e\1\u0344\23\u036e\1\u0345\1\u0288\1\u028e"+
+    "\1\u036e\1\u0144\1\u036e\1\u028f\1\370\2\u0290\1\u0291\1\u0288"+
+    "\2\0\1\u0288\2\u036e\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u036f\1\u0347\3\u0288\1\0\1\u0347\1\u0302\2\u0348"+
+    "\1\u0288\12\u036f\1\u0347\4\u036f\1\u0370\23\u036f\2\u0288\1\u028e"+
+    "\1\u036f\1\u0348\1\u036f\1\u0306\1\u0223\2\u0290\2\u0288\2\0"+
+    "\1\u0288\2\u036f\1\0\3\u0288\1\0\2\u0288\4\0\4\u0347"+
+    "\4\0\1\u0347\1\u0242\2\u0348\1\0\17\u0347\1\u0222\23\u0347"+
+    "\3\0\1\u0347\1\u0348\1\u0347\1\0\1\u0223\7\0\2\u0347"+
+    "\13\0\4\u0347\4\0\1\u0347\1\0\2\u0348\1\0\17\u0347"+
+    "\1\u0222\23\u0347\3\0\1\u0347\1\u0348\1\u0347\1\0\1\u0223"+
+    "\7\0\2\u0347\13\0\3\u0346\1\u0347\4\0\1\u0347\3\u0348"+
+    "\1\0\12\u0346\1\u0347\4\u0346\1\u02db\23\u0346\3\0\1\u0346"+
+    "\1\u0348\1\u0346\1\0\1\u0223\7\0\2\u0346\13\0\4\u021f"+
+    "\4\0\1\u021f\1\u0242\2\u0220\1\0\4\u021f\1\u0371\12\u021f"+
+    "\1\u0222\10\u021f\1\u0371\12\u021f\3\0\1\u021f\1\u0220\1\u021f"+
+    "\1\0\1\u0223\7\0\2\u021f\13\0\4\u021f\4\0\1\u021f"+
+    "\1\u0242\2\u0220\1\0\15\u021f\1\u0227\1\u021f\1\u0222\21\u021f"+
+    "\1\u0227\1\u021f\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223"+
+    "\7\0\2\u021f\12\0\1\u0162\4\u0166\1\u0162\3\0\1\u0166"+
+    "\3\u022e\1\u0162\4\u0166\1\u0167\12\u0166\1\u0162\10\u0166\1\u0167"+
+    "\12\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e\1\u0166\2\u0162"+
+    "\2\0\4\u0162\1\0\2\u0166\12\0\1\u0162\4\u0166\1\u0162"+
+    "\3\0\1\u0166\3\u022e\1\u0162\15\u0166\1\u0233\1\u0166\1\u0162"+
+    "\21\u0166\1\u0233\1\u0166\1\323\1\u0162\1\0\1\u0166\1\u022e"+
+    "\1\u0166\2\u0162\2\0\4\u0162\1\0\2\u0166\13\0\4\u01b3"+
+    "\4\0\1\u01b3\3\u0242\1\0\14\u01b3\1\u02eb\2\u01b3\1\u024d"+
+    "\20\u01b3\1\u02eb\2\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0"+
+    "\1\u01a2\7\0\2\u01b3\13\0\4\u01b3\4\0\1\u01b3\3\u0242"+
+    "\1\0\13\u01b3\1\u02eb\3\u01b3\1\u024d\17\u01b3\1\u02eb\3\u01b3"+
+    "\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3"+
+    "\13\0\3\u01b3\1\u02eb\4\0\1\u01b3\3\u0242\1\0\1\u02eb"+
+    "\16\u01b3\1\u024d\4\u01b3\1\u02eb\16\u01b3\3\0\1\u01b3\1\u0242"+
+    "\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0\3\u02f3\1\u01b3"+
+    "\4\0\1\u01b3\4\0\1\u02f3\1\u0372\10\u02f3\1\u01b3\4\u02f3"+
+    "\1\0\5\u02f3\1\u0372\15\u02f3\3\0\1\u02f3\1\0\1\u02f3"+
+    "\11\0\2\u02f3\13\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0"+
+    "\7\u01b3\1\u0373\7\u01b3\1\u024d\13\u01b3\1\u0373\7\u01b3\3\0"+
+    "\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\13\0"+
+    "\4\u01b3\4\0\1\u01b3\3\u0242\1\0\16\u01b3\1\u0374\1\u024d"+
+    "\22\u01b3\1\u0374\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2"+
+    "\7\0\2\u01b3\11\0\2\u0288\3\u0375\1\u01b3\3\u0288\1\0"+
+    "\1\u01b3\1\u0302\2\u0242\1\u0288\12\u0375\1\u01b3\4\u0375\1\u0376"+
+    "\23\u0375\2\u0288\1\u028e\1\u0375\1\u0242\1\u0375\1\u0306\1\u01a2"+
+    "\2\u0290\2\u0288\2\0\1\u0288\2\u0375\1\0\3\u0288\1\0"+
+    "\2\u0288\4\0\4\u0356\4\0\1\u0356\1\0\2\u0356\1\u0253"+
+    "\17\u0356\1\u0253\23\u0356\1\u0255\2\0\3\u0356\1\0\1\u0253"+
+    "\7\0\2\u0356\13\0\4\u0357\4\0\1\u0357\1\0\2\u0357"+
+    "\1\0\17\u0357\1\u01cb\23\u0357\3\0\3\u0357\1\0\1\u01cb"+
+    "\7\0\2\u0357\13\0\4\u0356\4\0\4\u0356\1\u0253\17\u0356"+
+    "\1\u02fc\23\u0356\1\u0255\2\0\3\u0356\1\0\1\u0253\7\0"+
+    "\2\u0356\13\0\4\u0252\4\0\1\u0252\1\0\2\u0252\1\u0253"+
+    "\4\u0252\1\u0377\12\u0252\1\u0253\10\u0252\1\u0377\12\u0252\1\u0255"+
+    "\2\0\3\u0252\1\0\1\u0253\7\0\2\u0252\13\0\4\u0252"+
+    "\4\0\1\u0252\1\0\2\u0252\1\u0253\15\u0252\1\u025a\1\u0252"+
+    "\1\u0253\21\u0252\1\u025a\1\u0252\1\u0255\2\0\3\u0252\1\0"+
+    "\1\u0253\7\0\2\u0252\11\0\2\u0288\4\u0268\3\u0288\1\0"+
+    "\1\u0268\1\u0302\2\u0269\1\u0303\17\u0268\1\u0304\23\u0268\1\u0305"+
+    "\1\u0288\1\u028e\1\u0268\1\u0269\1\u0268\1\u0306\1\u026c\2\u0290"+
+    "\2\u0288\2\0\1\u0288\2\u0268\1\0\3\u0288\1\0\2\u0288"+
+    "\2\0\2\u0288\4\u0268\3\u0288\1\0\1\u0268\1\u0302\2\u0269"+
+    "\1\u0303\17\u0268\1\u030c\23\u0268\1\u0305\1\u0288\1\u028e\1\u0268"+
+    "\1\u0269\1\u0268\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288"+
+    "\2\u0268\1\0\3\u0288\1\0\2\u0288\4\0\3\u0267\1\u0268"+
+    "\4\0\1\u0268\3\u0269\1\u0253\12\u0267\1\u0268\4\u0267\1\u030c"+
+    "\23\u0267\1\u0255\2\0\1\u0267\1\u0269\1\u0267\1\0\1\u026c"+
+    "\7\0\2\u0267\13\0\4\u0268\4\0\1\u0268\1\u0242\2\u0269"+
+    "\1\u0253\4\u0268\1\u0378\12\u0268\1\u026b\10\u0268\1\u0378\12\u0268"+
+    "\1\u0255\2\0\1\u0268\1\u0269\1\u0268\1\0\1\u026c\7\0"+
+    "\2\u0268\11\0\2\u0288\4\u0268\3\u0288\1\0\1\u0268\1\u0302"+
+    "\2\u0269\1\u0303\4\u0268\1\u0378\12\u0268\1\u0304\10\u0268\1\u0378"+
+    "\12\u0268\1\u0305\1\u0288\1\u028e\1\u0268\1\u0269\1\u0268\1\u0306"+
+    "\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u0268\1\0\3\u0288"+
+    "\1\0\2\u0288\2\0\2\u0288\4\u0268\3\u0288\1\0\1\u0268"+
+    "\1\u0302\2\u0269\1\u0303\15\u0268\1\u0274\1\u0268\1\u0304\21\u0268"+
+    "\1\u0274\1\u0268\1\u0305\1\u0288\1\u028e\1\u0268\1\u0269\1\u0268"+
+    "\1\u0306\1\u026c\2\u0290\2\u0288\2\0\1\u0288\2\u0268\1\0"+
+    "\3\u0288\1\0\2\u0288\4\0\4\u01a3\4\0\1\u01a3\1\u01d9"+
+    "\2\u01a4\1\u01a5\3\u01a3\1\u01ac\13\u01a3\1\u01a5\7\u01a3\1\u01ac"+
+    "\13\u01a3\1\u01a7\2\0\1\u01a3\1\u01a4\1\u01a3\1\324\1\u01a5"+
+    "\2\0\1\322\4\0\2\u01a3\13\0\4\u0133\1\325\3\0"+
+    "\1\u0133\1\0\2\u0133\1\0\17\u0133\1\0\23\u0133\3\0"+
+    "\3\u0133\11\0\2\u0133\13\0\4\u0133\1\332\3\0\1\u0133"+
+    "\1\0\2\u0133\1\0\17\u0133\1\0\23\u0133\3\0\3\u0133"+
+    "\11\0\2\u0133\13\0\1\u031b\11\0\2\u031b\2\0\1\u031b"+
+    "\2\0\1\u031b\6\0\1\u031b\2\0\1\u031b\1\0\1\u031b"+
+    "\4\0\1\u031b\2\0\1\u031b\6\0\1\u031b\2\0\1\u031b"+
+    "\4\0\1\u031b\12\0\2\u031b\13\0\1\u031e\11\0\2\u031e"+
+    "\2\0\1\u031e\2\0\1\u031e\6\0\1\u031e\2\0\1\u031e"+
+    "\1\0\1\u031e\4\0\1\u031e\2\0\1\u031e\6\0\1\u031e"+
+    "\2\0\1\u031e\4\0\1\u031e\12\0\2\u031e\13\0\4\u01b7"+
+    "\4\0\1\u01b7\1\u0144\2\u01b8\1\u01a5\3\u01b7\1\u01c3\13\u01b7"+
+    "\1\u01ba\7\u01b7\1\u01c3\13\u01b7\1\u01a7\2\0\1\u01b7\1\u01b8"+
+    "\1\u01b7\1\324\1\u01bb\2\0\1\322\4\0\2\u01b7\13\0"+
+    "\4\u01c9\4\0\1\u01c9\1\0\2\u01c9\1\0\3\u01c9\1\u01cf"+
+    "\13\u01c9\1\u01cb\7\u01c9\1\u01cf\13\u01c9\3\0\3\u01c9\1\0"+
+    "\1\u01cb\7\0\2\u01c9\13\0\3\u0379\1\u032f\4\0\1\u032f"+
+    "\3\u02b4\1\322\12\u0379\1\u032f\4\u0379\1\u0330\23\u0379\1\323"+
+    "\2\0\1\u0379\1\u02b4\1\u0379\1\324\1\370\2\0\1\322"+
+    "\4\0\2\u0379\13\0\4\u01ec\4\0\1\u01ec\1\u02b4\2\u01ed"+
+    "\1\u01a5\3\u01ec\1\u01f7\13\u01ec\1\u01ef\7\u01ec\1\u01f7\13\u01ec"+
+    "\1\u01a7\2\0\1\u01ec\1\u01ed\1\u01ec\1\324\1\u01bb\2\0"+
+    "\1\322\4\0\2\u01ec\13\0\3\u037a\10\0\14\u037a\1\0"+
+    "\4\u037a\1\0\23\u037a\3\0\3\u037a\11\0\2\u037a\13\0"+
+    "\4\u0129\4\0\1\u0129\3\216\1\0\17\u0129\1\u012a\23\u0129"+
+    "\2\0\1\u02c6\1\u0129\1\216\1\u0129\1\u033a\1\u012b\2\u02c8"+
+    "\5\0\2\u0129\13\0\1\u02c6\11\0\2\u02c6\2\0\1\u02c6"+
+    "\2\0\1\u02c6\6\0\1\u02c6\2\0\1\u02c6\1\0\1\u02c6"+
+    "\4\0\1\u02c6\2\0\1\u02c6\6\0\1\u02c6\2\0\1\u02c6"+
+    "\4\0\1\u02c6\12\0\2\u02c6\13\0\1\u02c8\11\0\2\u02c8"+
+    "\2\0\1\u02c8\2\0\1\u02c8\6\0\1\u02c8\2\0\1\u02c8"+
+    "\1\0\1\u02c8\4\0\1\u02c8\2\0\1\u02c8\6\0\1\u02c8"+
+    "\2\0\1\u02c8\4\0\1\u02c8\12\0\2\u02c8\11\0\2\u0288"+
+    "\4\u0143\3\u0288\1\0\1\u0143\1\u028a\2\u0144\1\u0291\17\u0143"+
+    "\1\u0344\23\u0143\1\u0345\1\u0288\1\u028e\1\u0143\1\u0144\1\u0143"+
+    "\1\u028f\1\370\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u0143"+
+    "\1\0\3\u0288\1\0\2\u0288\2\0\2\u0288\3\u037b\1\u0347"+
+    "\3\u0288\1\0\1\u0347\1\u0302\2\u0348\1\u0288\12\u037b\1\u0347"+
+    "\4\u037b\1\u0370\23\u037b\2\u0288\1\u028e\1\u037b\1\u0348\1\u037b"+
+    "\1\u0306\1\u0223\2\u0290\2\u0288\2\0\1\u0288\2\u037b\1\0"+
+    "\3\u0288\1\0\2\u0288\4\0\4\u021f\4\0\1\u021f\1\u0242"+
+    "\2\u0220\1\0\3\u021f\1\u0227\13\u021f\1\u0222\7\u021f\1\u0227"+
+    "\13\u021f\3\0\1\u021f\1\u0220\1\u021f\1\0\1\u0223\7\0"+
+    "\2\u021f\13\0\3\u0355\1\u01b3\4\0\1\u01b3\3\u0242\1\0"+
+    "\12\u0355\1\u01b3\4\u0355\1\u0352\23\u0355\3\0\1\u0355\1\u0242"+
+    "\1\u0355\1\0\1\u01a2\7\0\2\u0355\13\0\4\u01b3\4\0"+
+    "\1\u01b3\3\u0242\1\0\4\u01b3\1\u024a\12\u01b3\1\u024d\10\u01b3"+
+    "\1\u024a\12\u01b3\3\0\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2"+
+    "\7\0\2\u01b3\13\0\4\u01b3\4\0\1\u01b3\3\u0242\1\0"+
+    "\15\u01b3\1\u02eb\1\u01b3\1\u024d\21\u01b3\1\u02eb\1\u01b3\3\0"+
+    "\1\u01b3\1\u0242\1\u01b3\1\0\1\u01a2\7\0\2\u01b3\11\0"+
+    "\2\u0288\3\u037c\1\u01b3\3\u0288\1\0\1\u01b3\1\u0302\2\u0242"+
+    "\1\u0288\12\u037c\1\u01b3\4\u037c\1\u0376\23\u037c\2\u0288\1\u028e"+
+    "\1\u037c\1\u0242\1\u037c\1\u0306\1\u01a2\2\u0290\2\u0288\2\0"+
+    "\1\u0288\2\u037c\1\0\3\u0288\1\0\2\u0288\4\0\4\u0252"+
+    "\4\0\1\u0252\1\0\2\u0252\1\u0253\3\u0252\1\u025a\13\u0252"+
+    "\1\u0253\7\u0252\1\u025a\13\u0252\1\u0255\2\0\3\u0252\1\0"+
+    "\1\u0253\7\0\2\u0252\13\0\4\u0268\4\0\1\u0268\1\u0242"+
+    "\2\u0269\1\u0253\3\u0268\1\u0274\13\u0268\1\u026b\7\u0268\1\u0274"+
+    "\13\u0268\1\u0255\2\0\1\u0268\1\u0269\1\u0268\1\0\1\u026c"+
+    "\7\0\2\u0268\11\0\2\u0288\3\u037d\1\u032f\3\u0288\1\0"+
+    "\1\u032f\1\u02b2\2\u02b4\1\u0291\12\u037d\1\u032f\4\u037d\1\u037e"+
+    "\23\u037d\1\u0345\1\u0288\1\u028e\1\u037d\1\u02b4\1\u037d\1\u028f"+
+    "\1\370\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u037d\1\0"+
+    "\3\u0288\1\0\2\u0288\4\0\3\u037f\10\0\14\u037f\1\0"+
+    "\4\u037f\1\0\23\u037f\3\0\3\u037f\11\0\2\u037f\11\0"+
+    "\2\u0288\4\u0347\3\u0288\1\0\1\u0347\1\u0302\2\u0348\1\u0288"+
+    "\17\u0347\1\u0370\23\u0347\2\u0288\1\u028e\1\u0347\1\u0348\1\u0347"+
+    "\1\u0306\1\u0223\2\u0290\2\u0288\2\0\1\u0288\2\u0347\1\0"+
+    "\3\u0288\1\0\2\u0288\2\0\2\u0288\4\u01b3\3\u0288\1\0"+
+    "\1\u01b3\1\u0302\2\u0242\1\u0288\17\u01b3\1\u0376\23\u01b3\2\u0288"+
+    "\1\u028e\1\u01b3\1\u0242\1\u01b3\1\u0306\1\u01a2\2\u0290\2\u0288"+
+    "\2\0\1\u0288\2\u01b3\1\0\3\u0288\1\0\2\u0288\2\0"+
+    "\2\u0288\3\u0380\1\u032f\3\u0288\1\0\1\u032f\1\u02b2\2\u02b4"+
+    "\1\u0291\12\u0380\1\u032f\4\u0380\1\u037e\23\u0380\1\u0345\1\u0288"+
+    "\1\u028e\1\u0380\1\u02b4\1\u0380\1\u028f\1\370\2\u0290\1\u0291"+
+    "\1\u0288\2\0\1\u0288\2\u0380\1\0\3\u0288\1\0\2\u0288"+
+    "\4\0\3\u0381\10\0\14\u0381\1\0\4\u0381\1\0\23\u0381"+
+    "\3\0\3\u0381\11\0\2\u0381\11\0\2\u0288\4\u032f\3\u0288"+
+    "\1\0\1\u032f\1\u02b2\2\u02b4\1\u0291\17\u032f\1\u037e\23\u032f"+
+    "\1\u0345\1\u0288\1\u028e\1\u032f\1\u02b4\1\u032f\1\u028f\1\370"+
+    "\2\u0290\1\u0291\1\u0288\2\0\1\u0288\2\u032f\1\0\3\u0288"+
+    "\1\0\2\u0288\4\0\3\u0382\10\0\14\u0382\1\0\4\u0382"+
+    "\1\0\23\u0382\3\0\3\u0382\11\0\2\u0382\13\0\3\u0383"+
+    "\10\0\14\u0383\1\0\4\u0383\1\0\23\u0383\3\0\3\u0383"+
+    "\11\0\2\u0383\13\0\3\u0384\10\0\14\u0384\1\0\4\u0384"+
+    "\1\0\23\u0384\3\0\3\u0384\11\0\2\u0384\13\0\3\u0385"+
+    "\10\0\14\u0385\1\0\4\u0385\1\0\23\u0385\3\0\3\u0385"+
+    "\11\0\2\u0385\13\0\3\u0386\10\0\14\u0386\1\0\4\u0386"+
+    "\1\0\23\u0386\3\0\3\u0386\11\0\2\u0386\13\0\3\u0387"+
+    "\10\0\14\u0387\1\0\4\u0387\1\0\23\u0387\3\0\3\u0387"+
+    "\11\0\2\u0387\7\0";
+
+  private static int [] zzUnpackTrans() {
+    int [] result = new int[62624];
+    int offset = 0;
+    offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackTrans(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      value--;
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+
+  /* error codes */
+  private static final int ZZ_UNKNOWN_ERROR = 0;
+  private static final int ZZ_NO_MATCH = 1;
+  private static final int ZZ_PUSHBACK_2BIG = 2;
+
+  /* error messages for the codes above */
+  private static final String ZZ_ERROR_MSG[] = {
+    "Unkown internal scanner error",
+    "Error: could not match input",
+    "Error: pushback value was too large"
+  };
+
+  /**
+   * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+   */
+  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
+
+  private static final String ZZ_ATTRIBUTE_PACKED_0 =
+    "\6\0\2\11\6\1\1\11\1\1\1\11\30\1\1\11"+
+    "\1\1\1\11\3\1\21\0\2\11\6\0\1\1\2\0"+
+    "\3\1\1\0\4\1\5\0\3\1\6\0\1\1\1\0"+
+    "\1\1\1\0\5\1\3\0\14\1\1\0\1\1\30\0"+
+    "\1\1\1\11\2\0\12\1\1\0\2\1\13\0\1\1"+
+    "\1\0\5\1\1\0\13\1\2\0\6\1\1\0\6\1"+
+    "\3\0\1\1\1\0\3\1\4\0\3\1\10\0\1\1"+
+    "\2\0\12\1\1\0\1\1\13\0\2\1\2\0\1\11"+
+    "\30\1\22\0\16\1\5\0\2\1\4\0\1\1\4\0"+
+    "\3\1\1\0\16\1\17\0\1\1\3\0\1\1\2\0"+
+    "\1\1\1\0\10\1\1\0\12\1\1\0\10\1\13\0"+
+    "\1\1\1\0\2\1\1\0\1\1\1\0\13\1\1\0"+
+    "\3\1\2\0\1\1\2\0\11\1\1\0\5\1\1\0"+
+    "\12\1\1\0\2\1\5\0\1\1\3\0\1\1\2\0"+
+    "\1\1\1\0\27\1\11\0\1\1\2\0\4\1\1\0"+
+    "\1\11\2\1\4\0\2\1\3\0\1\1\3\0\3\1"+
+    "\2\0\12\1\5\0\1\1\3\0\1\1\13\0\2\1"+
+    "\4\0\1\1\4\0\3\1\1\0\1\1\1\0\1\1"+
+    "\1\0\22\1\2\0\1\1\2\0\11\1\1\0\4\1"+
+    "\1\0\1\1\1\0\2\1\1\0\7\1\1\11\17\1"+
+    "\1\0\1\1\1\0\5\1\1\0\3\1\4\0\1\1"+
+    "\2\0\2\1\1\0\22\1\4\0\3\1\1\0\1\1"+
+    "\1\0\3\1\4\0\1\1\2\0\6\1\1\0\3\1"+
+    "\4\0\1\1\10\0\2\1\3\0\1\1\3\0\1\1"+
+    "\1\0\1\1\1\0\2\1\1\0\22\1\1\0\1\1"+
+    "\1\0\1\1\4\0\15\1\1\0\6\1\2\0\1\11"+
+    "\13\1\2\0\1\1\1\0\1\1\1\0\1\1\1\0"+
+    "\2\1\2\0\11\1\6\0\1\1\2\0\1\1\2\0"+
+    "\6\1\1\0\5\1\3\0\5\1\2\0\5\1\2\0"+
+    "\3\1\1\0\16\1\1\11";
+
+  private static int [] zzUnpackAttribute() {
+    int [] result = new int[903];
+    int offset = 0;
+    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+  /** the input device */
+  private java.io.Reader zzReader;
+
+  /** the current state of the DFA */
+  private int zzState;
+
+  /** the current lexical state */
+  private int zzLexicalState = YYINITIAL;
+
+  /** this buffer contains the current text to be matched and is
+      the source of the yytext() string */
+  private char zzBuffer[] = new char[ZZ_BUFFERSIZE];
+
+  /** the textposition at the last accepting state */
+  private int zzMarkedPos;
+
+  /** the current text position in the buffer */
+  private int zzCurrentPos;
+
+  /** startRead marks the beginning of the yytext() string in the buffer */
+  private int zzStartRead;
+
+  /** endRead marks the last character in the buffer, that has been read
+      from input */
+  private int zzEndRead;
+
+  /** number of newlines encountered up to the start of the matched text */
+  private int yyline;
+
+  /** the number of characters up to the start of the matched text */
+  private int yychar;
+
+  /**
+   * the number of characters from the last newline up to the start of the 
+   * matched text
+   */
+  private int yycolumn;
+
+  /** 
+   * zzAtBOL == true <=> the scanner is currently at the beginning of a line
+   */
+  private boolean zzAtBOL = true;
+
+  /** zzAtEOF == true <=> the scanner is at the EOF */
+  private boolean zzAtEOF;
+
+  /** denotes if the user-EOF-code has already been executed */
+  private boolean zzEOFDone;
+
+  /** For the backwards DFA of general lookahead statements */
+  private boolean [] zzFin = new boolean [ZZ_BUFFERSIZE+1];
+
+  /* user code: */
+
+private int index;
+
+private final int yychar(){
+    return yychar;
+}
+
+private Tokenizer.Token attachToken(TokenType type){
+  Tokenizer.Token token=new Tokenizer.Token( yytext() , type, yychar(), yychar()+yylength(), index);
+  index++;
+  return token;
+}
+
+
+
+
+
+  /**
+   * Creates a new scanner
+   * There is also a java.io.InputStream version of this constructor.
+   *
+   * @param   in  the java.io.Reader to read input from.
+   */
+  public StandardTokenizer(java.io.Reader in) {
+    this.zzReader = in;
+  }
+
+  /**
+   * Creates a new scanner.
+   * There is also java.io.Reader version of this constructor.
+   *
+   * @param   in  the java.io.Inputstream to read input from.
+   */
+  public StandardTokenizer(java.io.InputStream in) {
+    this(new java.io.InputStreamReader
+             (in, java.nio.charset.Charset.forName("UTF-8")));
+  }
+
+  /** 
+   * Unpacks the compressed character translation table.
+   *
+   * @param packed   the packed character translation table
+   * @return         the unpacked character translation table
+   */
+  private static char [] zzUnpackCMap(String packed) {
+    char [] map = new char[0x10000];
+    int i = 0;  /* index in packed string  */
+    int j = 0;  /* index in unpacked array */
+    while (i < 2644) {
+      int  count = packed.charAt(i++);
+      char value = packed.charAt(i++);
+      do map[j++] = value; while (--count > 0);
+    }
+    return map;
+  }
+
+
+  /**
+   * Refills the input buffer.
+   *
+   * @return      <code>false</code>, iff there was new input.
+   * 
+   * @exception   java.io.IOException  if any I/O-Error occurs
+   */
+  private boolean zzRefill() throws java.io.IOException {
+
+    /* first: make room (if you can) */
+    if (zzStartRead > 0) {
+      System.arraycopy(zzBuffer, zzStartRead,
+                       zzBuffer, 0,
+                       zzEndRead-zzStartRead);
+
+      /* translate stored positions */
+      zzEndRead-= zzStartRead;
+      zzCurrentPos-= zzStartRead;
+      zzMarkedPos-= zzStartRead;
+      zzStartRead = 0;
+    }
+
+    /* is the buffer big enough? */
+    if (zzCurrentPos >= zzBuffer.length) {
+      /* if not: blow it up */
+      char newBuffer[] = new char[zzCurrentPos*2];
+      System.arraycopy(zzBuffer, 0, newBuffer, 0, zzBuffer.length);
+      zzBuffer = newBuffer;
+    }
+
+    /* finally: fill the buffer with new input */
+    int numRead = zzReader.read(zzBuffer, zzEndRead,
+                                            zzBuffer.length-zzEndRead);
+
+    if (numRead > 0) {
+      zzEndRead+= numRead;
+      return false;
+    }
+    // unlikely but not impossible: read 0 characters, but not at end of stream    
+    if (numRead == 0) {
+      int c = zzReader.read();
+      if (c == -1) {
+        return true;
+      } else {
+        zzBuffer[zzEndRead++] = (char) c;
+        return false;
+      }     
+    }
+
+    // numRead < 0
+    return true;
+  }
+
+    
+  /**
+   * Closes the input stream.
+   */
+  public final void yyclose() throws java.io.IOException {
+    zzAtEOF = true;            /* indicate end of file */
+    zzEndRead = zzStartRead;  /* invalidate buffer    */
+
+    if (zzReader != null)
+      zzReader.close();
+  }
+
+
+  /**
+   * Resets the scanner to read from a new input stream.
+   * Does not close the old reader.
+   *
+   * All internal variables are reset, the old input stream 
+   * <b>cannot</b> be reused (internal buffer is discarded and lost).
+   * Lexical state is set to <tt>ZZ_INITIAL</tt>.
+   *
+   * Internal scan buffer is resized down to its initial length, if it has grown.
+   *
+   * @param reader   the new input stream 
+   */
+  public final void yyreset(java.io.Reader reader) {
+    zzReader = reader;
+    zzAtBOL  = true;
+    zzAtEOF  = false;
+    zzEOFDone = false;
+    zzEndRead = zzStartRead = 0;
+    zzCurrentPos = zzMarkedPos = 0;
+    yyline = yychar = yycolumn = 0;
+    zzLexicalState = YYINITIAL;
+    if (zzBuffer.length > ZZ_BUFFERSIZE)
+      zzBuffer = new char[ZZ_BUFFERSIZE];
+  }
+
+
+  /**
+   * Returns the current lexical state.
+   */
+  public final int yystate() {
+    return zzLexicalState;
+  }
+
+
+  /**
+   * Enters a new lexical state
+   *
+   * @param newState the new lexical state
+   */
+  public final void yybegin(int newState) {
+    zzLexicalState = newState;
+  }
+
+
+  /**
+   * Returns the text matched by the current regular expression.
+   */
+  public final String yytext() {
+    return new String( zzBuffer, zzStartRead, zzMarkedPos-zzStartRead );
+  }
+
+
+  /**
+   * Returns the character at position <tt>pos</tt> from the 
+   * matched text. 
+   * 
+   * It is equivalent to yytext().charAt(pos), but faster
+   *
+   * @param pos the position of the character to fetch. 
+   *            A value from 0 to yylength()-1.
+   *
+   * @return the character at position pos
+   */
+  public final char yycharat(int pos) {
+    return zzBuffer[zzStartRead+pos];
+  }
+
+
+  /**
+   * Returns the length of the matched text region.
+   */
+  public final int yylength() {
+    return zzMarkedPos-zzStartRead;
+  }
+
+
+  /**
+   * Reports an error that occured while scanning.
+   *
+   * In a wellformed scanner (no or only correct usage of 
+   * yypushback(int) and a match-all fallback rule) this method 
+   * will only be called with things that "Can't Possibly Happen".
+   * If this method is called, something is seriously wrong
+   * (e.g. a JFlex bug producing a faulty scanner etc.).
+   *
+   * Usual syntax/scanner level error handling should be done
+   * in error fallback rules.
+   *
+   * @param   errorCode  the code of the errormessage to display
+   */
+  private void zzScanError(int errorCode) {
+    String message;
+    try {
+      message = ZZ_ERROR_MSG[errorCode];
+    }
+    catch (ArrayIndexOutOfBoundsException e) {
+      message = ZZ_ERROR_MSG[ZZ_UNKNOWN_ERROR];
+    }
+
+    throw new Error(message);
+  } 
+
+
+  /**
+   * Pushes the specified amount of characters back into the input stream.
+   *
+   * They will be read again by then next call of the scanning method
+   *
+   * @param number  the number of characters to be read again.
+   *                This number must not be greater than yylength()!
+   */
+  public void yypushback(int number)  {
+    if ( number > yylength() )
+      zzScanError(ZZ_PUSHBACK_2BIG);
+
+    zzMarkedPos -= number;
+  }
+
+
+  /**
+   * Resumes scanning until the next regular expression is matched,
+   * the end of input is encountered or an I/O-Error occurs.
+   *
+   * @return      the next token
+   * @exception   java.io.IOException  if any I/O-Error occurs
+   */
+  public com.davidbracewell.hermes.tokenization.Tokenizer.Token next() throws java.io.IOException {
+    int zzInput;
+    int zzAction;
+
+    // cached fields:
+    int zzCurrentPosL;
+    int zzMarkedPosL;
+    int zzEndReadL = zzEndRead;
+    char [] zzBufferL = zzBuffer;
+    char [] zzCMapL = ZZ_CMAP;
+
+    int [] zzTransL = ZZ_TRANS;
+    int [] zzRowMapL = ZZ_ROWMAP;
+    int [] zzAttrL = ZZ_ATTRIBUTE;
+
+    while (true) {
+      zzMarkedPosL = zzMarkedPos;
+
+      yychar+= zzMarkedPosL-zzStartRead;
+
+      zzAction = -1;
+
+      zzCurrentPosL = zzCurrentPos = zzStartRead = zzMarkedPosL;
+  
+      zzState = ZZ_LEXSTATE[zzLexicalState];
+
+      // set up zzAction for empty match case:
+      int zzAttributes = zzAttrL[zzState];
+      if ( (zzAttributes & 1) == 1 ) {
+        zzAction = zzState;
+      }
+
+
+      zzForAction: {
+        while (true) {
+    
+          if (zzCurrentPosL < zzEndReadL)
+            zzInput = zzBufferL[zzCurrentPosL++];
+          else if (zzAtEOF) {
+            zzInput = YYEOF;
+            break zzForAction;
+          }
+          else {
+            // store back cached positions
+            zzCurrentPos  = zzCurrentPosL;
+            zzMarkedPos   = zzMarkedPosL;
+            boolean eof = zzRefill();
+            // get translated positions and possibly new buffer
+            zzCurrentPosL  = zzCurrentPos;
+            zzMarkedPosL   = zzMarkedPos;
+            zzBufferL      = zzBuffer;
+            zzEndReadL     = zzEndRead;
+            if (eof) {
+              zzInput = YYEOF;
+              break zzForAction;
+            }
+            else {
+              zzInput = zzBufferL[zzCurrentPosL++];
+            }
+          }
+          int zzNext = zzTransL[ zzRowMapL[zzState] + zzCMapL[zzInput] ];
+          if (zzNext == -1) break zzForAction;
+          zzState = zzNext;
+
+          zzAttributes = zzAttrL[zzState];
+          if ( (zzAttributes & 1) == 1 ) {
+            zzAction = zzState;
+            zzMarkedPosL = zzCurrentPosL;
+            if ( (zzAttributes & 8) == 8 ) break zzForAction;
+          }
+
+        }
+      }
+
+      // store back cached position
+      zzMarkedPos = zzMarkedPosL;
+
+      switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
+        case 1: 
+          { return attachToken(TokenType.UNKNOWN);
+          }
+        case 22: break;
+        case 2: 
+          { return attachToken(TokenType.HYPHEN);
+          }
+        case 23: break;
+        case 3: 
+          { 
+          }
+        case 24: break;
+        case 4: 
+          { return attachToken(TokenType.PUNCTUATION);
+          }
+        case 25: break;
+        case 5: 
+          { return attachToken(TokenType.ALPHA_NUMERIC);
+          }
+        case 26: break;
+        case 6: 
+          { return attachToken(TokenType.CHINESE_JAPANESE);
+          }
+        case 27: break;
+        case 7: 
+          { return attachToken(TokenType.NUMBER);
+          }
+        case 28: break;
+        case 8: 
+          { return attachToken(TokenType.MONEY);
+          }
+        case 29: break;
+        case 9: 
+          { return attachToken(TokenType.EMOTICON);
+          }
+        case 30: break;
+        case 10: 
+          { return attachToken(TokenType.CONTRACTION);
+          }
+        case 31: break;
+        case 11: 
+          { return attachToken(TokenType.TIME);
+          }
+        case 32: break;
+        case 12: 
+          { return attachToken(TokenType.ACRONYM);
+          }
+        case 33: break;
+        case 13: 
+          { return attachToken(TokenType.REPLY);
+          }
+        case 34: break;
+        case 14: 
+          { return attachToken(TokenType.HASH_TAG);
+          }
+        case 35: break;
+        case 15: 
+          // general lookahead, find correct zzMarkedPos
+          { int zzFState = 1;
+            int zzFPos = zzStartRead;
+            if (zzFin.length <= zzBufferL.length) { zzFin = new boolean[zzBufferL.length+1]; }
+            boolean zzFinL[] = zzFin;
+            while (zzFState != -1 && zzFPos < zzMarkedPos) {
+              zzFinL[zzFPos] = ((zzAttrL[zzFState] & 1) == 1);
+              zzInput = zzBufferL[zzFPos++];
+              zzFState = zzTransL[ zzRowMapL[zzFState] + zzCMapL[zzInput] ];
+            }
+            if (zzFState != -1) { zzFinL[zzFPos++] = ((zzAttrL[zzFState] & 1) == 1); } 
+            while (zzFPos <= zzMarkedPos) {
+              zzFinL[zzFPos++] = false;
+            }
+
+            zzFState = 2;
+            zzFPos = zzMarkedPos;
+            while (!zzFinL[zzFPos] || (zzAttrL[zzFState] & 1) != 1) {
+              zzInput = zzBufferL[--zzFPos];
+              zzFState = zzTransL[ zzRowMapL[zzFState] + zzCMapL[zzInput] ];
+            };
+            zzMarkedPos = zzFPos;
+          }
+          { return attachToken(TokenType.ALPHA_NUMERIC);
+          }
+        case 36: break;
+        case 16: 
+          { return attachToken(TokenType.COMPANY);
+          }
+        case 37: break;
+        case 17: 
+          { return attachToken(TokenType.PERSON_TITLE);
+          }
+        case 38: break;
+        case 18: 
+          // general lookahead, find correct zzMarkedPos
+          { int zzFState = 1;
+            int zzFPos = zzStartRead;
+            if (zzFin.length <= zzBufferL.length) { zzFin = new boolean[zzBufferL.length+1]; }
+            boolean zzFinL[] = zzFin;
+            while (zzFState != -1 && zzFPos < zzMarkedPos) {
+              zzFinL[zzFPos] = ((zzAttrL[zzFState] & 1) == 1);
+              zzInput = zzBufferL[zzFPos++];
+              zzFState = zzTransL[ zzRowMapL[zzFState] + zzCMapL[zzInput] ];
+            }
+            if (zzFState != -1) { zzFinL[zzFPos++] = ((zzAttrL[zzFState] & 1) == 1); } 
+            while (zzFPos <= zzMarkedPos) {
+              zzFinL[zzFPos++] = false;
+            }
+
+            zzFState = 3;
+            zzFPos = zzMarkedPos;
+            while (!zzFinL[zzFPos] || (zzAttrL[zzFState] & 1) != 1) {
+              zzInput = zzBufferL[--zzFPos];
+              zzFState = zzTransL[ zzRowMapL[zzFState] + zzCMapL[zzInput] ];
+            };
+            zzMarkedPos = zzFPos;
+          }
+          { return attachToken(TokenType.ALPHA_NUMERIC);
+          }
+        case 39: break;
+        case 19: 
+          { return attachToken(TokenType.URL);
+          }
+        case 40: break;
+        case 20: 
+          // general lookahead, find correct zzMarkedPos
+          { int zzFState = 4;
+            int zzFPos = zzStartRead;
+            if (zzFin.length <= zzBufferL.length) { zzFin = new boolean[zzBufferL.length+1]; }
+            boolean zzFinL[] = zzFin;
+            while (zzFState != -1 && zzFPos < zzMarkedPos) {
+              zzFinL[zzFPos] = ((zzAttrL[zzFState] & 1) == 1);
+              zzInput = zzBufferL[zzFPos++];
+              zzFState = zzTransL[ zzRowMapL[zzFState] + zzCMapL[zzInput] ];
+            }
+            if (zzFState != -1) { zzFinL[zzFPos++] = ((zzAttrL[zzFState] & 1) == 1); } 
+            while (zzFPos <= zzMarkedPos) {
+              zzFinL[zzFPos++] = false;
+            }
+
+            zzFState = 5;
+            zzFPos = zzMarkedPos;
+            while (!zzFinL[zzFPos] || (zzAttrL[zzFState] & 1) != 1) {
+              zzInput = zzBufferL[--zzFPos];
+              zzFState = zzTransL[ zzRowMapL[zzFState] + zzCMapL[zzInput] ];
+            };
+            zzMarkedPos = zzFPos;
+          }
+          { return attachToken(TokenType.URL);
+          }
+        case 41: break;
+        case 21: 
+          { return attachToken(TokenType.EMAIL);
+          }
+        case 42: break;
+        default: 
+          if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
+            zzAtEOF = true;
+            return null;
+          } 
+          else {
+            zzScanError(ZZ_NO_MATCH);
+          }
+      }
+    }
+  }
+
+
+}
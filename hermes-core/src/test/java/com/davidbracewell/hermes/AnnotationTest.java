@@ -137,6 +137,28 @@ public class AnnotationTest {
 
   }
 
+  @Test
+  public void binaryRoundTripTest() {
+    Document document = DocumentProvider.getAnnotatedDocument();
+    List<Annotation> tokens = document.tokens();
+    tokens.get(0).add(new Relation(DEPENDENCY, "nsubj", tokens.get(1).getId()));
+
+    Document copy = Document.fromBytes(document.toBytes());
+    assertEquals(document.getId(), copy.getId());
+    assertEquals(document.toString(), copy.toString());
+    assertEquals(document.getLanguage(), copy.getLanguage());
+    assertEquals(document.getAnnotationSet().getCompleted(), copy.getAnnotationSet().getCompleted());
+    assertEquals(document.tokens().size(), copy.tokens().size());
+    assertEquals(document.sentences().size(), copy.sentences().size());
+    assertEquals(tokens.get(0).get(TOKEN_TYPE), copy.tokens().get(0).get(TOKEN_TYPE));
+    assertEquals("nsubj", copy.tokens().get(0).get(DEPENDENCY).get(0).getValue());
+    assertEquals(tokens.get(1).getId(), copy.tokens().get(0).get(DEPENDENCY).get(0).getTarget());
+
+    //New annotations must not reuse existing ids
+    Annotation created = copy.createAnnotation(ENTITY, 0, 1);
+    assertTrue(copy.tokens().stream().noneMatch(t -> t.getId() == created.getId()));
+  }
+
   @Test(expected = RuntimeException.class)
   public void testBadJson() {
     Document.fromJson("{\"id\":\"2a6de221-8d5f-4dbf-b21f-6c746be1a4a0\",\"content\":\"11\\t\\\"It has much more commercial potential.\\\"\",\"attributes\":{\"LANGUAGE\":\"ENGLISH\"},\"completed\":{\"ENTITY\":\"hermes.annotator.EntityAnnotator::1.0\",\"OPENNLP_ENTITY\":\"hermes.annotator.OpenNLPEntityAnnotator::1.6.0\",\"SENTENCE\":\"hermes.annotator.OpenNLPSentenceAnnotator::1.6.0\",\"TOKEN\":\"hermes.annotator.DefaultTokenAnnotator::1.0\",\"PHRASE_CHUNK\":\"hermes.annotator.OpenNLPPhraseChunkAnnotator::1.6.0\",\"PART_OF_SPEECH\":\"hermes.annotator.OpenNLPPOSAnnotator::1.6.0\",\"TOKEN_TYPE_ENTITY\":\"hermes.annotator.TokenTypeEntityAnnotator::1.0\"},\"annotations\":[{\"type\":\"TOKEN\",\"start\":0,\"end\":2,\"id\":0,\"attributes\":{\"PART_OF_SPEECH\":\"CD\",\"TOKEN_TYPE\":\"NUMBER\"}},{\"type\":\"TOKEN_TYPE_ENTITY\",\"start\":0,\"end\":2,\"id\":11,\"attributes\":{\"ENTITY_TYPE\":\"NUMBER\",\"CONFIDENCE\":1.0}},{\"type\":\"PHRASE_CHUNK\",\"start\":0,\"end\":2,\"id\":12,\"attributes\":{\"PART_OF_SPEECH\":\"NP\"}},{\"type\":\"SENTENCE\",\"start\":0,\"end\":43,\"id\":10,\"attributes\":{\"INDEX\":0}},{\"type\":\"TOKEN\",\"start\":3,\"end\":4,\"id\":1,\"attributes\":{\"PART_OF_SPEECH\":\"OPEN_QUOTE\",\"TOKEN_TYPE\":\"PUNCTUATION\"}},{\"type\":\"TOKEN\",\"start\":4,\"end\":6,\"id\":2,\"attributes\":{\"PART_OF_SPEECH\":\"PRP\",\"TOKEN_TYPE\":\"ALPHA_NUMERIC\"}},{\"type\":\"PHRASE_CHUNK\",\"start\":4,\"end\":6,\"id\":13,\"attributes\":{\"PART_OF_SPEECH\":\"NP\"}},{\"type\":\"TOKEN\",\"start\":7,\"end\":10,\"id\":3,\"attributes\":{\"PART_OF_SPEECH\":\"VBZ\",\"TOKEN_TYPE\":\"ALPHA_NUMERIC\"}},{\"type\":\"PHRASE_CHUNK\",\"start\":7,\"end\":10,\"id\":14,\"attributes\":{\"PART_OF_SPEECH\":\"VP\"}},{\"type\":\"TOKEN\",\"start\":11,\"end\":15,\"id\":4,\"attributes\":{\"PART_OF_SPEECH\":\"RB\",\"TOKEN_TYPE\":\"ALPHA_NUMERIC\"}},{\"type\":\"PHRASE_CHUNK\",\"start\":11,\"end\":41,\"id\":15,\"attributes\":{\"PART_OF_SPEECH\":\"NP\"}},{\"type\":\"TOKEN\",\"start\":16,\"end\":20,\"id\":5,\"attributes\":{\"PART_OF_SPEECH\":\"JJR\",\"TOKEN_TYPE\":\"ALPHA_NUMERIC\"}},{\"type\":\"TOKEN\",\"start\":21,\"end\":31,\"id\":6,\"attributes\":{\"PART_OF_SPEECH\":\"JJ\",\"TOKEN_TYPE\":\"ALPHA_NUMERIC\"}},{\"type\":\"TOKEN\",\"start\":32,\"end\":41,\"id\":7,\"attributes\":{\"PART_OF_SPEECH\":\"NN\",\"TOKEN_TYPE\":\"ALPHA_NUMERIC\"}},{\"type\":\"TOKEN\",\"start\":41,\"end\":42,\"id\":8,\"attributes\":{\"PART_OF_SPEECH\":\"PUNCTUATION\",\"TOKEN_TYPE\":\"PUNCTUATION\"}},{\"type\":\"TOKEN\",\"start\":42,\"end\":43,\"id\":9,\"error\":[\"error\"],\"attributes\":{\"PART_OF_SPEECH\":\"CLOSE_QUOTE\",\"TOKEN_TYPE\":\"PUNCTUATION\"}}]}");
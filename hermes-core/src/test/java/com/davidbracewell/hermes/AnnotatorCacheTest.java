@@ -24,12 +24,18 @@ package com.davidbracewell.hermes;
 import com.davidbracewell.Language;
 import com.davidbracewell.config.Config;
 import com.davidbracewell.hermes.annotator.Annotator;
+import com.davidbracewell.hermes.annotator.AnnotatorLifecycle;
 import com.davidbracewell.hermes.annotator.DefaultTokenAnnotator;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.*;
 
@@ -38,6 +44,8 @@ import static org.junit.Assert.*;
  */
 public class AnnotatorCacheTest {
 
+  private static final AnnotationType PER_THREAD = AnnotationType.create("ANNOTATOR_CACHE_TEST_PER_THREAD");
+
   @Before
   public void setUp() throws Exception {
     Config.initializeTest();
@@ -65,6 +73,72 @@ public class AnnotatorCacheTest {
     assertNotEquals(DummyTokenAnnotator.class, AnnotatorCache.getInstance().get(Types.TOKEN, Language.CHINESE).getClass());
   }
 
+  @Test
+  public void testPerThread() throws Exception {
+    Config.setProperty(PER_THREAD.type() + "." + PER_THREAD.name() + ".annotator", PerThreadAnnotator.class.getName());
+    AnnotatorCache.getInstance().remove(PER_THREAD, Language.ENGLISH);
+    int constructed = PerThreadAnnotator.INSTANCES.get();
+    Annotator mainInstance = AnnotatorCache.getInstance().get(PER_THREAD, Language.ENGLISH);
+    assertEquals(PerThreadAnnotator.class, mainInstance.getClass());
+    assertSame(mainInstance, AnnotatorCache.getInstance().get(PER_THREAD, Language.ENGLISH));
+    //Resolving the lifecycle does not construct a throwaway instance
+    assertEquals(constructed + 1, PerThreadAnnotator.INSTANCES.get());
+
+    AtomicReference<Annotator> otherInstance = new AtomicReference<>();
+    Thread thread = new Thread(() -> otherInstance.set(AnnotatorCache.getInstance().get(PER_THREAD, Language.ENGLISH)));
+    thread.start();
+    thread.join();
+    assertNotNull(otherInstance.get());
+    assertNotSame(mainInstance, otherInstance.get());
+
+    //Manually registered annotators are always shared
+    PerThreadAnnotator registered = new PerThreadAnnotator();
+    AnnotatorCache.getInstance().setAnnotator(PER_THREAD, Language.ENGLISH, registered);
+    assertSame(registered, AnnotatorCache.getInstance().get(PER_THREAD, Language.ENGLISH));
+  }
+
+  @Test
+  public void testRemoveInvalidatesLiveThreads() throws Exception {
+    Config.setProperty(PER_THREAD.type() + "." + PER_THREAD.name() + ".annotator", PerThreadAnnotator.class.getName());
+    AnnotatorCache.getInstance().remove(PER_THREAD, Language.ENGLISH);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Callable<Annotator> get = () -> AnnotatorCache.getInstance().get(PER_THREAD, Language.ENGLISH);
+      Annotator first = executor.submit(get).get();
+      assertSame(first, executor.submit(get).get());
+      AnnotatorCache.getInstance().remove(PER_THREAD, Language.ENGLISH);
+      Annotator second = executor.submit(get).get();
+      assertNotSame(first, second);
+      AnnotatorCache.getInstance().clear();
+      assertNotSame(second, executor.submit(get).get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public static class PerThreadAnnotator implements Annotator {
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public PerThreadAnnotator() {
+      INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public void annotate(Document document) {
+
+    }
+
+    @Override
+    public AnnotatorLifecycle getLifecycle() {
+      return AnnotatorLifecycle.PER_THREAD;
+    }
+
+    @Override
+    public Set<AnnotatableType> satisfies() {
+      return Collections.singleton(PER_THREAD);
+    }
+  }
+
   private static class DummyTokenAnnotator implements Annotator {
 
     @Override
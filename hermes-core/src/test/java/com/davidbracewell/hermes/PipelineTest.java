@@ -0,0 +1,441 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes;
+
+import com.davidbracewell.Language;
+import com.davidbracewell.config.Config;
+import com.davidbracewell.hermes.annotator.Annotator;
+import com.davidbracewell.hermes.annotator.DefaultTokenAnnotator;
+import com.davidbracewell.hermes.annotator.SentenceLevelAnnotator;
+import com.davidbracewell.hermes.attribute.POS;
+import com.davidbracewell.hermes.corpus.Corpus;
+import com.davidbracewell.io.Resources;
+import com.davidbracewell.io.resource.Resource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author David B. Bracewell
+ */
+public class PipelineTest {
+
+  private static final AnnotationType WARM_UP = AnnotationType.create("PIPELINE_TEST_WARM_UP");
+  private static final AnnotationType SLOW = AnnotationType.create("PIPELINE_TEST_SLOW");
+  private static final AnnotationType FAILING = AnnotationType.create("PIPELINE_TEST_FAILING");
+
+  @Before
+  public void setUp() throws Exception {
+    Config.initializeTest();
+  }
+
+  @Test
+  public void testWarmUp() throws Exception {
+    PreloadingAnnotator annotator = new PreloadingAnnotator();
+    Pipeline.setAnnotator(WARM_UP, Language.ENGLISH, annotator);
+    Pipeline pipeline = Pipeline.builder()
+                                .addAnnotation(WARM_UP)
+                                .warmUp(Language.ENGLISH)
+                                .build();
+    assertEquals(1, annotator.preloaded.get());
+
+    Map<String, Long> times = pipeline.getWarmUpTimes();
+    assertTrue(times.containsKey(PreloadingAnnotator.class.getName() + "::" + Language.ENGLISH));
+    assertTrue(times.containsKey(DefaultTokenAnnotator.class.getName() + "::" + Language.ENGLISH));
+
+    Document document = DocumentFactory.getInstance().create("This is a test.", Language.ENGLISH);
+    pipeline.process(document);
+    assertTrue(document.isCompleted(Types.TOKEN));
+    assertTrue(document.isCompleted(WARM_UP));
+  }
+
+  @Test
+  public void testSubmit() throws Exception {
+    Pipeline pipeline = Pipeline.builder()
+                                .addAnnotations(Types.TOKEN, Types.SENTENCE)
+                                .numberOfThreads(2)
+                                .build();
+    List<CompletableFuture<Document>> futures = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      futures.add(pipeline.submit(DocumentFactory.getInstance().create("This is document " + i + ".")));
+    }
+    for (CompletableFuture<Document> future : futures) {
+      Document document = future.get(30, TimeUnit.SECONDS);
+      assertTrue(document.isCompleted(Types.TOKEN));
+      assertTrue(document.isCompleted(Types.SENTENCE));
+    }
+    assertTrue(pipeline.getAverageServiceTime(TimeUnit.NANOSECONDS) > 0);
+    pipeline.close();
+
+    try {
+      pipeline.submit(DocumentFactory.getInstance().create("Too late.")).get();
+      fail("Submitting to a closed pipeline should be rejected");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof RejectedExecutionException);
+    }
+    assertEquals(1, pipeline.getRejectedCount());
+  }
+
+  @Test
+  public void testSubmitBatchFailure() throws Exception {
+    Map<String, AtomicInteger> completions = new ConcurrentHashMap<>();
+    Pipeline pipeline = Pipeline.builder()
+                                .addAnnotations(Types.TOKEN)
+                                .numberOfThreads(1)
+                                .batchSize(10)
+                                .onComplete(document -> {
+                                  completions.computeIfAbsent(document.getId(), id -> new AtomicInteger()).incrementAndGet();
+                                  if (document.getId().equals("doc-5")) {
+                                    throw new IllegalStateException("Unable to complete " + document.getId());
+                                  }
+                                })
+                                .build();
+    List<CompletableFuture<Document>> futures = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      futures.add(pipeline.submit(DocumentFactory.getInstance().create("doc-" + i, "This is document " + i + ".")));
+    }
+    for (int i = 0; i < 50; i++) {
+      try {
+        futures.get(i).get(30, TimeUnit.SECONDS);
+        assertNotEquals(5, i);
+      } catch (ExecutionException e) {
+        assertEquals(5, i);
+      }
+    }
+    pipeline.close();
+    for (int i = 0; i < 50; i++) {
+      if (i != 5) {
+        assertEquals(1, completions.get("doc-" + i).get());
+      }
+    }
+  }
+
+  @Test
+  public void testProcessBatch() throws Exception {
+    List<Document> documents = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      documents.add(DocumentFactory.getInstance().create("This is document " + i + ". It has two sentences."));
+    }
+    documents.add(DocumentFactory.getInstance().create("One sentence only."));
+    Pipeline.process(documents, Types.SENTENCE);
+    for (Document document : documents) {
+      assertTrue(document.isCompleted(Types.TOKEN));
+      assertTrue(document.isCompleted(Types.SENTENCE));
+    }
+    assertEquals(2, documents.get(0).sentences().size());
+    assertEquals(1, documents.get(5).sentences().size());
+  }
+
+  @Test
+  public void testProcessBatchSentenceLevel() throws Exception {
+    Config.setProperty("Attribute.PART_OF_SPEECH.annotator", BatchPartOfSpeechAnnotator.class.getName());
+    AnnotatorCache.getInstance().clear();
+    try {
+      List<Document> documents = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        documents.add(DocumentFactory.getInstance().create("This is document " + i + ". It has two sentences."));
+      }
+      documents.add(DocumentFactory.getInstance().create("One sentence only."));
+      BatchPartOfSpeechAnnotator.BATCHES.clear();
+      Pipeline.process(documents, Types.PART_OF_SPEECH);
+      //The sentences of all documents are handed to the annotator at once
+      assertEquals(Collections.singletonList(11), BatchPartOfSpeechAnnotator.BATCHES);
+      for (Document document : documents) {
+        assertTrue(document.isCompleted(Types.PART_OF_SPEECH));
+        document.tokens().forEach(token -> assertEquals(POS.NN, token.getPOS()));
+      }
+    } finally {
+      AnnotatorCache.getInstance().clear();
+    }
+  }
+
+  @Test
+  public void testScheduling() throws Exception {
+    List<Document> documents = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      StringBuilder content = new StringBuilder();
+      for (int j = 0; j <= (i * 7) % 11; j++) {
+        content.append("This is sentence ").append(j).append(" of document ").append(i).append(". ");
+      }
+      Document document = DocumentFactory.getInstance().create("doc-" + i, content.toString().trim());
+      documents.add(document);
+      expected.add(document.getId());
+    }
+
+    List<String> completed = Collections.synchronizedList(new ArrayList<>());
+    Pipeline.builder()
+            .addAnnotations(Types.TOKEN, Types.SENTENCE)
+            .numberOfThreads(4)
+            .schedulingWindow(8)
+            .preserveOrder(true)
+            .onComplete(document -> completed.add(document.getId()))
+            .build()
+            .process(Corpus.builder().inMemory().addAll(documents).build());
+    assertEquals(expected, completed);
+    for (Document document : documents) {
+      assertTrue(document.isCompleted(Types.SENTENCE));
+    }
+  }
+
+  @Test
+  public void testPreserveOrderWithFailure() throws Exception {
+    Pipeline.setAnnotator(FAILING, Language.ENGLISH, new FailingAnnotator());
+    List<Document> documents = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      Document document = DocumentFactory.getInstance().create("doc-" + i, "This is document " + i + ".", Language.ENGLISH);
+      documents.add(document);
+      if (i != 3) {
+        expected.add(document.getId());
+      }
+    }
+
+    List<String> completed = Collections.synchronizedList(new ArrayList<>());
+    Pipeline.builder()
+            .addAnnotation(FAILING)
+            .numberOfThreads(4)
+            .queueSize(2)
+            .schedulingWindow(4)
+            .preserveOrder(true)
+            .onComplete(document -> completed.add(document.getId()))
+            .build()
+            .process(Corpus.builder().inMemory().addAll(documents).build());
+    assertEquals(expected, completed);
+  }
+
+  @Test
+  public void testCheckpointFailures() throws Exception {
+    Pipeline.setAnnotator(FAILING, Language.ENGLISH, new FailingAnnotator());
+    List<Document> documents = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      documents.add(DocumentFactory.getInstance().create("doc-" + i, "This is document " + i + ".", Language.ENGLISH));
+    }
+    Resource checkpoint = Resources.temporaryDirectory();
+    checkpoint.deleteOnExit();
+
+    Corpus annotated = Pipeline.builder()
+                               .addAnnotation(FAILING)
+                               .checkpoint(checkpoint, 10)
+                               .build()
+                               .process(Corpus.builder().inMemory().addAll(documents).build());
+    assertEquals(14, annotated.size());
+    assertEquals("doc-3", checkpoint.getChild("failed").getChild("part-000000.txt").readToString().trim());
+    assertFalse(checkpoint.getChild("failed").getChild("part-000001.txt").exists());
+    assertTrue(checkpoint.getChild("checkpoint.info").readToString().startsWith("10\n"));
+  }
+
+  @Test
+  public void testCheckpointTimeouts() throws Exception {
+    Pipeline.setAnnotator(SLOW, Language.ENGLISH, new SlowAnnotator());
+    Resource checkpoint = Resources.temporaryDirectory();
+    checkpoint.deleteOnExit();
+    Corpus annotated = Pipeline.builder()
+                               .addAnnotation(SLOW)
+                               .documentTimeout(100, TimeUnit.MILLISECONDS)
+                               .checkpoint(checkpoint, 10)
+                               .build()
+                               .process(Corpus.builder()
+                                              .inMemory()
+                                              .add(DocumentFactory.getInstance()
+                                                                  .create("doc-0", "This is a test.", Language.ENGLISH))
+                                              .build());
+    assertEquals(0, annotated.size());
+    assertEquals("doc-0", checkpoint.getChild("failed").getChild("part-000000.txt").readToString().trim());
+  }
+
+  @Test
+  public void testDocumentTimeout() throws Exception {
+    Pipeline.setAnnotator(SLOW, Language.ENGLISH, new SlowAnnotator());
+    List<Document> deadLetters = new ArrayList<>();
+    List<Document> completed = new ArrayList<>();
+    Pipeline pipeline = Pipeline.builder()
+                                .addAnnotation(SLOW)
+                                .documentTimeout(100, TimeUnit.MILLISECONDS)
+                                .onTimeout(deadLetters::add)
+                                .onComplete(completed::add)
+                                .build();
+    Document document = DocumentFactory.getInstance().create("This is a test.", Language.ENGLISH);
+    pipeline.process(Corpus.builder().inMemory().add(document).build());
+
+    assertEquals(1, pipeline.getTimedOutCount());
+    assertEquals(Collections.singletonList(document), deadLetters);
+    assertTrue(completed.isEmpty());
+    //Partial annotations are kept
+    assertTrue(document.isCompleted(Types.TOKEN));
+    assertFalse(document.isCompleted(SLOW));
+    assertFalse(Deadline.isExpired());
+  }
+
+  @Test
+  public void testCheckpoint() throws Exception {
+    List<Document> documents = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      documents.add(DocumentFactory.getInstance().create("doc-" + i, "This is document " + i + "."));
+    }
+    Resource checkpoint = Resources.temporaryDirectory();
+    checkpoint.deleteOnExit();
+
+    AtomicInteger completed = new AtomicInteger();
+    Corpus annotated = Pipeline.builder()
+                               .addAnnotations(Types.TOKEN, Types.SENTENCE)
+                               .checkpoint(checkpoint, 10)
+                               .onComplete(d -> completed.incrementAndGet())
+                               .build()
+                               .process(Corpus.builder().inMemory().addAll(documents).build());
+    assertEquals(25, completed.get());
+    assertEquals(25, annotated.size());
+    assertEquals(3, checkpoint.getChild("output").getChildren().size());
+
+    //Simulate a crash before the second checkpoint was written
+    checkpoint.getChild("output").getChild("part-000001.json").delete();
+    completed.set(0);
+    annotated = Pipeline.builder()
+                        .addAnnotations(Types.TOKEN, Types.SENTENCE)
+                        .checkpoint(checkpoint, 10)
+                        .onComplete(d -> completed.incrementAndGet())
+                        .build()
+                        .process(Corpus.builder().inMemory().addAll(documents).build());
+    assertEquals(10, completed.get());
+    assertEquals(25, annotated.size());
+    for (Document document : annotated) {
+      assertTrue(document.isCompleted(Types.SENTENCE));
+    }
+
+    //Resuming with a different input corpus is refused
+    documents.add(DocumentFactory.getInstance().create("doc-25", "This is document 25."));
+    try {
+      Pipeline.builder()
+              .addAnnotations(Types.TOKEN, Types.SENTENCE)
+              .checkpoint(checkpoint, 10)
+              .build()
+              .process(Corpus.builder().inMemory().addAll(documents).build());
+      fail("Expected the modified input to be refused");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("different input corpus"));
+    }
+  }
+
+  public static class BatchPartOfSpeechAnnotator extends SentenceLevelAnnotator {
+    static final List<Integer> BATCHES = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void annotate(Annotation sentence) {
+      sentence.tokens().forEach(token -> token.put(Types.PART_OF_SPEECH, POS.NN));
+    }
+
+    @Override
+    protected void annotateSentences(List<Annotation> sentences) {
+      BATCHES.add(sentences.size());
+      super.annotateSentences(sentences);
+    }
+
+    @Override
+    public Set<AnnotatableType> satisfies() {
+      return Collections.singleton(Types.PART_OF_SPEECH);
+    }
+  }
+
+  private static class FailingAnnotator implements Annotator {
+
+    @Override
+    public void annotate(Document document) {
+      if (document.getId().equals("doc-3")) {
+        throw new IllegalStateException("Unable to annotate " + document.getId());
+      }
+    }
+
+    @Override
+    public Set<AnnotatableType> satisfies() {
+      return Collections.singleton(FAILING);
+    }
+
+    @Override
+    public Set<AnnotatableType> requires() {
+      return Collections.singleton(Types.TOKEN);
+    }
+  }
+
+  private static class SlowAnnotator implements Annotator {
+
+    @Override
+    public void annotate(Document document) {
+      for (int i = 0; i < 2_000; i++) {
+        Deadline.check();
+        try {
+          Thread.sleep(5);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+
+    @Override
+    public Set<AnnotatableType> satisfies() {
+      return Collections.singleton(SLOW);
+    }
+
+    @Override
+    public Set<AnnotatableType> requires() {
+      return Collections.singleton(Types.TOKEN);
+    }
+  }
+
+  private static class PreloadingAnnotator implements Annotator {
+    final AtomicInteger preloaded = new AtomicInteger();
+
+    @Override
+    public void annotate(Document document) {
+
+    }
+
+    @Override
+    public void preload(Language language) {
+      preloaded.incrementAndGet();
+    }
+
+    @Override
+    public Set<AnnotatableType> satisfies() {
+      return Collections.singleton(WARM_UP);
+    }
+
+    @Override
+    public Set<AnnotatableType> requires() {
+      return Collections.singleton(Types.TOKEN);
+    }
+  }
+
+}
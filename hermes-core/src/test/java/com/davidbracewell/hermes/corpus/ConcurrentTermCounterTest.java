@@ -0,0 +1,124 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus;
+
+import com.davidbracewell.apollo.affinity.AssociationMeasures;
+import com.davidbracewell.collection.counter.Counter;
+import com.davidbracewell.config.Config;
+import com.davidbracewell.hermes.Types;
+import com.davidbracewell.hermes.extraction.NGramExtractor;
+import com.davidbracewell.io.Resources;
+import com.davidbracewell.io.resource.Resource;
+import com.davidbracewell.tuple.Tuple;
+import com.davidbracewell.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author David B. Bracewell
+ */
+public class ConcurrentTermCounterTest {
+
+  @Test
+  public void testOpenHashMap() throws Exception {
+    IntLongOpenHashMap map = new IntLongOpenHashMap();
+    for (int i = 0; i < 10_000; i++) {
+      map.adjust(i % 1_000, 2);
+    }
+    assertEquals(1_000, map.size());
+    assertEquals(20, map.get(999));
+    assertEquals(0, map.get(1_000));
+
+    IntLongOpenHashMap other = new IntLongOpenHashMap();
+    other.adjust(999, 5);
+    other.adjust(5_000, 1);
+    map.merge(other);
+    assertEquals(1_001, map.size());
+    assertEquals(25, map.get(999));
+    assertEquals(1, map.get(5_000));
+  }
+
+  @Test
+  public void testConcurrentCounts() throws Exception {
+    ConcurrentTermCounter<String> counter = new ConcurrentTermCounter<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 5_000; i++) {
+          counter.increment("term-" + (i % 100));
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Counter<String> counts = counter.toCounter();
+    assertEquals(100, counts.size());
+    assertEquals(200, counts.get("term-42"), 0d);
+    assertEquals(20_000, counts.sum(), 0d);
+  }
+
+  @Test
+  public void testPackedPairs() throws Exception {
+    LongLongOpenHashMap map = new LongLongOpenHashMap();
+    for (int i = 0; i < 1_000; i++) {
+      map.adjust(LongLongOpenHashMap.pack(i % 10, Integer.MAX_VALUE - i % 10), 1);
+    }
+    assertEquals(10, map.size());
+    long key = LongLongOpenHashMap.pack(3, Integer.MAX_VALUE - 3);
+    assertEquals(100, map.get(key));
+    assertEquals(3, LongLongOpenHashMap.first(key));
+    assertEquals(Integer.MAX_VALUE - 3, LongLongOpenHashMap.second(key));
+    assertEquals(0, map.get(LongLongOpenHashMap.pack(3, 3)));
+  }
+
+  @Test
+  public void testSignificantBigrams() throws Exception {
+    Config.initializeTest();
+    Corpus corpus = Corpus.builder()
+                          .source(CorpusFormats.PLAIN_TEXT, Resources.fromClasspath("com/davidbracewell/hermes/docs/txt"))
+                          .build()
+                          .annotate(Types.TOKEN);
+    Resource location = Resources.temporaryDirectory();
+    location.deleteOnExit();
+
+    Counter<Tuple> expected = corpus.significantBigrams(NGramExtractor.create(), 1, AssociationMeasures.PMI, -1_000,
+                                                        location, 100);
+    Counter<Tuple> actual = corpus.significantBigrams(NGramExtractor.create(), 1, AssociationMeasures.PMI, -1_000);
+    assertFalse(actual.isEmpty());
+    assertEquals(expected.size(), actual.size());
+    for (Tuple bigram : expected.items()) {
+      assertEquals(expected.get(bigram), actual.get(bigram), 1e-9);
+    }
+
+    Counter<Tuple> frequent = corpus.significantBigrams(NGramExtractor.create(), 3, AssociationMeasures.PMI, -1_000);
+    assertTrue(frequent.contains(Tuple2.of("This", "is")));
+    assertFalse(frequent.contains(Tuple2.of("the", "first")));
+  }
+
+}
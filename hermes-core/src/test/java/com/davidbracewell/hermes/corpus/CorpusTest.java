@@ -25,11 +25,15 @@ import com.davidbracewell.collection.counter.Counter;
 import com.davidbracewell.config.Config;
 import com.davidbracewell.guava.common.base.Throwables;
 import com.davidbracewell.guava.common.collect.Multimap;
+import com.davidbracewell.Language;
+import com.davidbracewell.hermes.AttributeType;
 import com.davidbracewell.hermes.Document;
 import com.davidbracewell.hermes.DocumentFactory;
+import com.davidbracewell.hermes.Pipeline;
 import com.davidbracewell.hermes.Types;
 import com.davidbracewell.hermes.extraction.NGramExtractor;
 import com.davidbracewell.hermes.extraction.TermExtractor;
+import com.davidbracewell.hermes.ml.feature.ValueCalculator;
 import com.davidbracewell.io.Resources;
 import com.davidbracewell.io.resource.Resource;
 import com.davidbracewell.parsing.ParseException;
@@ -37,6 +41,16 @@ import com.davidbracewell.tuple.*;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -88,6 +102,63 @@ public class CorpusTest {
     }
   }
 
+  @Test
+  public void indexedSearchTest() throws Exception {
+    Config.initializeTest();
+    AttributeType source = Types.attribute("CORPUS_TEST_SOURCE");
+    Corpus corpus = Corpus.builder()
+      .inMemory()
+      .add(DocumentFactory.getInstance().create("This is the first document.", Language.ENGLISH,
+                                                Collections.singletonMap(source, "news")))
+      .add(DocumentFactory.getInstance().create("This is the second document."))
+      .add(DocumentFactory.getInstance().create("This is the third document."))
+      .add(DocumentFactory.getInstance().create("This is the first long document.", Language.ENGLISH,
+                                                Collections.singletonMap(source, "blog post")))
+      .build();
+    Resource directory = Resources.temporaryDirectory();
+    directory.deleteOnExit();
+
+    Corpus indexed = corpus.index(directory);
+    assertEquals(4, indexed.size());
+    assertEquals(2, indexed.query("first").size());
+    assertEquals(1, indexed.query("first AND long").size());
+    assertEquals(3, indexed.query("document AND -long").size());
+    assertEquals(3, indexed.query("second OR first").size());
+    assertEquals(1, indexed.query("[CORPUS_TEST_SOURCE]:news").size());
+    assertEquals(1, indexed.query("first AND [CORPUS_TEST_SOURCE]:post").size());
+    assertEquals(0, indexed.query("missing").size());
+    //Indexed queries match whole tokens ignoring case
+    assertEquals(4, indexed.query("this").size());
+    assertEquals(1, indexed.query("[CORPUS_TEST_SOURCE]:BLOG").size());
+    assertEquals("This is the second document.", indexed.query("second").stream().first().get().toString());
+
+    assertEquals(2, indexed.query("\"the first\"").size());
+    assertEquals(0, indexed.query("\"first the\"").size());
+    assertEquals(1, indexed.query("\"first long document\"").size());
+    assertEquals(2, indexed.query("this NEAR/2 first").size());
+    assertEquals(1, indexed.query("first NEAR/0 long").size());
+    assertEquals(0, indexed.query("this NEAR/0 document").size());
+    assertEquals(1, indexed.query("\"long document\" NEAR/1 first").size());
+
+    //Unindexed queries give the same results
+    assertEquals(2, corpus.query("\"the first\"").size());
+    assertEquals(0, corpus.query("\"first the\"").size());
+    assertEquals(2, corpus.query("this NEAR/2 first").size());
+    assertEquals(0, corpus.query("this NEAR/0 document").size());
+
+    //Reload the persisted index
+    long built = directory.getChild("index.bin").asFile().get().lastModified();
+    directory.getChild("index.bin").asFile().get().setLastModified(built - 10_000);
+    indexed = corpus.index(directory);
+    assertEquals(2, indexed.query("first").size());
+    assertEquals(built - 10_000, directory.getChild("index.bin").asFile().get().lastModified());
+
+    //An index built from a different corpus is rebuilt
+    indexed = Corpus.EMPTY.index(directory);
+    assertEquals(0, indexed.size());
+    assertEquals(0, indexed.query("first").size());
+  }
+
   @Test
   public void sampleTest() {
     Config.initializeTest();
@@ -104,6 +175,88 @@ public class CorpusTest {
     assertEquals(2, sample.stream().distinct().count());
   }
 
+  @Test
+  public void stratifiedSampleTest() {
+    Config.initializeTest();
+    List<Document> documents = new ArrayList<>();
+    for (int i = 0; i < 25_000; i++) {
+      documents.add(DocumentFactory.getInstance().create("doc-" + i, "This is document " + (i % 3) + "."));
+    }
+    Corpus corpus = Corpus.builder().inMemory().addAll(documents).build();
+
+    Corpus sample = corpus.sample(100, new Random(1234));
+    assertEquals(100, sample.stream().map(Document::getId).distinct().count());
+    assertEquals(sample.stream().map(Document::getId).sorted(true).collect(),
+                 corpus.sample(100, new Random(1234)).stream().map(Document::getId).sorted(true).collect());
+    assertEquals(25_000, corpus.sample(30_000, new Random(1)).size());
+
+    Corpus stratified = corpus.sample(d -> d.toString(), 10, new Random(1234));
+    assertEquals(30, stratified.size());
+    Multimap<String, Document> strata = stratified.groupBy(d -> d.toString());
+    assertEquals(3, strata.keySet().size());
+    strata.asMap().values().forEach(group -> assertEquals(10, group.size()));
+  }
+
+
+  @Test
+  public void compressedCacheTest() throws Exception {
+    Config.initializeTest();
+    List<Document> documents = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      documents.add(DocumentFactory.getInstance().create("doc-" + i, "This is document number " + i + ". It is cached."));
+    }
+    for (boolean offHeap : new boolean[]{false, true}) {
+      Corpus corpus = Corpus.builder().inMemory().addAll(documents).build().cacheCompressed(offHeap, 10);
+      assertEquals(500, corpus.size());
+      assertEquals(500, corpus.stream().count());
+      assertEquals("This is document number 42. It is cached.",
+                   corpus.stream().filter(d -> d.getId().equals("doc-42")).first().get().toString());
+
+      corpus = corpus.annotate(Types.TOKEN);
+      assertTrue(corpus instanceof CompressedCorpus);
+      int index = 0;
+      for (Document document : corpus) {
+        assertTrue(document.isCompleted(Types.TOKEN));
+        assertEquals("doc-" + index++, document.getId());
+      }
+      assertEquals(500, index);
+      assertEquals(500, corpus.termFrequencies().get("cached"), 0d);
+
+      Resource serialized = Resources.temporaryFile();
+      serialized.deleteOnExit();
+      serialized.writeObject(corpus);
+      Corpus copy = serialized.readObject();
+      assertEquals(500, copy.size());
+      assertEquals(corpus.termFrequencies(), copy.termFrequencies());
+    }
+  }
+
+  @Test
+  public void deduplicateTest() {
+    Config.initializeTest();
+    List<Document> documents = new ArrayList<>();
+    Random random = new Random(1234);
+    for (int i = 0; i < 200; i++) {
+      StringBuilder text = new StringBuilder();
+      for (int j = 0; j < 30; j++) {
+        text.append(Integer.toString(random.nextInt(100_000), 36)).append(' ');
+      }
+      documents.add(DocumentFactory.getInstance().create("doc-" + i, text.toString().trim()));
+    }
+    String story = "The central bank raised interest rates by a quarter point on Tuesday, citing persistent inflation"
+      + " in services and a tight labour market across most regions.";
+    documents.add(DocumentFactory.getInstance().create("wire-1", story));
+    documents.add(DocumentFactory.getInstance().create("wire-2", story.replace("Tuesday", "tuesday") + " "));
+    documents.add(DocumentFactory.getInstance().create("wire-3", story.replace("most regions", "many regions")));
+    Corpus corpus = Corpus.builder().inMemory().addAll(documents).build();
+
+    Corpus deduplicated = corpus.deduplicate(0.8);
+    List<String> ids = deduplicated.stream().map(Document::getId).collect();
+    assertTrue(ids.contains("wire-1"));
+    assertFalse(ids.contains("wire-2"));
+    assertFalse(ids.contains("wire-3"));
+    assertEquals(201, ids.size());
+  }
 
   @Test
   public void groupByTest() {
@@ -119,6 +272,42 @@ public class CorpusTest {
     assertEquals(4, map.size(), 0d);
   }
 
+  @Test
+  public void partitionedGroupByTest() throws Exception {
+    Config.initializeTest();
+    Corpus corpus = Corpus.builder()
+      .inMemory()
+      .add(DocumentFactory.getInstance().create("This is the first document."))
+      .add(DocumentFactory.getInstance().create("This is the second document."))
+      .add(DocumentFactory.getInstance().create("This is the third document."))
+      .add(DocumentFactory.getInstance().create("This is the first long document."))
+      .build();
+    Resource location = Resources.temporaryDirectory();
+    location.deleteOnExit();
+    Map<Boolean, Corpus> groups = corpus.groupBy(d -> d.toString().contains("first"), location);
+    assertEquals(2, groups.size());
+    assertEquals(2, groups.get(true).size());
+    assertEquals(2, groups.get(false).size());
+    assertNull(groups.get("missing"));
+    assertTrue(groups.get(true).stream().map(Document::toString).collect().contains("This is the first long document."));
+    assertEquals(4, groups.values().stream().mapToLong(Corpus::size).sum());
+
+    //Many keys in a single spill, flushing the buffered groups after every document
+    List<Document> documents = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      documents.add(DocumentFactory.getInstance().create("doc-" + i, "This is document " + i + "."));
+    }
+    Resource manyKeys = Resources.temporaryDirectory();
+    manyKeys.deleteOnExit();
+    Map<Integer, Corpus> byKey = PartitionedGrouping.create(Corpus.builder().inMemory().addAll(documents).build(),
+                                                            d -> Integer.parseInt(d.getId().substring(4)) % 150,
+                                                            manyKeys, 1, 1);
+    assertEquals(150, byKey.size());
+    for (int key = 0; key < 150; key++) {
+      assertEquals(2, byKey.get(key).size());
+    }
+  }
+
 
   @Test
   public void mStreamTest() {
@@ -155,6 +344,13 @@ public class CorpusTest {
     assertEquals(1, cntr.get("second"), 0d);
     assertEquals(1, cntr.get("third"), 0d);
     assertEquals(1, corpus.filter(d -> d.contains("third")).size(), 0d);
+    Document third = corpus.filter(d -> d.contains("third"))
+                           .annotate(Types.SENTENCE)
+                           .stream()
+                           .first()
+                           .orElse(null);
+    assertNotNull(third);
+    assertTrue(third.isCompleted(Types.SENTENCE));
 
     Counter<String> ngrams = corpus.nGramFrequencies(NGramExtractor.create().order(1)).mapKeys(tuple -> tuple.get(0).toString());
     assertEquals(cntr, ngrams);
@@ -184,6 +380,65 @@ public class CorpusTest {
     assertEquals(1, cntr.get("third"), 0d);
   }
 
+  @Test
+  public void externalNGramTest() throws Exception {
+    Config.initializeTest();
+    Corpus corpus = Corpus.builder()
+      .source(CorpusFormats.PLAIN_TEXT, Resources.fromClasspath("com/davidbracewell/hermes/docs/txt"))
+      .build()
+      .annotate(Types.TOKEN);
+    Resource location = Resources.temporaryDirectory();
+    location.deleteOnExit();
+
+    Counter<Tuple> expected = corpus.nGramFrequencies(NGramExtractor.create().order(1, 3));
+    NGramCounts counts = corpus.nGramFrequencies(NGramExtractor.create().order(1, 3), location, 5, 1);
+    assertEquals(expected.size(), counts.size());
+    assertEquals(expected, counts.toCounter());
+    assertFalse(location.getChild("runs").exists());
+
+    counts = NGramCounts.load(location);
+    assertEquals(expected.size(), counts.stream().count());
+
+    NGramCounts frequent = corpus.nGramFrequencies(NGramExtractor.create().order(2), location, 5, 3);
+    assertEquals(3d, frequent.toCounter().get(Tuple2.of("This", "is")), 0d);
+    assertEquals(0d, frequent.toCounter().get(Tuple2.of("the", "first")), 0d);
+
+    Counter<Tuple> significant = corpus.significantBigrams(NGramExtractor.create(), 1,
+                                                           table -> table.get(0, 0), 2,
+                                                           location, 5);
+    assertTrue(significant.contains(Tuple2.of("This", "is")));
+    assertFalse(significant.contains(Tuple2.of("the", "first")));
+
+    //Every document spills a run, which are merged two at a time
+    Resource merged = Resources.temporaryDirectory();
+    merged.deleteOnExit();
+    ExternalNGramCounter counter = new ExternalNGramCounter(merged, 2, 1, 2);
+    for (Document document : corpus) {
+      counter.addAll(NGramExtractor.create().order(1, 3).streamTuples(document).iterator());
+    }
+    assertEquals(expected, counter.finish(1).toCounter());
+  }
+
+  @Test
+  public void significantBigramsValueCalculatorTest() {
+    Config.initializeTest();
+    Corpus corpus = Corpus.builder()
+      .inMemory()
+      .add(DocumentFactory.getInstance().create("This is the first document."))
+      .add(DocumentFactory.getInstance().create("This is the second document."))
+      .add(DocumentFactory.getInstance().create("This is the third document."))
+      .build()
+      .annotate(Types.TOKEN);
+    Tuple bigram = Tuple2.of("This", "is");
+    assertEquals(3, corpus.significantBigrams(NGramExtractor.create(), 1, table -> table.get(0, 0), 0)
+                          .get(bigram), 0d);
+    //Non-frequency value calculators are applied as they are for nGramFrequencies
+    NGramExtractor normalized = NGramExtractor.create().valueCalculator(ValueCalculator.L1_NORM);
+    double expected = corpus.nGramFrequencies(normalized.min(1).max(2)).get(bigram);
+    assertTrue(expected < 1);
+    assertEquals(expected, corpus.significantBigrams(normalized, 0, table -> table.get(0, 0), 0).get(bigram), 1e-9);
+  }
+
   @Test
   public void distributed() {
     Config.initializeTest();
@@ -220,8 +475,212 @@ public class CorpusTest {
 
   }
 
+  @Test
+  public void multiProcessTest() throws Exception {
+    Config.initializeTest();
+    List<Document> documents = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      documents.add(DocumentFactory.getInstance().create("doc-" + i, "This is document " + i + ". It has two sentences."));
+    }
+    Corpus corpus = Corpus.builder()
+      .inMemory()
+      .addAll(documents)
+      .multiProcess(2)
+      .build();
+    assertEquals(CorpusType.MULTI_PROCESS, corpus.getCorpusType());
+
+    Corpus annotated = corpus.annotate(Types.SENTENCE);
+    assertEquals(CorpusType.MULTI_PROCESS, annotated.getCorpusType());
+    assertEquals(20, annotated.size());
+    Set<String> ids = new HashSet<>();
+    for (Document document : annotated) {
+      assertTrue(document.isCompleted(Types.TOKEN));
+      assertEquals(2, document.sentences().size());
+      ids.add(document.getId());
+    }
+    assertEquals(20, ids.size());
+  }
+
+  @Test
+  public void lazyPlanTest() {
+    Corpus corpus = Corpus.builder()
+      .source(CorpusFormats.PLAIN_TEXT, Resources.fromClasspath("com/davidbracewell/hermes/docs/txt"))
+      .build();
+    long total = corpus.size();
+    AtomicInteger mapped = new AtomicInteger();
+    Corpus plan = corpus.filter(d -> d.length() > 0)
+                        .map(d -> {
+                          mapped.incrementAndGet();
+                          return d;
+                        })
+                        .annotate(Types.TOKEN)
+                        .filter(d -> d.tokenLength() > 0);
+    //Nothing is executed until the corpus is read
+    assertEquals(0, mapped.get());
+    assertEquals(total, plan.size());
+    assertEquals(total, mapped.get());
+    for (Document document : plan) {
+      assertTrue(document.isCompleted(Types.TOKEN));
+    }
+    assertEquals(2 * total, mapped.get());
+
+    Corpus cached = plan.cache();
+    assertEquals(3 * total, mapped.get());
+    assertEquals(total, cached.size());
+    assertEquals(3 * total, mapped.get());
+  }
+
+  @Test
+  public void lazyPlanConsumerTest() throws Exception {
+    Corpus corpus = Corpus.builder()
+      .source(CorpusFormats.PLAIN_TEXT, Resources.fromClasspath("com/davidbracewell/hermes/docs/txt"))
+      .build();
+    long total = corpus.size();
+    Set<Thread> planThreads = ConcurrentHashMap.newKeySet();
+    Set<Thread> consumerThreads = ConcurrentHashMap.newKeySet();
+    Corpus plan = corpus.filter(d -> d.length() > 0)
+                        .annotate(Types.TOKEN)
+                        .map(d -> {
+                          planThreads.add(Thread.currentThread());
+                          return d;
+                        });
+    AtomicInteger consumed = new AtomicInteger();
+    LazyCorpus.forEachConcurrent(plan, d -> {
+      assertTrue(d.isCompleted(Types.TOKEN));
+      consumerThreads.add(Thread.currentThread());
+      consumed.incrementAndGet();
+    }, 2);
+    assertEquals(total, consumed.get());
+    //The plan, including the annotate step, is executed by the consumers and not the producer
+    assertEquals(consumerThreads, planThreads);
+
+    Resource output = Resources.temporaryDirectory();
+    output.deleteOnExit();
+    assertEquals(total, plan.write(CorpusFormats.JSON_OPL, output).size());
+  }
+
+  @Test
+  public void shardedWriteTest() throws Exception {
+    List<Document> documents = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      documents.add(DocumentFactory.getInstance().create("doc-" + i, "This is document " + i + "."));
+    }
+    Corpus corpus = Corpus.builder().inMemory().addAll(documents).build();
+
+    Resource location = Resources.temporaryDirectory();
+    location.deleteOnExit();
+    ShardedCorpus sharded = corpus.writeSharded(4, location);
+    assertEquals(30, sharded.size());
+    assertEquals(30, sharded.stream().count());
+    for (int shard = 0; shard < 4; shard++) {
+      for (Document document : sharded.getShard(shard)) {
+        assertEquals(shard, ShardedCorpus.shard(document.getId(), 4));
+      }
+    }
+
+    ShardedCorpus loaded = ShardedCorpus.load(location);
+    assertEquals(4, loaded.getNumberOfShards());
+    assertEquals(ShardedCorpus.ID_KEY, loaded.getKeyName());
+    assertEquals(30, Corpus.builder().source(location).build().size());
+
+    Resource evenLocation = Resources.temporaryDirectory();
+    evenLocation.deleteOnExit();
+    ShardedCorpus even = corpus.filter(d -> Integer.parseInt(d.getId().substring(4)) % 2 == 0)
+                               .writeSharded(4, evenLocation);
+    assertTrue(loaded.isCoPartitioned(even));
+    long matched = loaded.joinShards(even, (left, right) -> {
+      Set<String> ids = new HashSet<>();
+      right.forEach(d -> ids.add(d.getId()));
+      return left.stream().filter(d -> ids.contains(d.getId())).count();
+    }).stream().mapToLong(Long::longValue).sum();
+    assertEquals(15, matched);
+
+    Resource otherLocation = Resources.temporaryDirectory();
+    otherLocation.deleteOnExit();
+    ShardedCorpus byLength = corpus.writeSharded("length", Document::length, 4, otherLocation);
+    assertFalse(loaded.isCoPartitioned(byLength));
+
+    //Re-sharding replaces the old shards
+    ShardedCorpus resharded = corpus.writeSharded(2, location);
+    assertEquals(2, resharded.getNumberOfShards());
+    assertFalse(location.getChild("shard-00002.json").exists());
+    assertEquals(30, Corpus.builder().source(location).build().size());
+
+    Resource nonEmpty = Resources.temporaryDirectory();
+    nonEmpty.deleteOnExit();
+    nonEmpty.getChild("notes.txt").write("not a shard");
+    try {
+      corpus.writeSharded(2, nonEmpty);
+      fail("Writing shards into a non-empty directory should fail");
+    } catch (IOException e) {
+      assertTrue(nonEmpty.getChild("notes.txt").exists());
+    }
+  }
+
+  @Test
+  public void statisticsCacheTest() throws Exception {
+    Config.initializeTest();
+    Resource cacheDir = Resources.temporaryDirectory();
+    cacheDir.deleteOnExit();
+    Config.setProperty(CorpusStatisticsCache.CACHE_DIR, cacheDir.path());
+    Resource dir = Resources.temporaryDirectory();
+    dir.deleteOnExit();
+    dir.getChild("a.json").write(tokenized("The cat sat on the mat."));
+    dir.getChild("b.json").write(tokenized("The dog sat on the log."));
+    Corpus corpus = Corpus.builder().source(CorpusFormats.JSON, dir).build();
+
+    //Caching is opt-in
+    assertEquals(2, corpus.size());
+    assertTrue(cacheDir.getChildren().isEmpty());
+    //Without caching the size is memoized by the corpus
+    dir.getChild("extra.json").write(tokenized("An extra document."));
+    assertEquals(2, corpus.size());
+    dir.getChild("extra.json").delete();
+    Config.setProperty(CorpusStatisticsCache.ENABLED, "true");
+
+    TermExtractor extractor = TermExtractor.create().lowerCase();
+    assertEquals(2, corpus.size());
+    Counter<String> tf = corpus.termFrequencies(extractor);
+    assertEquals(4, tf.get("the"), 0d);
+    assertEquals(2, corpus.documentFrequencies(extractor).get("sat"), 0d);
+    assertEquals(3, cacheDir.getChildren().size());
+
+    //Cached copies are returned, so modifying a result does not affect later calls
+    tf.clear();
+    assertEquals(4, corpus.termFrequencies(extractor).get("the"), 0d);
+    //A different extractor configuration is a different entry
+    assertEquals(2, corpus.termFrequencies(TermExtractor.create()).get("The"), 0d);
+
+    //Statistics survive across corpus instances and are invalidated when a file changes
+    dir.getChild("c.json").write(tokenized("The bird sat."));
+    Corpus updated = Corpus.builder().source(CorpusFormats.JSON, dir).build();
+    assertEquals(3, updated.size());
+    assertEquals(5, updated.termFrequencies(extractor).get("the"), 0d);
+    dir.getChild("c.json").asFile().get().setLastModified(0);
+    dir.getChild("c.json").write(tokenized("A bird sat."));
+    assertEquals(4, updated.termFrequencies(extractor).get("the"), 0d);
+
+    CorpusStatisticsCache.clear();
+    assertTrue(cacheDir.getChildren().isEmpty());
+    assertEquals(3, updated.size());
+
+    //The least recently used entries are evicted
+    Config.setProperty(CorpusStatisticsCache.MAX_ENTRIES, "2");
+    updated.termFrequencies(extractor);
+    updated.documentFrequencies(extractor);
+    assertEquals(2, cacheDir.getChildren().size());
+    CorpusStatisticsCache.clear();
+  }
+
+  private String tokenized(String text) {
+    Document document = DocumentFactory.getInstance().create(text);
+    Pipeline.process(document, Types.TOKEN);
+    return document.toJson();
+  }
+
   @Test
   public void unionTest() {
+    Config.initializeTest();
     Corpus c1 = Corpus.builder()
       .source(CorpusFormats.PLAIN_TEXT, Resources.fromClasspath("com/davidbracewell/hermes/docs/txt"))
       .build();
@@ -234,6 +693,42 @@ public class CorpusTest {
       .build();
 
     assertEquals(7, c1.union(c2).size(), 0d);
+
+    Corpus union = c1.union(c2).union(Corpus.builder()
+                                             .inMemory()
+                                             .add(DocumentFactory.getInstance().create("This is another document."))
+                                             .build());
+    assertEquals(8, union.size());
+    assertEquals(8, union.stream().parallel().count());
+    //The union's stream keeps the members' order
+    List<String> expectedOrder = new ArrayList<>();
+    union.forEach(d -> expectedOrder.add(d.toString()));
+    assertEquals(expectedOrder, union.stream().map(Document::toString).collect());
+    assertEquals("This is another document.", union.stream().skip(7).first().get().toString());
+    Spliterator<Document> spliterator = union.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    Spliterator<Document> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    AtomicInteger count = new AtomicInteger();
+    prefix.forEachRemaining(d -> count.incrementAndGet());
+    spliterator.forEachRemaining(d -> count.incrementAndGet());
+    assertEquals(8, count.get());
+
+    List<Document> annotated = Collections.synchronizedList(new ArrayList<>());
+    Pipeline.builder()
+            .addAnnotations(Types.TOKEN)
+            .numberOfThreads(4)
+            .returnCorpus(false)
+            .onComplete(annotated::add)
+            .build()
+            .process(union);
+    assertEquals(8, annotated.size());
+
+    //Mapping is applied per member, so the mapped union can be read more than once
+    Corpus mapped = union.map(d -> DocumentFactory.getInstance().create(d.toString().toUpperCase()));
+    assertEquals(8, mapped.size());
+    assertEquals(8, mapped.stream().count());
+    assertEquals("THIS IS ANOTHER DOCUMENT.", mapped.stream().skip(7).first().get().toString());
   }
 
 }
\ No newline at end of file
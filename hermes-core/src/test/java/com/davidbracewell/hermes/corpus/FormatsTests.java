@@ -23,7 +23,9 @@ package com.davidbracewell.hermes.corpus;
 
 import com.davidbracewell.config.Config;
 import com.davidbracewell.conversion.Cast;
+import com.davidbracewell.guava.common.base.Strings;
 import com.davidbracewell.hermes.Document;
+import com.davidbracewell.hermes.DocumentFactory;
 import com.davidbracewell.hermes.Types;
 import com.davidbracewell.hermes.annotator.DocumentProvider;
 import com.davidbracewell.hermes.corpus.spi.CSVCorpus;
@@ -32,8 +34,13 @@ import com.davidbracewell.io.resource.Resource;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.*;
 
@@ -109,4 +116,72 @@ public class FormatsTests {
     assertTrue(documents.get(0).getAnnotationSet().isCompleted(Types.PHRASE_CHUNK));
   }
 
+  @Test
+  public void testStreamingRead() throws Exception {
+    DocumentFactory factory = DocumentFactory.getInstance();
+
+    //Plain text longer than the max size is broken into documents at paragraph boundaries
+    String text = "First paragraph of text.\n\nSecond paragraph of text.\n\nThird paragraph of text.";
+    List<Document> documents = new ArrayList<>();
+    CorpusFormats.forName("TEXT").read(new StringReader(text), factory, 40).forEachRemaining(documents::add);
+    assertEquals(3, documents.size());
+    assertEquals("First paragraph of text.", documents.get(0).toString());
+    assertEquals("Third paragraph of text.", documents.get(2).toString());
+
+    documents.clear();
+    CorpusFormats.forName("TEXT").read(new StringReader(text), factory, 1_000).forEachRemaining(documents::add);
+    assertEquals(1, documents.size());
+    assertEquals(factory.create(text).toString(), documents.get(0).toString());
+
+    //Lines longer than the max size are skipped
+    String lines = "short line one\n" + Strings.repeat("x", 100) + "\nshort line two\n";
+    documents.clear();
+    CorpusFormats.forName("TEXT_OPL").read(new StringReader(lines), factory, 50).forEachRemaining(documents::add);
+    assertEquals(2, documents.size());
+    assertEquals("short line two", documents.get(1).toString());
+
+    //Formats without incremental reading fail on documents over the max size
+    try {
+      CorpusFormats.forName("JSON").read(new StringReader(factory.create("A document.").toJson()), factory, 5);
+      fail("Document over the max size should not be read");
+    } catch (IOException e) {
+      //expected
+    }
+  }
+
+  @Test
+  public void testStreamingReadError() throws Exception {
+    DocumentFactory factory = DocumentFactory.getInstance();
+    AtomicBoolean closed = new AtomicBoolean(false);
+    Reader failing = new Reader() {
+      boolean read = false;
+
+      @Override
+      public int read(char[] cbuf, int off, int len) throws IOException {
+        if (read) {
+          throw new IOException("connection reset");
+        }
+        read = true;
+        String text = "First paragraph of text.\n\n";
+        text.getChars(0, text.length(), cbuf, off);
+        return text.length();
+      }
+
+      @Override
+      public void close() throws IOException {
+        closed.set(true);
+      }
+    };
+
+    //A read error mid-stream fails the iteration rather than truncating the documents
+    List<Document> documents = new ArrayList<>();
+    try {
+      CorpusFormats.forName("TEXT").read(failing, factory, 40).forEachRemaining(documents::add);
+      fail("Read error should not be swallowed");
+    } catch (UncheckedIOException e) {
+      assertEquals("connection reset", e.getCause().getMessage());
+    }
+    assertTrue(closed.get());
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/*
+ * (c) 2005 David B. Bracewell
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.davidbracewell.hermes.corpus.sketch;
+
+import com.davidbracewell.collection.counter.Counter;
+import com.davidbracewell.config.Config;
+import com.davidbracewell.hermes.Types;
+import com.davidbracewell.hermes.corpus.Corpus;
+import com.davidbracewell.hermes.corpus.CorpusFormats;
+import com.davidbracewell.hermes.extraction.NGramExtractor;
+import com.davidbracewell.hermes.extraction.TermExtractor;
+import com.davidbracewell.io.Resources;
+import com.davidbracewell.tuple.Tuple;
+import com.davidbracewell.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author David B. Bracewell
+ */
+public class FrequencySketchTest {
+
+  @Test
+  public void testCountMin() throws Exception {
+    CountMinSketch left = new CountMinSketch(0.001, 0.01);
+    CountMinSketch right = new CountMinSketch(0.001, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      (i % 2 == 0 ? left : right).add("item-" + (i % 500));
+    }
+    left.merge(right);
+    assertEquals(10_000, left.totalCount());
+    for (int i = 0; i < 500; i++) {
+      long estimate = left.estimate("item-" + i);
+      assertTrue(estimate >= 20);
+      assertTrue(estimate <= 20 + 0.001 * 10_000);
+    }
+  }
+
+  @Test
+  public void testSpaceSaving() throws Exception {
+    SpaceSaving<String> summary = new SpaceSaving<>(10);
+    for (int i = 0; i < 1_000; i++) {
+      summary.add("heavy-" + (i % 3), 10);
+      summary.add("light-" + i);
+    }
+    Counter<String> top = summary.topK(3);
+    assertTrue(top.contains("heavy-0"));
+    assertTrue(top.contains("heavy-1"));
+    assertTrue(top.contains("heavy-2"));
+    assertTrue(summary.estimate("heavy-0") >= 3_340);
+  }
+
+  @Test
+  public void testSpaceSavingMerge() throws Exception {
+    SpaceSaving<String> left = new SpaceSaving<>(2);
+    left.add("x", 5);
+    left.add("y", 4);
+    SpaceSaving<String> right = new SpaceSaving<>(2);
+    right.add("x", 1);
+    right.add("z", 3);
+    right.add("w", 3);
+    left.merge(right);
+    //x was evicted from the right summary, so it is credited with the right summary's minimum
+    assertTrue(left.estimate("x") >= 6);
+    assertTrue(left.estimate("x") - left.error("x") <= 6);
+    assertEquals(16, left.totalCount());
+    assertEquals(2, left.topK().size());
+  }
+
+  @Test
+  public void testHyperLogLog() throws Exception {
+    HyperLogLog left = HyperLogLog.withError(0.02);
+    HyperLogLog right = HyperLogLog.withError(0.02);
+    for (int i = 0; i < 50_000; i++) {
+      left.add("item-" + i);
+      right.add("item-" + (i + 25_000));
+    }
+    left.merge(right);
+    assertEquals(75_000, left.cardinality(), 75_000 * 0.06);
+
+    HyperLogLog small = new HyperLogLog(14);
+    for (int i = 0; i < 100; i++) {
+      small.add(i % 10);
+    }
+    assertEquals(10, small.cardinality());
+  }
+
+  @Test
+  public void testMinHash() throws Exception {
+    MinHash minHash = new MinHash(256, 42);
+    Set<Integer> a = new HashSet<>();
+    Set<Integer> b = new HashSet<>();
+    for (int i = 0; i < 1_000; i++) {
+      a.add(i);
+      b.add(i + 500);
+    }
+    //Jaccard similarity is 500 / 1500
+    double similarity = MinHash.similarity(minHash.signature(a.iterator()), minHash.signature(b.iterator()));
+    assertEquals(1.0 / 3, similarity, 0.1);
+    assertEquals(1.0, MinHash.similarity(minHash.signature(a.iterator()), minHash.signature(a.iterator())), 0d);
+    assertEquals(Arrays.asList("ab ", "b c", " cd"),
+                 MinHash.characterShingles(" AB \t Cd ", 3).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testCorpusSketches() throws Exception {
+    Config.initializeTest();
+    Corpus corpus = Corpus.builder()
+                          .source(CorpusFormats.PLAIN_TEXT, Resources.fromClasspath("com/davidbracewell/hermes/docs/txt"))
+                          .build()
+                          .annotate(Types.TOKEN);
+
+    FrequencySketch<Tuple> bigrams = corpus.nGramSketch(NGramExtractor.bigrams(), 0.01, 0.01, 100);
+    assertEquals(3, bigrams.estimate(Tuple2.of("This", "is")));
+    assertEquals(3, bigrams.documentCount());
+    assertEquals(3, bigrams.topK().get(Tuple2.of("This", "is")), 0d);
+
+    FrequencySketch<Tuple> unigrams = corpus.nGramSketch(NGramExtractor.unigrams(), 0.01, 0.01, 100);
+    assertEquals(corpus.termFrequencies().size(), unigrams.distinctCount());
+    Counter<Tuple> significant = corpus.significantBigrams(unigrams, bigrams, 1, table -> table.get(0, 0), 2);
+    assertTrue(significant.contains(Tuple2.of("This", "is")));
+    assertFalse(significant.contains(Tuple2.of("the", "first")));
+
+    FrequencySketch<String> df = corpus.documentFrequencySketch(TermExtractor.create(), 0.01, 0.01, 100);
+    assertEquals(3, df.estimate("the"));
+    assertEquals(1, df.estimate("first"));
+    assertEquals(0, df.inverseDocumentFrequency("the"), 0d);
+    assertEquals(Math.log(3), df.inverseDocumentFrequency("first"), 1e-9);
+  }
+
+}
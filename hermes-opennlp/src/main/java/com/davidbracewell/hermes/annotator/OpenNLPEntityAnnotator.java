@@ -23,17 +23,18 @@ package com.davidbracewell.hermes.annotator;
 
 import com.davidbracewell.Language;
 import com.davidbracewell.config.Config;
-import com.davidbracewell.guava.common.collect.HashMultimap;
-import com.davidbracewell.guava.common.collect.Multimap;
+import com.davidbracewell.guava.common.base.Throwables;
 import com.davidbracewell.hermes.*;
 import com.davidbracewell.hermes.attribute.EntityType;
 import com.davidbracewell.io.resource.Resource;
-import lombok.SneakyThrows;
 import opennlp.tools.namefind.NameFinderME;
 import opennlp.tools.namefind.TokenNameFinderModel;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.davidbracewell.collection.map.Maps.map;
 
@@ -45,18 +46,19 @@ public class OpenNLPEntityAnnotator implements Annotator, Serializable {
 
    public static final AnnotationType OPENNLP_ENTITY = AnnotationType.create("OPENNLP_ENTITY");
 
-   private volatile Multimap<Language, TokenNameFinderModel> models = HashMultimap.create();
+   private static final ConcurrentMap<Language, List<TokenNameFinderModel>> models = new ConcurrentHashMap<>();
+   private transient Map<TokenNameFinderModel, NameFinderME> finders;
 
    @Override
    public void annotate(Document document) {
-      Collection<TokenNameFinderModel> models = loadModels(document.getLanguage());
+      List<NameFinderME> finders = loadFinders(document.getLanguage());
       for (Annotation sentence : document.sentences()) {
          List<Annotation> tokenList = sentence.tokens();
          String[] tokens = tokenList.stream().map(Object::toString).toArray(String[]::new);
-         for (TokenNameFinderModel model : models) {
-            NameFinderME finder = new NameFinderME(model);
+         for (NameFinderME finder : finders) {
             opennlp.tools.util.Span[] spans = finder.find(tokens);
             double[] probs = finder.probs(spans);
+            finder.clearAdaptiveData();
             for (int i = 0; i < spans.length; i++) {
                opennlp.tools.util.Span span = spans[i];
                document.createAnnotation(OPENNLP_ENTITY,
@@ -68,18 +70,39 @@ public class OpenNLPEntityAnnotator implements Annotator, Serializable {
       }
    }
 
-   @SneakyThrows
-   private Collection<TokenNameFinderModel> loadModels(Language language) {
-      if (!models.containsKey(language)) {
-         synchronized (OpenNLPEntityAnnotator.class) {
-            if (!models.containsKey(language)) {
-               for (Resource resource : Config.get("opennlp", language, "entity", "models").asList(Resource.class)) {
-                  models.put(language, new TokenNameFinderModel(resource.inputStream()));
-               }
+   private List<NameFinderME> loadFinders(Language language) {
+      if (finders == null) {
+         finders = new HashMap<>();
+      }
+      List<NameFinderME> list = new ArrayList<>();
+      for (TokenNameFinderModel model : loadModels(language)) {
+         list.add(finders.computeIfAbsent(model, NameFinderME::new));
+      }
+      return list;
+   }
+
+   private List<TokenNameFinderModel> loadModels(Language language) {
+      return models.computeIfAbsent(language, l -> {
+         List<TokenNameFinderModel> list = new ArrayList<>();
+         try {
+            for (Resource resource : Config.get("opennlp", l, "entity", "models").asList(Resource.class)) {
+               list.add(new TokenNameFinderModel(resource.inputStream()));
             }
+         } catch (IOException e) {
+            throw Throwables.propagate(e);
          }
-      }
-      return Collections.unmodifiableCollection(models.get(language));
+         return Collections.unmodifiableList(list);
+      });
+   }
+
+   @Override
+   public void preload(Language language) {
+      loadModels(language);
+   }
+
+   @Override
+   public AnnotatorLifecycle getLifecycle() {
+      return AnnotatorLifecycle.PER_THREAD;
    }
 
    @Override
@@ -36,6 +36,8 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The type Open nLPPOS annotator.
@@ -44,11 +46,15 @@ import java.util.Set;
  */
 public class OpenNLPPOSAnnotator extends SentenceLevelAnnotator {
   private static final long serialVersionUID = 1L;
-  private volatile Map<Language, POSModel> posModels = Maps.newEnumMap(Language.class);
+  private static final ConcurrentMap<Language, POSModel> posModels = new ConcurrentHashMap<>();
+  private transient Map<Language, POSTaggerME> taggers;
 
   @Override
   public void annotate(Annotation sentence) {
-    POSTaggerME posTagger = new POSTaggerME(loadPOSTagger(sentence.getLanguage()));
+    if (taggers == null) {
+      taggers = Maps.newEnumMap(Language.class);
+    }
+    POSTaggerME posTagger = taggers.computeIfAbsent(sentence.getLanguage(), l -> new POSTaggerME(loadPOSTagger(l)));
     String[] tokens = sentence.tokens().stream().map(Object::toString).toArray(String[]::new);
     String[] tags = posTagger.tag(tokens);
     for (int i = 0; i < tokens.length; i++) {
@@ -58,18 +64,23 @@ public class OpenNLPPOSAnnotator extends SentenceLevelAnnotator {
   }
 
   private POSModel loadPOSTagger(Language language) {
-    if (!posModels.containsKey(language)) {
-      synchronized (OpenNLPPOSAnnotator.class) {
-        if (!posModels.containsKey(language)) {
-          try {
-            posModels.put(language, new POSModel(Config.get("opennlp", language, "part_of_speech", "model").asResource().inputStream()));
-          } catch (IOException e) {
-            throw Throwables.propagate(e);
-          }
-        }
+    return posModels.computeIfAbsent(language, l -> {
+      try {
+        return new POSModel(Config.get("opennlp", l, "part_of_speech", "model").asResource().inputStream());
+      } catch (IOException e) {
+        throw Throwables.propagate(e);
       }
-    }
-    return posModels.get(language);
+    });
+  }
+
+  @Override
+  public void preload(Language language) {
+    loadPOSTagger(language);
+  }
+
+  @Override
+  public AnnotatorLifecycle getLifecycle() {
+    return AnnotatorLifecycle.PER_THREAD;
   }
 
   @Override
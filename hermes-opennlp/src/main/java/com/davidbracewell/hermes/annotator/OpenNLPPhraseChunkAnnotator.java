@@ -82,6 +82,11 @@ public class OpenNLPPhraseChunkAnnotator implements Annotator, Serializable {
   }
 
 
+  @Override
+  public void preload(Language language) {
+    loadChunker(language);
+  }
+
   @Override
   public Set<AnnotatableType> satisfies() {
     return Collections.singleton(Types.PHRASE_CHUNK);
@@ -139,6 +139,11 @@ public class OpenNLPSentenceAnnotator implements Annotator {
     }
   }
 
+  @Override
+  public void preload(Language language) {
+    loadSentenceDetector(language);
+  }
+
   @Override
   public Set<AnnotatableType> satisfies() {
     return Collections.singleton(Types.SENTENCE);
@@ -59,6 +59,11 @@ public class OpenNLPTokenAnnotator implements Annotator, Serializable {
     }
   }
 
+  @Override
+  public void preload(Language language) {
+    loadTokenizer(language);
+  }
+
   @Override
   public Set<AnnotatableType> satisfies() {
     return Collections.singleton(Types.TOKEN);